@@ -0,0 +1,74 @@
+package com.backbase.kalah.benchmarks;
+
+import com.backbase.kalah.engine.BoardState;
+import com.backbase.kalah.engine.Position;
+import com.backbase.kalah.model.Board;
+import com.backbase.kalah.model.Pit;
+import com.backbase.kalah.model.enums.PlayerTurn;
+
+import static com.backbase.kalah.model.enums.PlayerTurn.PLAYER_1;
+import static com.backbase.kalah.model.enums.Status.RUNNING;
+
+/**
+ * Representative board positions used by the benchmarks, each with the pit to be played
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public enum BenchmarkPosition {
+    OPENING(new int[]{6, 6, 6, 6, 6, 6, 0, 6, 6, 6, 6, 6, 6, 0}, PLAYER_1, 2),
+    MIDGAME(new int[]{4, 0, 7, 2, 9, 1, 12, 3, 8, 0, 5, 6, 2, 13}, PLAYER_1, 4),
+    ENDGAME(new int[]{0, 0, 1, 0, 0, 2, 30, 0, 1, 0, 0, 0, 1, 37}, PLAYER_1, 5),
+    HIGH_STONES(new int[]{1, 0, 0, 35, 0, 1, 10, 2, 3, 1, 4, 0, 1, 14}, PLAYER_1, 3);
+
+    private final int[] pits;
+    private final PlayerTurn playerTurn;
+    private final int pitToPlay;
+
+    BenchmarkPosition(int[] pits, PlayerTurn playerTurn, int pitToPlay) {
+        this.pits = pits;
+        this.playerTurn = playerTurn;
+        this.pitToPlay = pitToPlay;
+    }
+
+    public int[] getPits() {
+        return pits.clone();
+    }
+
+    public PlayerTurn getPlayerTurn() {
+        return playerTurn;
+    }
+
+    public int getPitToPlay() {
+        return pitToPlay;
+    }
+
+    /**
+     * Resets the given board to this position
+     *
+     * @param board A packed board or one having all its pits, e.g. an initialized one
+     */
+    public void copyTo(Board board) {
+        if (board.isPacked()) {
+            board.setPackedPosition(Position.of(pits, toPlayer(playerTurn)));
+        } else {
+            for (Pit pit : board.getPits()) {
+                pit.setStoneCount(pits[pit.getIndex()]);
+            }
+        }
+
+        board.setPlayerTurn(playerTurn);
+        board.setStatus(RUNNING);
+    }
+
+    /**
+     * @return The engine state of this position
+     */
+    public BoardState toBoardState() {
+        return Position.of(pits, toPlayer(playerTurn)).toBoardState();
+    }
+
+    private static int toPlayer(PlayerTurn playerTurn) {
+        return playerTurn == PLAYER_1 ? BoardState.PLAYER_1 : BoardState.PLAYER_2;
+    }
+}
@@ -0,0 +1,31 @@
+package com.backbase.kalah.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the GC profiler enabled, so allocation rates are reported next to the timings.
+ * Accepts the usual JMH command line options, e.g. a regular expression selecting the benchmarks to run
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class BenchmarkRunner {
+    private BenchmarkRunner() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,50 @@
+package com.backbase.kalah.benchmarks;
+
+import com.backbase.kalah.model.Board;
+import com.backbase.kalah.service.BoardService;
+import org.apache.log4j.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link BoardService#createInitializedBoard()} without database access, i.e. the board initialization
+ * only as the repository stub returns the board without persisting it
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BoardCreationBenchmark {
+    // Whether the stones are stored in one packed column or as one row per pit
+    @Param({"true", "false"})
+    private boolean packedBoards;
+
+    private BoardService boardService;
+
+    @Setup
+    public void setUp() {
+        boardService = new BoardService(SingleBoardRepository.of(null), packedBoards,
+                Logger.getLogger(BoardService.class));
+    }
+
+    @Benchmark
+    public Board initBoard() {
+        return boardService.createInitializedBoard();
+    }
+}
@@ -0,0 +1,73 @@
+package com.backbase.kalah.benchmarks;
+
+import com.backbase.kalah.model.Board;
+import com.backbase.kalah.service.BoardService;
+import org.apache.log4j.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link BoardService#makeMove(long, int)} without database access, i.e. the rules and the conversion
+ * between entities and engine state only
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BoardServiceBenchmark {
+    private static final long BOARD_ID = 1L;
+
+    @Param({"OPENING", "MIDGAME", "ENDGAME", "HIGH_STONES"})
+    private BenchmarkPosition position;
+
+    // Whether the stones are stored in one packed column or as one row per pit
+    @Param({"true", "false"})
+    private boolean packedBoards;
+
+    private BoardService boardService;
+    private Board board;
+
+    @Setup
+    public void setUp() {
+        Logger logger = Logger.getLogger(BoardService.class);
+
+        board = new BoardService(SingleBoardRepository.of(null), packedBoards, logger).createInitializedBoard();
+        board.setId(BOARD_ID);
+        boardService = new BoardService(SingleBoardRepository.of(board), packedBoards, logger);
+    }
+
+    /**
+     * Measures a move on the selected position, including resetting the board to that position beforehand
+     */
+    @Benchmark
+    public Optional<Board> makeMove() {
+        position.copyTo(board);
+        return boardService.makeMove(BOARD_ID, position.getPitToPlay());
+    }
+
+    /**
+     * Measures resetting the board alone, to be subtracted from {@link #makeMove()}
+     */
+    @Benchmark
+    public Board resetBoard() {
+        position.copyTo(board);
+        return board;
+    }
+}
@@ -0,0 +1,100 @@
+package com.backbase.kalah.benchmarks;
+
+import com.backbase.kalah.Application;
+import com.backbase.kalah.service.GameService;
+import org.hibernate.Session;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for creating many games at once with {@link GameService#createNewGames} against the in-memory H2
+ * database. The entity manager is bound to the thread for the whole call, like the open session in view does for a
+ * bulk creation request. The entities it still manages and the heap retained after a garbage collection are printed
+ * after every iteration, so games kept in the persistence context would show up. The retained heap still grows by the
+ * rows stored in H2
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+@State(Scope.Thread)
+public class BulkGameCreationBenchmark {
+    private static final String BASE_URI = "http://localhost:8080/games";
+
+    @Param({"10000", "100000"})
+    private int gameCount;
+
+    private ConfigurableApplicationContext context;
+    private GameService gameService;
+    private EntityManagerFactory entityManagerFactory;
+
+    private EntityManager entityManager;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(Application.class)
+                .web(false)
+                .properties("spring.jpa.show-sql=false", "logging.level.com.backbase.kalah=WARN")
+                .run();
+
+        gameService = context.getBean(GameService.class);
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Setup(Level.Iteration)
+    public void bindEntityManager() {
+        entityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+    }
+
+    @TearDown(Level.Iteration)
+    public void unbindEntityManager() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        System.out.printf("%n%d managed entities, %d MB heap retained%n",
+                entityManager.unwrap(Session.class).getStatistics().getEntityCount(),
+                (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024));
+
+        TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+        entityManager.close();
+    }
+
+    /**
+     * Measures creating all games, the created games are consumed as the REST controller streams them
+     */
+    @Benchmark
+    public long createNewGames() {
+        long[] idSum = new long[1];
+        gameService.createNewGames(BASE_URI, gameCount, game -> idSum[0] += game.getId());
+
+        return idSum[0];
+    }
+}
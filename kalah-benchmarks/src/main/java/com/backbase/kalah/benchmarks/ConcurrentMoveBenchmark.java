@@ -0,0 +1,146 @@
+package com.backbase.kalah.benchmarks;
+
+import com.backbase.kalah.Application;
+import com.backbase.kalah.engine.Position;
+import com.backbase.kalah.error.KalahGameException;
+import com.backbase.kalah.service.GameService;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.dao.ConcurrencyFailureException;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stress benchmark for {@link GameService#makeMove(long, int)} with several threads playing random legal moves on the
+ * same game against the in-memory H2 database, comparing optimistic locking, which retries conflicting moves, with
+ * pessimistic locking, which makes them wait.
+ * A thread reads the position, then plays one of its legal moves, which is rejected if another thread moved
+ * meanwhile. Besides the throughput of the moves made, the rejected moves are counted, and the conflicts detected by
+ * the version of the board are printed after every iteration
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class ConcurrentMoveBenchmark {
+    private static final String BASE_URI = "http://localhost:8080/games";
+
+    @Param({"false", "true"})
+    private boolean pessimisticLocking;
+
+    private ConfigurableApplicationContext context;
+    private GameService gameService;
+    private volatile long gameId;
+
+    private long moveConflictsBefore;
+    private long rejectedMoveConflictsBefore;
+
+    /**
+     * Moves of one thread, reported by JMH as throughput next to the one of the benchmark method
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class MoveCounters {
+        // Moves rejected because the position read before was changed by another thread
+        public long staleMoves;
+        // Moves rejected because of concurrent moves in all attempts, or because the game could not be locked
+        public long conflictingMoves;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            staleMoves = 0;
+            conflictingMoves = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(Application.class)
+                .web(false)
+                .properties("spring.jpa.show-sql=false", "kalah.concurrency.pessimistic-locking=" + pessimisticLocking)
+                .run();
+
+        gameService = context.getBean(GameService.class);
+        gameId = createGame();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Setup(Level.Iteration)
+    public void recordConflicts() {
+        moveConflictsBefore = gameService.getMoveConflicts();
+        rejectedMoveConflictsBefore = gameService.getRejectedMoveConflicts();
+    }
+
+    @TearDown(Level.Iteration)
+    public void printConflicts() {
+        System.out.printf("%n%d version conflicts, of which %d rejected after the last attempt%n",
+                gameService.getMoveConflicts() - moveConflictsBefore,
+                gameService.getRejectedMoveConflicts() - rejectedMoveConflictsBefore);
+    }
+
+    /**
+     * Measures the moves made on the shared game, starting a new game whenever it is finished
+     */
+    @Benchmark
+    public boolean makeMove(MoveCounters counters) {
+        long currentGameId = gameId;
+        Position position = gameService.getPosition(currentGameId).orElseThrow(IllegalStateException::new);
+
+        if (position.isFinished()) {
+            startNewGame(currentGameId);
+            return false;
+        }
+
+        int[] legalMoves = position.getLegalMoves();
+        int pit = legalMoves[ThreadLocalRandom.current().nextInt(legalMoves.length)];
+
+        try {
+            return gameService.makeMove(currentGameId, pit).isPresent();
+        } catch (KalahGameException exp) {
+            counters.staleMoves++;
+        } catch (ConcurrencyFailureException exp) {
+            counters.conflictingMoves++;
+        }
+
+        return false;
+    }
+
+    private synchronized void startNewGame(long finishedGameId) {
+        // Only the first thread seeing the finished game starts the next one
+        if (gameId == finishedGameId) {
+            gameId = createGame();
+        }
+    }
+
+    private long createGame() {
+        return gameService.createNewGame(BASE_URI)
+                .orElseThrow(IllegalStateException::new)
+                .getId();
+    }
+}
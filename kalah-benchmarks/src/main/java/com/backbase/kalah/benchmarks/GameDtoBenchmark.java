@@ -0,0 +1,72 @@
+package com.backbase.kalah.benchmarks;
+
+import com.backbase.kalah.dto.GameDto;
+import com.backbase.kalah.dto.GameStatusDto;
+import com.backbase.kalah.model.Board;
+import com.backbase.kalah.model.Game;
+import com.backbase.kalah.service.BoardService;
+import com.backbase.kalah.utils.GameStatusDtoConverter;
+import org.apache.log4j.Logger;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for serializing a {@link Game} into its DTOs, i.e. {@link GameStatusDtoConverter#toGameStatusDto(Game)}
+ * used after every move and the {@link ModelMapper} mapping used by
+ * {@link com.backbase.kalah.rest.GameRestController#createGame()}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameDtoBenchmark {
+    private static final long GAME_ID = 1L;
+    private static final String GAME_URI = "http://localhost:8080/games/1";
+
+    // Whether the stones are stored in one packed column or as one row per pit
+    @Param({"true", "false"})
+    private boolean packedBoards;
+
+    private final ModelMapper mapper = new ModelMapper();
+    private Game game;
+
+    @Setup
+    public void setUp() {
+        Board board = new BoardService(SingleBoardRepository.of(null), packedBoards, Logger.getLogger(BoardService.class))
+                .createInitializedBoard();
+        BenchmarkPosition.MIDGAME.copyTo(board);
+
+        game = new Game(board, GAME_URI);
+        game.setId(GAME_ID);
+    }
+
+    @Benchmark
+    public GameStatusDto toGameStatusDto() {
+        return GameStatusDtoConverter.toGameStatusDto(game);
+    }
+
+    @Benchmark
+    public GameDto mapToGameDto() {
+        GameDto gameDto = new GameDto();
+        mapper.map(game, gameDto);
+
+        return gameDto;
+    }
+}
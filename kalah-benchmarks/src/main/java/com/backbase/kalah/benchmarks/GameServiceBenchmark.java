@@ -0,0 +1,126 @@
+package com.backbase.kalah.benchmarks;
+
+import com.backbase.kalah.Application;
+import com.backbase.kalah.dto.GameStatusDto;
+import com.backbase.kalah.engine.BoardState;
+import com.backbase.kalah.engine.KalahRules;
+import com.backbase.kalah.engine.MoveGenerator;
+import com.backbase.kalah.service.GameService;
+import com.backbase.kalah.utils.GameStatusDtoConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for a full {@link GameService#makeMove(long, int)} round trip against the in-memory H2 database,
+ * including the conversion of the result into a {@link GameStatusDto}, and for creating a game, both with the stones
+ * stored in one packed column of the board row and as one row per pit, and with the moves written behind by the
+ * {@link com.backbase.kalah.service.GameStore}, and with the boards taken from the
+ * {@link com.backbase.kalah.service.BoardPool}.
+ * Every move runs in its own transaction, like a REST request does with the open session in view.
+ * Moves are chosen from a local copy of the board and a new game is created whenever the current one is finished,
+ * so roughly one game creation is included per few dozen moves
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class GameServiceBenchmark {
+    private static final String BASE_URI = "http://localhost:8080/games";
+
+    // Whether the stones are stored in one packed column or as one row per pit
+    @Param({"true", "false"})
+    private boolean packedBoards;
+
+    // Whether moves are made on the games held in memory and written in batches
+    @Param({"false", "true"})
+    private boolean writeBehind;
+
+    // Whether new games get a board stored ahead of time by the board pool
+    @Param({"false", "true"})
+    private boolean boardPool;
+
+    private ConfigurableApplicationContext context;
+    private GameService gameService;
+    private TransactionTemplate transactionTemplate;
+
+    private long gameId;
+    private final BoardState boardState = new BoardState();
+    private final int[] moves = new int[MoveGenerator.MAX_MOVES];
+    private int moveCounter;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(Application.class)
+                .web(false)
+                .properties("spring.jpa.show-sql=false", "kalah.storage.packed-boards=" + packedBoards,
+                        "kalah.storage.write-behind.enabled=" + writeBehind,
+                        "kalah.storage.board-pool.enabled=" + boardPool)
+                .run();
+
+        gameService = context.getBean(GameService.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        startNewGame();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public GameStatusDto makeMove() {
+        int moveCount = MoveGenerator.generateMoves(boardState, moves);
+        int pit = moves[moveCounter++ % moveCount];
+
+        GameStatusDto gameStatusDto = transactionTemplate.execute(status -> gameService.makeMove(gameId, pit)
+                .map(GameStatusDtoConverter::toGameStatusDto)
+                .orElseThrow(IllegalStateException::new));
+
+        KalahRules.move(boardState, pit);
+        if (boardState.isFinished()) {
+            startNewGame();
+        }
+
+        return gameStatusDto;
+    }
+
+    /**
+     * Measures creating a game, which inserts the game and its board, plus the pits unless the board is packed. With
+     * the board pool, it inserts the game only as long as the pool keeps up with the creation rate
+     */
+    @Benchmark
+    public long createNewGame() {
+        return gameService.createNewGame(BASE_URI)
+                .orElseThrow(IllegalStateException::new)
+                .getId();
+    }
+
+    private void startNewGame() {
+        gameId = gameService.createNewGame(BASE_URI)
+                .orElseThrow(IllegalStateException::new)
+                .getId();
+        boardState.copyFrom(BoardState.initial());
+    }
+}
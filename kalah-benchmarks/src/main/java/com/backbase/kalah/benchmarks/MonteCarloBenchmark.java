@@ -0,0 +1,92 @@
+package com.backbase.kalah.benchmarks;
+
+import com.backbase.kalah.engine.BoardState;
+import com.backbase.kalah.engine.Position;
+import com.backbase.kalah.engine.mcts.MonteCarloResult;
+import com.backbase.kalah.engine.mcts.ParallelMonteCarloSearch;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static com.backbase.kalah.engine.BoardState.PLAYER_2;
+
+/**
+ * Benchmarks for {@link ParallelMonteCarloSearch}, measuring the playouts of searches with a fixed time budget and an
+ * increasing number of threads. The playouts are reported as extra counters, which JMH normalizes to playouts per
+ * second in total ("playouts") and per thread ("playoutsPerThread"). The latter is the throughput of one core as long
+ * as there are no more threads than cores
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MonteCarloBenchmark {
+    private static final int NODE_POOL_SIZE = 1 << 20;
+    private static final long TIME_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long SEED = 42L;
+
+    // Position after 12 moves of the games played by GameRestControllerIT
+    private static final BoardState MIDGAME_POSITION =
+            Position.of(new int[]{0, 5, 4, 3, 13, 0, 18, 0, 4, 0, 13, 6, 2, 4}, PLAYER_2).toBoardState();
+
+    @Param({"1", "2", "4", "8"})
+    private int threads;
+
+    private ThreadPoolExecutor executor;
+    private ParallelMonteCarloSearch search;
+
+    /**
+     * Counts the playouts, reported per second next to the searches per second
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class PlayoutCounter {
+        public long playouts;
+        public long playoutsPerThread;
+    }
+
+    @Setup
+    public void setUp() {
+        int helperThreads = Math.max(threads - 1, 1);
+
+        executor = new ThreadPoolExecutor(helperThreads, helperThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(helperThreads));
+        search = new ParallelMonteCarloSearch(executor, threads, NODE_POOL_SIZE, SEED);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Measures a search of the midgame position with the fixed time budget
+     */
+    @Benchmark
+    public MonteCarloResult search(PlayoutCounter playoutCounter) {
+        MonteCarloResult result = search.search(MIDGAME_POSITION, TIME_BUDGET_NANOS);
+        playoutCounter.playouts += result.getPlayouts();
+        playoutCounter.playoutsPerThread += result.getPlayouts() / result.getThreadCount();
+
+        return result;
+    }
+}
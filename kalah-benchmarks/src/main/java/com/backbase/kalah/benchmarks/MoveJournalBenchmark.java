@@ -0,0 +1,124 @@
+package com.backbase.kalah.benchmarks;
+
+import com.backbase.kalah.engine.Position;
+import com.backbase.kalah.journal.MoveJournal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Benchmark for appending moves to the {@link MoveJournal} with several threads, each playing its own game, with and
+ * without waiting until the move is forced to disk. Concurrent moves waiting for the disk share one force, so the
+ * records per force printed after every iteration show how much the group commit saves over forcing every move
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class MoveJournalBenchmark {
+    private static final int SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    // Whether a move waits until it is durable, as the game store does
+    @Param({"true", "false"})
+    private boolean durable;
+
+    private Path directory;
+    private MoveJournal journal;
+    private final AtomicLong gameIds = new AtomicLong();
+
+    private long recordsBefore;
+    private long syncsBefore;
+
+    /**
+     * The game played by one thread
+     */
+    @State(Scope.Thread)
+    public static class ThreadGame {
+        private long gameId;
+        private Position position;
+
+        @Setup
+        public void setUp(MoveJournalBenchmark benchmark) {
+            gameId = benchmark.gameIds.incrementAndGet();
+            position = Position.initial();
+        }
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("kalah-journal");
+        journal = MoveJournal.open(directory, SEGMENT_SIZE);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        journal.close();
+
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void recordSyncs() {
+        recordsBefore = journal.getRecordCount();
+        syncsBefore = journal.getSyncCount();
+    }
+
+    @TearDown(Level.Iteration)
+    public void printSyncs() {
+        long syncs = journal.getSyncCount() - syncsBefore;
+
+        System.out.printf("%n%d records in %d forces%n", journal.getRecordCount() - recordsBefore, syncs);
+    }
+
+    /**
+     * Measures appending a random legal move of the game of the thread, which is replaced by a new one once finished
+     */
+    @Benchmark
+    public long appendMove(ThreadGame game) {
+        if (game.position.isFinished()) {
+            journal.forget(game.gameId);
+            game.gameId = gameIds.incrementAndGet();
+            game.position = Position.initial();
+        }
+
+        int[] legalMoves = game.position.getLegalMoves();
+        int pit = legalMoves[ThreadLocalRandom.current().nextInt(legalMoves.length)];
+        Position nextPosition = game.position.play(pit);
+
+        long sequence = journal.append(game.gameId, game.position, pit, nextPosition);
+        if (durable) {
+            journal.awaitDurable(sequence);
+        }
+
+        game.position = nextPosition;
+        return sequence;
+    }
+}
@@ -0,0 +1,93 @@
+package com.backbase.kalah.benchmarks;
+
+import com.backbase.kalah.engine.BoardState;
+import com.backbase.kalah.engine.Position;
+import com.backbase.kalah.engine.search.LazySmpSearch;
+import com.backbase.kalah.engine.search.SearchResult;
+import com.backbase.kalah.engine.search.TranspositionTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static com.backbase.kalah.engine.BoardState.PLAYER_1;
+import static com.backbase.kalah.engine.BoardState.PLAYER_2;
+
+/**
+ * Benchmarks for {@link LazySmpSearch}, measuring the time to search a fixed set of midgame positions to a fixed depth
+ * with an increasing number of threads. The speedup of n threads is the time of 1 thread divided by the time of n
+ * threads
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParallelSearchBenchmark {
+    private static final int TRANSPOSITION_TABLE_SIZE_BITS = 20;
+    private static final int SEARCH_DEPTH = 14;
+
+    // Positions after 12 and 20 moves of the games played by GameRestControllerIT
+    private static final BoardState[] MIDGAME_POSITIONS = {
+            Position.of(new int[]{0, 5, 4, 3, 13, 0, 18, 0, 4, 0, 13, 6, 2, 4}, PLAYER_2).toBoardState(),
+            Position.of(new int[]{2, 1, 1, 0, 2, 5, 38, 3, 2, 2, 2, 8, 1, 5}, PLAYER_2).toBoardState(),
+            Position.of(new int[]{0, 3, 0, 10, 1, 4, 7, 1, 4, 11, 10, 10, 0, 11}, PLAYER_2).toBoardState(),
+            Position.of(new int[]{1, 1, 2, 12, 3, 0, 8, 0, 3, 15, 12, 0, 0, 15}, PLAYER_1).toBoardState()
+    };
+
+    @Param({"1", "2", "4", "8"})
+    private int threads;
+
+    private TranspositionTable transpositionTable;
+    private ThreadPoolExecutor executor;
+    private LazySmpSearch search;
+
+    @Setup
+    public void setUp() {
+        int helperThreads = Math.max(threads - 1, 1);
+
+        transpositionTable = new TranspositionTable(TRANSPOSITION_TABLE_SIZE_BITS);
+        executor = new ThreadPoolExecutor(helperThreads, helperThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(helperThreads));
+        search = new LazySmpSearch(transpositionTable, executor, threads);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Setup(Level.Invocation)
+    public void clearTranspositionTable() {
+        transpositionTable.clear();
+    }
+
+    /**
+     * Measures searching all midgame positions, sharing the transposition table between them like consecutive AI moves
+     */
+    @Benchmark
+    public void searchMidgamePositions(Blackhole blackhole) {
+        for (BoardState position : MIDGAME_POSITIONS) {
+            SearchResult result = search.search(position, SEARCH_DEPTH);
+            blackhole.consume(result);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.backbase.kalah.benchmarks;
+
+import com.backbase.kalah.engine.BoardState;
+import com.backbase.kalah.engine.search.AlphaBetaSearch;
+import com.backbase.kalah.engine.search.SearchResult;
+import com.backbase.kalah.engine.search.TranspositionTable;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link AlphaBetaSearch} on an empty transposition table, i.e. the time to reach a depth from scratch.
+ * The searched nodes are reported as an extra "nodes" counter, which JMH normalizes to nodes per second
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class SearchBenchmark {
+    // Small enough to be cleared before every search without dominating the measurement
+    private static final int TRANSPOSITION_TABLE_SIZE_BITS = 16;
+
+    @Param({"OPENING", "MIDGAME", "ENDGAME"})
+    private BenchmarkPosition position;
+
+    @Param({"8", "12"})
+    private int depth;
+
+    private BoardState state;
+    private TranspositionTable transpositionTable;
+    private AlphaBetaSearch search;
+
+    /**
+     * Counts the searched nodes, reported per second next to the searches per second
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class NodeCounter {
+        public long nodes;
+    }
+
+    @Setup
+    public void setUp() {
+        state = position.toBoardState();
+        transpositionTable = new TranspositionTable(TRANSPOSITION_TABLE_SIZE_BITS);
+        search = new AlphaBetaSearch(transpositionTable);
+    }
+
+    @Setup(Level.Invocation)
+    public void clearTranspositionTable() {
+        transpositionTable.clear();
+    }
+
+    /**
+     * Measures an iterative-deepening search up to the selected depth
+     */
+    @Benchmark
+    public SearchResult search(NodeCounter nodeCounter) {
+        SearchResult result = search.search(state, depth);
+        nodeCounter.nodes += result.getNodes();
+
+        return result;
+    }
+}
@@ -0,0 +1,42 @@
+package com.backbase.kalah.benchmarks;
+
+import com.backbase.kalah.model.Board;
+import com.backbase.kalah.repository.BoardRepository;
+
+import java.lang.reflect.Proxy;
+
+/**
+ * Creates {@link BoardRepository} stubs holding one board in memory, so the rules in
+ * {@link com.backbase.kalah.service.BoardService} can be measured without a database
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public final class SingleBoardRepository {
+    private SingleBoardRepository() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Creates a repository whose {@code findOne} always returns the given board and whose {@code save} returns the
+     * saved item as is
+     *
+     * @param board The board to be returned, null to return nothing
+     * @return The repository stub
+     */
+    public static BoardRepository of(Board board) {
+        return (BoardRepository) Proxy.newProxyInstance(BoardRepository.class.getClassLoader(),
+                new Class<?>[]{BoardRepository.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "findOne":
+                            return board;
+                        case "save":
+                            return args[0];
+                        case "exists":
+                            return board != null;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+}
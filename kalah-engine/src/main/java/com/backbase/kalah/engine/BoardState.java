@@ -0,0 +1,143 @@
+package com.backbase.kalah.engine;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import static com.backbase.kalah.constant.Constants.COUNT_OF_ALL_PITS;
+import static com.backbase.kalah.constant.Constants.INITIAL_STONE_COUNT;
+import static com.backbase.kalah.constant.Constants.PLAYER_1_KALAH;
+import static com.backbase.kalah.constant.Constants.PLAYER_2_KALAH;
+
+/**
+ * Primitive, mutable representation of a Kalah board used by {@link KalahRules}.
+ * The stone counts of all pits are kept in an int array and the player turn and game status are packed into flag bits.
+ * The Zobrist hash of the position (see {@link ZobristHash}) is updated incrementally on every change, so it is
+ * available at no cost as a position key
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public final class BoardState implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    public static final int PLAYER_1 = 0;
+    public static final int PLAYER_2 = 1;
+
+    static final int PLAYER_2_TURN_FLAG = 1;
+    static final int FINISHED_FLAG = 2;
+
+    final int[] pits;
+    int flags;
+    long hash;
+
+    public BoardState() {
+        pits = new int[COUNT_OF_ALL_PITS];
+        flags = 0;
+        hash = ZobristHash.EMPTY_BOARD_HASH;
+    }
+
+    public BoardState(BoardState other) {
+        this();
+        copyFrom(other);
+    }
+
+    /**
+     * Creates the state of a newly initialized board, i.e. {@link com.backbase.kalah.constant.Constants#INITIAL_STONE_COUNT}
+     * stones in every normal pit, empty Kalahs and first player's turn
+     *
+     * @return The initial board state
+     */
+    public static BoardState initial() {
+        BoardState state = new BoardState();
+        for (int i = 0; i < COUNT_OF_ALL_PITS; i++) {
+            if ((i != PLAYER_1_KALAH) && (i != PLAYER_2_KALAH)) {
+                state.setStones(i, INITIAL_STONE_COUNT);
+            }
+        }
+
+        return state;
+    }
+
+    public int getStones(int pit) {
+        return pits[pit];
+    }
+
+    /**
+     * @param pit    The index of the pit
+     * @param stones The number of stones, at most {@link ZobristHash#TOTAL_STONE_COUNT}
+     */
+    public void setStones(int pit, int stones) {
+        hash ^= ZobristHash.getPitChangeKey(pit, pits[pit], stones);
+        pits[pit] = stones;
+    }
+
+    /**
+     * @return {@link #PLAYER_1} or {@link #PLAYER_2}
+     */
+    public int getPlayerTurn() {
+        return flags & PLAYER_2_TURN_FLAG;
+    }
+
+    public void setPlayerTurn(int player) {
+        if (getPlayerTurn() != player) {
+            hash ^= ZobristHash.PLAYER_2_TURN_KEY;
+        }
+
+        flags = (flags & ~PLAYER_2_TURN_FLAG) | (player & PLAYER_2_TURN_FLAG);
+    }
+
+    /**
+     * @return The 64-bit Zobrist hash of the stones in all pits and the player turn, stable between runs
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    public boolean isFinished() {
+        return (flags & FINISHED_FLAG) != 0;
+    }
+
+    public void setFinished(boolean finished) {
+        flags = finished ? (flags | FINISHED_FLAG) : (flags & ~FINISHED_FLAG);
+    }
+
+    /**
+     * Overwrites this state with the given one without allocating
+     *
+     * @param other The state to be copied
+     */
+    public void copyFrom(BoardState other) {
+        System.arraycopy(other.pits, 0, pits, 0, COUNT_OF_ALL_PITS);
+        flags = other.flags;
+        hash = other.hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof BoardState)) {
+            return false;
+        }
+
+        BoardState state = (BoardState) o;
+
+        return flags == state.flags && Arrays.equals(pits, state.pits);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(hash) + flags;
+    }
+
+    @Override
+    public String toString() {
+        return "BoardState{" +
+                "pits=" + Arrays.toString(pits) +
+                ", playerTurn=" + getPlayerTurn() +
+                ", finished=" + isFinished() +
+                '}';
+    }
+}
@@ -0,0 +1,337 @@
+package com.backbase.kalah.engine;
+
+import static com.backbase.kalah.constant.Constants.COUNT_OF_ALL_PITS;
+import static com.backbase.kalah.constant.Constants.COUNT_OF_PLAYER_PITS;
+import static com.backbase.kalah.constant.Constants.PLAYER_1_KALAH;
+import static com.backbase.kalah.constant.Constants.PLAYER_2_KALAH;
+import static com.backbase.kalah.engine.BoardState.FINISHED_FLAG;
+import static com.backbase.kalah.engine.BoardState.PLAYER_1;
+import static com.backbase.kalah.engine.BoardState.PLAYER_2;
+
+/**
+ * Allocation-free Kalah rules (sowing, capturing and game end) working on a {@link BoardState}.
+ * Validation of the requested move (turn, Kalah or empty pit) is left to the caller
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public final class KalahRules {
+    public static final int TIE = -1;
+
+    // Number of pits receiving a stone in one lap, i.e. all pits except the opponent's Kalah
+    private static final int RECEIVING_PIT_COUNT = COUNT_OF_ALL_PITS - 1;
+
+    // For each normal pit, the pits receiving the 1st, 2nd, ... 13th stone sown from it
+    private static final int[][] SOWING_ORDER = initSowingOrder();
+
+    private KalahRules() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Makes a move from the given pit of the player whose turn it is, and updates the player turn and game status
+     *
+     * @param state The board state to be modified
+     * @param pit   The index of the pit to be played, should be a non-empty normal pit of the current player
+     * @return The index of the pit that received the last stone
+     */
+    public static int move(BoardState state, int pit) {
+        return move(state, pit, null);
+    }
+
+    /**
+     * Makes a move like {@link #move(BoardState, int)} and records how to take it back with
+     * {@link #undoMove(BoardState, MoveUndoStack)}
+     *
+     * @param state     The board state to be modified
+     * @param pit       The index of the pit to be played, should be a non-empty normal pit of the current player
+     * @param undoStack The stack receiving the move, or null if the move is not to be taken back
+     * @return The index of the pit that received the last stone
+     * @throws IllegalStateException If the undo stack is full
+     */
+    public static int move(BoardState state, int pit, MoveUndoStack undoStack) {
+        int[] pits = state.pits;
+        int player = state.getPlayerTurn();
+        int frame = undoStack != null ? undoStack.push(pit, pits[pit], state.flags) : 0;
+
+        int lastPit = sow(state, pit);
+
+        // If the last one is placed into my Kalah, then we should not switch players, just check if the game is finished
+        if (lastPit != getKalah(player)) {
+            state.setPlayerTurn(player ^ 1);
+
+            // If the last placed stone is dropped into an empty pit of her own, then collect the opposite stones too
+            int oppositePit = getOppositePit(lastPit);
+            if ((pits[lastPit] == 1) && isOwnNormalPit(player, lastPit) && (pits[oppositePit] != 0)) {
+                if (undoStack != null) {
+                    undoStack.setCapture(frame, lastPit, pits[oppositePit]);
+                }
+
+                int kalah = getKalah(player);
+                state.setStones(kalah, pits[kalah] + pits[oppositePit] + 1);
+                state.setStones(lastPit, 0);
+                state.setStones(oppositePit, 0);
+            }
+        }
+
+        if (isGameFinished(pits)) {
+            if (undoStack != null) {
+                undoStack.setCollected(frame, pits);
+            }
+
+            state.flags |= FINISHED_FLAG;
+            collectAllRemainingStones(state);
+        }
+
+        return lastPit;
+    }
+
+    /**
+     * Takes back the last move recorded in the given stack, which restores the stones, the flags and the hash of the
+     * state exactly as they were before the move
+     *
+     * @param state     The board state after the move
+     * @param undoStack The stack the move was recorded in
+     * @throws IllegalStateException If the stack is empty
+     */
+    public static void undoMove(BoardState state, MoveUndoStack undoStack) {
+        int[] pits = state.pits;
+        int frame = undoStack.pop();
+        int previousFlags = undoStack.getFlags(frame);
+        int player = previousFlags & BoardState.PLAYER_2_TURN_FLAG;
+
+        if (undoStack.isCollected(frame)) {
+            for (int i = 0; i < MoveUndoStack.NORMAL_PIT_COUNT; i++) {
+                int pit = MoveUndoStack.getNormalPit(i);
+                int stones = undoStack.getCollectedStones(frame, i);
+                int kalah = pit < PLAYER_1_KALAH ? PLAYER_1_KALAH : PLAYER_2_KALAH;
+
+                if (stones != 0) {
+                    state.setStones(kalah, pits[kalah] - stones);
+                    state.setStones(pit, stones);
+                }
+            }
+        }
+
+        int capturePit = undoStack.getCapturePit(frame);
+        if (capturePit != MoveUndoStack.NO_CAPTURE) {
+            int capturedStones = undoStack.getCapturedStones(frame);
+            int kalah = getKalah(player);
+
+            state.setStones(kalah, pits[kalah] - capturedStones - 1);
+            state.setStones(capturePit, 1);
+            state.setStones(getOppositePit(capturePit), capturedStones);
+        }
+
+        unsow(state, undoStack.getPit(frame), undoStack.getSownStones(frame));
+
+        state.setPlayerTurn(player);
+        state.flags = previousFlags;
+    }
+
+    /**
+     * Gets the result of the game from the stones in the Kalahs
+     *
+     * @param state The board state
+     * @return {@link BoardState#PLAYER_1} or {@link BoardState#PLAYER_2} for the player with more stones in her Kalah,
+     * or {@link #TIE} otherwise
+     */
+    public static int getLeadingPlayer(BoardState state) {
+        int difference = getScoreDifference(state);
+        if (difference == 0) {
+            return TIE;
+        }
+
+        return difference > 0 ? PLAYER_1 : PLAYER_2;
+    }
+
+    /**
+     * Gets the score of the first player minus the score of the second one, i.e. the difference of their Kalahs
+     *
+     * @param state The board state
+     * @return The score difference from first player's point of view
+     */
+    public static int getScoreDifference(BoardState state) {
+        return state.pits[PLAYER_1_KALAH] - state.pits[PLAYER_2_KALAH];
+    }
+
+    /**
+     * Reverses {@link #sow(BoardState, int)}, i.e. takes the given number of stones back from the pits following the
+     * given one and puts them into it
+     */
+    static void unsow(BoardState state, int pit, int stones) {
+        int[] pits = state.pits;
+        long hash = state.hash;
+
+        int laps = stones / RECEIVING_PIT_COUNT;
+        int remainder = stones % RECEIVING_PIT_COUNT;
+        int[] receivingPits = SOWING_ORDER[pit];
+
+        for (int i = 0; i < remainder; i++) {
+            int receivingPit = receivingPits[i];
+            hash ^= ZobristHash.getPitChangeKey(receivingPit, pits[receivingPit], pits[receivingPit] - 1);
+            pits[receivingPit]--;
+        }
+
+        if (laps > 0) {
+            for (int receivingPit : receivingPits) {
+                hash ^= ZobristHash.getPitChangeKey(receivingPit, pits[receivingPit], pits[receivingPit] - laps);
+                pits[receivingPit] -= laps;
+            }
+        }
+
+        // The laps taken back include the played pit itself, which is empty again now
+        hash ^= ZobristHash.getPitChangeKey(pit, pits[pit], stones);
+        pits[pit] = stones;
+        state.hash = hash;
+    }
+
+    /**
+     * Checks if the game has come to an end, i.e. when a player has no more stones in any of her pits
+     *
+     * @param state The board state
+     * @return True if the game is finished, false otherwise
+     */
+    public static boolean isGameOver(BoardState state) {
+        return state.isFinished() || isGameFinished(state.pits);
+    }
+
+    public static int getKalah(int player) {
+        return player == PLAYER_1 ? PLAYER_1_KALAH : PLAYER_2_KALAH;
+    }
+
+    /**
+     * Gets the pit facing the given normal pit, e.g. pit 0 faces pit 12
+     *
+     * @param pit The index of a normal pit
+     * @return The index of the opposite pit
+     */
+    public static int getOppositePit(int pit) {
+        return PLAYER_2_KALAH - 1 - pit;
+    }
+
+    /**
+     * Checks if the pit is one of the player's normal pits (Non Kalah pit)
+     *
+     * @param player The player
+     * @param pit    The index of the pit
+     * @return True if the it's one of the player's pits except Kalah
+     */
+    public static boolean isOwnNormalPit(int player, int pit) {
+        int firstPit = player == PLAYER_1 ? 0 : COUNT_OF_PLAYER_PITS;
+        return (pit >= firstPit) && (pit < getKalah(player));
+    }
+
+    /**
+     * Checks if playing the given pit of the player whose turn it is gives her another turn, without making the move
+     *
+     * @param state The board state
+     * @param pit   The index of a non-empty normal pit of the player whose turn it is
+     * @return True if the last stone ends in the player's own Kalah
+     */
+    public static boolean isExtraTurnMove(BoardState state, int pit) {
+        int distanceToKalah = getKalah(state.getPlayerTurn()) - pit;
+        return state.pits[pit] % RECEIVING_PIT_COUNT == distanceToKalah;
+    }
+
+    /**
+     * Sows the stones of the given pit into the following pits, skipping the opponent's Kalah.
+     * Instead of dropping the stones one by one, every receiving pit gets one stone per full lap and the remaining
+     * stones go to the pits listed in {@link #SOWING_ORDER}, so the cost does not depend on the number of stones.
+     * The hash of the state is updated for the changed pits only
+     *
+     * @return The index of the pit that received the last stone
+     */
+    static int sow(BoardState state, int pit) {
+        int[] pits = state.pits;
+        int stones = pits[pit];
+        long hash = state.hash ^ ZobristHash.getPitChangeKey(pit, stones, 0);
+        pits[pit] = 0;
+
+        int laps = stones / RECEIVING_PIT_COUNT;
+        int remainder = stones % RECEIVING_PIT_COUNT;
+        int[] receivingPits = SOWING_ORDER[pit];
+
+        if (laps > 0) {
+            for (int receivingPit : receivingPits) {
+                hash ^= ZobristHash.getPitChangeKey(receivingPit, pits[receivingPit], pits[receivingPit] + laps);
+                pits[receivingPit] += laps;
+            }
+        }
+
+        for (int i = 0; i < remainder; i++) {
+            int receivingPit = receivingPits[i];
+            hash ^= ZobristHash.getPitChangeKey(receivingPit, pits[receivingPit], pits[receivingPit] + 1);
+            pits[receivingPit]++;
+        }
+
+        state.hash = hash;
+
+        // After full laps only, the last stone is dropped back into the played pit
+        return remainder == 0 ? pit : receivingPits[remainder - 1];
+    }
+
+    /**
+     * Checks if the game has come to an end, i.e. when a player has no more stones in any of her pits
+     */
+    static boolean isGameFinished(int[] pits) {
+        boolean player1AllEmpty = true;
+        for (int i = 0; i < PLAYER_1_KALAH; i++) {
+            player1AllEmpty = player1AllEmpty && pits[i] == 0;
+        }
+
+        boolean player2AllEmpty = true;
+        for (int i = COUNT_OF_PLAYER_PITS; i < PLAYER_2_KALAH; i++) {
+            player2AllEmpty = player2AllEmpty && pits[i] == 0;
+        }
+
+        return player1AllEmpty || player2AllEmpty;
+    }
+
+    /**
+     * Moves the stones left in the normal pits of each player into her own Kalah
+     */
+    static void collectAllRemainingStones(BoardState state) {
+        int[] pits = state.pits;
+
+        for (int i = 0; i < PLAYER_1_KALAH; i++) {
+            if (pits[i] != 0) {
+                state.setStones(PLAYER_1_KALAH, pits[PLAYER_1_KALAH] + pits[i]);
+                state.setStones(i, 0);
+            }
+        }
+
+        for (int i = COUNT_OF_PLAYER_PITS; i < PLAYER_2_KALAH; i++) {
+            if (pits[i] != 0) {
+                state.setStones(PLAYER_2_KALAH, pits[PLAYER_2_KALAH] + pits[i]);
+                state.setStones(i, 0);
+            }
+        }
+    }
+
+    private static int[][] initSowingOrder() {
+        int[][] sowingOrder = new int[COUNT_OF_ALL_PITS][];
+
+        for (int pit = 0; pit < COUNT_OF_ALL_PITS; pit++) {
+            if ((pit == PLAYER_1_KALAH) || (pit == PLAYER_2_KALAH)) {
+                continue;
+            }
+
+            int opponentKalah = pit < PLAYER_1_KALAH ? PLAYER_2_KALAH : PLAYER_1_KALAH;
+            int[] receivingPits = new int[RECEIVING_PIT_COUNT];
+            int nextPit = pit;
+
+            for (int i = 0; i < RECEIVING_PIT_COUNT; i++) {
+                nextPit = (nextPit + 1) % COUNT_OF_ALL_PITS;
+                if (nextPit == opponentKalah) {
+                    nextPit = (nextPit + 1) % COUNT_OF_ALL_PITS;
+                }
+                receivingPits[i] = nextPit;
+            }
+
+            sowingOrder[pit] = receivingPits;
+        }
+
+        return sowingOrder;
+    }
+}
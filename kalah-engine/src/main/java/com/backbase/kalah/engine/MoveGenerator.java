@@ -0,0 +1,86 @@
+package com.backbase.kalah.engine;
+
+import static com.backbase.kalah.constant.Constants.COUNT_OF_PLAYER_PITS;
+import static com.backbase.kalah.engine.BoardState.PLAYER_1;
+
+/**
+ * Generates the legal moves of the player whose turn it is
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public final class MoveGenerator {
+    // Maximum number of legal moves in a position, i.e. the normal pits of a player
+    public static final int MAX_MOVES = COUNT_OF_PLAYER_PITS - 1;
+
+    private MoveGenerator() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Checks if the given pit can be played by the player whose turn it is
+     *
+     * @param state The board state
+     * @param pit   The index of the pit
+     * @return True if the game is running and the pit is a non-empty normal pit of the current player
+     */
+    public static boolean isLegalMove(BoardState state, int pit) {
+        return !state.isFinished() && KalahRules.isOwnNormalPit(state.getPlayerTurn(), pit) && (state.pits[pit] != 0);
+    }
+
+    /**
+     * Writes the legal moves of the player whose turn it is into the given array in pit order
+     *
+     * @param state The board state
+     * @param moves The array to be filled, should have room for at least {@link #MAX_MOVES} moves
+     * @return The number of legal moves written
+     */
+    public static int generateMoves(BoardState state, int[] moves) {
+        if (state.isFinished()) {
+            return 0;
+        }
+
+        int firstPit = getFirstPit(state.getPlayerTurn());
+        int count = 0;
+
+        for (int pit = firstPit; pit < firstPit + MAX_MOVES; pit++) {
+            if (state.pits[pit] != 0) {
+                moves[count++] = pit;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Gets the legal moves of the player whose turn it is as a bit mask, in which bit i is set if the i-th normal pit
+     * of that player (counting from her first pit) can be played
+     *
+     * @param state The board state
+     * @return A mask of {@link #MAX_MOVES} bits, 0 if the game is finished
+     */
+    public static int getLegalMoveMask(BoardState state) {
+        if (state.isFinished()) {
+            return 0;
+        }
+
+        int firstPit = getFirstPit(state.getPlayerTurn());
+        int mask = 0;
+
+        for (int i = 0; i < MAX_MOVES; i++) {
+            if (state.pits[firstPit + i] != 0) {
+                mask |= 1 << i;
+            }
+        }
+
+        return mask;
+    }
+
+    /**
+     * @param player The player
+     * @return The index of the first normal pit of the player
+     */
+    public static int getFirstPit(int player) {
+        return player == PLAYER_1 ? 0 : COUNT_OF_PLAYER_PITS;
+    }
+}
@@ -0,0 +1,148 @@
+package com.backbase.kalah.engine;
+
+/**
+ * Fixed-capacity stack of the information needed to take back moves made with
+ * {@link KalahRules#move(BoardState, int, MoveUndoStack)}, kept in a primitive array so making and taking back moves
+ * allocates nothing.
+ * Every move takes one frame: a header packing the played pit, the number of sown stones (which give the sown range),
+ * the flags before the move and the captured pit and stones, followed by the stones of the normal pits before they
+ * were collected, which are only written by a move ending the game
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public final class MoveUndoStack {
+    static final int NORMAL_PIT_COUNT = 2 * MoveGenerator.MAX_MOVES;
+    static final int FRAME_SIZE = 1 + NORMAL_PIT_COUNT;
+    static final int NO_CAPTURE = 0xF;
+
+    private static final int PIT_MASK = 0xF;
+    private static final int STONES_MASK = 0x7F;
+    private static final int FLAGS_MASK = 0x3;
+    private static final int SOWN_STONES_SHIFT = 4;
+    private static final int FLAGS_SHIFT = 11;
+    private static final int CAPTURE_PIT_SHIFT = 13;
+    private static final int CAPTURED_STONES_SHIFT = 17;
+    private static final int COLLECTED_FLAG = 1 << 24;
+
+    private final int[] frames;
+    private int size;
+
+    /**
+     * @param capacity The maximum number of moves that can be taken back
+     */
+    public MoveUndoStack(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity should be at least 1");
+        }
+
+        this.frames = new int[capacity * FRAME_SIZE];
+    }
+
+    /**
+     * @return The number of moves that can be taken back
+     */
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return frames.length / FRAME_SIZE;
+    }
+
+    /**
+     * Forgets all moves, which then cannot be taken back anymore
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Starts the frame of a new move
+     *
+     * @return The index of the frame header
+     */
+    int push(int pit, int sownStones, int flags) {
+        if (size == capacity()) {
+            throw new IllegalStateException("Undo stack is full");
+        }
+
+        int frame = size++ * FRAME_SIZE;
+        frames[frame] = pit | (sownStones << SOWN_STONES_SHIFT) | (flags << FLAGS_SHIFT)
+                | (NO_CAPTURE << CAPTURE_PIT_SHIFT);
+        return frame;
+    }
+
+    void setCapture(int frame, int capturePit, int capturedStones) {
+        frames[frame] = (frames[frame] & ~((PIT_MASK << CAPTURE_PIT_SHIFT) | (STONES_MASK << CAPTURED_STONES_SHIFT)))
+                | (capturePit << CAPTURE_PIT_SHIFT) | (capturedStones << CAPTURED_STONES_SHIFT);
+    }
+
+    /**
+     * Saves the stones of the normal pits before they are collected at the end of the game
+     */
+    void setCollected(int frame, int[] pits) {
+        frames[frame] |= COLLECTED_FLAG;
+
+        for (int i = 0; i < NORMAL_PIT_COUNT; i++) {
+            frames[frame + 1 + i] = pits[getNormalPit(i)];
+        }
+    }
+
+    /**
+     * Removes the frame of the last move
+     *
+     * @return The index of its header
+     */
+    int pop() {
+        if (size == 0) {
+            throw new IllegalStateException("No move to take back");
+        }
+
+        return --size * FRAME_SIZE;
+    }
+
+    int getPit(int frame) {
+        return frames[frame] & PIT_MASK;
+    }
+
+    int getSownStones(int frame) {
+        return (frames[frame] >>> SOWN_STONES_SHIFT) & STONES_MASK;
+    }
+
+    int getFlags(int frame) {
+        return (frames[frame] >>> FLAGS_SHIFT) & FLAGS_MASK;
+    }
+
+    /**
+     * @return The pit whose stones were captured together with the opposite ones, or {@link #NO_CAPTURE}
+     */
+    int getCapturePit(int frame) {
+        return (frames[frame] >>> CAPTURE_PIT_SHIFT) & PIT_MASK;
+    }
+
+    /**
+     * @return The stones taken from the opposite pit of the capture pit
+     */
+    int getCapturedStones(int frame) {
+        return (frames[frame] >>> CAPTURED_STONES_SHIFT) & STONES_MASK;
+    }
+
+    boolean isCollected(int frame) {
+        return (frames[frame] & COLLECTED_FLAG) != 0;
+    }
+
+    /**
+     * @return The stones of the i-th normal pit before they were collected
+     */
+    int getCollectedStones(int frame, int i) {
+        return frames[frame + 1 + i];
+    }
+
+    /**
+     * @return The index of the i-th normal pit, the first player's pits followed by the second player's ones
+     */
+    static int getNormalPit(int i) {
+        return i < MoveGenerator.MAX_MOVES ? i : i + 1;
+    }
+}
@@ -0,0 +1,195 @@
+package com.backbase.kalah.engine;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import static com.backbase.kalah.constant.Constants.COUNT_OF_ALL_PITS;
+
+/**
+ * Immutable Kalah position that can be shared freely, e.g. between simulations or bots.
+ * Tight loops should use {@link BoardState} with {@link KalahRules} directly instead, as every move creates a new
+ * position. It is serializable, e.g. for caches holding it as it is
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public final class Position implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private static final String INVALID_PIT_COUNT_ERROR = "A position should have " + COUNT_OF_ALL_PITS + " pits";
+    private static final String INVALID_STONE_COUNT_ERROR = "A pit should have between 0 and "
+            + ZobristHash.TOTAL_STONE_COUNT + " stones";
+    private static final String INVALID_PLAYER_ERROR = "Invalid player";
+    private static final String ILLEGAL_MOVE_ERROR = "Illegal move";
+
+    private final BoardState state;
+
+    private Position(BoardState state) {
+        this.state = state;
+    }
+
+    /**
+     * @return The position of a newly initialized board
+     */
+    public static Position initial() {
+        return new Position(BoardState.initial());
+    }
+
+    /**
+     * Creates a position from the stones in every pit and the player whose turn it is
+     *
+     * @param pits       The number of stones in every pit, ordered by pit index
+     * @param playerTurn {@link BoardState#PLAYER_1} or {@link BoardState#PLAYER_2}
+     * @return The position, finished if one of the players has no more stones in her pits
+     * @throws IllegalArgumentException If the number of pits, a stone count or the player is invalid
+     */
+    public static Position of(int[] pits, int playerTurn) {
+        if (pits.length != COUNT_OF_ALL_PITS) {
+            throw new IllegalArgumentException(INVALID_PIT_COUNT_ERROR);
+        }
+
+        for (int stones : pits) {
+            if ((stones < 0) || (stones > ZobristHash.TOTAL_STONE_COUNT)) {
+                throw new IllegalArgumentException(INVALID_STONE_COUNT_ERROR);
+            }
+        }
+
+        if ((playerTurn != BoardState.PLAYER_1) && (playerTurn != BoardState.PLAYER_2)) {
+            throw new IllegalArgumentException(INVALID_PLAYER_ERROR);
+        }
+
+        BoardState state = new BoardState();
+        for (int pit = 0; pit < COUNT_OF_ALL_PITS; pit++) {
+            state.setStones(pit, pits[pit]);
+        }
+        state.setPlayerTurn(playerTurn);
+        state.setFinished(KalahRules.isGameOver(state));
+
+        return new Position(state);
+    }
+
+    /**
+     * @param state The board state to be copied
+     * @return A position holding a copy of the given state
+     */
+    public static Position of(BoardState state) {
+        return new Position(new BoardState(state));
+    }
+
+    public int getStones(int pit) {
+        return state.getStones(pit);
+    }
+
+    /**
+     * @return A copy of the number of stones in every pit
+     */
+    public int[] getPits() {
+        return state.pits.clone();
+    }
+
+    /**
+     * @return The Zobrist hash of this position, see {@link BoardState#getHash()}
+     */
+    public long getHash() {
+        return state.getHash();
+    }
+
+    public int getPlayerTurn() {
+        return state.getPlayerTurn();
+    }
+
+    public boolean isFinished() {
+        return state.isFinished();
+    }
+
+    public boolean isLegalMove(int pit) {
+        return (pit >= 0) && (pit < COUNT_OF_ALL_PITS) && MoveGenerator.isLegalMove(state, pit);
+    }
+
+    /**
+     * @return The legal moves of the player whose turn it is in pit order, empty if the game is finished
+     */
+    public int[] getLegalMoves() {
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        int count = MoveGenerator.generateMoves(state, moves);
+
+        return Arrays.copyOf(moves, count);
+    }
+
+    /**
+     * @return The legal moves of the player whose turn it is as a bit mask, see
+     * {@link MoveGenerator#getLegalMoveMask(BoardState)}
+     */
+    public int getLegalMoveMask() {
+        return MoveGenerator.getLegalMoveMask(state);
+    }
+
+    /**
+     * Plays the given pit
+     *
+     * @param pit The index of the pit to be played
+     * @return The position after the move
+     * @throws IllegalArgumentException If the move is not legal in this position
+     */
+    public Position play(int pit) {
+        if (!isLegalMove(pit)) {
+            throw new IllegalArgumentException(ILLEGAL_MOVE_ERROR + ": " + pit);
+        }
+
+        BoardState nextState = new BoardState(state);
+        KalahRules.move(nextState, pit);
+
+        return new Position(nextState);
+    }
+
+    /**
+     * @return The score of the first player minus the score of the second one
+     */
+    public int getScoreDifference() {
+        return KalahRules.getScoreDifference(state);
+    }
+
+    /**
+     * @return {@link BoardState#PLAYER_1}, {@link BoardState#PLAYER_2} or {@link KalahRules#TIE} depending on who is
+     * leading, which is the final result once the position is finished
+     */
+    public int getLeadingPlayer() {
+        return KalahRules.getLeadingPlayer(state);
+    }
+
+    /**
+     * @return A mutable copy of this position
+     */
+    public BoardState toBoardState() {
+        return new BoardState(state);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof Position)) {
+            return false;
+        }
+
+        Position position = (Position) o;
+
+        return state.equals(position.state);
+    }
+
+    @Override
+    public int hashCode() {
+        return state.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "Position{" +
+                "pits=" + Arrays.toString(state.pits) +
+                ", playerTurn=" + state.getPlayerTurn() +
+                ", finished=" + state.isFinished() +
+                '}';
+    }
+}
@@ -0,0 +1,80 @@
+package com.backbase.kalah.engine;
+
+import static com.backbase.kalah.constant.Constants.COUNT_OF_ALL_PITS;
+import static com.backbase.kalah.constant.Constants.COUNT_OF_PLAYER_PITS;
+import static com.backbase.kalah.constant.Constants.INITIAL_STONE_COUNT;
+import static com.backbase.kalah.engine.BoardState.PLAYER_2;
+
+/**
+ * Zobrist hashing of board states, i.e. the XOR of one random 64-bit key per (pit, stone count) pair and one key for
+ * the second player's turn.
+ * {@link BoardState} keeps its hash up to date on every change, so this class only holds the keys and a full
+ * computation for verification
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public final class ZobristHash {
+    // Total number of stones on the board, which is the highest possible stone count of a single pit
+    public static final int TOTAL_STONE_COUNT = 2 * (COUNT_OF_PLAYER_PITS - 1) * INITIAL_STONE_COUNT;
+
+    // Fixed seed and generator (SplitMix64), so hashes are stable between runs and JVMs and can be persisted
+    private static final long SEED = 0x4B414C4148L;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private static final long[][] PIT_KEYS = new long[COUNT_OF_ALL_PITS][TOTAL_STONE_COUNT + 1];
+    static final long PLAYER_2_TURN_KEY;
+    // Hash of a board without any stone and first player's turn
+    static final long EMPTY_BOARD_HASH;
+
+    static {
+        long seed = SEED;
+        long emptyBoardHash = 0L;
+
+        for (long[] pitKeys : PIT_KEYS) {
+            for (int stones = 0; stones < pitKeys.length; stones++) {
+                seed += GOLDEN_GAMMA;
+                pitKeys[stones] = mix(seed);
+            }
+            emptyBoardHash ^= pitKeys[0];
+        }
+
+        seed += GOLDEN_GAMMA;
+        PLAYER_2_TURN_KEY = mix(seed);
+        EMPTY_BOARD_HASH = emptyBoardHash;
+    }
+
+    private ZobristHash() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Computes the hash of the given state from scratch, which should always equal {@link BoardState#getHash()}.
+     * Whether the game is finished is not hashed, as it follows from the stones in the pits
+     *
+     * @param state The board state
+     * @return The hash of the state
+     */
+    public static long hash(BoardState state) {
+        long hash = state.getPlayerTurn() == PLAYER_2 ? PLAYER_2_TURN_KEY : 0L;
+
+        for (int pit = 0; pit < COUNT_OF_ALL_PITS; pit++) {
+            hash ^= PIT_KEYS[pit][state.getStones(pit)];
+        }
+
+        return hash;
+    }
+
+    /**
+     * @return The key to be XOR-ed into the hash when the given pit changes from the old to the new stone count
+     */
+    static long getPitChangeKey(int pit, int oldStones, int newStones) {
+        return PIT_KEYS[pit][oldStones] ^ PIT_KEYS[pit][newStones];
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,124 @@
+package com.backbase.kalah.engine.book;
+
+import com.backbase.kalah.engine.BoardState;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Deep-searched best moves of the positions of the first plies, read from a file written by {@link OpeningBookBuilder}.
+ * The file is mapped read-only into memory and a position is found by binary search on its Zobrist hash, see
+ * {@link BoardState#getHash()}. Instances are thread-safe as the buffer is only read at absolute positions.
+ * <p>
+ * File layout: the magic number, the number of entries and the entries sorted by hash, each one made of the hash, the
+ * best move, the search depth and the score from the point of view of the player to move
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public final class OpeningBook {
+    public static final long MISS = 0L;
+
+    static final int MAGIC = 0x4B4F4231; // "KOB1"
+    static final int HEADER_SIZE = 2 * Integer.BYTES;
+    static final int ENTRY_SIZE = Long.BYTES + 2 * Byte.BYTES + Short.BYTES;
+
+    // Set in every found entry, so no entry equals MISS
+    private static final long FOUND_FLAG = 1L << 32;
+
+    private final ByteBuffer entries;
+    private final int size;
+
+    OpeningBook(ByteBuffer entries) {
+        if ((entries.capacity() < HEADER_SIZE) || (entries.getInt(0) != MAGIC)) {
+            throw new IllegalArgumentException("Not an opening book");
+        }
+
+        int entryCount = entries.getInt(Integer.BYTES);
+        if ((entryCount < 0) || (entries.capacity() != HEADER_SIZE + (long) entryCount * ENTRY_SIZE)) {
+            throw new IllegalArgumentException("Corrupted opening book");
+        }
+
+        this.entries = entries;
+        this.size = entryCount;
+    }
+
+    /**
+     * Maps the given opening book file into memory
+     *
+     * @param file The file written by {@link OpeningBookBuilder}
+     * @return The opening book
+     * @throws IOException              If the file cannot be read
+     * @throws IllegalArgumentException If the file is no valid opening book
+     */
+    public static OpeningBook open(Path file) throws IOException {
+        // The mapping stays valid after the channel is closed
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new OpeningBook(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Looks up the given state
+     *
+     * @param state The board state
+     * @return The packed entry of the state, to be read with {@link #getMove(long)}, {@link #getDepth(long)} and
+     * {@link #getScore(long)}, or {@link #MISS} if the state is not in the book
+     */
+    public long probe(BoardState state) {
+        long hash = state.getHash();
+        int low = 0;
+        int high = size - 1;
+
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int offset = HEADER_SIZE + middle * ENTRY_SIZE;
+            int comparison = Long.compare(entries.getLong(offset), hash);
+
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                offset += Long.BYTES;
+                return FOUND_FLAG
+                        | (entries.get(offset) & 0xFFL)
+                        | ((entries.get(offset + 1) & 0xFFL) << 8)
+                        | ((entries.getShort(offset + 2) & 0xFFFFL) << 16);
+            }
+        }
+
+        return MISS;
+    }
+
+    /**
+     * @return The number of positions in the book
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return The index of the best pit of a found entry
+     */
+    public static int getMove(long entry) {
+        return (int) (entry & 0xFF);
+    }
+
+    /**
+     * @return The depth the position of a found entry was searched to
+     */
+    public static int getDepth(long entry) {
+        return (int) ((entry >>> 8) & 0xFF);
+    }
+
+    /**
+     * @return The score of the best move of a found entry from the point of view of the player to move
+     */
+    public static int getScore(long entry) {
+        return (short) (entry >>> 16);
+    }
+}
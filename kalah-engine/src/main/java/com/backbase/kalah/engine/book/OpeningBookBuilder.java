@@ -0,0 +1,135 @@
+package com.backbase.kalah.engine.book;
+
+import com.backbase.kalah.engine.BoardState;
+import com.backbase.kalah.engine.KalahRules;
+import com.backbase.kalah.engine.MoveGenerator;
+import com.backbase.kalah.engine.search.AlphaBetaSearch;
+import com.backbase.kalah.engine.search.SearchResult;
+import com.backbase.kalah.engine.search.TranspositionTable;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static com.backbase.kalah.engine.book.OpeningBook.MAGIC;
+
+/**
+ * Offline builder of {@link OpeningBook} files, run as
+ * {@code java -cp kalah-engine.jar com.backbase.kalah.engine.book.OpeningBookBuilder <plies> <depth> <file>}.
+ * All positions reachable from the initial board within the given number of plies are collected, every position once
+ * however many move orders lead to it, and searched to the given depth. Every search starts with an empty transposition
+ * table, so the book holds the same moves and scores as searching the positions during a game
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public final class OpeningBookBuilder {
+    public static final int MAX_PLIES = 10;
+
+    static final int TRANSPOSITION_TABLE_SIZE_BITS = 20;
+
+    private OpeningBookBuilder() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            System.err.println("Usage: OpeningBookBuilder <plies> <depth> <file>");
+            System.exit(1);
+        }
+
+        int plies = Integer.parseInt(args[0]);
+        int depth = Integer.parseInt(args[1]);
+        Path file = Paths.get(args[2]);
+        long startTime = System.nanoTime();
+
+        int size = build(plies, depth, file);
+
+        System.out.printf("Wrote %d positions of the first %d plies searched to depth %d to %s in %d ms%n",
+                size, plies, depth, file, (System.nanoTime() - startTime) / 1_000_000);
+    }
+
+    /**
+     * Searches all positions of the first plies and writes their best moves to the given file
+     *
+     * @param plies The number of plies from the initial board, at most {@link #MAX_PLIES}
+     * @param depth The search depth of every position
+     * @param file  The file to be written
+     * @return The number of positions written
+     * @throws IOException If the file cannot be written
+     */
+    public static int build(int plies, int depth, Path file) throws IOException {
+        if ((plies < 0) || (plies > MAX_PLIES)) {
+            throw new IllegalArgumentException("Number of plies should be between 0 and " + MAX_PLIES);
+        }
+
+        if ((depth < 1) || (depth > AlphaBetaSearch.MAX_DEPTH)) {
+            throw new IllegalArgumentException("Depth should be between 1 and " + AlphaBetaSearch.MAX_DEPTH);
+        }
+
+        Map<Long, BoardState> positions = collectPositions(plies);
+        TranspositionTable transpositionTable = new TranspositionTable(TRANSPOSITION_TABLE_SIZE_BITS);
+        AlphaBetaSearch search = new AlphaBetaSearch(transpositionTable);
+
+        // The tree map iterates the positions sorted by hash, which is the order of the file
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            output.writeInt(MAGIC);
+            output.writeInt(positions.size());
+
+            for (Map.Entry<Long, BoardState> position : positions.entrySet()) {
+                transpositionTable.clear();
+                SearchResult result = search.search(position.getValue(), depth);
+
+                output.writeLong(position.getKey());
+                output.writeByte(result.getBestMove());
+                output.writeByte(result.getDepth());
+                output.writeShort(result.getScore());
+            }
+        }
+
+        return positions.size();
+    }
+
+    /**
+     * Collects the unfinished positions reachable within the given number of plies, one ply after the other
+     *
+     * @return The positions by hash
+     */
+    static Map<Long, BoardState> collectPositions(int plies) {
+        Map<Long, BoardState> positions = new TreeMap<>();
+        List<BoardState> currentPly = new ArrayList<>();
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+
+        BoardState initialState = BoardState.initial();
+        positions.put(initialState.getHash(), initialState);
+        currentPly.add(initialState);
+
+        for (int ply = 1; ply <= plies; ply++) {
+            List<BoardState> nextPly = new ArrayList<>();
+
+            for (BoardState state : currentPly) {
+                int moveCount = MoveGenerator.generateMoves(state, moves);
+
+                for (int i = 0; i < moveCount; i++) {
+                    BoardState child = new BoardState(state);
+                    KalahRules.move(child, moves[i]);
+
+                    if (!child.isFinished() && (positions.putIfAbsent(child.getHash(), child) == null)) {
+                        nextPly.add(child);
+                    }
+                }
+            }
+
+            currentPly = nextPly;
+        }
+
+        return positions;
+    }
+}
@@ -0,0 +1,229 @@
+package com.backbase.kalah.engine.endgame;
+
+import com.backbase.kalah.engine.BoardState;
+import com.backbase.kalah.engine.KalahRules;
+import com.backbase.kalah.engine.MoveGenerator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Exact values of all positions with at most {@link #getMaxStones()} stones left in the normal pits, read from a file
+ * written by {@link EndgameTablebaseGenerator}.
+ * The value of a position is the number of stones the player to move gains over her opponent until the end of the
+ * game with perfect play of both, which does not depend on the stones already in the Kalahs.
+ * The file is mapped read-only into memory, so it is not copied to the heap and processes reading the same file share
+ * its pages through the page cache. Instances are thread-safe as the buffer is only read at absolute positions.
+ * <p>
+ * File layout: the magic number, the maximum number of stones and one signed byte per position. Positions are numbered
+ * by their number of stones first, then lexicographically by the stones of the 12 normal pits, counting from the first
+ * pit of the player to move, so the positions of both players share one value
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public final class EndgameTablebase {
+    // Highest supported number of stones, whose positions still fit into one mapped buffer and values into a byte
+    public static final int MAX_STONES = 20;
+    public static final int MISS = Integer.MIN_VALUE;
+    public static final int NO_MOVE = -1;
+
+    static final int MAGIC = 0x4B544231; // "KTB1"
+    static final int HEADER_SIZE = 2 * Integer.BYTES;
+    static final int NORMAL_PIT_COUNT = 2 * MoveGenerator.MAX_MOVES;
+
+    // COMPOSITIONS[parts][stones] is the number of ways of distributing the stones over that many pits
+    private static final int[][] COMPOSITIONS = initCompositions();
+    // OFFSETS[stones] is the index of the first position with that many stones
+    private static final int[] OFFSETS = initOffsets();
+
+    private final ByteBuffer values;
+    private final int maxStones;
+
+    EndgameTablebase(ByteBuffer values) {
+        if ((values.capacity() < HEADER_SIZE) || (values.getInt(0) != MAGIC)) {
+            throw new IllegalArgumentException("Not an endgame tablebase");
+        }
+
+        int stones = values.getInt(Integer.BYTES);
+        if ((stones < 0) || (stones > MAX_STONES) || (values.capacity() != HEADER_SIZE + getPositionCount(stones))) {
+            throw new IllegalArgumentException("Corrupted endgame tablebase");
+        }
+
+        this.values = values;
+        this.maxStones = stones;
+    }
+
+    /**
+     * Maps the given tablebase file into memory
+     *
+     * @param file The file written by {@link EndgameTablebaseGenerator}
+     * @return The tablebase
+     * @throws IOException              If the file cannot be read
+     * @throws IllegalArgumentException If the file is no valid tablebase
+     */
+    public static EndgameTablebase open(Path file) throws IOException {
+        // The mapping stays valid after the channel is closed
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new EndgameTablebase(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Looks up the value of the given state
+     *
+     * @param state The board state
+     * @return The stones the player to move gains over her opponent until the end of the game, or {@link #MISS} if
+     * the game is finished or more than {@link #getMaxStones()} stones are left in the normal pits
+     */
+    public int probe(BoardState state) {
+        if (state.isFinished()) {
+            return MISS;
+        }
+
+        int stones = getRemainingStones(state);
+        if (stones > maxStones) {
+            return MISS;
+        }
+
+        return values.get(HEADER_SIZE + getIndex(state, stones));
+    }
+
+    /**
+     * Finds a move of perfect play with one lookup per legal move
+     *
+     * @param state The board state
+     * @return The index of the pit to be played, or {@link #NO_MOVE} if the state is not covered by the tablebase
+     */
+    public int getBestMove(BoardState state) {
+        if (probe(state) == MISS) {
+            return NO_MOVE;
+        }
+
+        int player = state.getPlayerTurn();
+        int firstPit = MoveGenerator.getFirstPit(player);
+        BoardState child = new BoardState();
+        int bestScore = Integer.MIN_VALUE;
+        int bestMove = NO_MOVE;
+
+        for (int pit = firstPit; pit < firstPit + MoveGenerator.MAX_MOVES; pit++) {
+            if (state.getStones(pit) == 0) {
+                continue;
+            }
+
+            child.copyFrom(state);
+            KalahRules.move(child, pit);
+            int score = getScore(child, player);
+
+            if (score > bestScore) {
+                bestScore = score;
+                bestMove = pit;
+            }
+        }
+
+        return bestMove;
+    }
+
+    /**
+     * @return The highest number of stones in the normal pits covered by this tablebase
+     */
+    public int getMaxStones() {
+        return maxStones;
+    }
+
+    /**
+     * @return The number of positions with at most the given number of stones, i.e. the number of values in the file
+     */
+    static int getPositionCount(int maxStones) {
+        return OFFSETS[maxStones + 1];
+    }
+
+    static int getRemainingStones(BoardState state) {
+        int stones = 0;
+        for (int i = 0; i < NORMAL_PIT_COUNT; i++) {
+            stones += state.getStones(getPit(state.getPlayerTurn(), i));
+        }
+
+        return stones;
+    }
+
+    /**
+     * Ranks the stones of the normal pits among all distributions of the same number of stones, i.e. counts the
+     * distributions having fewer stones in the first pit that differs
+     *
+     * @param state  The board state
+     * @param stones The number of stones in the normal pits of the state
+     * @return The index of the position value
+     */
+    static int getIndex(BoardState state, int stones) {
+        int player = state.getPlayerTurn();
+        int index = OFFSETS[stones];
+        int remaining = stones;
+
+        for (int i = 0; i < NORMAL_PIT_COUNT - 1; i++) {
+            int pitStones = state.getStones(getPit(player, i));
+            int parts = NORMAL_PIT_COUNT - i;
+
+            index += COMPOSITIONS[parts][remaining] - COMPOSITIONS[parts][remaining - pitStones];
+            remaining -= pitStones;
+        }
+
+        return index;
+    }
+
+    /**
+     * @return The final Kalah difference of the given state after a move of the given player, from her point of view
+     */
+    private int getScore(BoardState child, int player) {
+        int scoreDifference = KalahRules.getScoreDifference(child);
+        int score = player == BoardState.PLAYER_1 ? scoreDifference : -scoreDifference;
+
+        if (child.isFinished()) {
+            return score;
+        }
+
+        int value = values.get(HEADER_SIZE + getIndex(child, getRemainingStones(child)));
+
+        return child.getPlayerTurn() == player ? score + value : score - value;
+    }
+
+    /**
+     * @return The index of the i-th normal pit counting from the first pit of the given player
+     */
+    private static int getPit(int player, int i) {
+        return i < MoveGenerator.MAX_MOVES
+                ? MoveGenerator.getFirstPit(player) + i
+                : MoveGenerator.getFirstPit(player ^ 1) + i - MoveGenerator.MAX_MOVES;
+    }
+
+    private static int[][] initCompositions() {
+        int[][] compositions = new int[NORMAL_PIT_COUNT + 1][MAX_STONES + 1];
+
+        for (int stones = 0; stones <= MAX_STONES; stones++) {
+            compositions[1][stones] = 1;
+        }
+
+        for (int parts = 2; parts <= NORMAL_PIT_COUNT; parts++) {
+            for (int stones = 0; stones <= MAX_STONES; stones++) {
+                // The first pit gets no stone, or at least one, which leaves one stone less for the same pits
+                compositions[parts][stones] = compositions[parts - 1][stones]
+                        + (stones > 0 ? compositions[parts][stones - 1] : 0);
+            }
+        }
+
+        return compositions;
+    }
+
+    private static int[] initOffsets() {
+        int[] offsets = new int[MAX_STONES + 2];
+
+        for (int stones = 0; stones <= MAX_STONES; stones++) {
+            offsets[stones + 1] = offsets[stones] + COMPOSITIONS[NORMAL_PIT_COUNT][stones];
+        }
+
+        return offsets;
+    }
+}
@@ -0,0 +1,183 @@
+package com.backbase.kalah.engine.endgame;
+
+import com.backbase.kalah.engine.BoardState;
+import com.backbase.kalah.engine.KalahRules;
+import com.backbase.kalah.engine.MoveGenerator;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import static com.backbase.kalah.engine.endgame.EndgameTablebase.MAGIC;
+import static com.backbase.kalah.engine.endgame.EndgameTablebase.MAX_STONES;
+import static com.backbase.kalah.engine.endgame.EndgameTablebase.NORMAL_PIT_COUNT;
+
+/**
+ * Offline generator of {@link EndgameTablebase} files, run as
+ * {@code java -cp kalah-engine.jar com.backbase.kalah.engine.endgame.EndgameTablebaseGenerator <max stones> <file>}.
+ * <p>
+ * The values are computed backwards from the end of the game: as no move adds stones to the normal pits, the positions
+ * are solved by increasing number of stones, so every move either leads to a solved position with fewer stones or to
+ * one with the same number of stones. The latter is solved first by recursion, which always terminates as such a move
+ * only shifts the stones of the player to move towards her Kalah
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public final class EndgameTablebaseGenerator {
+    private static final byte UNKNOWN = Byte.MIN_VALUE;
+
+    private final int maxStones;
+    private final byte[] values;
+    private final int[] pitStones = new int[NORMAL_PIT_COUNT];
+    private final BoardState emptyState = new BoardState();
+    private final BoardState[] stateStack;
+    private final int[][] moveStack;
+
+    private EndgameTablebaseGenerator(int maxStones) {
+        this.maxStones = maxStones;
+        this.values = new byte[EndgameTablebase.getPositionCount(maxStones)];
+        Arrays.fill(values, UNKNOWN);
+
+        // A chain of moves keeping the number of stones moves every stone at most 5 pits, plus one ply for the lookup
+        int maxPlies = (MoveGenerator.MAX_MOVES - 1) * maxStones + 2;
+        stateStack = new BoardState[maxPlies];
+        moveStack = new int[maxPlies][MoveGenerator.MAX_MOVES];
+        for (int ply = 0; ply < maxPlies; ply++) {
+            stateStack[ply] = new BoardState();
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: EndgameTablebaseGenerator <max stones> <file>");
+            System.exit(1);
+        }
+
+        int maxStones = Integer.parseInt(args[0]);
+        Path file = Paths.get(args[1]);
+        long startTime = System.nanoTime();
+
+        generate(maxStones, file);
+
+        System.out.printf("Wrote %d positions with up to %d stones to %s in %d ms%n",
+                EndgameTablebase.getPositionCount(maxStones), maxStones, file,
+                (System.nanoTime() - startTime) / 1_000_000);
+    }
+
+    /**
+     * Solves all positions with up to the given number of stones in the normal pits and writes them to the given file
+     *
+     * @param maxStones The highest number of stones, at most {@link EndgameTablebase#MAX_STONES}
+     * @param file      The file to be written
+     * @throws IOException If the file cannot be written
+     */
+    public static void generate(int maxStones, Path file) throws IOException {
+        if ((maxStones < 0) || (maxStones > MAX_STONES)) {
+            throw new IllegalArgumentException("Number of stones should be between 0 and " + MAX_STONES);
+        }
+
+        byte[] values = new EndgameTablebaseGenerator(maxStones).solveAll();
+
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            output.writeInt(MAGIC);
+            output.writeInt(maxStones);
+            output.write(values);
+        }
+    }
+
+    private byte[] solveAll() {
+        for (int stones = 0; stones <= maxStones; stones++) {
+            solveDistributions(0, stones);
+        }
+
+        return values;
+    }
+
+    /**
+     * Enumerates all distributions of the remaining stones over the normal pits from the given one on, and solves the
+     * position of each with the first player to move
+     */
+    private void solveDistributions(int pitIndex, int remaining) {
+        if (pitIndex == NORMAL_PIT_COUNT - 1) {
+            pitStones[pitIndex] = remaining;
+
+            BoardState state = stateStack[0];
+            state.copyFrom(emptyState);
+            for (int i = 0; i < NORMAL_PIT_COUNT; i++) {
+                // The first player's pits are followed by her Kalah and then the opponent's pits
+                state.setStones(i < MoveGenerator.MAX_MOVES ? i : i + 1, pitStones[i]);
+            }
+
+            solve(0);
+            return;
+        }
+
+        for (int stones = 0; stones <= remaining; stones++) {
+            pitStones[pitIndex] = stones;
+            solveDistributions(pitIndex + 1, remaining - stones);
+        }
+    }
+
+    /**
+     * Gets the value of the state at the given ply, solving it if not done yet
+     */
+    private int solve(int ply) {
+        BoardState state = stateStack[ply];
+        int index = EndgameTablebase.getIndex(state, EndgameTablebase.getRemainingStones(state));
+
+        if (values[index] != UNKNOWN) {
+            return values[index];
+        }
+
+        int player = state.getPlayerTurn();
+        int value;
+
+        if (KalahRules.isGameOver(state)) {
+            // Not reachable in a game, as the stones are collected by the move emptying a side, but done the same way
+            value = getOwnStones(state, player) - getOwnStones(state, player ^ 1);
+        } else {
+            int[] moves = moveStack[ply];
+            int moveCount = MoveGenerator.generateMoves(state, moves);
+            BoardState child = stateStack[ply + 1];
+            int scoreBefore = getScore(state, player);
+            value = Integer.MIN_VALUE;
+
+            for (int i = 0; i < moveCount; i++) {
+                child.copyFrom(state);
+                KalahRules.move(child, moves[i]);
+
+                int gain = getScore(child, player) - scoreBefore;
+                if (!child.isFinished()) {
+                    int childValue = solve(ply + 1);
+                    gain += child.getPlayerTurn() == player ? childValue : -childValue;
+                }
+
+                value = Math.max(value, gain);
+            }
+        }
+
+        values[index] = (byte) value;
+        return value;
+    }
+
+    private static int getScore(BoardState state, int player) {
+        int scoreDifference = KalahRules.getScoreDifference(state);
+        return player == BoardState.PLAYER_1 ? scoreDifference : -scoreDifference;
+    }
+
+    private static int getOwnStones(BoardState state, int player) {
+        int firstPit = MoveGenerator.getFirstPit(player);
+        int stones = 0;
+
+        for (int pit = firstPit; pit < firstPit + MoveGenerator.MAX_MOVES; pit++) {
+            stones += state.getStones(pit);
+        }
+
+        return stones;
+    }
+}
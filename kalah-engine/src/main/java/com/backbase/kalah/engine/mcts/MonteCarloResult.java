@@ -0,0 +1,147 @@
+package com.backbase.kalah.engine.mcts;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static com.backbase.kalah.constant.Constants.COUNT_OF_ALL_PITS;
+
+/**
+ * Outcome and statistics of a Monte Carlo tree search, i.e. the visits and rewards of the root moves summed over all
+ * trees of the search
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public final class MonteCarloResult {
+    private final long[] visits;
+    private final long[] rewards;
+    private final int bestMove;
+    private final long playouts;
+    private final long elapsedNanos;
+    private final long cpuNanos;
+    private final int threadCount;
+
+    /**
+     * @param visits       The playouts through every pit, indexed by pit
+     * @param rewards      The rewards of the player to move through every pit in half points, indexed by pit
+     * @param playouts     The number of playouts
+     * @param elapsedNanos The total search time
+     * @param cpuNanos     The CPU time of all threads, or their wall time if the JVM does not measure CPU time
+     * @param threadCount  The number of threads that searched a tree
+     */
+    public MonteCarloResult(long[] visits, long[] rewards, long playouts, long elapsedNanos, long cpuNanos,
+                            int threadCount) {
+        this.visits = visits.clone();
+        this.rewards = rewards.clone();
+        this.bestMove = getMostVisitedPit(visits);
+        this.playouts = playouts;
+        this.elapsedNanos = elapsedNanos;
+        this.cpuNanos = cpuNanos;
+        this.threadCount = threadCount;
+    }
+
+    /**
+     * Sums up the results of the trees of a root parallel search
+     *
+     * @param results      The results of the single trees
+     * @param elapsedNanos The total search time
+     * @return The merged result
+     */
+    static MonteCarloResult merge(Iterable<MonteCarloResult> results, long elapsedNanos) {
+        long[] visits = new long[COUNT_OF_ALL_PITS];
+        long[] rewards = new long[COUNT_OF_ALL_PITS];
+        long playouts = 0;
+        long cpuNanos = 0;
+        int threadCount = 0;
+
+        for (MonteCarloResult result : results) {
+            for (int pit = 0; pit < COUNT_OF_ALL_PITS; pit++) {
+                visits[pit] += result.visits[pit];
+                rewards[pit] += result.rewards[pit];
+            }
+
+            playouts += result.playouts;
+            cpuNanos += result.cpuNanos;
+            threadCount += result.threadCount;
+        }
+
+        return new MonteCarloResult(visits, rewards, playouts, elapsedNanos, cpuNanos, threadCount);
+    }
+
+    /**
+     * @return The index of the most visited pit, which is the most robust choice as UCT visits the best move most often
+     */
+    public int getBestMove() {
+        return bestMove;
+    }
+
+    /**
+     * @return The share of playouts through the best move won by the player to move, draws counting half
+     */
+    public double getWinRate() {
+        return visits[bestMove] == 0 ? 0.0 : rewards[bestMove] / (2.0 * visits[bestMove]);
+    }
+
+    /**
+     * @param pit The index of a pit
+     * @return The number of playouts starting with that pit
+     */
+    public long getVisits(int pit) {
+        return visits[pit];
+    }
+
+    public long getPlayouts() {
+        return playouts;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long getCpuNanos() {
+        return cpuNanos;
+    }
+
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    /**
+     * @return The playouts of all threads per second of wall time, 0 if the search took no measurable time
+     */
+    public long getPlayoutsPerSecond() {
+        return elapsedNanos == 0 ? 0 : playouts * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    /**
+     * @return The playouts per second of CPU time, i.e. the throughput of one fully used core, 0 if the search took no
+     * measurable time
+     */
+    public long getPlayoutsPerCoreSecond() {
+        return cpuNanos == 0 ? 0 : playouts * TimeUnit.SECONDS.toNanos(1) / cpuNanos;
+    }
+
+    private static int getMostVisitedPit(long[] visits) {
+        int bestPit = 0;
+        for (int pit = 1; pit < visits.length; pit++) {
+            if (visits[pit] > visits[bestPit]) {
+                bestPit = pit;
+            }
+        }
+
+        return bestPit;
+    }
+
+    @Override
+    public String toString() {
+        return "MonteCarloResult{" +
+                "bestMove=" + bestMove +
+                ", winRate=" + getWinRate() +
+                ", playouts=" + playouts +
+                ", elapsedNanos=" + elapsedNanos +
+                ", cpuNanos=" + cpuNanos +
+                ", threadCount=" + threadCount +
+                ", visits=" + Arrays.toString(visits) +
+                '}';
+    }
+}
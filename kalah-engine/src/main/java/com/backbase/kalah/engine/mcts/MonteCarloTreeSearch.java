@@ -0,0 +1,244 @@
+package com.backbase.kalah.engine.mcts;
+
+import com.backbase.kalah.engine.BoardState;
+import com.backbase.kalah.engine.KalahRules;
+import com.backbase.kalah.engine.MoveGenerator;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import static com.backbase.kalah.constant.Constants.COUNT_OF_ALL_PITS;
+
+/**
+ * Monte Carlo tree search with the UCT selection rule: every playout descends the tree by the child with the highest
+ * upper confidence bound, adds the children of the node it ends in once that node has been visited before, and plays
+ * the game to its end from there. The playouts are random except that a move giving another turn is always taken.
+ * <p>
+ * Playouts allocate nothing: the nodes come from a {@link NodePool} that is cleared for every search, and the
+ * positions along the path are replayed on one reusable {@link BoardState} instead of being stored in the nodes.
+ * If the pool runs full, the tree stops growing and the playouts continue from its leaves.
+ * Instances are not thread-safe, every thread needs its own
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public final class MonteCarloTreeSearch {
+    // Exploration constant of UCT, which is sqrt(2) for rewards between 0 and 1
+    private static final double EXPLORATION = Math.sqrt(2.0);
+    // Rewards in half points, see NodePool
+    private static final int WIN_REWARD = 2;
+    private static final int DRAW_REWARD = 1;
+    private static final int LOSS_REWARD = 0;
+    // Number of playouts between two looks at the clock
+    private static final int DEADLINE_CHECK_INTERVAL = 16;
+    // Longest path through the tree, deeper nodes are treated as leaves
+    private static final int MAX_PATH_LENGTH = 512;
+    private static final int ROOT = 0;
+
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+    private final NodePool nodePool;
+    private final BoardState state = new BoardState();
+    private final int[] moves = new int[MoveGenerator.MAX_MOVES];
+    private final int[] path = new int[MAX_PATH_LENGTH];
+    private long randomState;
+
+    /**
+     * @param nodePoolSize The maximum number of tree nodes, at least {@link #getMinNodePoolSize()}
+     * @param seed         The seed of the random playouts
+     */
+    public MonteCarloTreeSearch(int nodePoolSize, long seed) {
+        if (nodePoolSize < getMinNodePoolSize()) {
+            throw new IllegalArgumentException("Node pool size should be at least " + getMinNodePoolSize());
+        }
+
+        this.nodePool = new NodePool(nodePoolSize);
+        // Xorshift gets stuck at 0, so the seed is mixed with a non-zero constant
+        this.randomState = seed ^ 0x9E3779B97F4A7C15L;
+        if (randomState == 0) {
+            randomState = 1;
+        }
+    }
+
+    /**
+     * @return The smallest pool size, which holds the root and its children
+     */
+    public static int getMinNodePoolSize() {
+        return 1 + MoveGenerator.MAX_MOVES;
+    }
+
+    /**
+     * Runs playouts from the given state until the time budget or the number of playouts is used up, but at least one
+     *
+     * @param root            The board state, which is left untouched
+     * @param timeBudgetNanos The time available for the search
+     * @param maxPlayouts     The maximum number of playouts
+     * @return The visits of the root moves with the search statistics
+     * @throws IllegalArgumentException If there is no legal move
+     */
+    public MonteCarloResult search(BoardState root, long timeBudgetNanos, long maxPlayouts) {
+        checkSearchArguments(root);
+
+        long startTime = System.nanoTime();
+        long startCpuTime = getCpuTime();
+        long deadline = startTime + timeBudgetNanos;
+
+        nodePool.clear();
+        nodePool.allocate(moves, 1, root.getPlayerTurn() ^ 1);
+        state.copyFrom(root);
+        expand(ROOT);
+
+        long playouts = 0;
+        do {
+            playout(root);
+            playouts++;
+        } while ((playouts < maxPlayouts)
+                && ((playouts % DEADLINE_CHECK_INTERVAL != 0) || (System.nanoTime() - deadline < 0)));
+
+        long elapsedNanos = System.nanoTime() - startTime;
+        long[] visits = new long[COUNT_OF_ALL_PITS];
+        long[] rewards = new long[COUNT_OF_ALL_PITS];
+        int firstChild = nodePool.getFirstChild(ROOT);
+
+        for (int child = firstChild; child < firstChild + nodePool.getChildCount(ROOT); child++) {
+            visits[nodePool.getMove(child)] = nodePool.getVisits(child);
+            rewards[nodePool.getMove(child)] = nodePool.getRewards(child);
+        }
+
+        return new MonteCarloResult(visits, rewards, playouts, elapsedNanos, getCpuTime() - startCpuTime, 1);
+    }
+
+    /**
+     * @return The number of nodes in the tree of the last search
+     */
+    public int getNodeCount() {
+        return nodePool.size();
+    }
+
+    static void checkSearchArguments(BoardState state) {
+        if (MoveGenerator.getLegalMoveMask(state) == 0) {
+            throw new IllegalArgumentException("No legal move to search");
+        }
+    }
+
+    /**
+     * Runs one playout: selection, expansion, simulation and backpropagation
+     */
+    private void playout(BoardState root) {
+        state.copyFrom(root);
+        int node = ROOT;
+        int pathLength = 0;
+        path[pathLength++] = node;
+
+        while (nodePool.isExpanded(node) && (pathLength < MAX_PATH_LENGTH)) {
+            node = selectChild(node);
+            KalahRules.move(state, nodePool.getMove(node));
+            path[pathLength++] = node;
+        }
+
+        if ((nodePool.getVisits(node) > 0) && (pathLength < MAX_PATH_LENGTH) && expand(node)) {
+            node = nodePool.getFirstChild(node) + nextInt(nodePool.getChildCount(node));
+            KalahRules.move(state, nodePool.getMove(node));
+            path[pathLength++] = node;
+        }
+
+        simulate();
+
+        int leadingPlayer = KalahRules.getLeadingPlayer(state);
+        for (int i = 0; i < pathLength; i++) {
+            nodePool.addVisit(path[i], getReward(leadingPlayer, nodePool.getPlayer(path[i])));
+        }
+    }
+
+    /**
+     * @return The child with the highest upper confidence bound, or the first unvisited one
+     */
+    private int selectChild(int node) {
+        int firstChild = nodePool.getFirstChild(node);
+        double logVisits = Math.log(nodePool.getVisits(node));
+        int bestChild = firstChild;
+        double bestValue = Double.NEGATIVE_INFINITY;
+
+        for (int child = firstChild; child < firstChild + nodePool.getChildCount(node); child++) {
+            int visits = nodePool.getVisits(child);
+            if (visits == 0) {
+                return child;
+            }
+
+            double value = nodePool.getRewards(child) / (2.0 * visits) + EXPLORATION * Math.sqrt(logVisits / visits);
+            if (value > bestValue) {
+                bestValue = value;
+                bestChild = child;
+            }
+        }
+
+        return bestChild;
+    }
+
+    /**
+     * Adds the children of the given node, whose position is the current state
+     *
+     * @return True if the node has children now, false if the game is finished or the pool is exhausted
+     */
+    private boolean expand(int node) {
+        if (state.isFinished()) {
+            return false;
+        }
+
+        int moveCount = MoveGenerator.generateMoves(state, moves);
+        int firstChild = nodePool.allocate(moves, moveCount, state.getPlayerTurn());
+        if (firstChild == NodePool.NO_NODE) {
+            return false;
+        }
+
+        nodePool.setChildren(node, firstChild, moveCount);
+        return true;
+    }
+
+    /**
+     * Plays the current state until the end of the game, taking the first move giving another turn if there is one and
+     * a random move otherwise
+     */
+    private void simulate() {
+        while (!state.isFinished()) {
+            int moveCount = MoveGenerator.generateMoves(state, moves);
+            int move = moves[nextInt(moveCount)];
+
+            for (int i = 0; i < moveCount; i++) {
+                if (KalahRules.isExtraTurnMove(state, moves[i])) {
+                    move = moves[i];
+                    break;
+                }
+            }
+
+            KalahRules.move(state, move);
+        }
+    }
+
+    private static int getReward(int leadingPlayer, int player) {
+        if (leadingPlayer == KalahRules.TIE) {
+            return DRAW_REWARD;
+        }
+
+        return leadingPlayer == player ? WIN_REWARD : LOSS_REWARD;
+    }
+
+    /**
+     * @return A pseudo-random number between 0 and the given bound (exclusive) from a xorshift64* generator
+     */
+    private int nextInt(int bound) {
+        randomState ^= randomState >>> 12;
+        randomState ^= randomState << 25;
+        randomState ^= randomState >>> 27;
+        return (int) (((randomState * 0x2545F4914F6CDD1DL) >>> 33) % bound);
+    }
+
+    /**
+     * @return The CPU time of the current thread, or the wall time if the JVM does not measure CPU time
+     */
+    private static long getCpuTime() {
+        return THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported() && THREAD_MX_BEAN.isThreadCpuTimeEnabled()
+                ? THREAD_MX_BEAN.getCurrentThreadCpuTime()
+                : System.nanoTime();
+    }
+}
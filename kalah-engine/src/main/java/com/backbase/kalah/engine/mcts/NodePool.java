@@ -0,0 +1,115 @@
+package com.backbase.kalah.engine.mcts;
+
+/**
+ * Fixed-capacity storage of Monte Carlo tree nodes in parallel primitive arrays, so growing a tree allocates no objects
+ * and a tree is discarded by resetting the pool instead of leaving it to the garbage collector.
+ * The children of a node are allocated together and stored next to each other
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+final class NodePool {
+    static final int NO_NODE = -1;
+
+    private final int[] firstChild;
+    private final byte[] childCount;
+    private final byte[] move;
+    private final byte[] player;
+    private final int[] visits;
+    // Rewards in half points, i.e. 2 per win and 1 per draw, so they stay integral
+    private final long[] rewards;
+    private int size;
+
+    NodePool(int capacity) {
+        firstChild = new int[capacity];
+        childCount = new byte[capacity];
+        move = new byte[capacity];
+        player = new byte[capacity];
+        visits = new int[capacity];
+        rewards = new long[capacity];
+    }
+
+    /**
+     * Frees all nodes
+     */
+    void clear() {
+        size = 0;
+    }
+
+    /**
+     * Allocates consecutive nodes, each one reached by its move of the given player
+     *
+     * @param moves  The moves leading to the new nodes
+     * @param count  The number of nodes
+     * @param mover  The player making the moves
+     * @return The index of the first node, or {@link #NO_NODE} if the pool is exhausted
+     */
+    int allocate(int[] moves, int count, int mover) {
+        if (size + count > firstChild.length) {
+            return NO_NODE;
+        }
+
+        int first = size;
+        for (int i = 0; i < count; i++) {
+            int node = first + i;
+            firstChild[node] = NO_NODE;
+            childCount[node] = 0;
+            move[node] = (byte) moves[i];
+            player[node] = (byte) mover;
+            visits[node] = 0;
+            rewards[node] = 0;
+        }
+
+        size += count;
+        return first;
+    }
+
+    void setChildren(int node, int first, int count) {
+        firstChild[node] = first;
+        childCount[node] = (byte) count;
+    }
+
+    boolean isExpanded(int node) {
+        return firstChild[node] != NO_NODE;
+    }
+
+    int getFirstChild(int node) {
+        return firstChild[node];
+    }
+
+    int getChildCount(int node) {
+        return childCount[node];
+    }
+
+    int getMove(int node) {
+        return move[node];
+    }
+
+    /**
+     * @return The player who made the move leading to the node, i.e. the one its rewards are counted for
+     */
+    int getPlayer(int node) {
+        return player[node];
+    }
+
+    int getVisits(int node) {
+        return visits[node];
+    }
+
+    long getRewards(int node) {
+        return rewards[node];
+    }
+
+    void addVisit(int node, int reward) {
+        visits[node]++;
+        rewards[node] += reward;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return firstChild.length;
+    }
+}
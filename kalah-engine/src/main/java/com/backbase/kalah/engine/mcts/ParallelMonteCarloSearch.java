@@ -0,0 +1,164 @@
+package com.backbase.kalah.engine.mcts;
+
+import com.backbase.kalah.engine.BoardState;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Monte Carlo tree search with root parallelism: the calling thread and helper threads each grow their own tree of the
+ * same position until the time budget is used up, and the visits of the root moves are summed over all trees.
+ * As the trees share nothing, the threads never wait for each other during the search.
+ * The trees with their node pools are created once and reused by all searches, so a search allocates no nodes.
+ * Helpers run on the given bounded pool, and the search carries on with fewer trees if the pool is saturated or all
+ * trees are in use by concurrent searches. The calling thread waits for a tree within its time budget only, and the
+ * search is rejected if none is returned by then, so concurrent searches never queue up beyond their budgets.
+ * Instances are thread-safe
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public final class ParallelMonteCarloSearch {
+    private final ThreadPoolExecutor executor;
+    private final int threadCount;
+    private final BlockingQueue<MonteCarloTreeSearch> trees;
+
+    /**
+     * @param executor     The pool running the helper threads, may be null for a single thread
+     * @param threadCount  The number of threads per search including the calling one
+     * @param nodePoolSize The maximum number of nodes of every tree
+     * @param seed         The seed of the random playouts, every tree gets its own seed derived from it
+     */
+    public ParallelMonteCarloSearch(ThreadPoolExecutor executor, int threadCount, int nodePoolSize, long seed) {
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("Thread count should be at least 1");
+        }
+
+        if ((threadCount > 1) && (executor == null)) {
+            throw new IllegalArgumentException("Executor required for more than one thread");
+        }
+
+        this.executor = executor;
+        this.threadCount = threadCount;
+        this.trees = new ArrayBlockingQueue<>(threadCount);
+
+        for (int i = 0; i < threadCount; i++) {
+            trees.add(new MonteCarloTreeSearch(nodePoolSize, seed + i));
+        }
+    }
+
+    /**
+     * Searches the given state with all threads until the time budget is used up
+     *
+     * @param state           The board state, which is left untouched
+     * @param timeBudgetNanos The time available for the search
+     * @return The visits of the root moves summed over all trees, with the statistics of all threads
+     * @throws IllegalArgumentException   If there is no legal move
+     * @throws RejectedExecutionException If all trees are in use by concurrent searches for the whole time budget
+     */
+    public MonteCarloResult search(BoardState state, long timeBudgetNanos) {
+        MonteCarloTreeSearch.checkSearchArguments(state);
+
+        long startTime = System.nanoTime();
+        long deadline = startTime + timeBudgetNanos;
+        MonteCarloTreeSearch mainTree = pollTree(timeBudgetNanos);
+
+        MonteCarloResult[] results = new MonteCarloResult[threadCount];
+        List<Runnable> helperTasks = new ArrayList<>(threadCount - 1);
+        CountDownLatch helpersDone = new CountDownLatch(threadCount - 1);
+
+        for (int i = 1; i < threadCount; i++) {
+            BoardState helperState = new BoardState(state);
+            int slot = i;
+
+            Runnable helperTask = () -> {
+                // Only trees returned by other searches are used, a helper never waits for one
+                MonteCarloTreeSearch tree = trees.poll();
+                try {
+                    if (tree != null) {
+                        results[slot] = tree.search(helperState, deadline - System.nanoTime(), Long.MAX_VALUE);
+                    }
+                } finally {
+                    if (tree != null) {
+                        trees.add(tree);
+                    }
+                    helpersDone.countDown();
+                }
+            };
+
+            try {
+                executor.execute(helperTask);
+            } catch (RejectedExecutionException e) {
+                // The pool is busy with other searches, so continue with the helpers started so far
+                for (int j = i; j < threadCount; j++) {
+                    helpersDone.countDown();
+                }
+                break;
+            }
+
+            helperTasks.add(helperTask);
+        }
+
+        try {
+            // The time spent waiting for the tree counts against the budget
+            results[0] = mainTree.search(state, deadline - System.nanoTime(), Long.MAX_VALUE);
+        } finally {
+            trees.add(mainTree);
+            awaitHelpers(helperTasks, helpersDone);
+        }
+
+        List<MonteCarloResult> treeResults = Arrays.stream(results).filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        return MonteCarloResult.merge(treeResults, System.nanoTime() - startTime);
+    }
+
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    /**
+     * Takes a tree for the calling thread, waiting up to the given time for a concurrent search to return one if all
+     * are in use
+     */
+    private MonteCarloTreeSearch pollTree(long timeoutNanos) {
+        try {
+            MonteCarloTreeSearch tree = trees.poll(timeoutNanos, TimeUnit.NANOSECONDS);
+            if (tree == null) {
+                throw new RejectedExecutionException("All search trees are in use by concurrent searches");
+            }
+
+            return tree;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a search tree", e);
+        }
+    }
+
+    /**
+     * Removes the helpers still waiting in the queue, which would only start after the deadline, and waits until the
+     * running ones are done, so no helper keeps a pool thread busy after the search returns
+     */
+    private void awaitHelpers(List<Runnable> helperTasks, CountDownLatch helpersDone) {
+        for (Runnable helperTask : helperTasks) {
+            if (executor.remove(helperTask)) {
+                helpersDone.countDown();
+            }
+        }
+
+        try {
+            helpersDone.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package com.backbase.kalah.engine.search;
+
+import com.backbase.kalah.engine.BoardState;
+import com.backbase.kalah.engine.KalahRules;
+import com.backbase.kalah.engine.MoveGenerator;
+import com.backbase.kalah.engine.MoveUndoStack;
+import com.backbase.kalah.engine.endgame.EndgameTablebase;
+
+import java.util.Arrays;
+
+import static com.backbase.kalah.engine.search.TranspositionTable.EXACT;
+import static com.backbase.kalah.engine.search.TranspositionTable.LOWER_BOUND;
+import static com.backbase.kalah.engine.search.TranspositionTable.MISS;
+import static com.backbase.kalah.engine.search.TranspositionTable.NO_MOVE;
+import static com.backbase.kalah.engine.search.TranspositionTable.UPPER_BOUND;
+
+/**
+ * Iterative-deepening negamax search with alpha-beta pruning.
+ * Scores are Kalah stone differences from the point of view of the player to move. As a player keeps the turn after
+ * ending in her own Kalah, a child score is only negated if the turn actually changed. Moves are ordered with the
+ * transposition table move first, then the moves that give an extra turn, then the remaining ones in pit order.
+ * With an {@link EndgameTablebase}, positions it covers are scored exactly instead of being searched, and a root it
+ * covers is answered without any search.
+ * Moves are made and taken back on a single state with a {@link MoveUndoStack} instead of copying the state per ply.
+ * An instance keeps per-ply buffers and is not thread-safe, but several instances may share one
+ * {@link TranspositionTable}, and it can be stopped from another thread, see {@link LazySmpSearch}. A stopped instance
+ * can be reused, as every search starts unstopped
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public final class AlphaBetaSearch {
+    public static final int MAX_DEPTH = 64;
+
+    private static final int INFINITY = 1000;
+
+    private final TranspositionTable transpositionTable;
+    private final EndgameTablebase endgameTablebase;
+
+    private final BoardState state = new BoardState();
+    private MoveUndoStack undoStack;
+    private int[][] moveStack;
+    private long nodes;
+    private int rootBestMove;
+    private volatile boolean stopped;
+
+    public AlphaBetaSearch(TranspositionTable transpositionTable) {
+        this(transpositionTable, null);
+    }
+
+    /**
+     * @param transpositionTable The transposition table, which may be shared with other searches
+     * @param endgameTablebase   The tablebase for exact endgame scores, or null to search all positions
+     */
+    public AlphaBetaSearch(TranspositionTable transpositionTable, EndgameTablebase endgameTablebase) {
+        this.transpositionTable = transpositionTable;
+        this.endgameTablebase = endgameTablebase;
+    }
+
+    /**
+     * Searches the given state with increasing depths up to the given one
+     *
+     * @param state The board state, which is left untouched
+     * @param depth The maximum depth in plies, every move counts as a ply including extra turns
+     * @return The best move of the deepest completed iteration with the search statistics
+     * @throws IllegalArgumentException If the depth is out of range or there is no legal move
+     */
+    public SearchResult search(BoardState state, int depth) {
+        stopped = false;
+        return searchUnlessStopped(state, depth);
+    }
+
+    /**
+     * Same as {@link #search(BoardState, int)}, except that a {@link #stop()} issued before the call is kept, so a
+     * helper stopped before its task starts returns at once without a move
+     */
+    SearchResult searchUnlessStopped(BoardState state, int depth) {
+        checkSearchArguments(state, depth);
+
+        if (isCoveredByTablebase(state)) {
+            return searchTablebase(state, depth);
+        }
+
+        allocateStacks(depth);
+        this.state.copyFrom(state);
+        undoStack.clear();
+        nodes = 0;
+
+        long[] timeToDepthNanos = new long[depth];
+        long startTime = System.nanoTime();
+        int bestScore = 0;
+        int completedDepth = 0;
+        rootBestMove = NO_MOVE;
+
+        for (int iterationDepth = 1; (iterationDepth <= depth) && !stopped; iterationDepth++) {
+            int score = negamax(0, iterationDepth, -INFINITY, INFINITY);
+
+            if (!stopped) {
+                bestScore = score;
+                completedDepth = iterationDepth;
+                timeToDepthNanos[iterationDepth - 1] = System.nanoTime() - startTime;
+            }
+        }
+
+        return new SearchResult(rootBestMove, bestScore, completedDepth, nodes, System.nanoTime() - startTime,
+                Arrays.copyOf(timeToDepthNanos, completedDepth));
+    }
+
+    /**
+     * Makes a running search return as soon as possible with the result of its last completed iteration. The
+     * transposition table is not updated by the aborted iteration. The next {@link #search(BoardState, int)} runs
+     * normally again
+     */
+    public void stop() {
+        stopped = true;
+    }
+
+    /**
+     * @return The number of nodes visited by the current or last search
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * @return True if the given state is covered by the endgame tablebase, so it needs no search
+     */
+    boolean isCoveredByTablebase(BoardState state) {
+        return (endgameTablebase != null) && (endgameTablebase.probe(state) != EndgameTablebase.MISS);
+    }
+
+    /**
+     * @throws IllegalArgumentException If the depth is out of range or there is no legal move
+     */
+    static void checkSearchArguments(BoardState state, int depth) {
+        if ((depth < 1) || (depth > MAX_DEPTH)) {
+            throw new IllegalArgumentException("Depth should be between 1 and " + MAX_DEPTH);
+        }
+
+        if (MoveGenerator.getLegalMoveMask(state) == 0) {
+            throw new IllegalArgumentException("No legal move to search");
+        }
+    }
+
+    private int negamax(int ply, int depth, int alpha, int beta) {
+        if (stopped) {
+            return 0;
+        }
+
+        nodes++;
+
+        if (state.isFinished()) {
+            return evaluate(state);
+        }
+
+        if ((ply > 0) && (endgameTablebase != null)) {
+            int value = endgameTablebase.probe(state);
+            if (value != EndgameTablebase.MISS) {
+                return evaluate(state) + value;
+            }
+        }
+
+        if (depth == 0) {
+            return evaluate(state);
+        }
+
+        long hash = state.getHash();
+        long entry = transpositionTable.probe(hash);
+        int hashMove = NO_MOVE;
+
+        if (entry != MISS) {
+            hashMove = TranspositionTable.getMove(entry);
+
+            // No cutoff at the root, which always has to produce a move
+            if ((ply > 0) && (TranspositionTable.getDepth(entry) >= depth)) {
+                int score = TranspositionTable.getScore(entry);
+                int bound = TranspositionTable.getBound(entry);
+
+                if ((bound == EXACT)
+                        || ((bound == LOWER_BOUND) && (score >= beta))
+                        || ((bound == UPPER_BOUND) && (score <= alpha))) {
+                    return score;
+                }
+            }
+        }
+
+        int[] moves = moveStack[ply];
+        int moveCount = generateOrderedMoves(state, hashMove, moves);
+        int player = state.getPlayerTurn();
+        int originalAlpha = alpha;
+        int bestScore = -INFINITY;
+        int bestMove = moves[0];
+
+        for (int i = 0; i < moveCount; i++) {
+            KalahRules.move(state, moves[i], undoStack);
+
+            int score = state.getPlayerTurn() == player
+                    ? negamax(ply + 1, depth - 1, alpha, beta)
+                    : -negamax(ply + 1, depth - 1, -beta, -alpha);
+
+            KalahRules.undoMove(state, undoStack);
+
+            if (score > bestScore) {
+                bestScore = score;
+                bestMove = moves[i];
+            }
+
+            if (bestScore > alpha) {
+                alpha = bestScore;
+            }
+
+            if (alpha >= beta) {
+                break;
+            }
+        }
+
+        // The scores of an aborted subtree are meaningless and must not end up in the table
+        if (stopped) {
+            return 0;
+        }
+
+        int bound = bestScore <= originalAlpha ? UPPER_BOUND : (bestScore >= beta ? LOWER_BOUND : EXACT);
+        transpositionTable.store(hash, depth, bound, bestScore, bestMove);
+
+        if (ply == 0) {
+            rootBestMove = bestMove;
+        }
+
+        return bestScore;
+    }
+
+    /**
+     * Writes the legal moves in search order, i.e. the hash move first, then the moves whose last stone ends in the own
+     * Kalah, and the rest
+     */
+    private static int generateOrderedMoves(BoardState state, int hashMove, int[] moves) {
+        int count = MoveGenerator.generateMoves(state, moves);
+        int ordered = 0;
+
+        if (MoveGenerator.isLegalMove(state, hashMove)) {
+            ordered = moveToFront(moves, count, ordered, hashMove);
+        }
+
+        for (int i = ordered; i < count; i++) {
+            if (KalahRules.isExtraTurnMove(state, moves[i])) {
+                ordered = moveToFront(moves, count, ordered, moves[i]);
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Moves the given pit to the given position, shifting the unordered moves in between to keep their pit order
+     */
+    private static int moveToFront(int[] moves, int count, int position, int pit) {
+        int index = position;
+        while ((index < count) && (moves[index] != pit)) {
+            index++;
+        }
+
+        System.arraycopy(moves, position, moves, position + 1, index - position);
+        moves[position] = pit;
+
+        return position + 1;
+    }
+
+    /**
+     * Answers the search with the move and the exact score from the tablebase, which hold for every depth
+     */
+    private SearchResult searchTablebase(BoardState state, int depth) {
+        long startTime = System.nanoTime();
+        int bestMove = endgameTablebase.getBestMove(state);
+        int score = evaluate(state) + endgameTablebase.probe(state);
+        nodes = 1;
+
+        long elapsedNanos = System.nanoTime() - startTime;
+        long[] timeToDepthNanos = new long[depth];
+        Arrays.fill(timeToDepthNanos, elapsedNanos);
+
+        return new SearchResult(bestMove, score, depth, nodes, elapsedNanos, timeToDepthNanos);
+    }
+
+    private static int evaluate(BoardState state) {
+        int scoreDifference = KalahRules.getScoreDifference(state);
+
+        return state.getPlayerTurn() == BoardState.PLAYER_1 ? scoreDifference : -scoreDifference;
+    }
+
+    private void allocateStacks(int depth) {
+        if ((undoStack != null) && (undoStack.capacity() >= depth)) {
+            return;
+        }
+
+        undoStack = new MoveUndoStack(depth);
+        moveStack = new int[depth + 1][MoveGenerator.MAX_MOVES];
+    }
+}
@@ -0,0 +1,144 @@
+package com.backbase.kalah.engine.search;
+
+import com.backbase.kalah.engine.BoardState;
+import com.backbase.kalah.engine.endgame.EndgameTablebase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Parallel search following the Lazy SMP scheme: helper threads search the same position as the calling thread, and
+ * all of them share one {@link TranspositionTable}, so every thread profits from the subtrees the others have already
+ * searched. Every second helper searches one ply deeper to spread the threads over different subtrees.
+ * The result of the calling thread is returned, and the helpers are stopped as soon as it is available.
+ * Helpers run on the given bounded pool, and the search carries on with fewer threads if the pool is saturated.
+ * No helper is started for a position covered by the endgame tablebase, which needs no search.
+ * Instances are thread-safe as every call uses its own searches
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public final class LazySmpSearch {
+    private final TranspositionTable transpositionTable;
+    private final EndgameTablebase endgameTablebase;
+    private final ThreadPoolExecutor executor;
+    private final int threadCount;
+
+    /**
+     * @param transpositionTable The table shared by all threads
+     * @param executor           The pool running the helper threads
+     * @param threadCount        The number of threads per search including the calling one
+     */
+    public LazySmpSearch(TranspositionTable transpositionTable, ThreadPoolExecutor executor, int threadCount) {
+        this(transpositionTable, null, executor, threadCount);
+    }
+
+    /**
+     * @param transpositionTable The table shared by all threads
+     * @param endgameTablebase   The tablebase for exact endgame scores, or null to search all positions
+     * @param executor           The pool running the helper threads
+     * @param threadCount        The number of threads per search including the calling one
+     */
+    public LazySmpSearch(TranspositionTable transpositionTable, EndgameTablebase endgameTablebase,
+                         ThreadPoolExecutor executor, int threadCount) {
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("Thread count should be at least 1");
+        }
+
+        this.transpositionTable = transpositionTable;
+        this.endgameTablebase = endgameTablebase;
+        this.executor = executor;
+        this.threadCount = threadCount;
+    }
+
+    /**
+     * Searches the given state with all threads up to the given depth
+     *
+     * @param state The board state, which is left untouched
+     * @param depth The maximum depth in plies
+     * @return The result of the calling thread, including the nodes visited by the helpers
+     * @throws IllegalArgumentException If the depth is out of range or there is no legal move
+     */
+    public SearchResult search(BoardState state, int depth) {
+        AlphaBetaSearch.checkSearchArguments(state, depth);
+
+        AlphaBetaSearch mainSearch = new AlphaBetaSearch(transpositionTable, endgameTablebase);
+        if (mainSearch.isCoveredByTablebase(state)) {
+            return mainSearch.search(state, depth);
+        }
+
+        List<AlphaBetaSearch> helpers = new ArrayList<>(threadCount - 1);
+        List<Runnable> helperTasks = new ArrayList<>(threadCount - 1);
+        CountDownLatch helpersDone = new CountDownLatch(threadCount - 1);
+
+        for (int i = 1; i < threadCount; i++) {
+            AlphaBetaSearch helper = new AlphaBetaSearch(transpositionTable, endgameTablebase);
+            BoardState helperState = new BoardState(state);
+            int helperDepth = Math.min(depth + (i & 1), AlphaBetaSearch.MAX_DEPTH);
+
+            Runnable helperTask = () -> {
+                try {
+                    helper.searchUnlessStopped(helperState, helperDepth);
+                } finally {
+                    helpersDone.countDown();
+                }
+            };
+
+            try {
+                executor.execute(helperTask);
+            } catch (RejectedExecutionException e) {
+                // The pool is busy with other searches, so continue with the helpers started so far
+                for (int j = i; j < threadCount; j++) {
+                    helpersDone.countDown();
+                }
+                break;
+            }
+
+            helpers.add(helper);
+            helperTasks.add(helperTask);
+        }
+
+        SearchResult result;
+        try {
+            result = mainSearch.search(state, depth);
+        } finally {
+            stopHelpers(helpers, helperTasks, helpersDone);
+        }
+
+        long helperNodes = 0;
+        for (AlphaBetaSearch helper : helpers) {
+            helperNodes += helper.getNodes();
+        }
+
+        return result.addNodes(helperNodes);
+    }
+
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    /**
+     * Stops the running helpers, removes the ones still waiting in the queue and waits until all are done, so no helper
+     * keeps a pool thread busy after the search returns
+     */
+    private void stopHelpers(List<AlphaBetaSearch> helpers, List<Runnable> helperTasks, CountDownLatch helpersDone) {
+        for (AlphaBetaSearch helper : helpers) {
+            helper.stop();
+        }
+
+        for (Runnable helperTask : helperTasks) {
+            if (executor.remove(helperTask)) {
+                helpersDone.countDown();
+            }
+        }
+
+        try {
+            helpersDone.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
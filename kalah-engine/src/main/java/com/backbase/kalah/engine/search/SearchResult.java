@@ -0,0 +1,92 @@
+package com.backbase.kalah.engine.search;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outcome and statistics of a search
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public final class SearchResult {
+    private final int bestMove;
+    private final int score;
+    private final int depth;
+    private final long nodes;
+    private final long elapsedNanos;
+    private final long[] timeToDepthNanos;
+
+    /**
+     * @param bestMove         The index of the best pit found
+     * @param score            The score of the best move from the point of view of the player to move
+     * @param depth            The deepest completed iteration
+     * @param nodes            The number of visited nodes
+     * @param elapsedNanos     The total search time
+     * @param timeToDepthNanos The time elapsed until every iteration completed, the first element being depth 1
+     */
+    public SearchResult(int bestMove, int score, int depth, long nodes, long elapsedNanos, long[] timeToDepthNanos) {
+        this.bestMove = bestMove;
+        this.score = score;
+        this.depth = depth;
+        this.nodes = nodes;
+        this.elapsedNanos = elapsedNanos;
+        this.timeToDepthNanos = timeToDepthNanos.clone();
+    }
+
+    /**
+     * @param extraNodes The nodes visited by helper threads of a parallel search
+     * @return A copy of this result with the given nodes added
+     */
+    SearchResult addNodes(long extraNodes) {
+        return new SearchResult(bestMove, score, depth, nodes + extraNodes, elapsedNanos, timeToDepthNanos);
+    }
+
+    public int getBestMove() {
+        return bestMove;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * @param depth The depth of an iteration, between 1 and {@link #getDepth()}
+     * @return The time elapsed since the start of the search until that iteration completed
+     */
+    public long getTimeToDepthNanos(int depth) {
+        return timeToDepthNanos[depth - 1];
+    }
+
+    /**
+     * @return The visited nodes per second, 0 if the search took no measurable time
+     */
+    public long getNodesPerSecond() {
+        return elapsedNanos == 0 ? 0 : nodes * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "SearchResult{" +
+                "bestMove=" + bestMove +
+                ", score=" + score +
+                ", depth=" + depth +
+                ", nodes=" + nodes +
+                ", elapsedNanos=" + elapsedNanos +
+                ", nodesPerSecond=" + getNodesPerSecond() +
+                ", timeToDepthNanos=" + Arrays.toString(timeToDepthNanos) +
+                '}';
+    }
+}
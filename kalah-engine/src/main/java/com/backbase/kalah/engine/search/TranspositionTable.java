@@ -0,0 +1,115 @@
+package com.backbase.kalah.engine.search;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size transposition table that can be shared by concurrent searches without locking.
+ * Every entry is packed into a single long, and the key slot holds the position hash XOR-ed with that long. A torn
+ * write by two racing threads therefore makes the key check fail and the entry is treated as a miss, instead of
+ * returning data of another position
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public final class TranspositionTable {
+    public static final int EXACT = 1;
+    public static final int LOWER_BOUND = 2;
+    public static final int UPPER_BOUND = 3;
+
+    // Returned by probe if the position is not in the table, never a valid entry as the bound is never 0
+    public static final long MISS = 0L;
+
+    public static final int NO_MOVE = 0xF;
+
+    private static final int MAX_SIZE_BITS = 30;
+
+    //region entry layout
+    private static final int MOVE_MASK = 0xF;
+    private static final int BOUND_SHIFT = 4;
+    private static final int BOUND_MASK = 0x3;
+    private static final int DEPTH_SHIFT = 6;
+    private static final int DEPTH_MASK = 0xFF;
+    private static final int SCORE_SHIFT = 16;
+    private static final int SCORE_OFFSET = 1 << 15;
+    private static final int SCORE_MASK = 0xFFFF;
+    //endregion
+
+    private final long[] keys;
+    private final long[] entries;
+    private final int indexMask;
+
+    /**
+     * @param sizeBits The base 2 logarithm of the number of entries, every entry takes 16 bytes
+     */
+    public TranspositionTable(int sizeBits) {
+        if ((sizeBits < 1) || (sizeBits > MAX_SIZE_BITS)) {
+            throw new IllegalArgumentException("Size bits should be between 1 and " + MAX_SIZE_BITS);
+        }
+
+        int size = 1 << sizeBits;
+        keys = new long[size];
+        entries = new long[size];
+        indexMask = size - 1;
+    }
+
+    /**
+     * Looks the given position up
+     *
+     * @param hash The hash of the position
+     * @return The packed entry, to be read with the static accessors, or {@link #MISS}
+     */
+    public long probe(long hash) {
+        int index = (int) hash & indexMask;
+        long entry = entries[index];
+
+        return (keys[index] ^ entry) == hash ? entry : MISS;
+    }
+
+    /**
+     * Stores the search result of a position, replacing whatever was stored in its slot
+     *
+     * @param hash  The hash of the position
+     * @param depth The remaining depth the position was searched with
+     * @param bound {@link #EXACT}, {@link #LOWER_BOUND} or {@link #UPPER_BOUND}
+     * @param score The score from the point of view of the player to move
+     * @param move  The best move found or {@link #NO_MOVE}
+     */
+    public void store(long hash, int depth, int bound, int score, int move) {
+        int index = (int) hash & indexMask;
+        long entry = ((long) (score + SCORE_OFFSET) << SCORE_SHIFT)
+                | ((long) Math.min(depth, DEPTH_MASK) << DEPTH_SHIFT)
+                | ((long) bound << BOUND_SHIFT)
+                | move;
+
+        entries[index] = entry;
+        keys[index] = hash ^ entry;
+    }
+
+    /**
+     * Empties the table, should not be called while it is used by a search
+     */
+    public void clear() {
+        Arrays.fill(keys, 0L);
+        Arrays.fill(entries, 0L);
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    public static int getMove(long entry) {
+        return (int) entry & MOVE_MASK;
+    }
+
+    public static int getBound(long entry) {
+        return (int) (entry >>> BOUND_SHIFT) & BOUND_MASK;
+    }
+
+    public static int getDepth(long entry) {
+        return (int) (entry >>> DEPTH_SHIFT) & DEPTH_MASK;
+    }
+
+    public static int getScore(long entry) {
+        return ((int) (entry >>> SCORE_SHIFT) & SCORE_MASK) - SCORE_OFFSET;
+    }
+}
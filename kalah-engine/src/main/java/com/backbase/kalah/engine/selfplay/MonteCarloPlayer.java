@@ -0,0 +1,40 @@
+package com.backbase.kalah.engine.selfplay;
+
+import com.backbase.kalah.engine.BoardState;
+import com.backbase.kalah.engine.MoveGenerator;
+import com.backbase.kalah.engine.mcts.MonteCarloTreeSearch;
+
+/**
+ * Player running a fixed number of playouts per move with {@link MonteCarloTreeSearch}, which makes its games
+ * reproducible unlike a time budget
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public final class MonteCarloPlayer implements Player {
+    private static final int MAX_NODE_POOL_SIZE = 1 << 20;
+
+    private final MonteCarloTreeSearch search;
+    private final long playouts;
+
+    /**
+     * @param playouts The number of playouts per move
+     * @param seed     The seed of the random playouts
+     */
+    public MonteCarloPlayer(long playouts, long seed) {
+        if (playouts < 1) {
+            throw new IllegalArgumentException("Number of playouts should be at least 1");
+        }
+
+        // Every playout adds the children of at most one node
+        long nodePoolSize = Math.min(1 + (playouts + 1) * MoveGenerator.MAX_MOVES, MAX_NODE_POOL_SIZE);
+
+        this.search = new MonteCarloTreeSearch((int) nodePoolSize, seed);
+        this.playouts = playouts;
+    }
+
+    @Override
+    public int chooseMove(BoardState state) {
+        return search.search(state, Long.MAX_VALUE, playouts).getBestMove();
+    }
+}
@@ -0,0 +1,18 @@
+package com.backbase.kalah.engine.selfplay;
+
+import com.backbase.kalah.engine.BoardState;
+
+/**
+ * A player of self-play games, which chooses a move for the player whose turn it is.
+ * Implementations need not be thread-safe, as every self-play thread creates its own players
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public interface Player {
+    /**
+     * @param state The board state with at least one legal move, which must be left untouched
+     * @return The index of the pit to be played
+     */
+    int chooseMove(BoardState state);
+}
@@ -0,0 +1,34 @@
+package com.backbase.kalah.engine.selfplay;
+
+import com.backbase.kalah.engine.BoardState;
+import com.backbase.kalah.engine.MoveGenerator;
+
+/**
+ * Player choosing uniformly among the legal moves with a seeded xorshift generator, so games are reproducible and no
+ * move allocates anything
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public final class RandomPlayer implements Player {
+    private final int[] moves = new int[MoveGenerator.MAX_MOVES];
+    private long randomState;
+
+    public RandomPlayer(long seed) {
+        // Xorshift gets stuck at 0, so the seed is mixed with a non-zero constant
+        this.randomState = seed ^ 0x9E3779B97F4A7C15L;
+        if (randomState == 0) {
+            randomState = 1;
+        }
+    }
+
+    @Override
+    public int chooseMove(BoardState state) {
+        int moveCount = MoveGenerator.generateMoves(state, moves);
+
+        randomState ^= randomState >>> 12;
+        randomState ^= randomState << 25;
+        randomState ^= randomState >>> 27;
+        return moves[(int) (((randomState * 0x2545F4914F6CDD1DL) >>> 33) % moveCount)];
+    }
+}
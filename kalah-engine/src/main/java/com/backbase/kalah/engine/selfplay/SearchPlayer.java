@@ -0,0 +1,35 @@
+package com.backbase.kalah.engine.selfplay;
+
+import com.backbase.kalah.engine.BoardState;
+import com.backbase.kalah.engine.search.AlphaBetaSearch;
+import com.backbase.kalah.engine.search.TranspositionTable;
+
+/**
+ * Player searching every move to a fixed depth with {@link AlphaBetaSearch}, like the computer opponent of the server
+ * does with a single thread
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public final class SearchPlayer implements Player {
+    private static final int TRANSPOSITION_TABLE_SIZE_BITS = 16;
+
+    private final AlphaBetaSearch search = new AlphaBetaSearch(new TranspositionTable(TRANSPOSITION_TABLE_SIZE_BITS));
+    private final int depth;
+
+    /**
+     * @param depth The search depth in plies, between 1 and {@link AlphaBetaSearch#MAX_DEPTH}
+     */
+    public SearchPlayer(int depth) {
+        if ((depth < 1) || (depth > AlphaBetaSearch.MAX_DEPTH)) {
+            throw new IllegalArgumentException("Depth should be between 1 and " + AlphaBetaSearch.MAX_DEPTH);
+        }
+
+        this.depth = depth;
+    }
+
+    @Override
+    public int chooseMove(BoardState state) {
+        return search.search(state, depth).getBestMove();
+    }
+}
@@ -0,0 +1,206 @@
+package com.backbase.kalah.engine.selfplay;
+
+import com.backbase.kalah.engine.BoardState;
+import com.backbase.kalah.engine.KalahRules;
+import com.backbase.kalah.engine.MoveGenerator;
+import com.backbase.kalah.engine.ZobristHash;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+
+import static com.backbase.kalah.constant.Constants.COUNT_OF_ALL_PITS;
+import static com.backbase.kalah.engine.BoardState.PLAYER_1;
+
+/**
+ * Headless self-play of many games on the Kalah rules, without the service layer and the database, run as
+ * {@code java -cp kalah-engine.jar com.backbase.kalah.engine.selfplay.SelfPlay <games> <threads> <player A>
+ * <player B> [seed]}, where a player is {@code random}, {@code alphabeta:<depth>} or {@code mcts:<playouts>}.
+ * <p>
+ * The games are spread over a fixed number of threads, each with its own players and statistics that are summed up at
+ * the end, so the threads share nothing while playing. Thread t plays the games t, t + threads, ... and players A and B
+ * take turns in being the first mover, so the strength of the players and the advantage of the first move are measured
+ * separately. The result only depends on the seed and the number of threads.
+ * Every move is checked to be legal and every finished game to keep all stones, so a run also stress-tests the rules
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public final class SelfPlay {
+    private static final String RANDOM_PLAYER = "random";
+    private static final String SEARCH_PLAYER_PREFIX = "alphabeta:";
+    private static final String MONTE_CARLO_PLAYER_PREFIX = "mcts:";
+    private static final long DEFAULT_SEED = 42L;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final BoardState INITIAL_STATE = BoardState.initial();
+    private static final double[] REPORTED_PERCENTILES = {50.0, 90.0, 99.0};
+
+    private SelfPlay() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        if ((args.length < 4) || (args.length > 5)) {
+            System.err.println("Usage: SelfPlay <games> <threads> <player A> <player B> [seed], "
+                    + "players being random, alphabeta:<depth> or mcts:<playouts>");
+            System.exit(1);
+        }
+
+        int games = Integer.parseInt(args[0]);
+        int threads = Integer.parseInt(args[1]);
+        LongFunction<Player> playerA = parsePlayer(args[2]);
+        LongFunction<Player> playerB = parsePlayer(args[3]);
+        long seed = args.length == 5 ? Long.parseLong(args[4]) : DEFAULT_SEED;
+
+        SelfPlayResult result = run(games, threads, playerA, playerB, seed);
+
+        System.out.printf("Played %d games of %s against %s on %d threads in %d ms (%.0f games/s)%n",
+                result.getGames(), args[2], args[3], result.getThreadCount(),
+                TimeUnit.NANOSECONDS.toMillis(result.getElapsedNanos()), result.getGamesPerSecond());
+        System.out.printf("First mover wins %.2f%%, second mover wins %.2f%%, draws %.2f%%, "
+                        + "first-move advantage %.2f%%%n",
+                percentage(result.getFirstMoverWins(), games), percentage(result.getSecondMoverWins(), games),
+                percentage(result.getDraws(), games), 100.0 * result.getFirstMoveAdvantage());
+        System.out.printf("Player A wins %.2f%%, player B wins %.2f%%%n",
+                percentage(result.getPlayerAWins(), games), percentage(result.getPlayerBWins(), games));
+        System.out.printf("Game length: min %d, mean %.1f, max %d plies", result.getMinPlies(),
+                result.getAveragePlies(), result.getMaxPlies());
+        for (double percentile : REPORTED_PERCENTILES) {
+            System.out.printf(", p%.0f %d", percentile, result.getPliesPercentile(percentile));
+        }
+        System.out.println();
+
+        for (int pit = 0; pit < MoveGenerator.MAX_MOVES; pit++) {
+            System.out.printf("Opening pit %d: %d games, first mover wins %.2f%%%n", pit + 1,
+                    result.getOpeningGames(pit), 100.0 * result.getOpeningWinRate(pit));
+        }
+    }
+
+    /**
+     * Plays the given number of games between the given players
+     *
+     * @param games   The number of games
+     * @param threads The number of threads
+     * @param playerA Creates player A of every thread from a seed
+     * @param playerB Creates player B of every thread from a seed
+     * @param seed    The seed from which the seeds of all players are derived
+     * @return The statistics of all games
+     * @throws InterruptedException If interrupted while waiting for the threads
+     */
+    public static SelfPlayResult run(int games, int threads, LongFunction<Player> playerA,
+                                     LongFunction<Player> playerB, long seed) throws InterruptedException {
+        if (games < 0) {
+            throw new IllegalArgumentException("Number of games should not be negative");
+        }
+
+        if (threads < 1) {
+            throw new IllegalArgumentException("Thread count should be at least 1");
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long startTime = System.nanoTime();
+
+        try {
+            List<Future<SelfPlayResult>> futures = new ArrayList<>(threads);
+            for (int thread = 0; thread < threads; thread++) {
+                long threadSeed = seed + (2L * thread + 1) * GOLDEN_GAMMA;
+                int firstGame = thread;
+
+                futures.add(executor.submit(() -> playGames(firstGame, games, threads,
+                        playerA.apply(threadSeed), playerB.apply(threadSeed + GOLDEN_GAMMA))));
+            }
+
+            SelfPlayResult result = new SelfPlayResult();
+            for (Future<SelfPlayResult> future : futures) {
+                result.add(future.get());
+            }
+
+            result.setElapsedNanos(System.nanoTime() - startTime);
+            result.setThreadCount(threads);
+            return result;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Self-play failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * @param spec {@code random}, {@code alphabeta:<depth>} or {@code mcts:<playouts>}
+     * @return A factory creating such a player from a seed
+     */
+    public static LongFunction<Player> parsePlayer(String spec) {
+        if (RANDOM_PLAYER.equals(spec)) {
+            return RandomPlayer::new;
+        }
+
+        if (spec.startsWith(SEARCH_PLAYER_PREFIX)) {
+            int depth = Integer.parseInt(spec.substring(SEARCH_PLAYER_PREFIX.length()));
+            return seed -> new SearchPlayer(depth);
+        }
+
+        if (spec.startsWith(MONTE_CARLO_PLAYER_PREFIX)) {
+            long playouts = Long.parseLong(spec.substring(MONTE_CARLO_PLAYER_PREFIX.length()));
+            return seed -> new MonteCarloPlayer(playouts, seed);
+        }
+
+        throw new IllegalArgumentException("Unknown player " + spec);
+    }
+
+    /**
+     * Plays every step-th game from the given one on in the calling thread
+     */
+    private static SelfPlayResult playGames(int firstGame, int games, int step, Player playerA, Player playerB) {
+        SelfPlayResult result = new SelfPlayResult();
+        BoardState state = new BoardState();
+
+        for (int game = firstGame; game < games; game += step) {
+            boolean playerAFirst = (game & 1) == 0;
+            Player firstMover = playerAFirst ? playerA : playerB;
+            Player secondMover = playerAFirst ? playerB : playerA;
+
+            state.copyFrom(INITIAL_STATE);
+            int firstMove = 0;
+            int plies = 0;
+
+            while (!state.isFinished()) {
+                int pit = (state.getPlayerTurn() == PLAYER_1 ? firstMover : secondMover).chooseMove(state);
+                if (!MoveGenerator.isLegalMove(state, pit)) {
+                    throw new IllegalStateException("Illegal move " + pit + " in " + state);
+                }
+
+                if (plies == 0) {
+                    firstMove = pit;
+                }
+
+                KalahRules.move(state, pit);
+                plies++;
+            }
+
+            checkStoneCount(state);
+            result.recordGame(firstMove, KalahRules.getLeadingPlayer(state), playerAFirst, plies);
+        }
+
+        return result;
+    }
+
+    private static void checkStoneCount(BoardState state) {
+        int stones = 0;
+        for (int pit = 0; pit < COUNT_OF_ALL_PITS; pit++) {
+            stones += state.getStones(pit);
+        }
+
+        if (stones != ZobristHash.TOTAL_STONE_COUNT) {
+            throw new IllegalStateException("Stones lost or added in " + state);
+        }
+    }
+
+    private static double percentage(long count, long total) {
+        return total == 0 ? 0.0 : 100.0 * count / total;
+    }
+}
@@ -0,0 +1,221 @@
+package com.backbase.kalah.engine.selfplay;
+
+import com.backbase.kalah.engine.KalahRules;
+import com.backbase.kalah.engine.MoveGenerator;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.backbase.kalah.engine.BoardState.PLAYER_1;
+
+/**
+ * Statistics of a self-play run: the results by seat (first or second mover) and by player (A or B), the distribution
+ * of the game lengths in plies and the results by first move
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public final class SelfPlayResult {
+    // Longest game length counted exactly, longer games share the last bucket of the histogram
+    public static final int MAX_RECORDED_PLIES = 512;
+
+    private long games;
+    private long firstMoverWins;
+    private long secondMoverWins;
+    private long playerAWins;
+    private long playerBWins;
+    private long totalPlies;
+    private int minPlies = Integer.MAX_VALUE;
+    private int maxPlies;
+    private final long[] lengthHistogram = new long[MAX_RECORDED_PLIES + 1];
+    private final long[] openingGames = new long[MoveGenerator.MAX_MOVES];
+    private final long[] openingWins = new long[MoveGenerator.MAX_MOVES];
+    private long elapsedNanos;
+    private int threadCount;
+
+    SelfPlayResult() {
+    }
+
+    /**
+     * Counts a finished game
+     *
+     * @param firstMove     The pit played by the first mover in her first move
+     * @param leadingPlayer The winning seat, or {@link KalahRules#TIE}
+     * @param playerAFirst  True if player A was the first mover
+     * @param plies         The number of moves of the game
+     */
+    void recordGame(int firstMove, int leadingPlayer, boolean playerAFirst, int plies) {
+        games++;
+        totalPlies += plies;
+        minPlies = Math.min(minPlies, plies);
+        maxPlies = Math.max(maxPlies, plies);
+        lengthHistogram[Math.min(plies, MAX_RECORDED_PLIES)]++;
+        openingGames[firstMove]++;
+
+        if (leadingPlayer == KalahRules.TIE) {
+            return;
+        }
+
+        boolean firstMoverWon = leadingPlayer == PLAYER_1;
+        if (firstMoverWon) {
+            firstMoverWins++;
+            openingWins[firstMove]++;
+        } else {
+            secondMoverWins++;
+        }
+
+        if (firstMoverWon == playerAFirst) {
+            playerAWins++;
+        } else {
+            playerBWins++;
+        }
+    }
+
+    /**
+     * Adds the games of another thread
+     */
+    void add(SelfPlayResult other) {
+        games += other.games;
+        firstMoverWins += other.firstMoverWins;
+        secondMoverWins += other.secondMoverWins;
+        playerAWins += other.playerAWins;
+        playerBWins += other.playerBWins;
+        totalPlies += other.totalPlies;
+        minPlies = Math.min(minPlies, other.minPlies);
+        maxPlies = Math.max(maxPlies, other.maxPlies);
+
+        for (int plies = 0; plies <= MAX_RECORDED_PLIES; plies++) {
+            lengthHistogram[plies] += other.lengthHistogram[plies];
+        }
+
+        for (int pit = 0; pit < MoveGenerator.MAX_MOVES; pit++) {
+            openingGames[pit] += other.openingGames[pit];
+            openingWins[pit] += other.openingWins[pit];
+        }
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    void setThreadCount(int threadCount) {
+        this.threadCount = threadCount;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getFirstMoverWins() {
+        return firstMoverWins;
+    }
+
+    public long getSecondMoverWins() {
+        return secondMoverWins;
+    }
+
+    public long getDraws() {
+        return games - firstMoverWins - secondMoverWins;
+    }
+
+    public long getPlayerAWins() {
+        return playerAWins;
+    }
+
+    public long getPlayerBWins() {
+        return playerBWins;
+    }
+
+    /**
+     * @return The share of games won by the first mover minus the share won by the second mover
+     */
+    public double getFirstMoveAdvantage() {
+        return games == 0 ? 0.0 : (double) (firstMoverWins - secondMoverWins) / games;
+    }
+
+    /**
+     * @param pit The index of a pit of the first mover
+     * @return The number of games opened with that pit
+     */
+    public long getOpeningGames(int pit) {
+        return openingGames[pit];
+    }
+
+    /**
+     * @param pit The index of a pit of the first mover
+     * @return The share of the games opened with that pit won by the first mover
+     */
+    public double getOpeningWinRate(int pit) {
+        return openingGames[pit] == 0 ? 0.0 : (double) openingWins[pit] / openingGames[pit];
+    }
+
+    public int getMinPlies() {
+        return games == 0 ? 0 : minPlies;
+    }
+
+    public int getMaxPlies() {
+        return maxPlies;
+    }
+
+    public double getAveragePlies() {
+        return games == 0 ? 0.0 : (double) totalPlies / games;
+    }
+
+    /**
+     * @param plies A game length
+     * @return The number of games of that length, or of at least {@link #MAX_RECORDED_PLIES} plies for that length
+     */
+    public long getGamesOfLength(int plies) {
+        return lengthHistogram[plies];
+    }
+
+    /**
+     * @param percentile The percentile between 0 and 100
+     * @return The shortest game length not exceeded by the given percentage of games
+     */
+    public int getPliesPercentile(double percentile) {
+        long rank = (long) Math.ceil(percentile / 100.0 * games);
+        long count = 0;
+
+        for (int plies = 0; plies < MAX_RECORDED_PLIES; plies++) {
+            count += lengthHistogram[plies];
+            if ((count >= rank) && (count > 0)) {
+                return plies;
+            }
+        }
+
+        return maxPlies;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    /**
+     * @return The finished games per second, 0 if the run took no measurable time
+     */
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : games * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "SelfPlayResult{" +
+                "games=" + games +
+                ", firstMoverWins=" + firstMoverWins +
+                ", secondMoverWins=" + secondMoverWins +
+                ", draws=" + getDraws() +
+                ", playerAWins=" + playerAWins +
+                ", playerBWins=" + playerBWins +
+                ", averagePlies=" + getAveragePlies() +
+                ", minPlies=" + getMinPlies() +
+                ", maxPlies=" + maxPlies +
+                ", elapsedNanos=" + elapsedNanos +
+                ", threadCount=" + threadCount +
+                ", gamesPerSecond=" + getGamesPerSecond() +
+                '}';
+    }
+}
@@ -0,0 +1,311 @@
+package com.backbase.kalah.engine;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static com.backbase.kalah.constant.Constants.COUNT_OF_ALL_PITS;
+import static com.backbase.kalah.constant.Constants.PLAYER_1_KALAH;
+import static com.backbase.kalah.constant.Constants.PLAYER_2_KALAH;
+import static com.backbase.kalah.engine.BoardState.PLAYER_1;
+import static com.backbase.kalah.engine.BoardState.PLAYER_2;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for {@link KalahRules}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class KalahRulesTest {
+    //region field values
+    private static final int PIT_0 = 0;
+    private static final int PIT_1 = 1;
+    private static final int PIT_5 = 5;
+    private static final int PIT_8 = 8;
+    private static final int PIT_10 = 10;
+    private static final int PIT_12 = 12;
+    private static final int MAX_SOWN_STONES = 72;
+    private static final int RANDOM_GAME_COUNT = 200;
+    private static final int MAX_GAME_PLIES = 512;
+    private static final long RANDOM_SEED = 42L;
+    //endregion
+
+    @Rule
+    public ExpectedException thrownException = ExpectedException.none();
+
+    private BoardState testState;
+
+    @Before
+    public void setUp() throws Exception {
+        testState = BoardState.initial();
+    }
+
+    /**
+     * Tests {@link KalahRules#move(BoardState, int)} with player 1 plays only once
+     */
+    @Test
+    public void testMoveWithPlayerTurn() {
+        int lastPit = KalahRules.move(testState, PIT_1);
+
+        assertThat(lastPit).isEqualTo(7);
+        assertThat(testState.getPlayerTurn()).isEqualTo(PLAYER_2);
+        assertThat(testState.getStones(PIT_1)).isEqualTo(0);
+        assertThat(testState.getStones(PLAYER_1_KALAH)).isEqualTo(1);
+        assertThat(testState.isFinished()).isFalse();
+    }
+
+    /**
+     * Tests {@link KalahRules#move(BoardState, int)} with player 1 plays once more (last stone is dropped into her own Kalah)
+     */
+    @Test
+    public void testMoveWithPlayerPlaysAgain() {
+        int lastPit = KalahRules.move(testState, PIT_0);
+
+        assertThat(lastPit).isEqualTo(PLAYER_1_KALAH);
+        assertThat(testState.getPlayerTurn()).isEqualTo(PLAYER_1);
+        assertThat(testState.getStones(PIT_0)).isEqualTo(0);
+        assertThat(testState.getStones(PLAYER_1_KALAH)).isEqualTo(1);
+    }
+
+    /**
+     * Tests {@link KalahRules#move(BoardState, int)} skips the opponent's Kalah while sowing
+     */
+    @Test
+    public void testMoveSkipsOpponentKalah() {
+        testState.setPlayerTurn(PLAYER_2);
+        testState.setStones(PIT_12, 9);
+
+        int lastPit = KalahRules.move(testState, PIT_12);
+
+        assertThat(lastPit).isEqualTo(PIT_8);
+        assertThat(testState.getStones(PLAYER_2_KALAH)).isEqualTo(1);
+        assertThat(testState.getStones(PIT_5)).isEqualTo(7);
+        assertThat(testState.getStones(PLAYER_1_KALAH)).isEqualTo(0);
+        assertThat(testState.getStones(PIT_8)).isEqualTo(7);
+        assertThat(testState.getPlayerTurn()).isEqualTo(PLAYER_1);
+    }
+
+    /**
+     * Tests {@link KalahRules#move(BoardState, int)} with last dropped stone is in an empty pit of the player
+     */
+    @Test
+    public void testMoveWithLastPitEmpty() {
+        // Set number of stones to 13, so the last stones comes to the same pit which will be empty at this time
+        testState.setStones(PIT_0, COUNT_OF_ALL_PITS - 1);
+
+        KalahRules.move(testState, PIT_0);
+
+        assertThat(testState.getStones(PIT_0)).isEqualTo(0);
+        assertThat(testState.getStones(PIT_12)).isEqualTo(0);
+        assertThat(testState.getStones(PLAYER_1_KALAH)).isEqualTo(9);
+    }
+
+    /**
+     * Tests {@link KalahRules#move(BoardState, int)} for the last move right before the game ends
+     */
+    @Test
+    public void testMoveForLastMoveBeforeEnd() {
+        for (int i = 0; i < PLAYER_1_KALAH; i++) {
+            testState.setStones(i, 0);
+        }
+        testState.setStones(PIT_0, 1);
+
+        KalahRules.move(testState, PIT_0);
+
+        assertThat(testState.isFinished()).isTrue();
+        assertThat(testState.getStones(PLAYER_1_KALAH)).isEqualTo(7);
+        assertThat(testState.getStones(PLAYER_2_KALAH)).isEqualTo(30);
+        assertThat(KalahRules.getLeadingPlayer(testState)).isEqualTo(PLAYER_2);
+    }
+
+    /**
+     * Tests {@link KalahRules#move(BoardState, int)} for the last move right before the game ends in a tie
+     */
+    @Test
+    public void testMoveForLastMoveBeforeEndWithTie() {
+        for (int i = 0; i < PLAYER_2_KALAH; i++) {
+            testState.setStones(i, 0);
+        }
+        testState.setStones(PIT_5, 1);
+        testState.setStones(PLAYER_2_KALAH, 1);
+
+        KalahRules.move(testState, PIT_5);
+
+        assertThat(testState.isFinished()).isTrue();
+        assertThat(KalahRules.getLeadingPlayer(testState)).isEqualTo(KalahRules.TIE);
+    }
+
+    /**
+     * Tests {@link KalahRules#sow(BoardState, int)} gives the same board and last pit as dropping the stones one by one,
+     * for every pit and up to several full laps, and keeps the hash up to date
+     */
+    @Test
+    public void testSowMatchesStoneByStoneSowing() {
+        for (int pit = 0; pit < PLAYER_2_KALAH; pit++) {
+            if (pit == PLAYER_1_KALAH) {
+                continue;
+            }
+
+            int player = pit < PLAYER_1_KALAH ? PLAYER_1 : PLAYER_2;
+            for (int stones = 0; stones <= MAX_SOWN_STONES; stones++) {
+                int[] expectedPits = new int[COUNT_OF_ALL_PITS];
+                for (int i = 0; i < COUNT_OF_ALL_PITS; i++) {
+                    expectedPits[i] = (i * 7 + stones) % 5;
+                }
+                expectedPits[pit] = stones;
+                BoardState actualState = new BoardState();
+                for (int i = 0; i < COUNT_OF_ALL_PITS; i++) {
+                    actualState.setStones(i, expectedPits[i]);
+                }
+
+                int expectedLastPit = sowStoneByStone(expectedPits, pit, player);
+                int actualLastPit = KalahRules.sow(actualState, pit);
+
+                assertThat(actualLastPit).isEqualTo(expectedLastPit);
+                assertThat(actualState.pits).containsExactly(expectedPits);
+                assertThat(actualState.getHash()).isEqualTo(ZobristHash.hash(actualState));
+            }
+        }
+    }
+
+    /**
+     * Tests {@link KalahRules#isExtraTurnMove(BoardState, int)} predicts whether the player keeps the turn, for every
+     * pit and up to several full laps
+     */
+    @Test
+    public void testIsExtraTurnMove() {
+        for (int pit = 0; pit < PLAYER_2_KALAH; pit++) {
+            if (pit == PLAYER_1_KALAH) {
+                continue;
+            }
+
+            int player = pit < PLAYER_1_KALAH ? PLAYER_1 : PLAYER_2;
+            for (int stones = 1; stones <= MAX_SOWN_STONES; stones++) {
+                BoardState state = BoardState.initial();
+                state.setPlayerTurn(player);
+                state.setStones(pit, stones);
+
+                boolean extraTurnMove = KalahRules.isExtraTurnMove(state, pit);
+                KalahRules.move(state, pit);
+
+                assertThat(extraTurnMove).isEqualTo(state.getPlayerTurn() == player);
+            }
+        }
+    }
+
+    /**
+     * Tests {@link KalahRules#undoMove(BoardState, MoveUndoStack)} takes back every move of random games, including
+     * captures and the collection of the remaining stones at the end, restoring each state and its hash exactly
+     */
+    @Test
+    public void testUndoMoveForRandomGames() {
+        Random random = new Random(RANDOM_SEED);
+        MoveUndoStack undoStack = new MoveUndoStack(MAX_GAME_PLIES);
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+
+        for (int game = 0; game < RANDOM_GAME_COUNT; game++) {
+            BoardState state = BoardState.initial();
+            List<BoardState> history = new ArrayList<>();
+
+            while (!state.isFinished()) {
+                history.add(new BoardState(state));
+                int moveCount = MoveGenerator.generateMoves(state, moves);
+                KalahRules.move(state, moves[random.nextInt(moveCount)], undoStack);
+            }
+
+            assertThat(undoStack.size()).isEqualTo(history.size());
+            for (int ply = history.size() - 1; ply >= 0; ply--) {
+                KalahRules.undoMove(state, undoStack);
+
+                assertThat(state).isEqualTo(history.get(ply));
+                assertThat(state.getHash()).isEqualTo(history.get(ply).getHash());
+                assertThat(state.getHash()).isEqualTo(ZobristHash.hash(state));
+            }
+            assertThat(undoStack.size()).isEqualTo(0);
+        }
+    }
+
+    /**
+     * Tests {@link KalahRules#undoMove(BoardState, MoveUndoStack)} for every pit and up to several full laps
+     */
+    @Test
+    public void testUndoMoveAfterLaps() {
+        MoveUndoStack undoStack = new MoveUndoStack(1);
+
+        for (int pit = 0; pit < PLAYER_2_KALAH; pit++) {
+            if (pit == PLAYER_1_KALAH) {
+                continue;
+            }
+
+            for (int stones = 1; stones <= MAX_SOWN_STONES; stones++) {
+                BoardState state = BoardState.initial();
+                state.setPlayerTurn(pit < PLAYER_1_KALAH ? PLAYER_1 : PLAYER_2);
+                state.setStones(pit, stones);
+                BoardState expectedState = new BoardState(state);
+
+                KalahRules.move(state, pit, undoStack);
+                KalahRules.undoMove(state, undoStack);
+
+                assertThat(state).isEqualTo(expectedState);
+                assertThat(state.getHash()).isEqualTo(expectedState.getHash());
+            }
+        }
+    }
+
+    /**
+     * Tests {@link KalahRules#move(BoardState, int, MoveUndoStack)} with a full undo stack
+     */
+    @Test
+    public void testMoveWithFullUndoStack() {
+        MoveUndoStack undoStack = new MoveUndoStack(1);
+        KalahRules.move(testState, PIT_1, undoStack);
+
+        thrownException.expect(IllegalStateException.class);
+
+        KalahRules.move(testState, PIT_8, undoStack);
+    }
+
+    /**
+     * Tests {@link KalahRules#undoMove(BoardState, MoveUndoStack)} without any move to take back
+     */
+    @Test
+    public void testUndoMoveWithEmptyUndoStack() {
+        thrownException.expect(IllegalStateException.class);
+
+        KalahRules.undoMove(testState, new MoveUndoStack(1));
+    }
+
+    /**
+     * Tests {@link KalahRules#getOppositePit(int)}
+     */
+    @Test
+    public void testGetOppositePit() {
+        assertThat(KalahRules.getOppositePit(PIT_0)).isEqualTo(PIT_12);
+        assertThat(KalahRules.getOppositePit(PIT_5)).isEqualTo(7);
+        assertThat(KalahRules.getOppositePit(PIT_10)).isEqualTo(2);
+    }
+
+    // Reference implementation dropping one stone at a time into the following pits except the opponent's Kalah
+    private int sowStoneByStone(int[] pits, int pit, int player) {
+        int stones = pits[pit];
+        pits[pit] = 0;
+
+        int opponentKalah = player == PLAYER_1 ? PLAYER_2_KALAH : PLAYER_1_KALAH;
+        int lastPit = pit;
+        while (stones > 0) {
+            lastPit = (lastPit + 1) % COUNT_OF_ALL_PITS;
+            if (lastPit != opponentKalah) {
+                pits[lastPit]++;
+                stones--;
+            }
+        }
+
+        return lastPit;
+    }
+}
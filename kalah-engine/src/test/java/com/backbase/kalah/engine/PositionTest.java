@@ -0,0 +1,153 @@
+package com.backbase.kalah.engine;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import static com.backbase.kalah.constant.Constants.COUNT_OF_ALL_PITS;
+import static com.backbase.kalah.constant.Constants.INITIAL_STONE_COUNT;
+import static com.backbase.kalah.constant.Constants.PLAYER_1_KALAH;
+import static com.backbase.kalah.constant.Constants.PLAYER_2_KALAH;
+import static com.backbase.kalah.engine.BoardState.PLAYER_1;
+import static com.backbase.kalah.engine.BoardState.PLAYER_2;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for {@link Position}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class PositionTest {
+    //region field values
+    private static final int PIT_0 = 0;
+    private static final int PIT_1 = 1;
+    private static final int PIT_3 = 3;
+    private static final int PIT_10 = 10;
+    //endregion
+
+    @Rule
+    public ExpectedException thrownException = ExpectedException.none();
+
+    /**
+     * Tests {@link Position#initial()}
+     */
+    @Test
+    public void testInitial() {
+        Position position = Position.initial();
+
+        assertThat(position.getPlayerTurn()).isEqualTo(PLAYER_1);
+        assertThat(position.isFinished()).isFalse();
+        assertThat(position.getStones(PIT_0)).isEqualTo(INITIAL_STONE_COUNT);
+        assertThat(position.getStones(PLAYER_1_KALAH)).isZero();
+        assertThat(position.getLegalMoves()).containsExactly(0, 1, 2, 3, 4, 5);
+    }
+
+    /**
+     * Tests {@link Position#play(int)} leaves the original position untouched
+     */
+    @Test
+    public void testPlay() {
+        Position position = Position.initial();
+
+        Position nextPosition = position.play(PIT_1);
+
+        assertThat(position).isEqualTo(Position.initial());
+        assertThat(nextPosition.getStones(PIT_1)).isZero();
+        assertThat(nextPosition.getPlayerTurn()).isEqualTo(PLAYER_2);
+        assertThat(nextPosition.getLegalMoves()).containsExactly(7, 8, 9, 10, 11, 12);
+    }
+
+    /**
+     * Tests {@link Position#play(int)} for a pit of the other player
+     */
+    @Test
+    public void testPlayForOpponentPit() {
+        thrownException.expect(IllegalArgumentException.class);
+
+        Position.initial().play(PIT_10);
+    }
+
+    /**
+     * Tests {@link Position#getLegalMoves()} skips empty pits
+     */
+    @Test
+    public void testGetLegalMovesWithEmptyPit() {
+        Position position = Position.initial().play(PIT_0);
+
+        assertThat(position.getPlayerTurn()).isEqualTo(PLAYER_1);
+        assertThat(position.getLegalMoves()).containsExactly(1, 2, 3, 4, 5);
+        assertThat(position.isLegalMove(PIT_0)).isFalse();
+        assertThat(position.isLegalMove(PLAYER_1_KALAH)).isFalse();
+    }
+
+    /**
+     * Tests {@link Position#getLegalMoveMask()} is relative to the first pit of the player whose turn it is
+     */
+    @Test
+    public void testGetLegalMoveMask() {
+        int[] pits = new int[COUNT_OF_ALL_PITS];
+        pits[PIT_0] = 1;
+        pits[PIT_3] = 2;
+        pits[PIT_10] = 4;
+
+        assertThat(Position.of(pits, PLAYER_1).getLegalMoveMask()).isEqualTo(0b001001);
+        assertThat(Position.of(pits, PLAYER_2).getLegalMoveMask()).isEqualTo(0b001000);
+        assertThat(Position.initial().getLegalMoveMask()).isEqualTo(0b111111);
+    }
+
+    /**
+     * Tests {@link Position#of(int[], int)} for a position in which one player has no more stones
+     */
+    @Test
+    public void testOfFinishedPosition() {
+        int[] pits = new int[COUNT_OF_ALL_PITS];
+        pits[PIT_3] = 2;
+        pits[PLAYER_1_KALAH] = 30;
+        pits[PLAYER_2_KALAH] = 40;
+
+        Position position = Position.of(pits, PLAYER_1);
+
+        assertThat(position.isFinished()).isTrue();
+        assertThat(position.getLegalMoves()).isEmpty();
+        assertThat(position.getLegalMoveMask()).isZero();
+        assertThat(position.getScoreDifference()).isEqualTo(-10);
+        assertThat(position.getLeadingPlayer()).isEqualTo(PLAYER_2);
+    }
+
+    /**
+     * Tests {@link Position#of(int[], int)} with a wrong number of pits
+     */
+    @Test
+    public void testOfWithInvalidPitCount() {
+        thrownException.expect(IllegalArgumentException.class);
+
+        Position.of(new int[PLAYER_1_KALAH], PLAYER_1);
+    }
+
+    /**
+     * Tests {@link Position#of(int[], int)} with a negative stone count
+     */
+    @Test
+    public void testOfWithNegativeStoneCount() {
+        int[] pits = new int[COUNT_OF_ALL_PITS];
+        pits[PIT_3] = -1;
+
+        thrownException.expect(IllegalArgumentException.class);
+
+        Position.of(pits, PLAYER_1);
+    }
+
+    /**
+     * Tests {@link Position#of(int[], int)} with more stones in a pit than the game has
+     */
+    @Test
+    public void testOfWithTooManyStones() {
+        int[] pits = new int[COUNT_OF_ALL_PITS];
+        pits[PLAYER_2_KALAH] = ZobristHash.TOTAL_STONE_COUNT + 1;
+
+        thrownException.expect(IllegalArgumentException.class);
+
+        Position.of(pits, PLAYER_1);
+    }
+}
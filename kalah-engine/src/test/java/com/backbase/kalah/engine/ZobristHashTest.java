@@ -0,0 +1,94 @@
+package com.backbase.kalah.engine;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static com.backbase.kalah.constant.Constants.COUNT_OF_ALL_PITS;
+import static com.backbase.kalah.engine.BoardState.PLAYER_1;
+import static com.backbase.kalah.engine.BoardState.PLAYER_2;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for {@link ZobristHash} and the incremental hash of {@link BoardState}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class ZobristHashTest {
+    //region field values
+    private static final int PIT_1 = 1;
+    private static final int PIT_4 = 4;
+    private static final int GAME_COUNT = 200;
+    private static final long RANDOM_SEED = 7L;
+    // Hash of the initial position, which must never change as hashes are persisted
+    private static final long INITIAL_HASH = 0x4B736860C19BF85DL;
+    //endregion
+
+    /**
+     * Tests {@link ZobristHash#hash(BoardState)} depends on the stones and the player turn
+     */
+    @Test
+    public void testHash() {
+        BoardState state = BoardState.initial();
+        BoardState otherTurnState = BoardState.initial();
+        otherTurnState.setPlayerTurn(PLAYER_2);
+        BoardState movedState = BoardState.initial();
+        KalahRules.move(movedState, PIT_1);
+
+        assertThat(ZobristHash.hash(state)).isEqualTo(BoardState.initial().getHash());
+        assertThat(ZobristHash.hash(otherTurnState)).isNotEqualTo(state.getHash());
+        assertThat(ZobristHash.hash(movedState)).isNotEqualTo(state.getHash());
+    }
+
+    /**
+     * Tests the hash is stable between runs, as it is used as a persisted position key
+     */
+    @Test
+    public void testHashIsStable() {
+        assertThat(BoardState.initial().getHash()).isEqualTo(INITIAL_HASH);
+    }
+
+    /**
+     * Tests {@link BoardState#getHash()} equals the hash computed from scratch after every move of random games
+     */
+    @Test
+    public void testIncrementalHashMatchesFullHash() {
+        Random random = new Random(RANDOM_SEED);
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+
+        for (int game = 0; game < GAME_COUNT; game++) {
+            BoardState state = BoardState.initial();
+
+            while (!state.isFinished()) {
+                int count = MoveGenerator.generateMoves(state, moves);
+                KalahRules.move(state, moves[random.nextInt(count)]);
+
+                assertThat(state.getHash()).isEqualTo(ZobristHash.hash(state));
+            }
+        }
+    }
+
+    /**
+     * Tests {@link BoardState#setStones(int, int)}, {@link BoardState#setPlayerTurn(int)} and
+     * {@link BoardState#copyFrom(BoardState)} keep the hash up to date
+     */
+    @Test
+    public void testSettersUpdateHash() {
+        BoardState state = new BoardState();
+        assertThat(state.getHash()).isEqualTo(ZobristHash.hash(state));
+
+        state.setStones(PIT_4, 3);
+        state.setPlayerTurn(PLAYER_2);
+        assertThat(state.getHash()).isEqualTo(ZobristHash.hash(state));
+
+        state.setStones(PIT_4, 0);
+        state.setPlayerTurn(PLAYER_1);
+        assertThat(state.getHash()).isEqualTo(new BoardState().getHash());
+
+        BoardState copy = new BoardState();
+        copy.copyFrom(BoardState.initial());
+        assertThat(copy.getHash()).isEqualTo(BoardState.initial().getHash());
+        assertThat(Position.of(new int[COUNT_OF_ALL_PITS], PLAYER_1).getHash()).isEqualTo(new BoardState().getHash());
+    }
+}
@@ -0,0 +1,142 @@
+package com.backbase.kalah.engine.book;
+
+import com.backbase.kalah.engine.BoardState;
+import com.backbase.kalah.engine.KalahRules;
+import com.backbase.kalah.engine.search.AlphaBetaSearch;
+import com.backbase.kalah.engine.search.SearchResult;
+import com.backbase.kalah.engine.search.TranspositionTable;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static com.backbase.kalah.engine.BoardState.PLAYER_2;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for {@link OpeningBook} and {@link OpeningBookBuilder}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class OpeningBookTest {
+    //region field values
+    private static final int PLIES = 2;
+    private static final int DEPTH = 6;
+    private static final int PIT_0 = 0;
+    private static final int PIT_1 = 1;
+    //endregion
+
+    @ClassRule
+    public static TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Rule
+    public ExpectedException thrownException = ExpectedException.none();
+
+    private static Path bookFile;
+    private static OpeningBook book;
+    private static int size;
+
+    @BeforeClass
+    public static void setUpClass() throws Exception {
+        bookFile = temporaryFolder.newFile().toPath();
+        size = OpeningBookBuilder.build(PLIES, DEPTH, bookFile);
+        book = OpeningBook.open(bookFile);
+    }
+
+    /**
+     * Tests {@link OpeningBookBuilder#build(int, int, Path)} writes every position of the first plies once
+     */
+    @Test
+    public void testBuild() throws IOException {
+        Map<Long, BoardState> positions = OpeningBookBuilder.collectPositions(PLIES);
+
+        assertThat(size).isEqualTo(positions.size());
+        assertThat(book.size()).isEqualTo(size);
+        assertThat(Files.size(bookFile)).isEqualTo(OpeningBook.HEADER_SIZE + (long) size * OpeningBook.ENTRY_SIZE);
+
+        for (BoardState position : positions.values()) {
+            assertThat(book.probe(position)).isNotEqualTo(OpeningBook.MISS);
+        }
+    }
+
+    /**
+     * Tests {@link OpeningBook#probe(BoardState)} gives the result of searching the position
+     */
+    @Test
+    public void testProbe() {
+        BoardState state = BoardState.initial();
+        SearchResult result = search(state);
+
+        long entry = book.probe(state);
+
+        assertThat(OpeningBook.getMove(entry)).isEqualTo(result.getBestMove());
+        assertThat(OpeningBook.getDepth(entry)).isEqualTo(DEPTH);
+        assertThat(OpeningBook.getScore(entry)).isEqualTo(result.getScore());
+    }
+
+    /**
+     * Tests {@link OpeningBook#probe(BoardState)} for a position of the second player, whose scores may be negative
+     */
+    @Test
+    public void testProbeForSecondPlayer() {
+        BoardState state = BoardState.initial();
+        KalahRules.move(state, PIT_1);
+        SearchResult result = search(state);
+
+        long entry = book.probe(state);
+
+        assertThat(state.getPlayerTurn()).isEqualTo(PLAYER_2);
+        assertThat(entry).isNotEqualTo(OpeningBook.MISS);
+        assertThat(OpeningBook.getMove(entry)).isEqualTo(result.getBestMove());
+        assertThat(OpeningBook.getScore(entry)).isEqualTo(result.getScore());
+    }
+
+    /**
+     * Tests {@link OpeningBook#probe(BoardState)} for a position beyond the first plies
+     */
+    @Test
+    public void testProbeForUnknownPosition() {
+        BoardState state = BoardState.initial();
+        state.setStones(PIT_0, 0);
+        state.setStones(PIT_1, 12);
+
+        assertThat(book.probe(state)).isEqualTo(OpeningBook.MISS);
+    }
+
+    /**
+     * Tests {@link OpeningBook#open(Path)} for a file that is no opening book
+     */
+    @Test
+    public void testOpenInvalidFile() throws IOException {
+        Path file = temporaryFolder.newFile().toPath();
+        Files.write(file, new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+
+        thrownException.expect(IllegalArgumentException.class);
+
+        OpeningBook.open(file);
+    }
+
+    /**
+     * Tests {@link OpeningBookBuilder#build(int, int, Path)} with more plies than supported
+     */
+    @Test
+    public void testBuildWithTooManyPlies() throws IOException {
+        thrownException.expect(IllegalArgumentException.class);
+
+        OpeningBookBuilder.build(OpeningBookBuilder.MAX_PLIES + 1, DEPTH, temporaryFolder.newFile().toPath());
+    }
+
+    private static SearchResult search(BoardState state) {
+        // Same table size as the builder, so both searches replace the same table entries
+        return new AlphaBetaSearch(new TranspositionTable(OpeningBookBuilder.TRANSPOSITION_TABLE_SIZE_BITS))
+                .search(state, DEPTH);
+    }
+}
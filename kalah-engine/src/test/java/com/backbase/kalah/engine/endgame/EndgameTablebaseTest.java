@@ -0,0 +1,205 @@
+package com.backbase.kalah.engine.endgame;
+
+import com.backbase.kalah.engine.BoardState;
+import com.backbase.kalah.engine.KalahRules;
+import com.backbase.kalah.engine.MoveGenerator;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static com.backbase.kalah.constant.Constants.COUNT_OF_ALL_PITS;
+import static com.backbase.kalah.constant.Constants.PLAYER_1_KALAH;
+import static com.backbase.kalah.constant.Constants.PLAYER_2_KALAH;
+import static com.backbase.kalah.engine.BoardState.PLAYER_1;
+import static com.backbase.kalah.engine.BoardState.PLAYER_2;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for {@link EndgameTablebase} and {@link EndgameTablebaseGenerator}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class EndgameTablebaseTest {
+    //region field values
+    private static final int MAX_STONES = 6;
+    // Number of ways of distributing up to 6 stones over 12 pits, i.e. 18 choose 12
+    private static final int POSITION_COUNT = 18564;
+    private static final int RANDOM_POSITION_COUNT = 300;
+    private static final long RANDOM_SEED = 42L;
+    private static final int PIT_0 = 0;
+    private static final int PIT_3 = 3;
+    private static final int PIT_8 = 8;
+    //endregion
+
+    @ClassRule
+    public static TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Rule
+    public ExpectedException thrownException = ExpectedException.none();
+
+    private static Path tablebaseFile;
+    private static EndgameTablebase tablebase;
+
+    @BeforeClass
+    public static void setUpClass() throws Exception {
+        tablebaseFile = temporaryFolder.newFile().toPath();
+        EndgameTablebaseGenerator.generate(MAX_STONES, tablebaseFile);
+        tablebase = EndgameTablebase.open(tablebaseFile);
+    }
+
+    /**
+     * Tests {@link EndgameTablebaseGenerator#generate(int, Path)} writes one byte per position after the header
+     */
+    @Test
+    public void testGenerate() throws IOException {
+        assertThat(tablebase.getMaxStones()).isEqualTo(MAX_STONES);
+        assertThat(EndgameTablebase.getPositionCount(MAX_STONES)).isEqualTo(POSITION_COUNT);
+        assertThat(Files.size(tablebaseFile)).isEqualTo(EndgameTablebase.HEADER_SIZE + POSITION_COUNT);
+    }
+
+    /**
+     * Tests {@link EndgameTablebase#probe(BoardState)} gives the same values as a search until the end of the game
+     */
+    @Test
+    public void testProbeMatchesMinimax() {
+        Random random = new Random(RANDOM_SEED);
+
+        for (int i = 0; i < RANDOM_POSITION_COUNT; i++) {
+            BoardState state = randomEndgamePosition(random);
+            if (KalahRules.isGameOver(state)) {
+                continue;
+            }
+
+            assertThat(tablebase.probe(state)).isEqualTo(minimax(state) - getScore(state));
+        }
+    }
+
+    /**
+     * Tests {@link EndgameTablebase#getBestMove(BoardState)} plays a move keeping the value of the position
+     */
+    @Test
+    public void testGetBestMove() {
+        Random random = new Random(RANDOM_SEED);
+
+        for (int i = 0; i < RANDOM_POSITION_COUNT; i++) {
+            BoardState state = randomEndgamePosition(random);
+            if (KalahRules.isGameOver(state)) {
+                continue;
+            }
+
+            int bestMove = tablebase.getBestMove(state);
+            assertThat(MoveGenerator.isLegalMove(state, bestMove)).isTrue();
+
+            BoardState child = new BoardState(state);
+            KalahRules.move(child, bestMove);
+            int bestMoveScore = child.getPlayerTurn() == state.getPlayerTurn() ? minimax(child) : -minimax(child);
+            assertThat(bestMoveScore).isEqualTo(minimax(state));
+        }
+    }
+
+    /**
+     * Tests {@link EndgameTablebase#probe(BoardState)} captures the stones of the opponent for the second player
+     */
+    @Test
+    public void testProbeForSecondPlayer() {
+        BoardState state = new BoardState();
+        state.setStones(PIT_0, 3);
+        state.setStones(PIT_3, 1);
+        state.setStones(PIT_8, 1);
+        state.setPlayerTurn(PLAYER_2);
+
+        // Playing pit 8 ends in the empty pit 9 and captures 2 stones, then the first player collects her 3 stones
+        assertThat(tablebase.probe(state)).isEqualTo(-1);
+        assertThat(tablebase.getBestMove(state)).isEqualTo(PIT_8);
+    }
+
+    /**
+     * Tests {@link EndgameTablebase#probe(BoardState)} for positions not covered by the tablebase
+     */
+    @Test
+    public void testProbeWithoutValue() {
+        BoardState finishedState = new BoardState();
+        finishedState.setStones(PLAYER_1_KALAH, 36);
+        finishedState.setStones(PLAYER_2_KALAH, 36);
+        finishedState.setFinished(true);
+
+        assertThat(tablebase.probe(BoardState.initial())).isEqualTo(EndgameTablebase.MISS);
+        assertThat(tablebase.getBestMove(BoardState.initial())).isEqualTo(EndgameTablebase.NO_MOVE);
+        assertThat(tablebase.probe(finishedState)).isEqualTo(EndgameTablebase.MISS);
+    }
+
+    /**
+     * Tests {@link EndgameTablebase#open(Path)} for a file that is no tablebase
+     */
+    @Test
+    public void testOpenInvalidFile() throws IOException {
+        Path file = temporaryFolder.newFile().toPath();
+        Files.write(file, new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+
+        thrownException.expect(IllegalArgumentException.class);
+
+        EndgameTablebase.open(file);
+    }
+
+    /**
+     * Tests {@link EndgameTablebaseGenerator#generate(int, Path)} with more stones than supported
+     */
+    @Test
+    public void testGenerateWithTooManyStones() throws IOException {
+        thrownException.expect(IllegalArgumentException.class);
+
+        EndgameTablebaseGenerator.generate(EndgameTablebase.MAX_STONES + 1, temporaryFolder.newFile().toPath());
+    }
+
+    private static BoardState randomEndgamePosition(Random random) {
+        BoardState state = new BoardState();
+        int stones = random.nextInt(MAX_STONES + 1);
+
+        for (int i = 0; i < stones; i++) {
+            int pit = random.nextInt(2 * MoveGenerator.MAX_MOVES);
+            pit = pit < MoveGenerator.MAX_MOVES ? pit : pit + 1;
+            state.setStones(pit, state.getStones(pit) + 1);
+        }
+
+        state.setStones(PLAYER_1_KALAH, random.nextInt(30));
+        state.setStones(PLAYER_2_KALAH, random.nextInt(30));
+        state.setPlayerTurn(random.nextBoolean() ? PLAYER_1 : PLAYER_2);
+
+        return state;
+    }
+
+    private static int getScore(BoardState state) {
+        int scoreDifference = KalahRules.getScoreDifference(state);
+        return state.getPlayerTurn() == PLAYER_1 ? scoreDifference : -scoreDifference;
+    }
+
+    // Reference search until the end of the game, scores from the point of view of the player to move
+    private static int minimax(BoardState state) {
+        if (state.isFinished()) {
+            return getScore(state);
+        }
+
+        int bestScore = Integer.MIN_VALUE;
+        for (int pit = 0; pit < COUNT_OF_ALL_PITS; pit++) {
+            if (!MoveGenerator.isLegalMove(state, pit)) {
+                continue;
+            }
+
+            BoardState child = new BoardState(state);
+            KalahRules.move(child, pit);
+            int score = child.getPlayerTurn() == state.getPlayerTurn() ? minimax(child) : -minimax(child);
+            bestScore = Math.max(bestScore, score);
+        }
+
+        return bestScore;
+    }
+}
@@ -0,0 +1,160 @@
+package com.backbase.kalah.engine.mcts;
+
+import com.backbase.kalah.engine.BoardState;
+import com.backbase.kalah.engine.MoveGenerator;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+import static com.backbase.kalah.constant.Constants.COUNT_OF_ALL_PITS;
+import static com.backbase.kalah.constant.Constants.PLAYER_1_KALAH;
+import static com.backbase.kalah.constant.Constants.PLAYER_2_KALAH;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for {@link MonteCarloTreeSearch}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class MonteCarloTreeSearchTest {
+    //region field values
+    private static final int NODE_POOL_SIZE = 1 << 16;
+    private static final long SEED = 42L;
+    private static final long PLAYOUTS = 20_000L;
+    private static final long FEW_PLAYOUTS = 100L;
+    private static final long TIME_BUDGET_NANOS = TimeUnit.MINUTES.toNanos(1);
+    // Bytes allocated per search independent of the number of playouts, e.g. for the result
+    private static final long MAX_SEARCH_ALLOCATION = 1024L;
+    private static final int CAPTURING_PIT = 0;
+    //endregion
+
+    @Rule
+    public ExpectedException thrownException = ExpectedException.none();
+
+    private MonteCarloTreeSearch search;
+    private BoardState captureState;
+
+    @Before
+    public void setUp() throws Exception {
+        search = new MonteCarloTreeSearch(NODE_POOL_SIZE, SEED);
+
+        // Playing pit 0 ends in the empty pit 1 and captures the 10 stones of pit 11, which decides the game
+        captureState = new BoardState();
+        captureState.setStones(CAPTURING_PIT, 1);
+        captureState.setStones(4, 1);
+        captureState.setStones(8, 2);
+        captureState.setStones(11, 10);
+        captureState.setStones(PLAYER_1_KALAH, 28);
+        captureState.setStones(PLAYER_2_KALAH, 30);
+    }
+
+    /**
+     * Tests {@link MonteCarloTreeSearch#search(BoardState, long, long)} finds a capture winning the game
+     */
+    @Test
+    public void testSearchFindsCapture() {
+        MonteCarloResult result = search.search(captureState, TIME_BUDGET_NANOS, PLAYOUTS);
+
+        assertThat(result.getBestMove()).isEqualTo(CAPTURING_PIT);
+        assertThat(result.getWinRate()).isGreaterThan(0.5);
+    }
+
+    /**
+     * Tests {@link MonteCarloTreeSearch#search(BoardState, long, long)} runs every playout through one root move
+     */
+    @Test
+    public void testSearchRunsRequestedPlayouts() {
+        MonteCarloResult result = search.search(BoardState.initial(), TIME_BUDGET_NANOS, PLAYOUTS);
+
+        long rootVisits = 0;
+        for (int pit = 0; pit < COUNT_OF_ALL_PITS; pit++) {
+            rootVisits += result.getVisits(pit);
+        }
+
+        assertThat(result.getPlayouts()).isEqualTo(PLAYOUTS);
+        assertThat(rootVisits).isEqualTo(PLAYOUTS);
+        assertThat(result.getThreadCount()).isEqualTo(1);
+        assertThat(result.getCpuNanos()).isPositive();
+        assertThat(MoveGenerator.isLegalMove(BoardState.initial(), result.getBestMove())).isTrue();
+    }
+
+    /**
+     * Tests {@link MonteCarloTreeSearch#search(BoardState, long, long)} gives the same result for the same seed
+     */
+    @Test
+    public void testSearchIsReproducible() {
+        MonteCarloResult result = search.search(BoardState.initial(), TIME_BUDGET_NANOS, PLAYOUTS);
+        MonteCarloResult otherResult = new MonteCarloTreeSearch(NODE_POOL_SIZE, SEED)
+                .search(BoardState.initial(), TIME_BUDGET_NANOS, PLAYOUTS);
+
+        for (int pit = 0; pit < COUNT_OF_ALL_PITS; pit++) {
+            assertThat(otherResult.getVisits(pit)).isEqualTo(result.getVisits(pit));
+        }
+    }
+
+    /**
+     * Tests {@link MonteCarloTreeSearch#search(BoardState, long, long)} goes on with a full node pool
+     */
+    @Test
+    public void testSearchWithExhaustedNodePool() {
+        MonteCarloTreeSearch smallSearch = new MonteCarloTreeSearch(MonteCarloTreeSearch.getMinNodePoolSize(), SEED);
+
+        MonteCarloResult result = smallSearch.search(BoardState.initial(), TIME_BUDGET_NANOS, FEW_PLAYOUTS);
+
+        assertThat(result.getPlayouts()).isEqualTo(FEW_PLAYOUTS);
+        assertThat(smallSearch.getNodeCount()).isEqualTo(MonteCarloTreeSearch.getMinNodePoolSize());
+        assertThat(MoveGenerator.isLegalMove(BoardState.initial(), result.getBestMove())).isTrue();
+    }
+
+    /**
+     * Tests {@link MonteCarloTreeSearch#search(BoardState, long, long)} allocates the same memory for any number of
+     * playouts, i.e. the playouts allocate nothing
+     */
+    @Test
+    public void testPlayoutsAllocateNothing() {
+        com.sun.management.ThreadMXBean threadMxBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        // Warm up, so class loading does not count
+        search.search(BoardState.initial(), TIME_BUDGET_NANOS, PLAYOUTS);
+
+        long allocatedBefore = threadMxBean.getThreadAllocatedBytes(threadId);
+        search.search(BoardState.initial(), TIME_BUDGET_NANOS, FEW_PLAYOUTS);
+        long fewPlayoutsAllocation = threadMxBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        allocatedBefore = threadMxBean.getThreadAllocatedBytes(threadId);
+        search.search(BoardState.initial(), TIME_BUDGET_NANOS, PLAYOUTS);
+        long manyPlayoutsAllocation = threadMxBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        assertThat(manyPlayoutsAllocation).isLessThanOrEqualTo(fewPlayoutsAllocation + MAX_SEARCH_ALLOCATION);
+    }
+
+    /**
+     * Tests {@link MonteCarloTreeSearch#search(BoardState, long, long)} for a finished game
+     */
+    @Test
+    public void testSearchForFinishedGame() {
+        BoardState finishedState = new BoardState();
+        finishedState.setFinished(true);
+
+        thrownException.expect(IllegalArgumentException.class);
+
+        search.search(finishedState, TIME_BUDGET_NANOS, PLAYOUTS);
+    }
+
+    /**
+     * Tests {@link MonteCarloTreeSearch#MonteCarloTreeSearch(int, long)} with a pool too small for the root moves
+     */
+    @Test
+    public void testCreateWithTooSmallNodePool() {
+        thrownException.expect(IllegalArgumentException.class);
+
+        new MonteCarloTreeSearch(MonteCarloTreeSearch.getMinNodePoolSize() - 1, SEED);
+    }
+}
@@ -0,0 +1,150 @@
+package com.backbase.kalah.engine.mcts;
+
+import com.backbase.kalah.engine.BoardState;
+import com.backbase.kalah.engine.MoveGenerator;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test class for {@link ParallelMonteCarloSearch}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class ParallelMonteCarloSearchTest {
+    //region field values
+    private static final int NODE_POOL_SIZE = 1 << 16;
+    private static final int THREAD_COUNT = 4;
+    private static final long SEED = 42L;
+    private static final long TIME_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final long LONG_TIME_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(1000);
+    //endregion
+
+    @Rule
+    public ExpectedException thrownException = ExpectedException.none();
+
+    private ThreadPoolExecutor executor;
+
+    @Before
+    public void setUp() throws Exception {
+        executor = new ThreadPoolExecutor(THREAD_COUNT - 1, THREAD_COUNT - 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(THREAD_COUNT));
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Tests {@link ParallelMonteCarloSearch#search(BoardState, long)} uses the time budget and leaves no helper queued
+     */
+    @Test
+    public void testSearch() {
+        ParallelMonteCarloSearch search = new ParallelMonteCarloSearch(executor, THREAD_COUNT, NODE_POOL_SIZE, SEED);
+
+        MonteCarloResult result = search.search(BoardState.initial(), TIME_BUDGET_NANOS);
+
+        assertThat(result.getElapsedNanos()).isGreaterThanOrEqualTo(TIME_BUDGET_NANOS);
+        assertThat(result.getPlayouts()).isPositive();
+        assertThat(result.getPlayoutsPerCoreSecond()).isPositive();
+        assertThat(result.getThreadCount()).isBetween(1, THREAD_COUNT);
+        assertThat(MoveGenerator.isLegalMove(BoardState.initial(), result.getBestMove())).isTrue();
+        assertThat(executor.getQueue()).isEmpty();
+    }
+
+    /**
+     * Tests {@link ParallelMonteCarloSearch#search(BoardState, long)} on a pool that rejects the helpers
+     */
+    @Test
+    public void testSearchWithSaturatedPool() {
+        ThreadPoolExecutor saturatedExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new SynchronousQueue<>());
+        saturatedExecutor.execute(() -> {
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        try {
+            ParallelMonteCarloSearch search = new ParallelMonteCarloSearch(saturatedExecutor, THREAD_COUNT,
+                    NODE_POOL_SIZE, SEED);
+
+            MonteCarloResult result = search.search(BoardState.initial(), TIME_BUDGET_NANOS);
+
+            assertThat(result.getThreadCount()).isEqualTo(1);
+            assertThat(MoveGenerator.isLegalMove(BoardState.initial(), result.getBestMove())).isTrue();
+        } finally {
+            saturatedExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Tests {@link ParallelMonteCarloSearch#search(BoardState, long)} while the only tree is used by a concurrent search
+     * for longer than the time budget, which must be rejected instead of waiting for it
+     */
+    @Test
+    public void testSearchWhileAllTreesInUse() throws Exception {
+        ParallelMonteCarloSearch search = new ParallelMonteCarloSearch(null, 1, NODE_POOL_SIZE, SEED);
+        Thread concurrentSearch = new Thread(() -> search.search(BoardState.initial(), LONG_TIME_BUDGET_NANOS));
+        concurrentSearch.start();
+
+        try {
+            // Lets the concurrent search take the tree first
+            Thread.sleep(TimeUnit.NANOSECONDS.toMillis(TIME_BUDGET_NANOS));
+            long startTime = System.nanoTime();
+
+            assertThatThrownBy(() -> search.search(BoardState.initial(), TIME_BUDGET_NANOS))
+                    .isInstanceOf(RejectedExecutionException.class);
+            assertThat(System.nanoTime() - startTime).isLessThan(LONG_TIME_BUDGET_NANOS);
+        } finally {
+            concurrentSearch.join();
+        }
+
+        assertThat(search.search(BoardState.initial(), TIME_BUDGET_NANOS).getPlayouts()).isPositive();
+    }
+
+    /**
+     * Tests {@link ParallelMonteCarloSearch#search(BoardState, long)} for a finished game, which must not start any
+     * helper
+     */
+    @Test
+    public void testSearchForFinishedGame() {
+        ParallelMonteCarloSearch search = new ParallelMonteCarloSearch(executor, THREAD_COUNT, NODE_POOL_SIZE, SEED);
+        BoardState finishedState = new BoardState();
+        finishedState.setFinished(true);
+
+        thrownException.expect(IllegalArgumentException.class);
+
+        try {
+            search.search(finishedState, TIME_BUDGET_NANOS);
+        } finally {
+            assertThat(executor.getTaskCount()).isZero();
+        }
+    }
+
+    /**
+     * Tests {@link ParallelMonteCarloSearch#ParallelMonteCarloSearch(ThreadPoolExecutor, int, int, long)} without
+     * threads
+     */
+    @Test
+    public void testCreateWithoutThreads() {
+        thrownException.expect(IllegalArgumentException.class);
+
+        new ParallelMonteCarloSearch(executor, 0, NODE_POOL_SIZE, SEED);
+    }
+}
@@ -0,0 +1,242 @@
+package com.backbase.kalah.engine.search;
+
+import com.backbase.kalah.engine.BoardState;
+import com.backbase.kalah.engine.KalahRules;
+import com.backbase.kalah.engine.MoveGenerator;
+import com.backbase.kalah.engine.endgame.EndgameTablebase;
+import com.backbase.kalah.engine.endgame.EndgameTablebaseGenerator;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Path;
+import java.util.Random;
+
+import static com.backbase.kalah.constant.Constants.COUNT_OF_ALL_PITS;
+import static com.backbase.kalah.constant.Constants.PLAYER_1_KALAH;
+import static com.backbase.kalah.constant.Constants.PLAYER_2_KALAH;
+import static com.backbase.kalah.engine.BoardState.PLAYER_1;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for {@link AlphaBetaSearch}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class AlphaBetaSearchTest {
+    //region field values
+    private static final int TABLE_SIZE_BITS = 16;
+    private static final int PIT_0 = 0;
+    private static final int PIT_2 = 2;
+    private static final int PIT_3 = 3;
+    private static final int PIT_5 = 5;
+    private static final int PIT_8 = 8;
+    private static final int DEPTH_2 = 2;
+    private static final int DEPTH_5 = 5;
+    private static final int RANDOM_POSITION_COUNT = 20;
+    private static final long RANDOM_SEED = 42L;
+    private static final int TABLEBASE_STONES = 4;
+    private static final int[] ENDGAME_PITS = {1, 0, 2, 0, 0, 1, 30, 0, 1, 0, 0, 1, 1, 35};
+    //endregion
+
+    @Rule
+    public ExpectedException thrownException = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private AlphaBetaSearch search;
+
+    @Before
+    public void setUp() throws Exception {
+        search = new AlphaBetaSearch(new TranspositionTable(TABLE_SIZE_BITS));
+    }
+
+    /**
+     * Tests {@link AlphaBetaSearch#search(BoardState, int)} prefers the opening move that gives an extra turn
+     */
+    @Test
+    public void testSearchPlaysExtraTurn() {
+        SearchResult result = search.search(BoardState.initial(), DEPTH_2);
+
+        assertThat(result.getBestMove()).isEqualTo(PIT_0);
+        assertThat(result.getScore()).isEqualTo(2);
+        assertThat(result.getDepth()).isEqualTo(DEPTH_2);
+        assertThat(result.getNodes()).isPositive();
+        assertThat(result.getTimeToDepthNanos(1)).isLessThanOrEqualTo(result.getTimeToDepthNanos(DEPTH_2));
+    }
+
+    /**
+     * Tests {@link AlphaBetaSearch#search(BoardState, int)} captures the stones of the opponent
+     */
+    @Test
+    public void testSearchPlaysCapture() {
+        BoardState state = new BoardState();
+        state.setStones(PIT_2, 1);
+        state.setStones(PIT_5, 1);
+        state.setStones(KalahRules.getOppositePit(PIT_3), 10);
+        state.setStones(PIT_8, 1);
+
+        SearchResult result = search.search(state, 1);
+
+        assertThat(result.getBestMove()).isEqualTo(PIT_2);
+        assertThat(result.getScore()).isEqualTo(11);
+    }
+
+    /**
+     * Tests {@link AlphaBetaSearch#search(BoardState, int)} gives the same scores as a plain minimax search
+     */
+    @Test
+    public void testSearchMatchesMinimax() {
+        Random random = new Random(RANDOM_SEED);
+
+        for (int i = 0; i < RANDOM_POSITION_COUNT; i++) {
+            BoardState state = randomPosition(random);
+            if (state.isFinished()) {
+                continue;
+            }
+
+            SearchResult result = new AlphaBetaSearch(new TranspositionTable(TABLE_SIZE_BITS)).search(state, DEPTH_5);
+
+            assertThat(result.getScore()).isEqualTo(minimax(state, DEPTH_5));
+            assertThat(MoveGenerator.isLegalMove(state, result.getBestMove())).isTrue();
+
+            BoardState child = new BoardState(state);
+            KalahRules.move(child, result.getBestMove());
+            int bestMoveScore = child.getPlayerTurn() == state.getPlayerTurn()
+                    ? minimax(child, DEPTH_5 - 1)
+                    : -minimax(child, DEPTH_5 - 1);
+            assertThat(bestMoveScore).isEqualTo(result.getScore());
+        }
+    }
+
+    /**
+     * Tests {@link AlphaBetaSearch#search(BoardState, int)} with an endgame tablebase, which scores the positions it
+     * covers exactly and answers a covered root without searching
+     */
+    @Test
+    public void testSearchWithEndgameTablebase() throws Exception {
+        Path tablebaseFile = temporaryFolder.newFile().toPath();
+        EndgameTablebaseGenerator.generate(TABLEBASE_STONES, tablebaseFile);
+        EndgameTablebase tablebase = EndgameTablebase.open(tablebaseFile);
+
+        BoardState state = new BoardState();
+        for (int pit = 0; pit < ENDGAME_PITS.length; pit++) {
+            state.setStones(pit, ENDGAME_PITS[pit]);
+        }
+
+        SearchResult result = new AlphaBetaSearch(new TranspositionTable(TABLE_SIZE_BITS), tablebase)
+                .search(state, AlphaBetaSearch.MAX_DEPTH);
+        SearchResult resultWithoutTablebase = search.search(state, AlphaBetaSearch.MAX_DEPTH);
+
+        assertThat(result.getScore()).isEqualTo(minimax(state, AlphaBetaSearch.MAX_DEPTH));
+        assertThat(result.getScore()).isEqualTo(resultWithoutTablebase.getScore());
+        assertThat(result.getNodes()).isLessThan(resultWithoutTablebase.getNodes());
+
+        BoardState child = new BoardState(state);
+        KalahRules.move(child, result.getBestMove());
+        while (tablebase.probe(child) == EndgameTablebase.MISS) {
+            KalahRules.move(child, MoveGenerator.getFirstPit(child.getPlayerTurn())
+                    + Integer.numberOfTrailingZeros(MoveGenerator.getLegalMoveMask(child)));
+        }
+
+        SearchResult tablebaseResult = new AlphaBetaSearch(new TranspositionTable(TABLE_SIZE_BITS), tablebase)
+                .search(child, DEPTH_5);
+
+        assertThat(tablebaseResult.getNodes()).isEqualTo(1);
+        assertThat(tablebaseResult.getDepth()).isEqualTo(DEPTH_5);
+        assertThat(tablebaseResult.getScore()).isEqualTo(minimax(child, AlphaBetaSearch.MAX_DEPTH));
+    }
+
+    /**
+     * Tests {@link AlphaBetaSearch#stop()} before a helper search starts, which completes no iteration
+     */
+    @Test
+    public void testSearchWhenStopped() {
+        search.stop();
+
+        SearchResult result = search.searchUnlessStopped(BoardState.initial(), DEPTH_5);
+
+        assertThat(result.getDepth()).isZero();
+        assertThat(result.getNodes()).isZero();
+    }
+
+    /**
+     * Tests {@link AlphaBetaSearch#search(BoardState, int)} after {@link AlphaBetaSearch#stop()}, which searches normally
+     * again
+     */
+    @Test
+    public void testSearchAfterStop() {
+        search.stop();
+
+        SearchResult result = search.search(BoardState.initial(), DEPTH_2);
+
+        assertThat(result.getDepth()).isEqualTo(DEPTH_2);
+        assertThat(result.getBestMove()).isEqualTo(PIT_0);
+    }
+
+    /**
+     * Tests {@link AlphaBetaSearch#search(BoardState, int)} for a finished game
+     */
+    @Test
+    public void testSearchForFinishedGame() {
+        BoardState state = new BoardState();
+        state.setStones(PLAYER_1_KALAH, 36);
+        state.setStones(PLAYER_2_KALAH, 36);
+        state.setFinished(true);
+
+        thrownException.expect(IllegalArgumentException.class);
+
+        search.search(state, DEPTH_2);
+    }
+
+    /**
+     * Tests {@link AlphaBetaSearch#search(BoardState, int)} with a depth out of range
+     */
+    @Test
+    public void testSearchWithInvalidDepth() {
+        thrownException.expect(IllegalArgumentException.class);
+
+        search.search(BoardState.initial(), AlphaBetaSearch.MAX_DEPTH + 1);
+    }
+
+    private static BoardState randomPosition(Random random) {
+        BoardState state = BoardState.initial();
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        int plies = random.nextInt(30);
+
+        for (int ply = 0; (ply < plies) && !state.isFinished(); ply++) {
+            int count = MoveGenerator.generateMoves(state, moves);
+            KalahRules.move(state, moves[random.nextInt(count)]);
+        }
+
+        return state;
+    }
+
+    // Reference search without pruning, scores from the point of view of the player to move
+    private static int minimax(BoardState state, int depth) {
+        if ((depth == 0) || state.isFinished()) {
+            int scoreDifference = KalahRules.getScoreDifference(state);
+            return state.getPlayerTurn() == PLAYER_1 ? scoreDifference : -scoreDifference;
+        }
+
+        int bestScore = Integer.MIN_VALUE;
+        for (int pit = 0; pit < COUNT_OF_ALL_PITS; pit++) {
+            if (!MoveGenerator.isLegalMove(state, pit)) {
+                continue;
+            }
+
+            BoardState child = new BoardState(state);
+            KalahRules.move(child, pit);
+            int score = child.getPlayerTurn() == state.getPlayerTurn()
+                    ? minimax(child, depth - 1)
+                    : -minimax(child, depth - 1);
+            bestScore = Math.max(bestScore, score);
+        }
+
+        return bestScore;
+    }
+}
@@ -0,0 +1,124 @@
+package com.backbase.kalah.engine.search;
+
+import com.backbase.kalah.engine.BoardState;
+import com.backbase.kalah.engine.MoveGenerator;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for {@link LazySmpSearch}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class LazySmpSearchTest {
+    //region field values
+    private static final int TABLE_SIZE_BITS = 16;
+    private static final int THREAD_COUNT = 4;
+    private static final int DEPTH = 8;
+    private static final int[] MIDGAME_PITS = {0, 5, 4, 3, 13, 0, 18, 0, 4, 0, 13, 6, 2, 4};
+    //endregion
+
+    @Rule
+    public ExpectedException thrownException = ExpectedException.none();
+
+    private ThreadPoolExecutor executor;
+    private BoardState midgameState;
+
+    @Before
+    public void setUp() throws Exception {
+        executor = new ThreadPoolExecutor(THREAD_COUNT - 1, THREAD_COUNT - 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(THREAD_COUNT));
+        midgameState = new BoardState();
+        for (int pit = 0; pit < MIDGAME_PITS.length; pit++) {
+            midgameState.setStones(pit, MIDGAME_PITS[pit]);
+        }
+        midgameState.setPlayerTurn(BoardState.PLAYER_2);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Tests {@link LazySmpSearch#search(BoardState, int)} completes the requested depth and leaves no helper queued
+     */
+    @Test
+    public void testSearch() {
+        LazySmpSearch search = new LazySmpSearch(new TranspositionTable(TABLE_SIZE_BITS), executor, THREAD_COUNT);
+
+        SearchResult result = search.search(midgameState, DEPTH);
+
+        assertThat(result.getDepth()).isEqualTo(DEPTH);
+        assertThat(result.getNodes()).isPositive();
+        assertThat(MoveGenerator.isLegalMove(midgameState, result.getBestMove())).isTrue();
+        assertThat(executor.getQueue()).isEmpty();
+    }
+
+    /**
+     * Tests {@link LazySmpSearch#search(BoardState, int)} on a pool that rejects the helpers
+     */
+    @Test
+    public void testSearchWithSaturatedPool() {
+        ThreadPoolExecutor saturatedExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new SynchronousQueue<>());
+        saturatedExecutor.execute(() -> {
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        try {
+            LazySmpSearch search = new LazySmpSearch(new TranspositionTable(TABLE_SIZE_BITS), saturatedExecutor,
+                    THREAD_COUNT);
+
+            SearchResult result = search.search(midgameState, DEPTH);
+
+            assertThat(result.getDepth()).isEqualTo(DEPTH);
+            assertThat(MoveGenerator.isLegalMove(midgameState, result.getBestMove())).isTrue();
+        } finally {
+            saturatedExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Tests {@link LazySmpSearch#search(BoardState, int)} for a finished game, which must not start any helper
+     */
+    @Test
+    public void testSearchForFinishedGame() {
+        LazySmpSearch search = new LazySmpSearch(new TranspositionTable(TABLE_SIZE_BITS), executor, THREAD_COUNT);
+        BoardState finishedState = new BoardState();
+        finishedState.setFinished(true);
+
+        thrownException.expect(IllegalArgumentException.class);
+
+        try {
+            search.search(finishedState, DEPTH);
+        } finally {
+            assertThat(executor.getTaskCount()).isZero();
+        }
+    }
+
+    /**
+     * Tests {@link LazySmpSearch#LazySmpSearch(TranspositionTable, ThreadPoolExecutor, int)} without threads
+     */
+    @Test
+    public void testCreateWithoutThreads() {
+        thrownException.expect(IllegalArgumentException.class);
+
+        new LazySmpSearch(new TranspositionTable(TABLE_SIZE_BITS), executor, 0);
+    }
+}
@@ -0,0 +1,88 @@
+package com.backbase.kalah.engine.search;
+
+import com.backbase.kalah.engine.BoardState;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import static com.backbase.kalah.engine.search.TranspositionTable.LOWER_BOUND;
+import static com.backbase.kalah.engine.search.TranspositionTable.MISS;
+import static com.backbase.kalah.engine.search.TranspositionTable.UPPER_BOUND;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for {@link TranspositionTable}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class TranspositionTableTest {
+    //region field values
+    private static final int TABLE_SIZE_BITS = 10;
+    private static final int DEPTH = 12;
+    private static final int SCORE = -17;
+    private static final int MOVE = 9;
+    //endregion
+
+    @Rule
+    public ExpectedException thrownException = ExpectedException.none();
+
+    private TranspositionTable transpositionTable;
+    private long hash;
+
+    @Before
+    public void setUp() throws Exception {
+        transpositionTable = new TranspositionTable(TABLE_SIZE_BITS);
+        hash = BoardState.initial().getHash();
+    }
+
+    /**
+     * Tests {@link TranspositionTable#store(long, int, int, int, int)} followed by
+     * {@link TranspositionTable#probe(long)}
+     */
+    @Test
+    public void testStoreAndProbe() {
+        transpositionTable.store(hash, DEPTH, LOWER_BOUND, SCORE, MOVE);
+
+        long entry = transpositionTable.probe(hash);
+
+        assertThat(entry).isNotEqualTo(MISS);
+        assertThat(TranspositionTable.getDepth(entry)).isEqualTo(DEPTH);
+        assertThat(TranspositionTable.getBound(entry)).isEqualTo(LOWER_BOUND);
+        assertThat(TranspositionTable.getScore(entry)).isEqualTo(SCORE);
+        assertThat(TranspositionTable.getMove(entry)).isEqualTo(MOVE);
+    }
+
+    /**
+     * Tests {@link TranspositionTable#probe(long)} for another position mapped to the same slot
+     */
+    @Test
+    public void testProbeForCollidingPosition() {
+        transpositionTable.store(hash, DEPTH, UPPER_BOUND, SCORE, MOVE);
+
+        assertThat(transpositionTable.probe(hash + transpositionTable.size())).isEqualTo(MISS);
+    }
+
+    /**
+     * Tests {@link TranspositionTable#clear()}
+     */
+    @Test
+    public void testClear() {
+        transpositionTable.store(hash, DEPTH, UPPER_BOUND, SCORE, MOVE);
+
+        transpositionTable.clear();
+
+        assertThat(transpositionTable.probe(hash)).isEqualTo(MISS);
+    }
+
+    /**
+     * Tests {@link TranspositionTable#TranspositionTable(int)} with an invalid size
+     */
+    @Test
+    public void testCreateWithInvalidSize() {
+        thrownException.expect(IllegalArgumentException.class);
+
+        new TranspositionTable(0);
+    }
+}
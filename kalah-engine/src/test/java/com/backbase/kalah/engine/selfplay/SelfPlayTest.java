@@ -0,0 +1,115 @@
+package com.backbase.kalah.engine.selfplay;
+
+import com.backbase.kalah.engine.MoveGenerator;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.function.LongFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for {@link SelfPlay}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class SelfPlayTest {
+    //region field values
+    private static final int GAMES = 2000;
+    private static final int SEARCH_GAMES = 20;
+    private static final int THREADS = 3;
+    private static final long SEED = 42L;
+    private static final String RANDOM_PLAYER = "random";
+    private static final String SEARCH_PLAYER = "alphabeta:4";
+    private static final String MONTE_CARLO_PLAYER = "mcts:200";
+    //endregion
+
+    @Rule
+    public ExpectedException thrownException = ExpectedException.none();
+
+    /**
+     * Tests {@link SelfPlay#run(int, int, LongFunction, LongFunction, long)} counts every game once in every statistic
+     */
+    @Test
+    public void testRun() throws InterruptedException {
+        LongFunction<Player> randomPlayer = SelfPlay.parsePlayer(RANDOM_PLAYER);
+
+        SelfPlayResult result = SelfPlay.run(GAMES, THREADS, randomPlayer, randomPlayer, SEED);
+
+        long gamesByLength = 0;
+        for (int plies = 0; plies <= SelfPlayResult.MAX_RECORDED_PLIES; plies++) {
+            gamesByLength += result.getGamesOfLength(plies);
+        }
+
+        long gamesByOpening = 0;
+        for (int pit = 0; pit < MoveGenerator.MAX_MOVES; pit++) {
+            gamesByOpening += result.getOpeningGames(pit);
+        }
+
+        assertThat(result.getGames()).isEqualTo(GAMES);
+        assertThat(result.getFirstMoverWins() + result.getSecondMoverWins() + result.getDraws()).isEqualTo(GAMES);
+        assertThat(result.getPlayerAWins() + result.getPlayerBWins()).isEqualTo(GAMES - result.getDraws());
+        assertThat(gamesByLength).isEqualTo(GAMES);
+        assertThat(gamesByOpening).isEqualTo(GAMES);
+        assertThat(result.getMinPlies()).isLessThanOrEqualTo(result.getPliesPercentile(50.0));
+        assertThat(result.getPliesPercentile(99.0)).isLessThanOrEqualTo(result.getMaxPlies());
+        assertThat(result.getThreadCount()).isEqualTo(THREADS);
+        assertThat(result.getGamesPerSecond()).isPositive();
+    }
+
+    /**
+     * Tests {@link SelfPlay#run(int, int, LongFunction, LongFunction, long)} gives the same games for the same seed
+     */
+    @Test
+    public void testRunIsReproducible() throws InterruptedException {
+        LongFunction<Player> randomPlayer = SelfPlay.parsePlayer(RANDOM_PLAYER);
+
+        SelfPlayResult result = SelfPlay.run(GAMES, THREADS, randomPlayer, randomPlayer, SEED);
+        SelfPlayResult otherResult = SelfPlay.run(GAMES, THREADS, randomPlayer, randomPlayer, SEED);
+
+        assertThat(otherResult.getFirstMoverWins()).isEqualTo(result.getFirstMoverWins());
+        assertThat(otherResult.getDraws()).isEqualTo(result.getDraws());
+        assertThat(otherResult.getAveragePlies()).isEqualTo(result.getAveragePlies());
+    }
+
+    /**
+     * Tests {@link SelfPlay#run(int, int, LongFunction, LongFunction, long)} lets a searching player beat a random one
+     * from both seats
+     */
+    @Test
+    public void testRunWithEnginePlayers() throws InterruptedException {
+        LongFunction<Player> randomPlayer = SelfPlay.parsePlayer(RANDOM_PLAYER);
+
+        SelfPlayResult searchResult = SelfPlay.run(SEARCH_GAMES, THREADS, SelfPlay.parsePlayer(SEARCH_PLAYER),
+                randomPlayer, SEED);
+        SelfPlayResult monteCarloResult = SelfPlay.run(SEARCH_GAMES, THREADS,
+                SelfPlay.parsePlayer(MONTE_CARLO_PLAYER), randomPlayer, SEED);
+
+        assertThat(searchResult.getPlayerAWins()).isGreaterThan(SEARCH_GAMES * 3 / 4);
+        assertThat(monteCarloResult.getPlayerAWins()).isGreaterThan(SEARCH_GAMES * 3 / 4);
+    }
+
+    /**
+     * Tests {@link SelfPlay#parsePlayer(String)} for an unknown player
+     */
+    @Test
+    public void testParseUnknownPlayer() {
+        thrownException.expect(IllegalArgumentException.class);
+
+        SelfPlay.parsePlayer("human");
+    }
+
+    /**
+     * Tests {@link SelfPlay#run(int, int, LongFunction, LongFunction, long)} without threads
+     */
+    @Test
+    public void testRunWithoutThreads() throws InterruptedException {
+        LongFunction<Player> randomPlayer = SelfPlay.parsePlayer(RANDOM_PLAYER);
+
+        thrownException.expect(IllegalArgumentException.class);
+
+        SelfPlay.run(GAMES, 0, randomPlayer, randomPlayer, SEED);
+    }
+}
@@ -1,7 +1,7 @@
 package com.backbase.kalah.constant;
 
 /**
- * Container for column, field and parameter names
+ * Container for column, field, sequence and parameter names
  *
  * @author Mohamed Morsey
  * Date: 2018-11-25
@@ -11,12 +11,46 @@ public final class Fields {
     // region parameter names
     public static final String ID_PARAMETER = "id";
     public static final String PIT_ID_PARAMETER = "pitId";
+    public static final String DEPTH_PARAMETER = "depth";
+    public static final String TIME_BUDGET_PARAMETER = "timeBudget";
+    public static final String COUNT_PARAMETER = "count";
+    public static final String STATUS_PARAMETER = "status";
+    public static final String IDS_PARAMETER = "ids";
+    public static final String PLAYER_TURN_PARAMETER = "playerTurn";
+    public static final String CREATED_FROM_PARAMETER = "createdFrom";
+    public static final String CREATED_TO_PARAMETER = "createdTo";
+    public static final String AFTER_ID_PARAMETER = "after";
+    public static final String LIMIT_PARAMETER = "limit";
     // endregion
 
     // region parameter names
     public static final String ID_FIELD = "id";
     // endregion
 
+    // region column names
+    public static final String POSITION_HASH_COLUMN = "position_hash";
+    public static final String PACKED_POSITION_COLUMN = "packed_position";
+    public static final String MOVE_LIST_COLUMN = "move_list";
+    public static final String PLAYER_1_SCORE_COLUMN = "player_1_score";
+    public static final String PLAYER_2_SCORE_COLUMN = "player_2_score";
+    public static final String CREATED_AT_COLUMN = "created_at";
+    // endregion
+
+    // region sequence names
+    public static final String GAME_SEQUENCE = "game_sequence";
+    public static final String BOARD_SEQUENCE = "board_sequence";
+    public static final String PIT_SEQUENCE = "pit_sequence";
+    // IDs taken from a sequence per call, so most inserts need no sequence call and the ID is known before the insert
+    public static final int ID_ALLOCATION_SIZE = 50;
+    // endregion
+
+    // region second-level cache regions, configured in ehcache.xml
+    public static final String GAME_CACHE_REGION = "game";
+    public static final String BOARD_CACHE_REGION = "board";
+    public static final String BOARD_PITS_CACHE_REGION = "board.pits";
+    public static final String PIT_CACHE_REGION = "pit";
+    // endregion
+
 
     private Fields() {
         // Private constructor to prevent instantiation
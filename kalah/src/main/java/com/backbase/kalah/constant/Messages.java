@@ -18,11 +18,25 @@ public final class Messages {
     public static final String ITEM_NOT_FOUND_ERROR = "Item not found";
     public static final String ITEM_NULL_ERROR = "Item cannot be null";
     public static final String OPERATION_FAILURE_ERROR = "Operation failed";
+    public static final String CAPACITY_EXCEEDED_ERROR = "Too many concurrent requests, retry later";
     //endregion
 
     //region game-related success and error messages
     public static final String GAME_NOT_FOUND_ERROR = "Game not found";
     public static final String GAME_CREATION_FAILED_ERROR = "Failed to create a new game";
+    public static final String INVALID_MOVE_COUNT_ERROR = "Invalid number of moves";
+    public static final String INVALID_MOVE_ATTEMPTS_ERROR = "Invalid number of attempts per move";
+    public static final String MOVE_CONFLICT_ERROR = "The game was changed by a concurrent move";
+    public static final String SEARCHED_POSITION_CHANGED_ERROR =
+            "The game was changed by a concurrent move during the search";
+    public static final String INVALID_GAME_COUNT_ERROR = "Invalid number of games to be created";
+    public static final String BULK_GAME_CREATION_FAILED_ERROR = "Failed to stream the created games";
+    public static final String GAME_LISTING_FAILED_ERROR = "Failed to stream the listed games";
+    public static final String INVALID_PAGE_SIZE_ERROR = "Invalid number of games per page";
+    public static final String INVALID_AFTER_ID_ERROR = "Invalid ID of the last listed game";
+    public static final String INVALID_STATUS_ERROR = "Invalid game status";
+    public static final String INVALID_PLAYER_TURN_ERROR = "Invalid player turn";
+    public static final String INVALID_CREATION_TIME_ERROR = "Invalid creation time, expected e.g. 2026-10-17T10:15:30Z";
     //endregion
 
     //region board-related success and error messages
@@ -32,10 +46,68 @@ public final class Messages {
     public static final String GAME_FINISHED_ERROR = "Game is finished already";
     public static final String KALAH_MOVE_ERROR = "Playing from a Kalah is not allowed";
     public static final String PIT_EMPTY_ERROR = "Pit is empty already";
+    public static final String INVALID_BATCH_SIZE_ERROR = "Invalid number of boards per migration batch";
+    public static final String INVALID_FLUSH_INTERVAL_ERROR = "Invalid interval between writing games held in memory";
+    public static final String INVALID_DIRTY_GAME_LIMIT_ERROR = "Invalid number of changed games held in memory";
+    public static final String INVALID_IDLE_EVICTION_ERROR = "Invalid idle time of games held in memory";
+    public static final String INVALID_MOVE_LIST_ERROR = "Invalid encoded move list";
+    public static final String INVALID_ARCHIVE_BATCH_SIZE_ERROR = "Invalid number of games per archive batch";
+    public static final String INVALID_ARCHIVE_INTERVAL_ERROR = "Invalid interval between archiving finished games";
+    public static final String GAME_STORE_CLOSED_ERROR = "Games held in memory are not available during shutdown";
+    public static final String INVALID_SNAPSHOT_INTERVAL_ERROR = "Invalid interval between snapshots of the journal";
+    public static final String JOURNAL_OPENING_FAILED_ERROR = "Failed to open the move journal in %s";
+    public static final String INVALID_CACHE_SIZE_ERROR = "Invalid number of cached entries per entity";
+    public static final String INVALID_CACHE_IDLE_TIME_ERROR = "Invalid idle time of cached entries";
+    public static final String INVALID_BOARD_POOL_SIZE_ERROR = "Invalid number of pooled boards";
+    public static final String INVALID_BOARD_POOL_LEAD_TIME_ERROR = "Invalid lead time of pooled boards";
+    public static final String INVALID_BOARD_POOL_REFILL_INTERVAL_ERROR =
+            "Invalid interval between refilling pooled boards";
+    //endregion
+
+    //region AI-related success and error messages
+    public static final String INVALID_DEPTH_ERROR = "Invalid search depth";
+    public static final String INVALID_THREAD_COUNT_ERROR = "Invalid number of search threads";
+    public static final String INVALID_TIME_BUDGET_ERROR = "Invalid search time budget";
+    public static final String INVALID_NODE_POOL_SIZE_ERROR = "Invalid number of search tree nodes";
+    public static final String ENDGAME_TABLEBASE_LOADING_FAILED_ERROR =
+            "Failed to load endgame tablebase %s, endgames will be searched";
+    public static final String OPENING_BOOK_LOADING_FAILED_ERROR =
+            "Failed to load opening book %s, openings will be searched";
     //endregion
 
     //region logging messages
     public static final String NEW_BOARD_INITIALIZED_SUCCESSFULLY_MESSAGE = "New board initialized successfully";
+    public static final String GAME_FLUSH_FAILED_MESSAGE =
+            "Failed to write %d changed games, retrying with the next flush";
+    public static final String GAMES_DRAINED_MESSAGE = "Wrote %d changed games on shutdown";
+    public static final String GAMES_LOST_MESSAGE = "Failed to write %d changed games on shutdown";
+    public static final String GAMES_CREATED_MESSAGE = "Created %d games in %d ms";
+    public static final String GAMES_STREAMED_MESSAGE = "Streamed %d games in %d ms";
+    public static final String GAMES_ARCHIVED_MESSAGE = "Archived %d finished games";
+    public static final String GAME_ARCHIVING_FAILED_MESSAGE = "Failed to archive finished games, retrying later";
+    public static final String BOARD_POOL_REFILL_FAILED_MESSAGE = "Failed to refill the board pool, retrying later";
+    public static final String BOARDS_RECOVERED_MESSAGE = "Recovered %d unassigned boards into the board pool";
+    public static final String JOURNAL_RECOVERED_MESSAGE =
+            "Recovered %d games from the move journal, of which %d no longer exist";
+    public static final String JOURNAL_SNAPSHOT_FAILED_MESSAGE = "Failed to write a snapshot of the move journal";
+    public static final String BOARDS_MIGRATED_MESSAGE = "Migrated %d boards from pit rows to the packed layout";
+    public static final String BOARD_MIGRATION_RETRY_MESSAGE =
+            "Boards changed concurrently while being migrated, attempt %d of %d failed";
+    public static final String BOARD_MIGRATION_STOPPED_MESSAGE =
+            "Board migration stopped because of concurrent changes, the remaining boards stay stored as pits";
+    public static final String CACHE_REGION_CONFIGURED_MESSAGE =
+            "Second-level cache region %s holds up to %d entries, idle for up to %d s";
+    public static final String SEARCH_COMPLETED_MESSAGE =
+            "Search to depth %d played pit %d with score %d: %d nodes in %d ms (%d nodes/s), time to depth %s ms";
+    public static final String ENDGAME_TABLEBASE_LOADED_MESSAGE =
+            "Endgame tablebase %s loaded for up to %d stones";
+    public static final String OPENING_BOOK_LOADED_MESSAGE = "Opening book %s loaded with %d positions";
+    public static final String MONTE_CARLO_SEARCH_COMPLETED_MESSAGE =
+            "Monte Carlo search played pit %d with win rate %.2f: %d playouts on %d threads in %d ms " +
+                    "(%d playouts/s, %d playouts/s per core)";
+    public static final String MOVE_CONFLICT_RETRY_MESSAGE = "Concurrent move on game %d, attempt %d of %d failed";
+    public static final String MOVE_BATCH_STOPPED_MESSAGE = "Move batch stopped after %d of %d moves at pit %d: %s";
+    public static final String OPENING_BOOK_HIT_MESSAGE = "Opening book played pit %d with score %d of depth %d";
     //endregion
 
     private Messages() {
@@ -8,7 +8,13 @@ package com.backbase.kalah.constant;
  **/
 public final class Paths {
     public static final String GAMES_CONTEXT_PATH = "games";
+    public static final String BULK_CONTEXT_PATH = "bulk";
+    public static final String STREAM_CONTEXT_PATH = "stream";
     public static final String PITS_CONTEXT_PATH = "pits";
+    public static final String MOVES_CONTEXT_PATH = "moves";
+    public static final String AI_MOVE_CONTEXT_PATH = "ai-move";
+    public static final String HINT_CONTEXT_PATH = "hint";
+    public static final String MONTE_CARLO_MOVE_CONTEXT_PATH = "mcts-move";
 
     private Paths() {
         // Private constructor to prevent instantiation
@@ -0,0 +1,120 @@
+package com.backbase.kalah.dto;
+
+import com.backbase.kalah.model.Game;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * View object for {@link Game} after a move of the computer opponent, i.e. the board status together with the played
+ * pit and the search statistics
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class AiMoveDto extends GameStatusDto {
+    private String pitId;
+    private int depth;
+    private int score;
+    private long nodes;
+    private long nodesPerSecond;
+    private double elapsedMillis;
+    private List<Double> timeToDepthMillis;
+
+    public AiMoveDto() {
+        super();
+    }
+
+    public AiMoveDto(String id, String url, Map<String, String> status, String pitId, int depth, int score, long nodes,
+                     long nodesPerSecond, double elapsedMillis, List<Double> timeToDepthMillis) {
+        super(id, url, status);
+        this.pitId = pitId;
+        this.depth = depth;
+        this.score = score;
+        this.nodes = nodes;
+        this.nodesPerSecond = nodesPerSecond;
+        this.elapsedMillis = elapsedMillis;
+        this.timeToDepthMillis = timeToDepthMillis;
+    }
+
+    /**
+     * @return The ID of the played pit, one based like the pit IDs of the REST interface
+     */
+    public String getPitId() {
+        return pitId;
+    }
+
+    public void setPitId(String pitId) {
+        this.pitId = pitId;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public void setDepth(int depth) {
+        this.depth = depth;
+    }
+
+    /**
+     * @return The expected Kalah stone difference from the point of view of the player who made the move
+     */
+    public int getScore() {
+        return score;
+    }
+
+    public void setScore(int score) {
+        this.score = score;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public void setNodes(long nodes) {
+        this.nodes = nodes;
+    }
+
+    public long getNodesPerSecond() {
+        return nodesPerSecond;
+    }
+
+    public void setNodesPerSecond(long nodesPerSecond) {
+        this.nodesPerSecond = nodesPerSecond;
+    }
+
+    public double getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(double elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * @return The time until every iteration of the search completed, the first element being depth 1
+     */
+    public List<Double> getTimeToDepthMillis() {
+        return timeToDepthMillis;
+    }
+
+    public void setTimeToDepthMillis(List<Double> timeToDepthMillis) {
+        this.timeToDepthMillis = timeToDepthMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "AiMoveDto{" +
+                "id=" + getId() +
+                ", url='" + getUrl() + '\'' +
+                ", status=" + getStatus() +
+                ", pitId='" + pitId + '\'' +
+                ", depth=" + depth +
+                ", score=" + score +
+                ", nodes=" + nodes +
+                ", nodesPerSecond=" + nodesPerSecond +
+                ", elapsedMillis=" + elapsedMillis +
+                ", timeToDepthMillis=" + timeToDepthMillis +
+                '}';
+    }
+}
@@ -0,0 +1,81 @@
+package com.backbase.kalah.dto;
+
+import com.backbase.kalah.model.GameSummary;
+
+/**
+ * View object for {@link GameSummary} that represents a listed game
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class GameSummaryDto {
+    private String id;
+    private String uri;
+    private String status;
+    private String playerTurn;
+    // ISO-8601 creation time, null for games created before the creation times were recorded
+    private String createdAt;
+
+    public GameSummaryDto() {
+        id = "0";
+    }
+
+    public GameSummaryDto(String id, String uri, String status, String playerTurn, String createdAt) {
+        this.id = id;
+        this.uri = uri;
+        this.status = status;
+        this.playerTurn = playerTurn;
+        this.createdAt = createdAt;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getUri() {
+        return uri;
+    }
+
+    public void setUri(String uri) {
+        this.uri = uri;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getPlayerTurn() {
+        return playerTurn;
+    }
+
+    public void setPlayerTurn(String playerTurn) {
+        this.playerTurn = playerTurn;
+    }
+
+    public String getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(String createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    public String toString() {
+        return "GameSummaryDto{" +
+                "id=" + id +
+                ", uri='" + uri + '\'' +
+                ", status=" + status +
+                ", playerTurn=" + playerTurn +
+                ", createdAt=" + createdAt +
+                '}';
+    }
+}
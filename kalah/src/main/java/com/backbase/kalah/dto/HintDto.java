@@ -0,0 +1,87 @@
+package com.backbase.kalah.dto;
+
+import com.backbase.kalah.model.Game;
+
+/**
+ * View object for {@link Game} that represents the move suggested to the player whose turn it is, without making it
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class HintDto {
+    private String id;
+    private String pitId;
+    private int depth;
+    private int score;
+    private long nodes;
+
+    public HintDto() {
+        id = "0";
+    }
+
+    public HintDto(String id, String pitId, int depth, int score, long nodes) {
+        this.id = id;
+        this.pitId = pitId;
+        this.depth = depth;
+        this.score = score;
+        this.nodes = nodes;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    /**
+     * @return The ID of the suggested pit, one based like the pit IDs of the REST interface
+     */
+    public String getPitId() {
+        return pitId;
+    }
+
+    public void setPitId(String pitId) {
+        this.pitId = pitId;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public void setDepth(int depth) {
+        this.depth = depth;
+    }
+
+    /**
+     * @return The expected Kalah stone difference from the point of view of the player whose turn it is, which is the
+     * final one if the move comes from the endgame tablebase
+     */
+    public int getScore() {
+        return score;
+    }
+
+    public void setScore(int score) {
+        this.score = score;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public void setNodes(long nodes) {
+        this.nodes = nodes;
+    }
+
+    @Override
+    public String toString() {
+        return "HintDto{" +
+                "id=" + id +
+                ", pitId='" + pitId + '\'' +
+                ", depth=" + depth +
+                ", score=" + score +
+                ", nodes=" + nodes +
+                '}';
+    }
+}
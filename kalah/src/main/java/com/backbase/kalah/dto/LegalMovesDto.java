@@ -0,0 +1,77 @@
+package com.backbase.kalah.dto;
+
+import com.backbase.kalah.model.Game;
+
+import java.util.List;
+
+/**
+ * View object for {@link Game} that represents the moves the player whose turn it is can make
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class LegalMovesDto {
+    private String id;
+    private String playerTurn;
+    private int legalMoveMask;
+    private List<String> legalMoves;
+
+    public LegalMovesDto() {
+        id = "0";
+    }
+
+    public LegalMovesDto(String id, String playerTurn, int legalMoveMask, List<String> legalMoves) {
+        this.id = id;
+        this.playerTurn = playerTurn;
+        this.legalMoveMask = legalMoveMask;
+        this.legalMoves = legalMoves;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getPlayerTurn() {
+        return playerTurn;
+    }
+
+    public void setPlayerTurn(String playerTurn) {
+        this.playerTurn = playerTurn;
+    }
+
+    /**
+     * @return A mask in which bit i is set if the i-th pit of the player whose turn it is can be played
+     */
+    public int getLegalMoveMask() {
+        return legalMoveMask;
+    }
+
+    public void setLegalMoveMask(int legalMoveMask) {
+        this.legalMoveMask = legalMoveMask;
+    }
+
+    /**
+     * @return The IDs of the pits that can be played, one based like the pit IDs of the REST interface
+     */
+    public List<String> getLegalMoves() {
+        return legalMoves;
+    }
+
+    public void setLegalMoves(List<String> legalMoves) {
+        this.legalMoves = legalMoves;
+    }
+
+    @Override
+    public String toString() {
+        return "LegalMovesDto{" +
+                "id=" + id +
+                ", playerTurn='" + playerTurn + '\'' +
+                ", legalMoveMask=" + legalMoveMask +
+                ", legalMoves=" + legalMoves +
+                '}';
+    }
+}
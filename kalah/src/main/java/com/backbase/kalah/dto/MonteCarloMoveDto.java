@@ -0,0 +1,117 @@
+package com.backbase.kalah.dto;
+
+import com.backbase.kalah.model.Game;
+
+import java.util.Map;
+
+/**
+ * View object for {@link Game} after a Monte Carlo move of the computer opponent, i.e. the board status together with
+ * the played pit and the search statistics
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class MonteCarloMoveDto extends GameStatusDto {
+    private String pitId;
+    private double winRate;
+    private long playouts;
+    private int threads;
+    private long playoutsPerSecond;
+    private long playoutsPerCoreSecond;
+    private double elapsedMillis;
+
+    public MonteCarloMoveDto() {
+        super();
+    }
+
+    public MonteCarloMoveDto(String id, String url, Map<String, String> status, String pitId, double winRate,
+                             long playouts, int threads, long playoutsPerSecond, long playoutsPerCoreSecond,
+                             double elapsedMillis) {
+        super(id, url, status);
+        this.pitId = pitId;
+        this.winRate = winRate;
+        this.playouts = playouts;
+        this.threads = threads;
+        this.playoutsPerSecond = playoutsPerSecond;
+        this.playoutsPerCoreSecond = playoutsPerCoreSecond;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * @return The ID of the played pit, one based like the pit IDs of the REST interface
+     */
+    public String getPitId() {
+        return pitId;
+    }
+
+    public void setPitId(String pitId) {
+        this.pitId = pitId;
+    }
+
+    /**
+     * @return The share of playouts through the played pit won by the player who made the move, draws counting half
+     */
+    public double getWinRate() {
+        return winRate;
+    }
+
+    public void setWinRate(double winRate) {
+        this.winRate = winRate;
+    }
+
+    public long getPlayouts() {
+        return playouts;
+    }
+
+    public void setPlayouts(long playouts) {
+        this.playouts = playouts;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public long getPlayoutsPerSecond() {
+        return playoutsPerSecond;
+    }
+
+    public void setPlayoutsPerSecond(long playoutsPerSecond) {
+        this.playoutsPerSecond = playoutsPerSecond;
+    }
+
+    public long getPlayoutsPerCoreSecond() {
+        return playoutsPerCoreSecond;
+    }
+
+    public void setPlayoutsPerCoreSecond(long playoutsPerCoreSecond) {
+        this.playoutsPerCoreSecond = playoutsPerCoreSecond;
+    }
+
+    public double getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(double elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "MonteCarloMoveDto{" +
+                "id=" + getId() +
+                ", url='" + getUrl() + '\'' +
+                ", status=" + getStatus() +
+                ", pitId='" + pitId + '\'' +
+                ", winRate=" + winRate +
+                ", playouts=" + playouts +
+                ", threads=" + threads +
+                ", playoutsPerSecond=" + playoutsPerSecond +
+                ", playoutsPerCoreSecond=" + playoutsPerCoreSecond +
+                ", elapsedMillis=" + elapsedMillis +
+                '}';
+    }
+}
@@ -0,0 +1,70 @@
+package com.backbase.kalah.dto;
+
+import com.backbase.kalah.model.Game;
+
+import java.util.Map;
+
+/**
+ * View object for {@link Game} after a sequence of moves made in one request, i.e. the board status together with the
+ * number of moves made and the first rejected move if any
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class MoveBatchDto extends GameStatusDto {
+    private int madeMoves;
+    private String rejectedPitId;
+    private String rejectionReason;
+
+    public MoveBatchDto() {
+        super();
+    }
+
+    public MoveBatchDto(String id, String url, Map<String, String> status, int madeMoves, String rejectedPitId,
+                        String rejectionReason) {
+        super(id, url, status);
+        this.madeMoves = madeMoves;
+        this.rejectedPitId = rejectedPitId;
+        this.rejectionReason = rejectionReason;
+    }
+
+    public int getMadeMoves() {
+        return madeMoves;
+    }
+
+    public void setMadeMoves(int madeMoves) {
+        this.madeMoves = madeMoves;
+    }
+
+    /**
+     * @return The ID of the pit of the first illegal move, one based like the pit IDs of the REST interface, or null if
+     * all moves were made
+     */
+    public String getRejectedPitId() {
+        return rejectedPitId;
+    }
+
+    public void setRejectedPitId(String rejectedPitId) {
+        this.rejectedPitId = rejectedPitId;
+    }
+
+    public String getRejectionReason() {
+        return rejectionReason;
+    }
+
+    public void setRejectionReason(String rejectionReason) {
+        this.rejectionReason = rejectionReason;
+    }
+
+    @Override
+    public String toString() {
+        return "MoveBatchDto{" +
+                "id=" + getId() +
+                ", url='" + getUrl() + '\'' +
+                ", status=" + getStatus() +
+                ", madeMoves=" + madeMoves +
+                ", rejectedPitId='" + rejectedPitId + '\'' +
+                ", rejectionReason='" + rejectionReason + '\'' +
+                '}';
+    }
+}
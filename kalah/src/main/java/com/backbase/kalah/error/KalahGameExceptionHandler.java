@@ -2,16 +2,22 @@ package com.backbase.kalah.error;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.concurrent.RejectedExecutionException;
 
+import static com.backbase.kalah.constant.Messages.CAPACITY_EXCEEDED_ERROR;
 import static com.backbase.kalah.constant.Messages.INVALID_PARAMETER_ERROR;
+import static com.backbase.kalah.constant.Messages.MOVE_CONFLICT_ERROR;
 import static com.backbase.kalah.constant.Messages.OPERATION_FAILURE_ERROR;
 import static javax.servlet.http.HttpServletResponse.SC_BAD_REQUEST;
+import static javax.servlet.http.HttpServletResponse.SC_CONFLICT;
 import static javax.servlet.http.HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+import static javax.servlet.http.HttpServletResponse.SC_SERVICE_UNAVAILABLE;
 
 /**
  * Handler for exceptions thrown by REST controller
@@ -52,4 +58,38 @@ public class KalahGameExceptionHandler {
         logger.error(errorMessage, exp);
         response.sendError(SC_INTERNAL_SERVER_ERROR, errorMessage);
     }
+
+    /**
+     * Handler for {@link ConcurrencyFailureException} that can be thrown if a concurrent move on the same game was
+     * committed first in all attempts, or the game could not be locked in time
+     *
+     * @param exp      Exception to be handled
+     * @param response The response object
+     * @throws IOException
+     */
+    @ExceptionHandler(ConcurrencyFailureException.class)
+    private void handleConcurrencyFailureException(ConcurrencyFailureException exp, HttpServletResponse response)
+            throws IOException {
+        String errorMessage = MOVE_CONFLICT_ERROR + ": " + exp.getMessage();
+
+        logger.warn(errorMessage, exp);
+        response.sendError(SC_CONFLICT, errorMessage);
+    }
+
+    /**
+     * Handler for {@link RejectedExecutionException} that can be thrown if a search of the computer opponent could not
+     * get any of the bounded search resources within its time budget
+     *
+     * @param exp      Exception to be handled
+     * @param response The response object
+     * @throws IOException
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    private void handleRejectedExecutionException(RejectedExecutionException exp, HttpServletResponse response)
+            throws IOException {
+        String errorMessage = CAPACITY_EXCEEDED_ERROR + ": " + exp.getMessage();
+
+        logger.warn(errorMessage);
+        response.sendError(SC_SERVICE_UNAVAILABLE, errorMessage);
+    }
 }
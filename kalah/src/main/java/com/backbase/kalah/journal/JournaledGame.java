@@ -0,0 +1,27 @@
+package com.backbase.kalah.journal;
+
+import com.backbase.kalah.engine.Position;
+
+/**
+ * The position of a game in the {@link MoveJournal} together with the number of moves journaled since its base record
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+final class JournaledGame {
+    private final int ply;
+    private final Position position;
+
+    JournaledGame(int ply, Position position) {
+        this.ply = ply;
+        this.position = position;
+    }
+
+    int getPly() {
+        return ply;
+    }
+
+    Position getPosition() {
+        return position;
+    }
+}
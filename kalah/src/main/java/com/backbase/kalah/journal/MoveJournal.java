@@ -0,0 +1,528 @@
+package com.backbase.kalah.journal;
+
+import com.backbase.kalah.engine.Position;
+import com.backbase.kalah.model.PackedPositionConverter;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal of the moves made on games held in memory, so they survive a crash before they are written to
+ * the database.
+ * Every move is one fixed-size record written through a memory-mapped segment file, and moves are durable once
+ * {@link #awaitDurable(long)} returns. The first caller waiting for its record forces the segment to disk for all
+ * records appended until then, so concurrent moves share one fsync (group commit).
+ * The journal keeps the position of every game with moves not yet written to the database. The first move of such a
+ * game is preceded by a base record holding the position it was played on, so replaying the records of a game needs
+ * nothing but the journal. {@link #snapshot()} writes these positions to a snapshot file and deletes the older
+ * segments, which bounds the records replayed by {@link #open(Path, int)}. Full segments are unmapped before their
+ * files are deleted, as some platforms, e.g. Windows, refuse to delete a mapped file. If the JVM does not allow
+ * unmapping, a mapping is released once its buffer is garbage collected.
+ * <p>
+ * Record layout, 32 bytes: game ID (8), type (1), pit (1), ply counted from the base record (2), then the packed
+ * position for base records or the Zobrist hash of the position after the move for move records (15, padded to 16),
+ * and a CRC32 of the preceding 28 bytes (4). A zero game ID or a wrong checksum marks the end of a segment.
+ * Snapshot layout: magic, number of games, then per game its ID (8), ply (2) and packed position (15), and a CRC32 of
+ * all preceding bytes (8)
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public final class MoveJournal implements Closeable {
+    public static final int RECORD_SIZE = 32;
+
+    static final int SNAPSHOT_MAGIC = 0x4B4A5331; // "KJS1"
+    static final String SEGMENT_PREFIX = "journal-";
+    static final String SEGMENT_SUFFIX = ".seg";
+    static final String SNAPSHOT_PREFIX = "snapshot-";
+    static final String SNAPSHOT_SUFFIX = ".snap";
+
+    private static final byte BASE_RECORD = 1;
+    private static final byte MOVE_RECORD = 2;
+    private static final int CHECKSUM_OFFSET = RECORD_SIZE - Integer.BYTES;
+    private static final int PAYLOAD_OFFSET = 12;
+    private static final int SNAPSHOT_ENTRY_SIZE = Long.BYTES + Short.BYTES + PackedPositionConverter.PACKED_LENGTH;
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+    private static final PackedPositionConverter POSITION_CONVERTER = new PackedPositionConverter();
+
+    private final Path directory;
+    private final int segmentSize;
+    private final Map<Long, JournaledGame> journaledGames;
+    private final Map<Long, Position> recoveredPositions;
+    private final byte[] record = new byte[RECORD_SIZE];
+    private final CRC32 checksum = new CRC32();
+
+    // Guarded by this journal
+    private long segmentIndex;
+    private MappedByteBuffer segment;
+    // Full segments which may still be forced by awaitDurable, unmapped before the next deletion
+    private final List<MappedByteBuffer> retiredSegments = new ArrayList<>();
+    private long appendedSequence;
+    private long recordCount;
+    private boolean closed;
+
+    // Guarded by syncLock
+    private final Object syncLock = new Object();
+    private long syncedSequence;
+    private long syncCount;
+    private boolean syncing;
+
+    private MoveJournal(Path directory, int segmentSize, long segmentIndex, Map<Long, JournaledGame> journaledGames) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.segmentIndex = segmentIndex;
+        this.journaledGames = journaledGames;
+
+        Map<Long, Position> positions = new HashMap<>();
+        journaledGames.forEach((gameId, game) -> positions.put(gameId, game.getPosition()));
+        this.recoveredPositions = Collections.unmodifiableMap(positions);
+    }
+
+    /**
+     * Opens the journal in the given directory, rebuilding the positions of the journaled games from the latest
+     * snapshot and the segments written after it. The recovered positions are written to a new snapshot right away,
+     * and appending continues in a new segment
+     *
+     * @param directory   The directory of the journal, created if missing
+     * @param segmentSize The size of a segment file in bytes, a multiple of {@link #RECORD_SIZE}
+     * @return The journal
+     * @throws IOException If the journal cannot be read or written
+     */
+    public static MoveJournal open(Path directory, int segmentSize) throws IOException {
+        if ((segmentSize < RECORD_SIZE) || (segmentSize % RECORD_SIZE != 0)) {
+            throw new IllegalArgumentException("Segment size should be a positive multiple of " + RECORD_SIZE);
+        }
+
+        Files.createDirectories(directory);
+
+        Map<Long, JournaledGame> journaledGames = new HashMap<>();
+        long snapshotIndex = -1;
+        for (long index : listIndexes(directory, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX)) {
+            // A snapshot failing its checksum was not written completely, so the previous one is still valid
+            Path snapshotPath = getPath(directory, SNAPSHOT_PREFIX, index, SNAPSHOT_SUFFIX);
+            Map<Long, JournaledGame> snapshot = readSnapshot(snapshotPath);
+            if (snapshot != null) {
+                journaledGames = snapshot;
+                snapshotIndex = index;
+            }
+        }
+
+        long lastIndex = snapshotIndex;
+        for (long index : listIndexes(directory, SEGMENT_PREFIX, SEGMENT_SUFFIX)) {
+            if (index >= snapshotIndex) {
+                replaySegment(getPath(directory, SEGMENT_PREFIX, index, SEGMENT_SUFFIX), journaledGames);
+            }
+            lastIndex = Math.max(lastIndex, index);
+        }
+
+        MoveJournal journal = new MoveJournal(directory, segmentSize, lastIndex + 1, journaledGames);
+        journal.writeSnapshot(journal.segmentIndex, journaledGames);
+        journal.segment = journal.mapSegment(journal.segmentIndex);
+        journal.deleteFilesBefore(journal.segmentIndex);
+
+        return journal;
+    }
+
+    /**
+     * @return The positions of the games whose moves had not been written to the database when the journal was last
+     * closed or the process died
+     */
+    public Map<Long, Position> getRecoveredPositions() {
+        return recoveredPositions;
+    }
+
+    /**
+     * Appends a move, preceded by a base record if the game has no moves in the journal yet. The move is not durable
+     * before {@link #awaitDurable(long)} returns for the returned sequence number
+     *
+     * @param gameId The ID of the game
+     * @param before The position the move is played on
+     * @param pit    The played pit
+     * @param after  The position after the move
+     * @return The sequence number of the record
+     */
+    public synchronized long append(long gameId, Position before, int pit, Position after) {
+        if (closed) {
+            throw new IllegalStateException("The journal is closed");
+        }
+
+        JournaledGame game = journaledGames.get(gameId);
+        if (game == null) {
+            game = new JournaledGame(0, before);
+            writeRecord(gameId, BASE_RECORD, 0, 0, POSITION_CONVERTER.convertToDatabaseColumn(before), 0L);
+        }
+
+        int ply = game.getPly() + 1;
+        writeRecord(gameId, MOVE_RECORD, pit, ply, null, after.getHash());
+        journaledGames.put(gameId, new JournaledGame(ply, after));
+
+        return appendedSequence;
+    }
+
+    /**
+     * Waits until the record with the given sequence number and all before it are forced to disk
+     *
+     * @param sequence The sequence number returned by {@link #append(long, Position, int, Position)}
+     */
+    public void awaitDurable(long sequence) {
+        while (true) {
+            synchronized (syncLock) {
+                if (syncedSequence >= sequence) {
+                    return;
+                }
+
+                if (syncing) {
+                    waitForSync();
+                    continue;
+                }
+                syncing = true;
+            }
+
+            long targetSequence;
+            MappedByteBuffer currentSegment;
+            synchronized (this) {
+                targetSequence = appendedSequence;
+                currentSegment = segment;
+            }
+
+            boolean synced = false;
+            try {
+                // Full segments are forced before the next one is mapped, so only the current one may be dirty
+                currentSegment.force();
+                synced = true;
+            } finally {
+                synchronized (syncLock) {
+                    syncing = false;
+                    if (synced) {
+                        syncedSequence = Math.max(syncedSequence, targetSequence);
+                        syncCount++;
+                    }
+                    syncLock.notifyAll();
+                }
+            }
+        }
+    }
+
+    /**
+     * Drops the given game from the journal once the given position is written to the database, unless it was moved
+     * again meanwhile. Its records are removed by the next snapshot
+     *
+     * @param gameId   The ID of the game
+     * @param position The position written to the database
+     */
+    public synchronized void markPersisted(long gameId, Position position) {
+        JournaledGame game = journaledGames.get(gameId);
+
+        if (game != null && game.getPosition().equals(position)) {
+            journaledGames.remove(gameId);
+        }
+    }
+
+    /**
+     * Drops the given game from the journal regardless of its position, e.g. after it has been deleted
+     *
+     * @param gameId The ID of the game
+     */
+    public synchronized void forget(long gameId) {
+        journaledGames.remove(gameId);
+    }
+
+    /**
+     * Writes the positions of all journaled games to a snapshot, continues in a new segment and deletes the segments
+     * covered by the snapshot
+     *
+     * @throws IOException If the snapshot cannot be written
+     */
+    public void snapshot() throws IOException {
+        long snapshotIndex;
+        Map<Long, JournaledGame> games;
+
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+
+            segment.force();
+            retiredSegments.add(segment);
+            snapshotIndex = segmentIndex + 1;
+            segment = mapSegment(snapshotIndex);
+            segmentIndex = snapshotIndex;
+            games = new HashMap<>(journaledGames);
+        }
+
+        writeSnapshot(snapshotIndex, games);
+        unmapRetiredSegments();
+        deleteFilesBefore(snapshotIndex);
+    }
+
+    /**
+     * @return The number of games with moves not written to the database yet
+     */
+    public synchronized int getJournaledGameCount() {
+        return journaledGames.size();
+    }
+
+    /**
+     * @return The number of records appended since the journal was opened
+     */
+    public synchronized long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * @return The number of forces to disk since the journal was opened, each making all records appended before it
+     * durable
+     */
+    public long getSyncCount() {
+        synchronized (syncLock) {
+            return syncCount;
+        }
+    }
+
+    /**
+     * @return The number of full segments still mapped, which are unmapped by the next snapshot
+     */
+    synchronized int getRetiredSegmentCount() {
+        return retiredSegments.size();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (!closed) {
+            segment.force();
+            closed = true;
+        }
+    }
+
+    private void writeRecord(long gameId, byte type, int pit, int ply, byte[] packedPosition, long hash) {
+        if (segment.remaining() < RECORD_SIZE) {
+            segment.force();
+            retiredSegments.add(segment);
+            segmentIndex++;
+            segment = mapSegment(segmentIndex);
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(record);
+        buffer.putLong(gameId).put(type).put((byte) pit).putShort((short) ply);
+        if (packedPosition != null) {
+            buffer.put(packedPosition).put((byte) 0);
+        } else {
+            buffer.putLong(hash).putLong(0L);
+        }
+
+        checksum.reset();
+        checksum.update(record, 0, CHECKSUM_OFFSET);
+        buffer.putInt((int) checksum.getValue());
+
+        segment.put(record);
+        appendedSequence++;
+        recordCount++;
+    }
+
+    private MappedByteBuffer mapSegment(long index) {
+        Path path = getPath(directory, SEGMENT_PREFIX, index, SEGMENT_SUFFIX);
+
+        // The mapping stays valid after the channel is closed, and the file is extended with zeros
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        } catch (IOException exp) {
+            throw new UncheckedIOException(exp);
+        }
+    }
+
+    /**
+     * Unmaps the full segments once no force is running, as a force may still hold one of them. A new force cannot
+     * start meanwhile and only ever picks the current segment
+     */
+    private void unmapRetiredSegments() {
+        synchronized (syncLock) {
+            while (syncing) {
+                waitForSync();
+            }
+
+            List<MappedByteBuffer> segments;
+            synchronized (this) {
+                segments = new ArrayList<>(retiredSegments);
+                retiredSegments.clear();
+            }
+
+            segments.forEach(MoveJournal::unmap);
+        }
+    }
+
+    /**
+     * Releases the mapping right away through the cleaner of the buffer, which is not part of the public API
+     */
+    private static void unmap(MappedByteBuffer buffer) {
+        try {
+            Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+            cleanerMethod.setAccessible(true);
+            Object cleaner = cleanerMethod.invoke(buffer);
+            if (cleaner != null) {
+                cleaner.getClass().getMethod("clean").invoke(cleaner);
+            }
+        } catch (ReflectiveOperationException | RuntimeException exp) {
+            // Not supported by this JVM, so the mapping is released once the buffer is garbage collected
+        }
+    }
+
+    private static void replaySegment(Path path, Map<Long, JournaledGame> games) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+        byte[] record = new byte[RECORD_SIZE];
+        CRC32 checksum = new CRC32();
+
+        while (buffer.remaining() >= RECORD_SIZE) {
+            buffer.get(record);
+            checksum.reset();
+            checksum.update(record, 0, CHECKSUM_OFFSET);
+
+            ByteBuffer recordBuffer = ByteBuffer.wrap(record);
+            long gameId = recordBuffer.getLong();
+            if ((gameId == 0L) || (recordBuffer.getInt(CHECKSUM_OFFSET) != (int) checksum.getValue())) {
+                // End of the records, or a record torn by a crash, which was never acknowledged
+                return;
+            }
+
+            byte type = recordBuffer.get();
+            int pit = recordBuffer.get();
+            int ply = Short.toUnsignedInt(recordBuffer.getShort());
+
+            if (type == BASE_RECORD) {
+                byte[] packedPosition = new byte[PackedPositionConverter.PACKED_LENGTH];
+                recordBuffer.position(PAYLOAD_OFFSET);
+                recordBuffer.get(packedPosition);
+                games.put(gameId, new JournaledGame(0, POSITION_CONVERTER.convertToEntityAttribute(packedPosition)));
+            } else {
+                applyMove(games, gameId, pit, ply, recordBuffer.getLong(PAYLOAD_OFFSET));
+            }
+        }
+    }
+
+    private static void applyMove(Map<Long, JournaledGame> games, long gameId, int pit, int ply, long hash) {
+        JournaledGame game = games.get(gameId);
+
+        // Records of games dropped by a snapshot are ignored, and the hash guards against replaying on a wrong base
+        if ((game != null) && (game.getPly() + 1 == ply) && game.getPosition().isLegalMove(pit)) {
+            Position after = game.getPosition().play(pit);
+            if (after.getHash() == hash) {
+                games.put(gameId, new JournaledGame(ply, after));
+            }
+        }
+    }
+
+    private void writeSnapshot(long index, Map<Long, JournaledGame> games) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(2 * Integer.BYTES + games.size() * SNAPSHOT_ENTRY_SIZE + Long.BYTES);
+        buffer.putInt(SNAPSHOT_MAGIC).putInt(games.size());
+        games.forEach((gameId, game) -> buffer.putLong(gameId)
+                .putShort((short) game.getPly())
+                .put(POSITION_CONVERTER.convertToDatabaseColumn(game.getPosition())));
+
+        CRC32 snapshotChecksum = new CRC32();
+        snapshotChecksum.update(buffer.array(), 0, buffer.position());
+        buffer.putLong(snapshotChecksum.getValue());
+        buffer.flip();
+
+        Path path = getPath(directory, SNAPSHOT_PREFIX, index, SNAPSHOT_SUFFIX);
+        Path temporaryPath = path.resolveSibling(path.getFileName() + TEMPORARY_SUFFIX);
+        try (FileChannel channel = FileChannel.open(temporaryPath, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+
+        Files.move(temporaryPath, path, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static Map<Long, JournaledGame> readSnapshot(Path path) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+        if ((buffer.remaining() < 2 * Integer.BYTES + Long.BYTES) || (buffer.getInt() != SNAPSHOT_MAGIC)) {
+            return null;
+        }
+
+        int gameCount = buffer.getInt();
+        int checksumOffset = 2 * Integer.BYTES + gameCount * SNAPSHOT_ENTRY_SIZE;
+        if ((gameCount < 0) || (buffer.capacity() != checksumOffset + Long.BYTES)) {
+            return null;
+        }
+
+        CRC32 snapshotChecksum = new CRC32();
+        snapshotChecksum.update(buffer.array(), 0, checksumOffset);
+        if (buffer.getLong(checksumOffset) != snapshotChecksum.getValue()) {
+            return null;
+        }
+
+        Map<Long, JournaledGame> games = new HashMap<>();
+        byte[] packedPosition = new byte[PackedPositionConverter.PACKED_LENGTH];
+        for (int i = 0; i < gameCount; i++) {
+            long gameId = buffer.getLong();
+            int ply = Short.toUnsignedInt(buffer.getShort());
+            buffer.get(packedPosition);
+            games.put(gameId, new JournaledGame(ply, POSITION_CONVERTER.convertToEntityAttribute(packedPosition)));
+        }
+
+        return games;
+    }
+
+    private void deleteFilesBefore(long index) throws IOException {
+        for (long segmentFileIndex : listIndexes(directory, SEGMENT_PREFIX, SEGMENT_SUFFIX)) {
+            if (segmentFileIndex < index) {
+                Files.deleteIfExists(getPath(directory, SEGMENT_PREFIX, segmentFileIndex, SEGMENT_SUFFIX));
+            }
+        }
+
+        for (long snapshotIndex : listIndexes(directory, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX)) {
+            if (snapshotIndex < index) {
+                Files.deleteIfExists(getPath(directory, SNAPSHOT_PREFIX, snapshotIndex, SNAPSHOT_SUFFIX));
+            }
+        }
+    }
+
+    private void waitForSync() {
+        try {
+            syncLock.wait();
+        } catch (InterruptedException exp) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the journal", exp);
+        }
+    }
+
+    /**
+     * Lists the indexes of the files with the given prefix and suffix in ascending order
+     */
+    private static List<Long> listIndexes(Path directory, String prefix, String suffix) throws IOException {
+        List<Long> indexes = new ArrayList<>();
+
+        try (DirectoryStream<Path> paths = Files.newDirectoryStream(directory, prefix + "*" + suffix)) {
+            for (Path path : paths) {
+                String fileName = path.getFileName().toString();
+                indexes.add(Long.parseLong(fileName.substring(prefix.length(), fileName.length() - suffix.length())));
+            }
+        }
+
+        Collections.sort(indexes);
+        return indexes;
+    }
+
+    private static Path getPath(Path directory, String prefix, long index, String suffix) {
+        return directory.resolve(String.format("%s%010d%s", prefix, index, suffix));
+    }
+}
@@ -0,0 +1,52 @@
+package com.backbase.kalah.metrics;
+
+import com.backbase.kalah.service.AiService;
+import com.backbase.kalah.service.MonteCarloService;
+import org.springframework.boot.actuate.endpoint.PublicMetrics;
+import org.springframework.boot.actuate.metrics.Metric;
+import org.springframework.stereotype.Component;
+
+import javax.inject.Inject;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Metrics of the computer opponent, published through the actuator metrics endpoint
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@Component
+public class AiMetrics implements PublicMetrics {
+    public static final String OPENING_BOOK_LOOKUPS_METRIC = "kalah.ai.opening-book.lookups";
+    public static final String OPENING_BOOK_HITS_METRIC = "kalah.ai.opening-book.hits";
+    public static final String OPENING_BOOK_HIT_RATE_METRIC = "kalah.ai.opening-book.hit-rate";
+    public static final String MONTE_CARLO_PLAYOUTS_METRIC = "kalah.ai.mcts.playouts";
+    public static final String MONTE_CARLO_PLAYOUTS_PER_CORE_SECOND_METRIC = "kalah.ai.mcts.playouts-per-core-second";
+
+    private AiService aiService;
+    private MonteCarloService monteCarloService;
+
+    @Inject
+    public AiMetrics(AiService aiService, MonteCarloService monteCarloService) {
+        this.aiService = aiService;
+        this.monteCarloService = monteCarloService;
+    }
+
+    @Override
+    public Collection<Metric<?>> metrics() {
+        long lookups = aiService.getOpeningBookLookups();
+        long hits = aiService.getOpeningBookHits();
+
+        List<Metric<?>> metrics = new ArrayList<>();
+        metrics.add(new Metric<>(OPENING_BOOK_LOOKUPS_METRIC, lookups));
+        metrics.add(new Metric<>(OPENING_BOOK_HITS_METRIC, hits));
+        metrics.add(new Metric<>(OPENING_BOOK_HIT_RATE_METRIC, lookups == 0 ? 0.0 : (double) hits / lookups));
+        metrics.add(new Metric<>(MONTE_CARLO_PLAYOUTS_METRIC, monteCarloService.getPlayouts()));
+        metrics.add(new Metric<>(MONTE_CARLO_PLAYOUTS_PER_CORE_SECOND_METRIC,
+                monteCarloService.getPlayoutsPerCoreSecond()));
+
+        return metrics;
+    }
+}
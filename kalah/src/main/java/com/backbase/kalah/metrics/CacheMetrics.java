@@ -0,0 +1,54 @@
+package com.backbase.kalah.metrics;
+
+import com.backbase.kalah.service.CacheRegionStatistics;
+import com.backbase.kalah.service.EntityCache;
+import org.springframework.boot.actuate.endpoint.PublicMetrics;
+import org.springframework.boot.actuate.metrics.Metric;
+import org.springframework.stereotype.Component;
+
+import javax.inject.Inject;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Metrics of the second-level cache per region, e.g. "kalah.cache.game.hit-rate", published through the actuator
+ * metrics endpoint
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@Component
+public class CacheMetrics implements PublicMetrics {
+    public static final String CACHE_METRIC_PREFIX = "kalah.cache.";
+    public static final String SIZE_METRIC = ".size";
+    public static final String HITS_METRIC = ".hits";
+    public static final String MISSES_METRIC = ".misses";
+    public static final String HIT_RATE_METRIC = ".hit-rate";
+    public static final String EVICTIONS_METRIC = ".evictions";
+    public static final String EXPIRATIONS_METRIC = ".expirations";
+
+    private EntityCache entityCache;
+
+    @Inject
+    public CacheMetrics(EntityCache entityCache) {
+        this.entityCache = entityCache;
+    }
+
+    @Override
+    public Collection<Metric<?>> metrics() {
+        List<Metric<?>> metrics = new ArrayList<>();
+
+        for (CacheRegionStatistics statistics : entityCache.getStatistics()) {
+            String prefix = CACHE_METRIC_PREFIX + statistics.getRegion();
+            metrics.add(new Metric<>(prefix + SIZE_METRIC, statistics.getSize()));
+            metrics.add(new Metric<>(prefix + HITS_METRIC, statistics.getHits()));
+            metrics.add(new Metric<>(prefix + MISSES_METRIC, statistics.getMisses()));
+            metrics.add(new Metric<>(prefix + HIT_RATE_METRIC, statistics.getHitRate()));
+            metrics.add(new Metric<>(prefix + EVICTIONS_METRIC, statistics.getEvictions()));
+            metrics.add(new Metric<>(prefix + EXPIRATIONS_METRIC, statistics.getExpirations()));
+        }
+
+        return metrics;
+    }
+}
@@ -0,0 +1,86 @@
+package com.backbase.kalah.metrics;
+
+import com.backbase.kalah.service.BoardPool;
+import com.backbase.kalah.service.GameArchive;
+import com.backbase.kalah.service.GameService;
+import com.backbase.kalah.service.GameStore;
+import org.springframework.boot.actuate.endpoint.PublicMetrics;
+import org.springframework.boot.actuate.metrics.Metric;
+import org.springframework.stereotype.Component;
+
+import javax.inject.Inject;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Metrics of playing games, published through the actuator metrics endpoint
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@Component
+public class GameMetrics implements PublicMetrics {
+    public static final String MOVE_CONFLICTS_METRIC = "kalah.moves.conflicts";
+    public static final String REJECTED_MOVE_CONFLICTS_METRIC = "kalah.moves.rejected-conflicts";
+    public static final String FLUSH_LAG_METRIC = "kalah.storage.write-behind.flush-lag-millis";
+    public static final String DIRTY_GAMES_METRIC = "kalah.storage.write-behind.dirty-games";
+    public static final String LIVE_GAMES_METRIC = "kalah.storage.write-behind.live-games";
+    public static final String JOURNAL_RECORDS_METRIC = "kalah.storage.journal.records";
+    public static final String JOURNAL_SYNCS_METRIC = "kalah.storage.journal.syncs";
+    public static final String ARCHIVED_GAMES_METRIC = "kalah.storage.archive.archived-games";
+    public static final String REHYDRATED_GAMES_METRIC = "kalah.storage.archive.rehydrated-games";
+    public static final String POOLED_BOARDS_METRIC = "kalah.storage.board-pool.available-boards";
+    public static final String BOARD_POOL_TARGET_SIZE_METRIC = "kalah.storage.board-pool.target-size";
+    public static final String BOARD_POOL_DEMAND_METRIC = "kalah.storage.board-pool.games-per-second";
+    public static final String BOARD_POOL_CLAIMS_METRIC = "kalah.storage.board-pool.claims";
+    public static final String BOARD_POOL_MISSES_METRIC = "kalah.storage.board-pool.misses";
+    public static final String BOARD_POOL_CLAIM_LATENCY_METRIC = "kalah.storage.board-pool.claim-latency-micros";
+
+    private GameService gameService;
+    private GameStore gameStore;
+    private GameArchive gameArchive;
+    private BoardPool boardPool;
+
+    @Inject
+    public GameMetrics(GameService gameService, GameStore gameStore, GameArchive gameArchive, BoardPool boardPool) {
+        this.gameService = gameService;
+        this.gameStore = gameStore;
+        this.gameArchive = gameArchive;
+        this.boardPool = boardPool;
+    }
+
+    @Override
+    public Collection<Metric<?>> metrics() {
+        List<Metric<?>> metrics = new ArrayList<>();
+        metrics.add(new Metric<>(MOVE_CONFLICTS_METRIC, gameService.getMoveConflicts()));
+        metrics.add(new Metric<>(REJECTED_MOVE_CONFLICTS_METRIC, gameService.getRejectedMoveConflicts()));
+
+        if (gameStore.isEnabled()) {
+            metrics.add(new Metric<>(FLUSH_LAG_METRIC, gameStore.getFlushLagMillis()));
+            metrics.add(new Metric<>(DIRTY_GAMES_METRIC, gameStore.getDirtyGameCount()));
+            metrics.add(new Metric<>(LIVE_GAMES_METRIC, gameStore.getLiveGameCount()));
+        }
+
+        if (gameStore.isJournalEnabled()) {
+            metrics.add(new Metric<>(JOURNAL_RECORDS_METRIC, gameStore.getJournalRecordCount()));
+            metrics.add(new Metric<>(JOURNAL_SYNCS_METRIC, gameStore.getJournalSyncCount()));
+        }
+
+        if (gameArchive.isEnabled()) {
+            metrics.add(new Metric<>(ARCHIVED_GAMES_METRIC, gameArchive.getArchivedGameCount()));
+            metrics.add(new Metric<>(REHYDRATED_GAMES_METRIC, gameArchive.getRehydratedGameCount()));
+        }
+
+        if (boardPool.isEnabled()) {
+            metrics.add(new Metric<>(POOLED_BOARDS_METRIC, boardPool.getAvailableBoardCount()));
+            metrics.add(new Metric<>(BOARD_POOL_TARGET_SIZE_METRIC, boardPool.getTargetSize()));
+            metrics.add(new Metric<>(BOARD_POOL_DEMAND_METRIC, boardPool.getDemandPerSecond()));
+            metrics.add(new Metric<>(BOARD_POOL_CLAIMS_METRIC, boardPool.getClaimCount()));
+            metrics.add(new Metric<>(BOARD_POOL_MISSES_METRIC, boardPool.getMissCount()));
+            metrics.add(new Metric<>(BOARD_POOL_CLAIM_LATENCY_METRIC, boardPool.getMeanClaimLatencyMicros()));
+        }
+
+        return metrics;
+    }
+}
@@ -0,0 +1,139 @@
+package com.backbase.kalah.model;
+
+import com.backbase.kalah.model.enums.PlayerTurn;
+import com.backbase.kalah.utils.MoveListCodec;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.validation.constraints.NotNull;
+import java.util.Arrays;
+
+import static com.backbase.kalah.constant.Fields.MOVE_LIST_COLUMN;
+import static com.backbase.kalah.constant.Fields.PLAYER_1_SCORE_COLUMN;
+import static com.backbase.kalah.constant.Fields.PLAYER_2_SCORE_COLUMN;
+
+/**
+ * Represents a finished {@link Game} moved out of the game and board tables into the archive, which only receives
+ * inserts. A finished game has all stones in the Kalahs, so its board is restored from the final score and the player
+ * turn, while its moves are kept for replaying the game
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@Entity
+public class ArchivedGame {
+    // The ID of the archived game, so its URI stays valid
+    private long id;
+
+    @NotNull
+    private String uri;
+
+    // The moves of the game, see MoveListCodec, null for games created before the moves were recorded
+    private byte[] moveList;
+
+    private int player1Score;
+
+    private int player2Score;
+
+    @NotNull
+    private PlayerTurn playerTurn;
+
+    public ArchivedGame() {
+        id = 0L;
+    }
+
+    public ArchivedGame(long id, String uri, byte[] moveList, int player1Score, int player2Score,
+                        PlayerTurn playerTurn) {
+        this.id = id;
+        this.uri = uri;
+        this.moveList = moveList;
+        this.player1Score = player1Score;
+        this.player2Score = player2Score;
+        this.playerTurn = playerTurn;
+    }
+
+    @Id
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public String getUri() {
+        return uri;
+    }
+
+    public void setUri(String uri) {
+        this.uri = uri;
+    }
+
+    @Column(name = MOVE_LIST_COLUMN, length = MoveListCodec.MAX_ENCODED_LENGTH)
+    public byte[] getMoveList() {
+        return moveList;
+    }
+
+    public void setMoveList(byte[] moveList) {
+        this.moveList = moveList;
+    }
+
+    @Column(name = PLAYER_1_SCORE_COLUMN)
+    public int getPlayer1Score() {
+        return player1Score;
+    }
+
+    public void setPlayer1Score(int player1Score) {
+        this.player1Score = player1Score;
+    }
+
+    @Column(name = PLAYER_2_SCORE_COLUMN)
+    public int getPlayer2Score() {
+        return player2Score;
+    }
+
+    public void setPlayer2Score(int player2Score) {
+        this.player2Score = player2Score;
+    }
+
+    public PlayerTurn getPlayerTurn() {
+        return playerTurn;
+    }
+
+    public void setPlayerTurn(PlayerTurn playerTurn) {
+        this.playerTurn = playerTurn;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof ArchivedGame)) {
+            return false;
+        }
+
+        ArchivedGame archivedGame = (ArchivedGame) o;
+
+        return id == archivedGame.id;
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) (id ^ (id >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        return "ArchivedGame{" +
+                "id=" + id +
+                ", uri='" + uri + '\'' +
+                ", moveList=" + Arrays.toString(moveList) +
+                ", player1Score=" + player1Score +
+                ", player2Score=" + player2Score +
+                ", playerTurn=" + playerTurn +
+                '}';
+    }
+}
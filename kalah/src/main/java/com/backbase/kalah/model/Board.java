@@ -1,30 +1,61 @@
 package com.backbase.kalah.model;
 
+import com.backbase.kalah.engine.Position;
 import com.backbase.kalah.model.enums.PlayerTurn;
 import com.backbase.kalah.model.enums.Status;
+import com.backbase.kalah.utils.MoveListCodec;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.Type;
 
+import javax.persistence.Cacheable;
 import javax.persistence.CascadeType;
+import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.OneToMany;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+import javax.persistence.Transient;
+import javax.persistence.Version;
 import javax.validation.constraints.NotNull;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
+import static com.backbase.kalah.constant.Fields.BOARD_CACHE_REGION;
+import static com.backbase.kalah.constant.Fields.BOARD_PITS_CACHE_REGION;
+import static com.backbase.kalah.constant.Fields.BOARD_SEQUENCE;
+import static com.backbase.kalah.constant.Fields.ID_ALLOCATION_SIZE;
+import static com.backbase.kalah.constant.Fields.MOVE_LIST_COLUMN;
+import static com.backbase.kalah.constant.Fields.PACKED_POSITION_COLUMN;
+import static com.backbase.kalah.constant.Fields.POSITION_HASH_COLUMN;
 import static com.backbase.kalah.model.enums.PlayerTurn.PLAYER_1;
 import static com.backbase.kalah.model.enums.Status.RUNNING;
 
 /**
- * Represents a Kalah game board
+ * Represents a Kalah game board.
+ * The stones are stored either packed into a single column of the board row, see {@link PackedPositionConverter}, or
+ * as one {@link Pit} row per pit, which is the layout of boards created before the packed one was introduced
  *
  * @author Mohamed Morsey
  * Date: 2018-11-24
  **/
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = BOARD_CACHE_REGION)
+@DynamicUpdate
+@Table(indexes = @Index(name = "board_position_hash_index", columnList = POSITION_HASH_COLUMN))
 public class Board {
     private long id;
 
+    // Zobrist hash of the stones and the player turn, kept up to date on every move
+    private long positionHash;
+
     @NotNull
     private PlayerTurn playerTurn;
 
@@ -34,6 +65,15 @@ public class Board {
     @NotNull
     private List<Pit> pits;
 
+    // The stones, the player turn and the status in one column, null for boards stored as pits
+    private Position packedPosition;
+
+    // The moves made so far, see MoveListCodec, null for boards created before the moves were recorded
+    private byte[] moveList;
+
+    // Incremented on every update, so a move based on a board changed meanwhile by a concurrent move fails
+    private long version;
+
     public Board() {
         id = 0L;
         playerTurn = PLAYER_1;
@@ -47,7 +87,8 @@ public class Board {
     }
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = BOARD_SEQUENCE)
+    @SequenceGenerator(name = BOARD_SEQUENCE, sequenceName = BOARD_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     public long getId() {
         return id;
     }
@@ -64,6 +105,15 @@ public class Board {
         this.playerTurn = playerTurn;
     }
 
+    @Column(name = POSITION_HASH_COLUMN)
+    public long getPositionHash() {
+        return positionHash;
+    }
+
+    public void setPositionHash(long positionHash) {
+        this.positionHash = positionHash;
+    }
+
     public Status getStatus() {
         return status;
     }
@@ -72,7 +122,8 @@ public class Board {
         this.status = status;
     }
 
-    @OneToMany(mappedBy = "board", cascade = CascadeType.ALL)
+    @OneToMany(mappedBy = "board", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = BOARD_PITS_CACHE_REGION)
     public List<Pit> getPits() {
         return pits;
     }
@@ -81,6 +132,42 @@ public class Board {
         this.pits = pits;
     }
 
+    @Type(type = "com.backbase.kalah.model.PackedPositionType")
+    @Column(name = PACKED_POSITION_COLUMN, length = PackedPositionConverter.PACKED_LENGTH)
+    public Position getPackedPosition() {
+        return packedPosition;
+    }
+
+    public void setPackedPosition(Position packedPosition) {
+        this.packedPosition = packedPosition;
+    }
+
+    @Column(name = MOVE_LIST_COLUMN, length = MoveListCodec.MAX_ENCODED_LENGTH)
+    public byte[] getMoveList() {
+        return moveList;
+    }
+
+    public void setMoveList(byte[] moveList) {
+        this.moveList = moveList;
+    }
+
+    @Version
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    /**
+     * @return True if the stones are stored in the packed column, false if they are stored as pits
+     */
+    @Transient
+    public boolean isPacked() {
+        return packedPosition != null;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -105,9 +192,13 @@ public class Board {
     public String toString() {
         return "Board{" +
                 "id=" + id +
+                ", positionHash=" + positionHash +
                 ", playerTurn=" + playerTurn +
                 ", status=" + status +
                 ", pits=" + pits +
+                ", packedPosition=" + packedPosition +
+                ", moveList=" + Arrays.toString(moveList) +
+                ", version=" + version +
                 '}';
     }
 }
\ No newline at end of file
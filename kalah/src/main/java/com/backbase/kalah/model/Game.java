@@ -1,13 +1,30 @@
 package com.backbase.kalah.model;
 
 import org.apache.commons.lang3.StringUtils;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+import javax.persistence.Cacheable;
 import javax.persistence.CascadeType;
+import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.JoinColumn;
 import javax.persistence.OneToOne;
+import javax.persistence.PrePersist;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+import javax.persistence.Transient;
 import javax.validation.constraints.NotNull;
+import java.time.Instant;
+
+import static com.backbase.kalah.constant.Fields.CREATED_AT_COLUMN;
+import static com.backbase.kalah.constant.Fields.GAME_CACHE_REGION;
+import static com.backbase.kalah.constant.Fields.GAME_SEQUENCE;
+import static com.backbase.kalah.constant.Fields.ID_ALLOCATION_SIZE;
 
 /**
  * Represents a Kalah game
@@ -16,6 +33,9 @@ import javax.validation.constraints.NotNull;
  * Date: 2018-11-24
  **/
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = GAME_CACHE_REGION)
+@Table(indexes = @Index(name = "game_created_at_index", columnList = CREATED_AT_COLUMN))
 public class Game {
     private long id;
 
@@ -25,6 +45,12 @@ public class Game {
     @NotNull
     private String uri;
 
+    // URI of the games resource, from which the URI of a new game is derived as soon as it gets its ID
+    private String baseUri;
+
+    // The time the game was inserted, null for games created before the creation times were recorded
+    private Instant createdAt;
+
     public Game() {
         id = 0L;
         board = new Board();
@@ -38,16 +64,24 @@ public class Game {
     }
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = GAME_SEQUENCE)
+    @SequenceGenerator(name = GAME_SEQUENCE, sequenceName = GAME_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     public long getId() {
         return id;
     }
 
     public void setId(long id) {
         this.id = id;
+
+        // The ID is assigned before the game is inserted, so the insert already contains the URI
+        if (baseUri != null) {
+            uri = baseUri + "/" + id;
+        }
     }
 
+    // A board belongs to one game only, also when boards are claimed from the board pool
     @OneToOne(cascade = CascadeType.MERGE)
+    @JoinColumn(unique = true)
     public Board getBoard() {
         return board;
     }
@@ -64,6 +98,31 @@ public class Game {
         this.uri = uri;
     }
 
+    @Column(name = CREATED_AT_COLUMN)
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    @PrePersist
+    void recordCreationTime() {
+        if (createdAt == null) {
+            createdAt = Instant.now();
+        }
+    }
+
+    @Transient
+    public String getBaseUri() {
+        return baseUri;
+    }
+
+    public void setBaseUri(String baseUri) {
+        this.baseUri = baseUri;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -90,6 +149,7 @@ public class Game {
                 "id=" + id +
                 ", board=" + board +
                 ", uri='" + uri + '\'' +
+                ", createdAt=" + createdAt +
                 '}';
     }
 }
\ No newline at end of file
@@ -0,0 +1,67 @@
+package com.backbase.kalah.model;
+
+import com.backbase.kalah.model.enums.PlayerTurn;
+import com.backbase.kalah.model.enums.Status;
+
+import java.time.Instant;
+
+/**
+ * Summary of a {@link Game} as listed by {@link com.backbase.kalah.service.GameService}. It is selected by a
+ * constructor expression, so listing games neither reads the pits nor adds entities to the persistence context
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class GameSummary {
+    private final long id;
+    private final String uri;
+    private final Status status;
+    private final PlayerTurn playerTurn;
+    private final Instant createdAt;
+
+    /**
+     * @param id         The ID of the game
+     * @param uri        The URI of the game
+     * @param status     The status of its board
+     * @param playerTurn The player whose turn it is
+     * @param createdAt  The time the game was created, null for games created before the creation times were recorded
+     */
+    public GameSummary(long id, String uri, Status status, PlayerTurn playerTurn, Instant createdAt) {
+        this.id = id;
+        this.uri = uri;
+        this.status = status;
+        this.playerTurn = playerTurn;
+        this.createdAt = createdAt;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getUri() {
+        return uri;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public PlayerTurn getPlayerTurn() {
+        return playerTurn;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    @Override
+    public String toString() {
+        return "GameSummary{" +
+                "id=" + id +
+                ", uri='" + uri + '\'' +
+                ", status=" + status +
+                ", playerTurn=" + playerTurn +
+                ", createdAt=" + createdAt +
+                '}';
+    }
+}
@@ -0,0 +1,69 @@
+package com.backbase.kalah.model;
+
+import com.backbase.kalah.engine.BoardState;
+import com.backbase.kalah.engine.Position;
+import com.backbase.kalah.engine.ZobristHash;
+
+import javax.persistence.AttributeConverter;
+
+import static com.backbase.kalah.constant.Constants.COUNT_OF_ALL_PITS;
+
+/**
+ * Stores a {@link Position} in a single binary column: one byte per pit holding its stones, which never exceed 72,
+ * followed by one byte holding the player turn and whether the game is finished.
+ * It is used by {@link PackedPositionType} for {@link Board#getPackedPosition()} and by the move journal
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class PackedPositionConverter implements AttributeConverter<Position, byte[]> {
+    public static final int PACKED_LENGTH = COUNT_OF_ALL_PITS + 1;
+
+    private static final int PLAYER_2_TURN_BIT = 1;
+    private static final int FINISHED_BIT = 2;
+
+    @Override
+    public byte[] convertToDatabaseColumn(Position position) {
+        if (position == null) {
+            return null;
+        }
+
+        byte[] packed = new byte[PACKED_LENGTH];
+        for (int pit = 0; pit < COUNT_OF_ALL_PITS; pit++) {
+            packed[pit] = (byte) position.getStones(pit);
+        }
+
+        packed[COUNT_OF_ALL_PITS] = (byte) ((position.getPlayerTurn() == BoardState.PLAYER_2 ? PLAYER_2_TURN_BIT : 0)
+                | (position.isFinished() ? FINISHED_BIT : 0));
+
+        return packed;
+    }
+
+    @Override
+    public Position convertToEntityAttribute(byte[] packed) {
+        if (packed == null) {
+            return null;
+        }
+
+        if (packed.length != PACKED_LENGTH) {
+            throw new IllegalArgumentException("A packed position should have " + PACKED_LENGTH + " bytes");
+        }
+
+        BoardState state = new BoardState();
+        for (int pit = 0; pit < COUNT_OF_ALL_PITS; pit++) {
+            int stones = Byte.toUnsignedInt(packed[pit]);
+            if (stones > ZobristHash.TOTAL_STONE_COUNT) {
+                throw new IllegalArgumentException("A packed pit should have at most " + ZobristHash.TOTAL_STONE_COUNT
+                        + " stones");
+            }
+
+            state.setStones(pit, stones);
+        }
+
+        int flags = packed[COUNT_OF_ALL_PITS];
+        state.setPlayerTurn((flags & PLAYER_2_TURN_BIT) != 0 ? BoardState.PLAYER_2 : BoardState.PLAYER_1);
+        state.setFinished((flags & FINISHED_BIT) != 0);
+
+        return Position.of(state);
+    }
+}
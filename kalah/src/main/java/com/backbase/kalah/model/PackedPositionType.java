@@ -0,0 +1,28 @@
+package com.backbase.kalah.model;
+
+import com.backbase.kalah.engine.Position;
+import org.hibernate.type.AbstractSingleColumnStandardBasicType;
+import org.hibernate.type.descriptor.sql.VarbinaryTypeDescriptor;
+
+/**
+ * Hibernate type of {@link Board#getPackedPosition()}, which stores a {@link Position} in a single binary column, see
+ * {@link PackedPositionConverter}. A position is immutable, so it is neither copied for dirty checking nor when being
+ * put into or read from the second-level cache, see {@link PositionTypeDescriptor}. It is mapped explicitly through
+ * {@link org.hibernate.annotations.Type}, so it applies to that attribute only instead of to every {@link Position}
+ * known to Hibernate
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class PackedPositionType extends AbstractSingleColumnStandardBasicType<Position> {
+    private static final String NAME = "packed_position";
+
+    public PackedPositionType() {
+        super(VarbinaryTypeDescriptor.INSTANCE, PositionTypeDescriptor.INSTANCE);
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+}
@@ -1,10 +1,21 @@
 package com.backbase.kalah.model;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+
+import javax.persistence.Cacheable;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.SequenceGenerator;
+
+import static com.backbase.kalah.constant.Fields.ID_ALLOCATION_SIZE;
+import static com.backbase.kalah.constant.Fields.PIT_CACHE_REGION;
+import static com.backbase.kalah.constant.Fields.PIT_SEQUENCE;
 
 /**
  * A pit in the Kalah game that can be a normal pit or a house (Kalah)
@@ -13,6 +24,9 @@ import javax.persistence.ManyToOne;
  * Date: 2018-11-24
  **/
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = PIT_CACHE_REGION)
+@DynamicUpdate
 public class Pit {
     private long id;
 
@@ -38,7 +52,8 @@ public class Pit {
     }
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = PIT_SEQUENCE)
+    @SequenceGenerator(name = PIT_SEQUENCE, sequenceName = PIT_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     public long getId() {
         return id;
     }
@@ -0,0 +1,78 @@
+package com.backbase.kalah.model;
+
+import com.backbase.kalah.engine.Position;
+import com.google.common.io.BaseEncoding;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.AbstractTypeDescriptor;
+import org.hibernate.type.descriptor.java.ImmutableMutabilityPlan;
+
+/**
+ * Tells Hibernate that a {@link Position} is immutable, so it is neither copied for dirty checking nor when being
+ * put into or read from the second-level cache, which holds it as it is. Without it Hibernate would copy serializable
+ * values on every read. Positions are bound and read in the packed form of {@link PackedPositionConverter}, see
+ * {@link PackedPositionType}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+class PositionTypeDescriptor extends AbstractTypeDescriptor<Position> {
+    static final PositionTypeDescriptor INSTANCE = new PositionTypeDescriptor();
+
+    private static final PackedPositionConverter CONVERTER = new PackedPositionConverter();
+
+    private PositionTypeDescriptor() {
+        super(Position.class, new ImmutableMutabilityPlan<>());
+    }
+
+    /**
+     * @return The packed form of the position, see {@link PackedPositionConverter}, as hexadecimal string
+     */
+    @Override
+    public String toString(Position position) {
+        return BaseEncoding.base16().encode(CONVERTER.convertToDatabaseColumn(position));
+    }
+
+    /**
+     * @param string The packed form of a position as hexadecimal string, see {@link #toString(Position)}
+     * @return The position
+     */
+    @Override
+    public Position fromString(String string) {
+        return CONVERTER.convertToEntityAttribute(BaseEncoding.base16().decode(string));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <X> X unwrap(Position position, Class<X> type, WrapperOptions options) {
+        if (position == null) {
+            return null;
+        }
+
+        if (Position.class.isAssignableFrom(type)) {
+            return (X) position;
+        }
+
+        if (byte[].class.isAssignableFrom(type)) {
+            return (X) CONVERTER.convertToDatabaseColumn(position);
+        }
+
+        throw unknownUnwrap(type);
+    }
+
+    @Override
+    public <X> Position wrap(X value, WrapperOptions options) {
+        if (value == null) {
+            return null;
+        }
+
+        if (value instanceof Position) {
+            return (Position) value;
+        }
+
+        if (value instanceof byte[]) {
+            return CONVERTER.convertToEntityAttribute((byte[]) value);
+        }
+
+        throw unknownWrap(value.getClass());
+    }
+}
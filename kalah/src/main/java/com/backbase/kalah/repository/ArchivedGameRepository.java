@@ -0,0 +1,13 @@
+package com.backbase.kalah.repository;
+
+import com.backbase.kalah.model.ArchivedGame;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * Repository for {@link ArchivedGame}s
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public interface ArchivedGameRepository extends JpaRepository<ArchivedGame, Long> {
+}
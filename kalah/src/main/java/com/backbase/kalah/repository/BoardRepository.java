@@ -1,7 +1,16 @@
 package com.backbase.kalah.repository;
 
 import com.backbase.kalah.model.Board;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+import static com.backbase.kalah.constant.Fields.IDS_PARAMETER;
 
 /**
  * Repository for {@link Board}s
@@ -10,4 +19,32 @@ import org.springframework.data.jpa.repository.JpaRepository;
  * Date: 2018-11-25
  **/
 public interface BoardRepository extends JpaRepository<Board, Long> {
+    /**
+     * Finds boards still stored as one pit row per pit, see {@link Board#isPacked()}
+     *
+     * @param pageable The page to be read
+     * @return The boards without packed position
+     */
+    List<Board> findByPackedPositionIsNull(Pageable pageable);
+
+    /**
+     * Finds the boards no game refers to, which have never been moved, e.g. the ones left in the board pool by the
+     * last shutdown
+     *
+     * @param pageable The page to be read
+     * @return The IDs of the boards in ascending order
+     */
+    @Query("select b.id from Board b where b.version = 0 and not exists (select g.id from Game g where g.board = b)"
+            + " order by b.id")
+    List<Long> findUnassignedInitialBoardIds(Pageable pageable);
+
+    /**
+     * Deletes the given boards with one statement, which must not have any pits or games left
+     *
+     * @param ids The IDs of the boards
+     * @return The number of deleted boards
+     */
+    @Modifying
+    @Query("delete from Board b where b.id in :" + IDS_PARAMETER)
+    int deleteByIdIn(@Param(IDS_PARAMETER) Collection<Long> ids);
 }
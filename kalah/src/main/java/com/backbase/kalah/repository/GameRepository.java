@@ -1,7 +1,34 @@
 package com.backbase.kalah.repository;
 
+import com.backbase.kalah.model.Board;
 import com.backbase.kalah.model.Game;
+import com.backbase.kalah.model.GameSummary;
+import com.backbase.kalah.model.enums.PlayerTurn;
+import com.backbase.kalah.model.enums.Status;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.backbase.kalah.constant.Fields.AFTER_ID_PARAMETER;
+import static com.backbase.kalah.constant.Fields.CREATED_FROM_PARAMETER;
+import static com.backbase.kalah.constant.Fields.CREATED_TO_PARAMETER;
+import static com.backbase.kalah.constant.Fields.IDS_PARAMETER;
+import static com.backbase.kalah.constant.Fields.ID_PARAMETER;
+import static com.backbase.kalah.constant.Fields.PLAYER_TURN_PARAMETER;
+import static com.backbase.kalah.constant.Fields.STATUS_PARAMETER;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
 /**
  * Repository for {@link Game}s
@@ -10,4 +37,103 @@ import org.springframework.data.jpa.repository.JpaRepository;
  * Date: 2018-11-25
  **/
 public interface GameRepository extends JpaRepository<Game, Long> {
+    // Rows fetched per round trip while streaming game summaries
+    String SUMMARY_FETCH_SIZE = "500";
+
+    String SELECT_SUMMARIES = "select new com.backbase.kalah.model.GameSummary(g.id, g.uri, b.status, b.playerTurn, "
+            + "g.createdAt) from Game g join g.board b";
+    String SUMMARY_FILTER = "(:" + STATUS_PARAMETER + " is null or b.status = :" + STATUS_PARAMETER + ")"
+            + " and (:" + PLAYER_TURN_PARAMETER + " is null or b.playerTurn = :" + PLAYER_TURN_PARAMETER + ")"
+            + " and (:" + CREATED_FROM_PARAMETER + " is null or g.createdAt >= :" + CREATED_FROM_PARAMETER + ")"
+            + " and (:" + CREATED_TO_PARAMETER + " is null or g.createdAt < :" + CREATED_TO_PARAMETER + ")";
+
+    /**
+     * Finds the games whose board is in the position with the given Zobrist hash, using the index on that column
+     *
+     * @param positionHash The hash of the position
+     * @return The games in that position
+     */
+    List<Game> findByBoardPositionHash(long positionHash);
+
+    /**
+     * Finds a game together with its board and the pits of the board in a single query, so a move needs no further
+     * select. The pits are empty for packed boards
+     *
+     * @param id The ID of the game
+     * @return The game, or null if there is no game with that ID
+     */
+    @Query("select distinct g from Game g join fetch g.board b left join fetch b.pits where g.id = :" + ID_PARAMETER)
+    Game findWithBoardById(@Param(ID_PARAMETER) long id);
+
+    /**
+     * Reads the board of the given game and locks its row until the end of the transaction
+     * ({@code SELECT ... FOR UPDATE}), so concurrent moves on the game wait for each other instead of conflicting.
+     * The board is selected by a subquery, as H2 cannot lock the rows of a join
+     *
+     * @param id The ID of the game
+     * @return The locked board, or null if there is no game with that ID
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from Board b where b.id = (select g.board.id from Game g where g.id = :" + ID_PARAMETER + ")")
+    Board findAndLockBoardById(@Param(ID_PARAMETER) long id);
+
+    /**
+     * Finds the games whose board has the given status together with their boards, without reading the pits
+     *
+     * @param status   The status of the boards
+     * @param pageable The page to be read
+     * @return The games ordered by their ID
+     */
+    @Query("select g from Game g join fetch g.board b where b.status = :" + STATUS_PARAMETER + " order by g.id")
+    List<Game> findWithBoardByBoardStatus(@Param(STATUS_PARAMETER) Status status, Pageable pageable);
+
+    /**
+     * Finds the summaries of the games after the given ID matching the given criteria, every criterion that is null
+     * matches all games. The page is selected by the primary key instead of an offset, so every page takes the same
+     * time however far the listing is
+     *
+     * @param afterId     The ID of the last game of the previous page, 0 for the first page
+     * @param status      The status of the boards
+     * @param playerTurn  The player whose turn it is
+     * @param createdFrom The earliest creation time, inclusive
+     * @param createdTo   The latest creation time, exclusive
+     * @param pageable    The size of the page, whose number should be 0
+     * @return The summaries ordered by the ID of their games
+     */
+    @Query(SELECT_SUMMARIES + " where g.id > :" + AFTER_ID_PARAMETER + " and " + SUMMARY_FILTER + " order by g.id")
+    List<GameSummary> findSummaries(@Param(AFTER_ID_PARAMETER) long afterId,
+                                    @Param(STATUS_PARAMETER) Status status,
+                                    @Param(PLAYER_TURN_PARAMETER) PlayerTurn playerTurn,
+                                    @Param(CREATED_FROM_PARAMETER) Instant createdFrom,
+                                    @Param(CREATED_TO_PARAMETER) Instant createdTo,
+                                    Pageable pageable);
+
+    /**
+     * Streams the summaries of the games matching the given criteria, every criterion that is null matches all games.
+     * The rows are fetched {@link #SUMMARY_FETCH_SIZE} at a time while the stream is consumed, which must happen
+     * within a transaction, and the stream must be closed afterwards
+     *
+     * @param status      The status of the boards
+     * @param playerTurn  The player whose turn it is
+     * @param createdFrom The earliest creation time, inclusive
+     * @param createdTo   The latest creation time, exclusive
+     * @return The summaries ordered by the ID of their games
+     */
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = SUMMARY_FETCH_SIZE),
+            @QueryHint(name = HINT_READONLY, value = "true")})
+    @Query(SELECT_SUMMARIES + " where " + SUMMARY_FILTER + " order by g.id")
+    Stream<GameSummary> streamSummaries(@Param(STATUS_PARAMETER) Status status,
+                                        @Param(PLAYER_TURN_PARAMETER) PlayerTurn playerTurn,
+                                        @Param(CREATED_FROM_PARAMETER) Instant createdFrom,
+                                        @Param(CREATED_TO_PARAMETER) Instant createdTo);
+
+    /**
+     * Deletes the given games with one statement, leaving their boards
+     *
+     * @param ids The IDs of the games
+     * @return The number of deleted games
+     */
+    @Modifying
+    @Query("delete from Game g where g.id in :" + IDS_PARAMETER)
+    int deleteByIdIn(@Param(IDS_PARAMETER) Collection<Long> ids);
 }
@@ -2,6 +2,13 @@ package com.backbase.kalah.repository;
 
 import com.backbase.kalah.model.Pit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+
+import static com.backbase.kalah.constant.Fields.IDS_PARAMETER;
 
 /**
  * Repository for {@link Pit}s
@@ -10,4 +17,13 @@ import org.springframework.data.jpa.repository.JpaRepository;
  * Date: 2018-11-29
  **/
 public interface PitRepository extends JpaRepository<Pit, Long> {
+    /**
+     * Deletes the pits of the given boards with one statement
+     *
+     * @param boardIds The IDs of the boards
+     * @return The number of deleted pits
+     */
+    @Modifying
+    @Query("delete from Pit p where p.board.id in :" + IDS_PARAMETER)
+    int deleteByBoardIdIn(@Param(IDS_PARAMETER) Collection<Long> boardIds);
 }
@@ -1,35 +1,97 @@
 package com.backbase.kalah.rest;
 
+import com.backbase.kalah.dto.AiMoveDto;
 import com.backbase.kalah.dto.GameDto;
 import com.backbase.kalah.dto.GameStatusDto;
+import com.backbase.kalah.dto.GameSummaryDto;
+import com.backbase.kalah.dto.HintDto;
+import com.backbase.kalah.dto.LegalMovesDto;
+import com.backbase.kalah.dto.MonteCarloMoveDto;
+import com.backbase.kalah.dto.MoveBatchDto;
+import com.backbase.kalah.engine.Position;
+import com.backbase.kalah.engine.search.SearchResult;
 import com.backbase.kalah.model.Game;
+import com.backbase.kalah.model.GameSummary;
+import com.backbase.kalah.model.enums.PlayerTurn;
+import com.backbase.kalah.model.enums.Status;
+import com.backbase.kalah.service.AiMove;
+import com.backbase.kalah.service.GameFilter;
 import com.backbase.kalah.service.GameService;
+import com.backbase.kalah.service.MonteCarloMove;
+import com.backbase.kalah.service.MoveBatch;
+import com.backbase.kalah.utils.AiMoveDtoConverter;
 import com.backbase.kalah.utils.GameStatusDtoConverter;
+import com.backbase.kalah.utils.GameSummaryDtoConverter;
+import com.backbase.kalah.utils.HintDtoConverter;
+import com.backbase.kalah.utils.LegalMovesDtoConverter;
+import com.backbase.kalah.utils.MonteCarloMoveDtoConverter;
+import com.backbase.kalah.utils.MoveBatchDtoConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.google.common.base.Enums;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.log4j.Logger;
 import org.modelmapper.ModelMapper;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import javax.inject.Inject;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
+import static com.backbase.kalah.constant.Fields.AFTER_ID_PARAMETER;
+import static com.backbase.kalah.constant.Fields.COUNT_PARAMETER;
+import static com.backbase.kalah.constant.Fields.CREATED_FROM_PARAMETER;
+import static com.backbase.kalah.constant.Fields.CREATED_TO_PARAMETER;
+import static com.backbase.kalah.constant.Fields.DEPTH_PARAMETER;
 import static com.backbase.kalah.constant.Fields.ID_PARAMETER;
+import static com.backbase.kalah.constant.Fields.LIMIT_PARAMETER;
 import static com.backbase.kalah.constant.Fields.PIT_ID_PARAMETER;
+import static com.backbase.kalah.constant.Fields.PLAYER_TURN_PARAMETER;
+import static com.backbase.kalah.constant.Fields.STATUS_PARAMETER;
+import static com.backbase.kalah.constant.Fields.TIME_BUDGET_PARAMETER;
+import static com.backbase.kalah.constant.Messages.BULK_GAME_CREATION_FAILED_ERROR;
 import static com.backbase.kalah.constant.Messages.GAME_CREATION_FAILED_ERROR;
+import static com.backbase.kalah.constant.Messages.GAME_LISTING_FAILED_ERROR;
 import static com.backbase.kalah.constant.Messages.GAME_NOT_FOUND_ERROR;
+import static com.backbase.kalah.constant.Messages.INVALID_AFTER_ID_ERROR;
+import static com.backbase.kalah.constant.Messages.INVALID_CREATION_TIME_ERROR;
+import static com.backbase.kalah.constant.Messages.INVALID_DEPTH_ERROR;
+import static com.backbase.kalah.constant.Messages.INVALID_GAME_COUNT_ERROR;
 import static com.backbase.kalah.constant.Messages.INVALID_ID_ERROR;
+import static com.backbase.kalah.constant.Messages.INVALID_PAGE_SIZE_ERROR;
 import static com.backbase.kalah.constant.Messages.INVALID_PIT_ID_ERROR;
+import static com.backbase.kalah.constant.Messages.INVALID_PLAYER_TURN_ERROR;
+import static com.backbase.kalah.constant.Messages.INVALID_STATUS_ERROR;
+import static com.backbase.kalah.constant.Messages.INVALID_TIME_BUDGET_ERROR;
+import static com.backbase.kalah.constant.Paths.AI_MOVE_CONTEXT_PATH;
+import static com.backbase.kalah.constant.Paths.BULK_CONTEXT_PATH;
 import static com.backbase.kalah.constant.Paths.GAMES_CONTEXT_PATH;
+import static com.backbase.kalah.constant.Paths.HINT_CONTEXT_PATH;
+import static com.backbase.kalah.constant.Paths.MONTE_CARLO_MOVE_CONTEXT_PATH;
+import static com.backbase.kalah.constant.Paths.MOVES_CONTEXT_PATH;
 import static com.backbase.kalah.constant.Paths.PITS_CONTEXT_PATH;
+import static com.backbase.kalah.constant.Paths.STREAM_CONTEXT_PATH;
 
 /**
  * Controller for {@link Game}s
@@ -40,10 +102,19 @@ import static com.backbase.kalah.constant.Paths.PITS_CONTEXT_PATH;
 @RestController
 @RequestMapping("/" + GAMES_CONTEXT_PATH)
 public class GameRestController {
+    private static final String DEFAULT_AI_DEPTH = "8";
+    private static final String DEFAULT_TIME_BUDGET_MILLIS = "1000";
+    private static final String DEFAULT_PAGE_SIZE = "100";
+    private static final String FIRST_PAGE_AFTER_ID = "0";
+    // Newline delimited JSON, one game per line
+    public static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+
     private GameService gameService;
     private Logger logger;
 
     private ModelMapper mapper = new ModelMapper(); // Mapper for converting between entities and DTOs
+    private ObjectWriter gameDtoWriter = new ObjectMapper().writerFor(GameDto.class);
+    private ObjectWriter gameSummaryDtoWriter = new ObjectMapper().writerFor(GameSummaryDto.class);
 
     @Inject
     public GameRestController(GameService gameService, Logger logger) {
@@ -69,6 +140,95 @@ public class GameRestController {
         return ResponseEntity.created(URI.create(gameDto.getUri())).body(gameDto);
     }
 
+    @PostMapping(path = "/" + BULK_CONTEXT_PATH, produces = NDJSON_MEDIA_TYPE)
+    public ResponseEntity<StreamingResponseBody> createGames(@RequestParam(COUNT_PARAMETER) final String count) {
+        // Check if a valid number of games is passed, it is checked here as the response is committed once streaming
+        if ((StringUtils.isBlank(count)) || (!StringUtils.isNumeric(count)) || (count.length() > 6)
+                || (Integer.parseInt(count) < 1) || (Integer.parseInt(count) > GameService.MAX_BULK_GAME_COUNT)) {
+            logger.warn(INVALID_GAME_COUNT_ERROR);
+            throw new IllegalArgumentException(INVALID_GAME_COUNT_ERROR);
+        }
+
+        String baseUri = ServletUriComponentsBuilder.fromCurrentContextPath().path("/" + GAMES_CONTEXT_PATH)
+                .toUriString();
+
+        // The games are written as soon as their chunk is committed, so neither the games nor the response body are
+        // held in memory as a whole
+        StreamingResponseBody body = outputStream -> {
+            try {
+                gameService.createNewGames(baseUri, Integer.parseInt(count), game -> {
+                    try {
+                        outputStream.write(gameDtoWriter.writeValueAsBytes(
+                                new GameDto(String.valueOf(game.getId()), game.getUri())));
+                        outputStream.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                logger.warn(BULK_GAME_CREATION_FAILED_ERROR, e);
+                throw e.getCause();
+            }
+        };
+
+        // The content type is not derived from the mapping, as no message converter writes the streamed body
+        return ResponseEntity.status(HttpStatus.CREATED).contentType(MediaType.parseMediaType(NDJSON_MEDIA_TYPE))
+                .body(body);
+    }
+
+    @GetMapping(produces = NDJSON_MEDIA_TYPE)
+    public ResponseEntity<StreamingResponseBody> getGames(
+            @RequestParam(value = STATUS_PARAMETER, required = false) final String status,
+            @RequestParam(value = PLAYER_TURN_PARAMETER, required = false) final String playerTurn,
+            @RequestParam(value = CREATED_FROM_PARAMETER, required = false) final String createdFrom,
+            @RequestParam(value = CREATED_TO_PARAMETER, required = false) final String createdTo,
+            @RequestParam(value = AFTER_ID_PARAMETER, defaultValue = FIRST_PAGE_AFTER_ID) final String afterId,
+            @RequestParam(value = LIMIT_PARAMETER, defaultValue = DEFAULT_PAGE_SIZE) final String limit) {
+        // Check if a valid ID of the last listed game is passed
+        if ((StringUtils.isBlank(afterId)) || (!StringUtils.isNumeric(afterId)) || (afterId.length() > 18)) {
+            logger.warn(INVALID_AFTER_ID_ERROR);
+            throw new IllegalArgumentException(INVALID_AFTER_ID_ERROR);
+        }
+
+        // Check if a valid page size is passed, its range is checked by the service
+        if ((StringUtils.isBlank(limit)) || (!StringUtils.isNumeric(limit)) || (limit.length() > 4)) {
+            logger.warn(INVALID_PAGE_SIZE_ERROR);
+            throw new IllegalArgumentException(INVALID_PAGE_SIZE_ERROR);
+        }
+
+        GameFilter filter = toGameFilter(status, playerTurn, createdFrom, createdTo);
+        int pageSize = Integer.parseInt(limit);
+        List<GameSummary> page = gameService.getGames(filter, Long.parseLong(afterId), pageSize);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON_MEDIA_TYPE));
+
+        // A full page links to the next one, which starts after its last game
+        if (page.size() == pageSize) {
+            String nextPageUri = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam(AFTER_ID_PARAMETER, page.get(page.size() - 1).getId()).toUriString();
+            response.header(HttpHeaders.LINK, "<" + nextPageUri + ">; rel=\"next\"");
+        }
+
+        return response.body(outputStream -> writeGameSummaries(outputStream, page::forEach));
+    }
+
+    @GetMapping(path = "/" + STREAM_CONTEXT_PATH, produces = NDJSON_MEDIA_TYPE)
+    public ResponseEntity<StreamingResponseBody> streamGames(
+            @RequestParam(value = STATUS_PARAMETER, required = false) final String status,
+            @RequestParam(value = PLAYER_TURN_PARAMETER, required = false) final String playerTurn,
+            @RequestParam(value = CREATED_FROM_PARAMETER, required = false) final String createdFrom,
+            @RequestParam(value = CREATED_TO_PARAMETER, required = false) final String createdTo) {
+        // The filter is checked here as the response is committed once streaming
+        GameFilter filter = toGameFilter(status, playerTurn, createdFrom, createdTo);
+
+        // The games are written while they are read, so neither the games nor the response body are held in memory
+        // as a whole
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON_MEDIA_TYPE))
+                .body(outputStream -> writeGameSummaries(outputStream,
+                        gameConsumer -> gameService.streamGames(filter, gameConsumer)));
+    }
+
     @PutMapping(path = "/{id}/" + PITS_CONTEXT_PATH + "/{pitId}",
             produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<GameStatusDto> makeMove(@PathVariable(ID_PARAMETER) final String id,
@@ -101,4 +261,199 @@ public class GameRestController {
 
         return ResponseEntity.ok().body(dto);
     }
+
+    @PostMapping(path = "/{id}/" + MOVES_CONTEXT_PATH, consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<MoveBatchDto> makeMoves(@PathVariable(ID_PARAMETER) final String id,
+                                                  @RequestBody final List<Integer> pitIds) {
+        // Check if a valid game ID is passed
+        if ((StringUtils.isBlank(id)) || (!StringUtils.isNumeric(id))) {
+            logger.warn(INVALID_ID_ERROR);
+            throw new IllegalArgumentException(INVALID_ID_ERROR);
+        }
+
+        // pitId - 1 as it should be zero based but in the interface is it's one based, the range is checked by the
+        // service
+        List<Integer> zeroBasedPitIds = new ArrayList<>(pitIds.size());
+        for (Integer pitId : pitIds) {
+            if (pitId == null) {
+                logger.warn(INVALID_PIT_ID_ERROR);
+                throw new IllegalArgumentException(INVALID_PIT_ID_ERROR);
+            }
+
+            zeroBasedPitIds.add(pitId - 1);
+        }
+
+        Optional<MoveBatch> moveBatchOptional = gameService.makeMoves(Long.parseLong(id), zeroBasedPitIds);
+
+        if (!moveBatchOptional.isPresent()) {
+            logger.warn(GAME_NOT_FOUND_ERROR);
+            return ResponseEntity.notFound().build();
+        }
+
+        MoveBatchDto dto = MoveBatchDtoConverter.toMoveBatchDto(moveBatchOptional.get());
+
+        return ResponseEntity.ok().body(dto);
+    }
+
+    @GetMapping(path = "/{id}/" + MOVES_CONTEXT_PATH, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<LegalMovesDto> getLegalMoves(@PathVariable(ID_PARAMETER) final String id) {
+        // Check if a valid game ID is passed
+        if ((StringUtils.isBlank(id)) || (!StringUtils.isNumeric(id))) {
+            logger.warn(INVALID_ID_ERROR);
+            throw new IllegalArgumentException(INVALID_ID_ERROR);
+        }
+
+        long idLong = Long.parseLong(id);
+        Optional<Position> positionOptional = gameService.getPosition(idLong);
+
+        if (!positionOptional.isPresent()) {
+            logger.warn(GAME_NOT_FOUND_ERROR);
+            return ResponseEntity.notFound().build();
+        }
+
+        LegalMovesDto dto = LegalMovesDtoConverter.toLegalMovesDto(idLong, positionOptional.get());
+
+        return ResponseEntity.ok().body(dto);
+    }
+
+    @PostMapping(path = "/{id}/" + AI_MOVE_CONTEXT_PATH, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<AiMoveDto> makeAiMove(@PathVariable(ID_PARAMETER) final String id,
+                                                @RequestParam(value = DEPTH_PARAMETER, defaultValue = DEFAULT_AI_DEPTH)
+                                                final String depth) {
+        // Check if a valid game ID is passed
+        if ((StringUtils.isBlank(id)) || (!StringUtils.isNumeric(id))) {
+            logger.warn(INVALID_ID_ERROR);
+            throw new IllegalArgumentException(INVALID_ID_ERROR);
+        }
+
+        // Check if a valid search depth is passed, its range is checked by the service
+        if ((StringUtils.isBlank(depth)) || (!StringUtils.isNumeric(depth)) || (depth.length() > 2)) {
+            logger.warn(INVALID_DEPTH_ERROR);
+            throw new IllegalArgumentException(INVALID_DEPTH_ERROR);
+        }
+
+        Optional<AiMove> aiMoveOptional = gameService.makeAiMove(Long.parseLong(id), Integer.parseInt(depth));
+
+        if (!aiMoveOptional.isPresent()) {
+            logger.warn(GAME_NOT_FOUND_ERROR);
+            return ResponseEntity.notFound().build();
+        }
+
+        AiMoveDto dto = AiMoveDtoConverter.toAiMoveDto(aiMoveOptional.get());
+
+        return ResponseEntity.ok().body(dto);
+    }
+
+    @PostMapping(path = "/{id}/" + MONTE_CARLO_MOVE_CONTEXT_PATH, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<MonteCarloMoveDto> makeMonteCarloMove(@PathVariable(ID_PARAMETER) final String id,
+                                                                @RequestParam(value = TIME_BUDGET_PARAMETER,
+                                                                        defaultValue = DEFAULT_TIME_BUDGET_MILLIS)
+                                                                final String timeBudget) {
+        // Check if a valid game ID is passed
+        if ((StringUtils.isBlank(id)) || (!StringUtils.isNumeric(id))) {
+            logger.warn(INVALID_ID_ERROR);
+            throw new IllegalArgumentException(INVALID_ID_ERROR);
+        }
+
+        // Check if a valid time budget in milliseconds is passed, its range is checked by the service
+        if ((StringUtils.isBlank(timeBudget)) || (!StringUtils.isNumeric(timeBudget)) || (timeBudget.length() > 9)) {
+            logger.warn(INVALID_TIME_BUDGET_ERROR);
+            throw new IllegalArgumentException(INVALID_TIME_BUDGET_ERROR);
+        }
+
+        Optional<MonteCarloMove> monteCarloMoveOptional =
+                gameService.makeMonteCarloMove(Long.parseLong(id), Long.parseLong(timeBudget));
+
+        if (!monteCarloMoveOptional.isPresent()) {
+            logger.warn(GAME_NOT_FOUND_ERROR);
+            return ResponseEntity.notFound().build();
+        }
+
+        MonteCarloMoveDto dto = MonteCarloMoveDtoConverter.toMonteCarloMoveDto(monteCarloMoveOptional.get());
+
+        return ResponseEntity.ok().body(dto);
+    }
+
+    @GetMapping(path = "/{id}/" + HINT_CONTEXT_PATH, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<HintDto> getHint(@PathVariable(ID_PARAMETER) final String id,
+                                           @RequestParam(value = DEPTH_PARAMETER, defaultValue = DEFAULT_AI_DEPTH)
+                                           final String depth) {
+        // Check if a valid game ID is passed
+        if ((StringUtils.isBlank(id)) || (!StringUtils.isNumeric(id))) {
+            logger.warn(INVALID_ID_ERROR);
+            throw new IllegalArgumentException(INVALID_ID_ERROR);
+        }
+
+        // Check if a valid search depth is passed, its range is checked by the service
+        if ((StringUtils.isBlank(depth)) || (!StringUtils.isNumeric(depth)) || (depth.length() > 2)) {
+            logger.warn(INVALID_DEPTH_ERROR);
+            throw new IllegalArgumentException(INVALID_DEPTH_ERROR);
+        }
+
+        long idLong = Long.parseLong(id);
+        Optional<SearchResult> hintOptional = gameService.getHint(idLong, Integer.parseInt(depth));
+
+        if (!hintOptional.isPresent()) {
+            logger.warn(GAME_NOT_FOUND_ERROR);
+            return ResponseEntity.notFound().build();
+        }
+
+        HintDto dto = HintDtoConverter.toHintDto(idLong, hintOptional.get());
+
+        return ResponseEntity.ok().body(dto);
+    }
+
+    private GameFilter toGameFilter(String status, String playerTurn, String createdFrom, String createdTo) {
+        Status statusValue = null;
+        if (status != null) {
+            statusValue = Enums.getIfPresent(Status.class, status).orNull();
+            if (statusValue == null) {
+                logger.warn(INVALID_STATUS_ERROR);
+                throw new IllegalArgumentException(INVALID_STATUS_ERROR);
+            }
+        }
+
+        PlayerTurn playerTurnValue = null;
+        if (playerTurn != null) {
+            playerTurnValue = Enums.getIfPresent(PlayerTurn.class, playerTurn).orNull();
+            if (playerTurnValue == null) {
+                logger.warn(INVALID_PLAYER_TURN_ERROR);
+                throw new IllegalArgumentException(INVALID_PLAYER_TURN_ERROR);
+            }
+        }
+
+        return new GameFilter(statusValue, playerTurnValue, toInstant(createdFrom), toInstant(createdTo));
+    }
+
+    private Instant toInstant(String time) {
+        if (time == null) {
+            return null;
+        }
+
+        try {
+            return Instant.parse(time);
+        } catch (DateTimeParseException e) {
+            logger.warn(INVALID_CREATION_TIME_ERROR);
+            throw new IllegalArgumentException(INVALID_CREATION_TIME_ERROR, e);
+        }
+    }
+
+    private void writeGameSummaries(OutputStream outputStream, Consumer<Consumer<GameSummary>> gameSummaries)
+            throws IOException {
+        try {
+            gameSummaries.accept(gameSummary -> {
+                try {
+                    outputStream.write(gameSummaryDtoWriter.writeValueAsBytes(
+                            GameSummaryDtoConverter.toGameSummaryDto(gameSummary)));
+                    outputStream.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            logger.warn(GAME_LISTING_FAILED_ERROR, e);
+            throw e.getCause();
+        }
+    }
 }
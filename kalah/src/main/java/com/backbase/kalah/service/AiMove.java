@@ -0,0 +1,28 @@
+package com.backbase.kalah.service;
+
+import com.backbase.kalah.engine.search.SearchResult;
+import com.backbase.kalah.model.Game;
+
+/**
+ * A move made by the computer opponent, i.e. the game after the move and the search that chose it
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class AiMove {
+    private final Game game;
+    private final SearchResult searchResult;
+
+    public AiMove(Game game, SearchResult searchResult) {
+        this.game = game;
+        this.searchResult = searchResult;
+    }
+
+    public Game getGame() {
+        return game;
+    }
+
+    public SearchResult getSearchResult() {
+        return searchResult;
+    }
+}
@@ -0,0 +1,235 @@
+package com.backbase.kalah.service;
+
+import com.backbase.kalah.engine.BoardState;
+import com.backbase.kalah.engine.MoveGenerator;
+import com.backbase.kalah.engine.book.OpeningBook;
+import com.backbase.kalah.engine.endgame.EndgameTablebase;
+import com.backbase.kalah.engine.search.AlphaBetaSearch;
+import com.backbase.kalah.engine.search.LazySmpSearch;
+import com.backbase.kalah.engine.search.SearchResult;
+import com.backbase.kalah.engine.search.TranspositionTable;
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.backbase.kalah.constant.Messages.ENDGAME_TABLEBASE_LOADED_MESSAGE;
+import static com.backbase.kalah.constant.Messages.ENDGAME_TABLEBASE_LOADING_FAILED_ERROR;
+import static com.backbase.kalah.constant.Messages.INVALID_DEPTH_ERROR;
+import static com.backbase.kalah.constant.Messages.INVALID_THREAD_COUNT_ERROR;
+import static com.backbase.kalah.constant.Messages.OPENING_BOOK_HIT_MESSAGE;
+import static com.backbase.kalah.constant.Messages.OPENING_BOOK_LOADED_MESSAGE;
+import static com.backbase.kalah.constant.Messages.OPENING_BOOK_LOADING_FAILED_ERROR;
+import static com.backbase.kalah.constant.Messages.SEARCH_COMPLETED_MESSAGE;
+
+/**
+ * A service for finding the best move of the computer opponent.
+ * All searches share one transposition table, so positions searched for one game speed up the searches of others.
+ * With more than one search thread configured, the calling thread is joined by helpers from a bounded pool, see
+ * {@link LazySmpSearch}. As the pool has one thread less than a search uses, concurrent AI moves share the helpers,
+ * and a search simply runs with fewer threads when the pool is busy.
+ * If an opening book file is configured, the positions of the first plies are looked up in it before searching, see
+ * {@link OpeningBook}, and if an endgame tablebase file is configured, positions with few stones left are played
+ * perfectly without searching, see {@link EndgameTablebase}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@Service
+public class AiService {
+    private static final String SEARCH_THREAD_NAME_FORMAT = "ai-search-%d";
+    // Number of helper tasks that may wait for a pool thread per pool thread
+    private static final int QUEUED_HELPERS_PER_THREAD = 2;
+
+    private Logger logger;
+    private TranspositionTable transpositionTable;
+    private EndgameTablebase endgameTablebase;
+    private OpeningBook openingBook;
+    private LongAdder openingBookLookups = new LongAdder();
+    private LongAdder openingBookHits = new LongAdder();
+    private int maxDepth;
+    private ThreadPoolExecutor helperExecutor;
+    private LazySmpSearch parallelSearch;
+
+    @Inject
+    public AiService(@Value("${kalah.ai.max-depth:16}") int maxDepth,
+                     @Value("${kalah.ai.transposition-table-size-bits:20}") int transpositionTableSizeBits,
+                     @Value("${kalah.ai.threads:1}") int threads,
+                     @Value("${kalah.ai.endgame-tablebase-file:}") String endgameTablebaseFile,
+                     @Value("${kalah.ai.opening-book-file:}") String openingBookFile,
+                     Logger logger) {
+        Preconditions.checkArgument(maxDepth >= 1 && maxDepth <= AlphaBetaSearch.MAX_DEPTH, INVALID_DEPTH_ERROR);
+        Preconditions.checkArgument(threads >= 1, INVALID_THREAD_COUNT_ERROR);
+
+        this.maxDepth = maxDepth;
+        this.transpositionTable = new TranspositionTable(transpositionTableSizeBits);
+        this.logger = logger;
+        this.endgameTablebase = loadEndgameTablebase(endgameTablebaseFile);
+        this.openingBook = loadOpeningBook(openingBookFile);
+
+        if (threads > 1) {
+            int helperThreads = threads - 1;
+            helperExecutor = new ThreadPoolExecutor(helperThreads, helperThreads, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(helperThreads * QUEUED_HELPERS_PER_THREAD),
+                    new ThreadFactoryBuilder().setNameFormat(SEARCH_THREAD_NAME_FORMAT).setDaemon(true).build());
+            parallelSearch = new LazySmpSearch(transpositionTable, endgameTablebase, helperExecutor, threads);
+        }
+    }
+
+    /**
+     * Searches the best move for the player whose turn it is
+     *
+     * @param state The board state, which must have a legal move
+     * @param depth The search depth in plies, between 1 and the configured maximum depth
+     * @return The best move with the search statistics
+     */
+    public SearchResult search(BoardState state, int depth) {
+        Preconditions.checkArgument(depth >= 1 && depth <= maxDepth, INVALID_DEPTH_ERROR);
+
+        Optional<SearchResult> bookResult = probeOpeningBook(state, depth);
+        if (bookResult.isPresent()) {
+            return bookResult.get();
+        }
+
+        SearchResult result = parallelSearch != null
+                ? parallelSearch.search(state, depth)
+                : new AlphaBetaSearch(transpositionTable, endgameTablebase).search(state, depth);
+
+        long[] timeToDepthMillis = new long[depth];
+        for (int i = 1; i <= depth; i++) {
+            timeToDepthMillis[i - 1] = TimeUnit.NANOSECONDS.toMillis(result.getTimeToDepthNanos(i));
+        }
+
+        logger.info(String.format(SEARCH_COMPLETED_MESSAGE, depth, result.getBestMove() + 1, result.getScore(),
+                result.getNodes(), TimeUnit.NANOSECONDS.toMillis(result.getElapsedNanos()),
+                result.getNodesPerSecond(), Arrays.toString(timeToDepthMillis)));
+
+        return result;
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * @return The number of threads per search including the calling one
+     */
+    public int getThreads() {
+        return parallelSearch != null ? parallelSearch.getThreadCount() : 1;
+    }
+
+    /**
+     * @return The highest number of stones left in the normal pits for which moves are taken from the endgame
+     * tablebase, or -1 without a tablebase
+     */
+    public int getEndgameTablebaseStones() {
+        return endgameTablebase != null ? endgameTablebase.getMaxStones() : -1;
+    }
+
+    /**
+     * @return The number of searches looked up in the opening book
+     */
+    public long getOpeningBookLookups() {
+        return openingBookLookups.sum();
+    }
+
+    /**
+     * @return The number of searches answered by the opening book
+     */
+    public long getOpeningBookHits() {
+        return openingBookHits.sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (helperExecutor != null) {
+            helperExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Maps the configured tablebase file, the AI falls back to searching all positions if there is none or it cannot
+     * be read
+     */
+    private EndgameTablebase loadEndgameTablebase(String endgameTablebaseFile) {
+        if (StringUtils.isBlank(endgameTablebaseFile)) {
+            return null;
+        }
+
+        try {
+            EndgameTablebase tablebase = EndgameTablebase.open(Paths.get(endgameTablebaseFile));
+            logger.info(String.format(ENDGAME_TABLEBASE_LOADED_MESSAGE, endgameTablebaseFile,
+                    tablebase.getMaxStones()));
+            return tablebase;
+        } catch (IOException | IllegalArgumentException e) {
+            logger.warn(String.format(ENDGAME_TABLEBASE_LOADING_FAILED_ERROR, endgameTablebaseFile), e);
+            return null;
+        }
+    }
+
+    /**
+     * Looks the state up in the opening book. Entries searched less deep than requested are ignored, so the book never
+     * plays weaker than the search would
+     *
+     * @return The book move if there is one, {@link Optional#EMPTY} otherwise
+     */
+    private Optional<SearchResult> probeOpeningBook(BoardState state, int depth) {
+        if (openingBook == null) {
+            return Optional.empty();
+        }
+
+        long startTime = System.nanoTime();
+        openingBookLookups.increment();
+        long entry = openingBook.probe(state);
+
+        if ((entry == OpeningBook.MISS) || (OpeningBook.getDepth(entry) < depth)
+                || !MoveGenerator.isLegalMove(state, OpeningBook.getMove(entry))) {
+            return Optional.empty();
+        }
+
+        openingBookHits.increment();
+
+        int bookDepth = OpeningBook.getDepth(entry);
+        long elapsedNanos = System.nanoTime() - startTime;
+        long[] timeToDepthNanos = new long[bookDepth];
+        Arrays.fill(timeToDepthNanos, elapsedNanos);
+
+        logger.info(String.format(OPENING_BOOK_HIT_MESSAGE, OpeningBook.getMove(entry) + 1, OpeningBook.getScore(entry),
+                bookDepth));
+
+        return Optional.of(new SearchResult(OpeningBook.getMove(entry), OpeningBook.getScore(entry), bookDepth, 0L,
+                elapsedNanos, timeToDepthNanos));
+    }
+
+    /**
+     * Maps the configured opening book file, the AI searches the first plies like any other position if there is none
+     * or it cannot be read
+     */
+    private OpeningBook loadOpeningBook(String openingBookFile) {
+        if (StringUtils.isBlank(openingBookFile)) {
+            return null;
+        }
+
+        try {
+            OpeningBook book = OpeningBook.open(Paths.get(openingBookFile));
+            logger.info(String.format(OPENING_BOOK_LOADED_MESSAGE, openingBookFile, book.size()));
+            return book;
+        } catch (IOException | IllegalArgumentException e) {
+            logger.warn(String.format(OPENING_BOOK_LOADING_FAILED_ERROR, openingBookFile), e);
+            return null;
+        }
+    }
+}
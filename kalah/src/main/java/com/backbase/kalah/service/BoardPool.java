@@ -0,0 +1,282 @@
+package com.backbase.kalah.service;
+
+import com.backbase.kalah.model.Board;
+import com.backbase.kalah.repository.BoardRepository;
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.backbase.kalah.constant.Messages.BOARDS_RECOVERED_MESSAGE;
+import static com.backbase.kalah.constant.Messages.BOARD_POOL_REFILL_FAILED_MESSAGE;
+import static com.backbase.kalah.constant.Messages.INVALID_BOARD_POOL_LEAD_TIME_ERROR;
+import static com.backbase.kalah.constant.Messages.INVALID_BOARD_POOL_REFILL_INTERVAL_ERROR;
+import static com.backbase.kalah.constant.Messages.INVALID_BOARD_POOL_SIZE_ERROR;
+
+/**
+ * Pool of initialized boards stored ahead of time and not assigned to any game yet, so creating a game only inserts
+ * the game referring to a pooled board. If enabled, a background thread refills the pool every refill interval up to
+ * its target size, which follows the rate at which games are created: it holds the boards needed for the lead time at
+ * the average rate, within the minimum and maximum size. A game created while the pool is empty gets a new board as
+ * without pool and triggers a refill right away.
+ * Boards left in the pool by the last shutdown are recovered at startup, which assumes a single application instance
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@Component
+public class BoardPool {
+    // Boards inserted per transaction, a multiple of the ID allocation size and of the JDBC batch size
+    static final int REFILL_CHUNK_SIZE = 500;
+    // Weight of the latest creation rate in its moving average
+    static final double DEMAND_SMOOTHING_FACTOR = 0.3;
+
+    private static final String REFILL_THREAD_NAME_FORMAT = "board-pool-refill-%d";
+
+    private Logger logger;
+    private BoardService boardService;
+    private BoardRepository boardRepository;
+    private TransactionTemplate transactionTemplate;
+    private boolean enabled;
+    private int minSize;
+    private int maxSize;
+    private long leadTimeMillis;
+    private ScheduledExecutorService refillExecutor;
+
+    private final BlockingQueue<Long> availableBoardIds = new LinkedBlockingQueue<>();
+    private final AtomicBoolean refillRequested = new AtomicBoolean();
+    private volatile int targetSize;
+    // Moving average of the games created per second, and the claims and misses counted by its last update
+    private volatile double demandPerSecond;
+    private long lastDemand;
+    private long lastUpdateNanos = System.nanoTime();
+
+    private final LongAdder claims = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder claimNanos = new LongAdder();
+
+    @Inject
+    public BoardPool(BoardService boardService, BoardRepository boardRepository,
+                     PlatformTransactionManager transactionManager,
+                     @Value("${kalah.storage.board-pool.enabled:false}") boolean enabled,
+                     @Value("${kalah.storage.board-pool.min-size:100}") int minSize,
+                     @Value("${kalah.storage.board-pool.max-size:5000}") int maxSize,
+                     @Value("${kalah.storage.board-pool.lead-time-millis:2000}") long leadTimeMillis,
+                     @Value("${kalah.storage.board-pool.refill-interval-millis:100}") long refillIntervalMillis,
+                     Logger logger) {
+        Preconditions.checkArgument(minSize >= 0 && maxSize >= 1 && minSize <= maxSize, INVALID_BOARD_POOL_SIZE_ERROR);
+        Preconditions.checkArgument(leadTimeMillis > 0, INVALID_BOARD_POOL_LEAD_TIME_ERROR);
+        Preconditions.checkArgument(refillIntervalMillis > 0, INVALID_BOARD_POOL_REFILL_INTERVAL_ERROR);
+
+        this.boardService = boardService;
+        this.boardRepository = boardRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.leadTimeMillis = leadTimeMillis;
+        this.targetSize = minSize;
+        this.logger = logger;
+
+        if (enabled) {
+            refillExecutor = Executors.newSingleThreadScheduledExecutor(
+                    new ThreadFactoryBuilder().setNameFormat(REFILL_THREAD_NAME_FORMAT).setDaemon(true).build());
+            refillExecutor.execute(this::recoverUnassignedBoards);
+            refillExecutor.scheduleWithFixedDelay(this::adjustAndRefill, 0, refillIntervalMillis,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * @return True if games get their boards from the pool
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Claims a pooled board for a new game, which must be called within the transaction creating the game. A board
+     * claimed by a transaction rolled back is not pooled again before the next startup
+     *
+     * @return A board of the pool if there is one, {@link Optional#EMPTY} otherwise
+     */
+    public Optional<Board> claim() {
+        long startNanos = System.nanoTime();
+
+        Long boardId;
+        while ((boardId = availableBoardIds.poll()) != null) {
+            // Read from the second-level cache in general, as the board has just been written
+            Optional<Board> board = boardService.get(boardId);
+            if (board.isPresent()) {
+                claims.increment();
+                claimNanos.add(System.nanoTime() - startNanos);
+                return board;
+            }
+        }
+
+        misses.increment();
+        requestRefill();
+        return Optional.empty();
+    }
+
+    /**
+     * Inserts initialized boards into the pool up to its target size, in transactions of {@link #REFILL_CHUNK_SIZE}
+     * boards each
+     *
+     * @return The number of inserted boards
+     */
+    public int refill() {
+        int refilledBoards = 0;
+        int missingBoards;
+
+        while ((missingBoards = targetSize - availableBoardIds.size()) > 0 && !Thread.currentThread().isInterrupted()) {
+            int chunkSize = Math.min(missingBoards, REFILL_CHUNK_SIZE);
+
+            List<Long> boardIds = transactionTemplate.execute(status -> {
+                List<Long> chunk = new ArrayList<>(chunkSize);
+                for (int i = 0; i < chunkSize; i++) {
+                    chunk.add(boardService.create(boardService.initBoard()).getId());
+                }
+                return chunk;
+            });
+
+            // Only committed boards are pooled
+            availableBoardIds.addAll(boardIds);
+            refilledBoards += chunkSize;
+        }
+
+        return refilledBoards;
+    }
+
+    /**
+     * @return The number of boards in the pool
+     */
+    public int getAvailableBoardCount() {
+        return availableBoardIds.size();
+    }
+
+    /**
+     * @return The number of boards the pool is refilled to
+     */
+    public int getTargetSize() {
+        return targetSize;
+    }
+
+    /**
+     * @return The average number of games created per second, as of the last refill
+     */
+    public double getDemandPerSecond() {
+        return demandPerSecond;
+    }
+
+    /**
+     * @return The number of boards claimed since startup
+     */
+    public long getClaimCount() {
+        return claims.sum();
+    }
+
+    /**
+     * @return The number of games created without a pooled board since startup, as the pool was empty
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return The average time to claim a pooled board since startup in microseconds
+     */
+    public double getMeanClaimLatencyMicros() {
+        long claimCount = claims.sum();
+        return claimCount == 0 ? 0.0 : claimNanos.sum() / 1000.0 / claimCount;
+    }
+
+    /**
+     * Stops refilling, the pooled boards are recovered by the next startup
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (refillExecutor != null) {
+            refillExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Updates the average creation rate by the games created since the last update and sets the target size to the
+     * boards needed for the lead time at that rate
+     *
+     * @param elapsedNanos The time since the last update
+     */
+    void updateTargetSize(long elapsedNanos) {
+        if (elapsedNanos <= 0) {
+            return;
+        }
+
+        long demand = claims.sum() + misses.sum();
+        double latestDemandPerSecond = (demand - lastDemand) * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        lastDemand = demand;
+
+        demandPerSecond = DEMAND_SMOOTHING_FACTOR * latestDemandPerSecond
+                + (1 - DEMAND_SMOOTHING_FACTOR) * demandPerSecond;
+        long neededBoards = (long) Math.ceil(demandPerSecond * leadTimeMillis / 1000.0);
+        targetSize = (int) Math.max(minSize, Math.min(maxSize, neededBoards));
+    }
+
+    /**
+     * Pools the boards no game refers to that have never been moved, up to the maximum size. Runs once before the
+     * first refill, as these are the boards pooled by the last run
+     */
+    void recoverUnassignedBoards() {
+        try {
+            List<Long> boardIds = boardRepository.findUnassignedInitialBoardIds(new PageRequest(0, maxSize));
+            availableBoardIds.addAll(boardIds);
+
+            if (!boardIds.isEmpty()) {
+                logger.info(String.format(BOARDS_RECOVERED_MESSAGE, boardIds.size()));
+            }
+        } catch (RuntimeException exp) {
+            logger.warn(BOARD_POOL_REFILL_FAILED_MESSAGE, exp);
+        }
+    }
+
+    private void adjustAndRefill() {
+        long now = System.nanoTime();
+        try {
+            updateTargetSize(now - lastUpdateNanos);
+            lastUpdateNanos = now;
+            refill();
+        } catch (RuntimeException exp) {
+            logger.warn(BOARD_POOL_REFILL_FAILED_MESSAGE, exp);
+        }
+    }
+
+    private void requestRefill() {
+        if ((refillExecutor != null) && refillRequested.compareAndSet(false, true)) {
+            refillExecutor.execute(() -> {
+                refillRequested.set(false);
+                try {
+                    refill();
+                } catch (RuntimeException exp) {
+                    logger.warn(BOARD_POOL_REFILL_FAILED_MESSAGE, exp);
+                }
+            });
+        }
+    }
+}
@@ -1,19 +1,27 @@
 package com.backbase.kalah.service;
 
 import com.backbase.kalah.constant.Constants;
+import com.backbase.kalah.engine.BoardState;
+import com.backbase.kalah.engine.KalahRules;
+import com.backbase.kalah.engine.Position;
 import com.backbase.kalah.error.KalahGameException;
 import com.backbase.kalah.model.Board;
 import com.backbase.kalah.model.Pit;
 import com.backbase.kalah.model.enums.GameResult;
-import com.backbase.kalah.model.enums.PlayerTurn;
 import com.backbase.kalah.repository.BoardRepository;
+import com.backbase.kalah.utils.BoardStateConverter;
+import com.backbase.kalah.utils.MoveListCodec;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
 import org.apache.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import javax.inject.Inject;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,14 +35,11 @@ import static com.backbase.kalah.constant.Messages.GAME_FINISHED_ERROR;
 import static com.backbase.kalah.constant.Messages.INVALID_PIT_ID_ERROR;
 import static com.backbase.kalah.constant.Messages.ITEM_NOT_FOUND_ERROR;
 import static com.backbase.kalah.constant.Messages.KALAH_MOVE_ERROR;
+import static com.backbase.kalah.constant.Messages.MOVE_BATCH_STOPPED_MESSAGE;
 import static com.backbase.kalah.constant.Messages.NEW_BOARD_INITIALIZED_SUCCESSFULLY_MESSAGE;
 import static com.backbase.kalah.constant.Messages.NOT_PLAYER_TURN_ERROR;
 import static com.backbase.kalah.constant.Messages.PIT_EMPTY_ERROR;
 import static com.backbase.kalah.constant.Messages.PLAY_AGAIN_MESSAGE;
-import static com.backbase.kalah.model.enums.PlayerTurn.PLAYER_1;
-import static com.backbase.kalah.model.enums.PlayerTurn.PLAYER_2;
-import static com.backbase.kalah.model.enums.Status.FINISHED;
-import static com.backbase.kalah.model.enums.Status.RUNNING;
 
 /**
  * A service for managing kalah {@link Board}s
@@ -46,10 +51,20 @@ import static com.backbase.kalah.model.enums.Status.RUNNING;
 public class BoardService implements CrudService<Board> {
     private Logger logger;
     private BoardRepository boardRepository;
+    private boolean packedBoards;
 
+    /**
+     * @param boardRepository The repository of the boards
+     * @param packedBoards    True if new boards store their stones in one packed column, false if as one pit row per
+     *                        pit
+     * @param logger          The logger
+     */
     @Inject
-    public BoardService(BoardRepository boardRepository, Logger logger) {
+    public BoardService(BoardRepository boardRepository,
+                        @Value("${kalah.storage.packed-boards:false}") boolean packedBoards,
+                        Logger logger) {
         this.boardRepository = boardRepository;
+        this.packedBoards = packedBoards;
         this.logger = logger;
     }
 
@@ -99,6 +114,7 @@ public class BoardService implements CrudService<Board> {
      */
     public Board createInitializedBoard() {
         Board board = initBoard();
+        logger.info(NEW_BOARD_INITIALIZED_SUCCESSFULLY_MESSAGE);
 
         return create(board);
     }
@@ -120,266 +136,208 @@ public class BoardService implements CrudService<Board> {
             return Optional.empty();
         }
 
-        Board board = boardOptional.get();
-
-        // check if the game is still running
-        if (board.getStatus() != RUNNING) {
-            logger.warn(GAME_FINISHED_ERROR);
-            throw new KalahGameException(GAME_FINISHED_ERROR);
-        }
-
-        // Check if the player wants to play from a Kalah
-        if (isKalah(pitId)) {
-            logger.warn(KALAH_MOVE_ERROR);
-            throw new KalahGameException(KALAH_MOVE_ERROR);
-        }
-
-        // Check if it is the player's turn
-        if (!isPlayerTurn(board, pitId)) {
-            logger.warn(NOT_PLAYER_TURN_ERROR);
-            throw new KalahGameException(NOT_PLAYER_TURN_ERROR);
-        }
-
-        Pit desiredPit = board.getPits().get(pitId);
-        int stones = desiredPit.getStoneCount();
-        if (stones == 0) {
-            logger.warn(PIT_EMPTY_ERROR);
-            throw new KalahGameException(PIT_EMPTY_ERROR + ", " + PLAY_AGAIN_MESSAGE);
-        }
-
-        return Optional.of(makeMove(board, desiredPit));
+        return Optional.of(makeMove(boardOptional.get(), pitId));
     }
 
     /**
-     * Creates a new initialized {@link Board}
+     * Makes a move on the given board
      *
-     * @return The newly created board
+     * @param board The board, already loaded by the caller
+     * @param pitId The ID of the pit to be used for making the move
+     * @return The board after making the move
      */
-    Board initBoard() {
-        Board board = new Board();
-
-        List<Pit> player1Pits = initPlayerPits(board, 0, PLAYER_1_KALAH, COUNT_OF_ALL_PITS - 2);
-        List<Pit> player2Pits = initPlayerPits(board, COUNT_OF_PLAYER_PITS, PLAYER_2_KALAH, COUNT_OF_PLAYER_PITS - 2);
+    public Board makeMove(Board board, int pitId) {
+        BoardState state = BoardStateConverter.toBoardState(board);
+        applyMove(state, pitId);
+        board.setMoveList(MoveListCodec.append(board.getMoveList(), Collections.singletonList(pitId), 1));
 
-        List<Pit> allPits = new ArrayList<>(player1Pits);
-        allPits.addAll(player2Pits);
-
-        board.setPits(allPits);
-        logger.info(NEW_BOARD_INITIALIZED_SUCCESSFULLY_MESSAGE);
-        return board;
+        return saveState(board, state);
     }
 
     /**
-     * Makes the actual move
+     * Makes a move on the given state without reading or saving any board, e.g. for games held in memory
      *
-     * @param board The board
-     * @param pit   The pit to be used
-     * @return The new board status
+     * @param state The board state to be changed
+     * @param pitId The ID of the pit to be used for making the move
      */
-    private Board makeMove(Board board, Pit pit) {
-        int stones = pit.getStoneCount();
-        pit.setStoneCount(0); // Set stone count to 0 as we should empty the desired pit
-
-        PlayerTurn playerTurn = board.getPlayerTurn();
-        Pit lastVisitedPit = pit; // represents the last pit that received a stone
-        Pit nextPit = board.getPits().get(pit.getNextPitIndex());
-
-        int i = 0;
-        while (i < stones) {
-            // If it is not my own Kalah, then I should not drop a stone into it
-            if (!isOpponentKalah(playerTurn, nextPit)) {
-                nextPit.incrementStones(1);
-                i++;
-            }
-
-            lastVisitedPit = nextPit;
-            nextPit = board.getPits().get(nextPit.getNextPitIndex());
-        }
-
-        // If the last one is placed into my Kalah, then we should not switch players, just check if the game is finished
-        if (isMyKalah(playerTurn, lastVisitedPit)) {
-            boolean isFinished = isGameFinished(board);
-            if (isFinished) {
-                processFinishedGame(board);
-            }
-
-            return boardRepository.save(board);
-        }
-
-        // Switch player turn
-        PlayerTurn nextPlayerTurn = playerTurn == PLAYER_1 ? PLAYER_2 : PLAYER_1;
-        board.setPlayerTurn(nextPlayerTurn);
-
-        // If the last placed stone is dropped into an empty pit (one of her own pits not her opponents)
-        // then we should collect all opposite pit stones if not zero
-        if ((lastVisitedPit.getStoneCount() == 1) && (isMyOwnNormalPit(playerTurn, lastVisitedPit))) {
-            Pit oppositePit = board.getPits().get(lastVisitedPit.getOppositePitIndex());
-            if (oppositePit.getStoneCount() != 0) {
-                int totalStones = lastVisitedPit.getStoneCount() + oppositePit.getStoneCount();
-
-                // clear stones in both pits and move them to the right Kalah
-                lastVisitedPit.setStoneCount(0);
-                oppositePit.setStoneCount(0);
-
-                Pit myKalah = getMyKalah(board, playerTurn);
-                int kalahStones = myKalah.getStoneCount();
-                myKalah.setStoneCount(kalahStones + totalStones);
-            }
-        }
+    public void applyMove(BoardState state, int pitId) {
+        Preconditions.checkArgument(pitId >= 0 && pitId < COUNT_OF_ALL_PITS, INVALID_PIT_ID_ERROR);
 
-        boolean isFinished = isGameFinished(board);
-        if (isFinished) {
-            processFinishedGame(board);
+        String moveError = getMoveError(state, pitId);
+        if (moveError != null) {
+            logger.warn(moveError);
+            throw new KalahGameException(moveError);
         }
 
-        return boardRepository.save(board);
-    }
-
-    private void processFinishedGame(Board board) {
-        board.setStatus(FINISHED);
-        collectAllRemainingStones(board);
-        GameResult winner = getWinningPlayer(board);
-        logger.info(winner);
+        KalahRules.move(state, pitId);
     }
 
     /**
-     * Gets the winner of the game
+     * Makes a sequence of moves on the given board, e.g. a player chaining extra turns, converting and saving the board
+     * only once. The moves are made in order until the first illegal one, which is rejected together with all
+     * following ones
      *
-     * @param board The board
-     * @return {@link PlayerTurn#PLAYER_1} if first player is the winner, {@link PlayerTurn#PLAYER_2} otherwise
+     * @param board  The board, already loaded by the caller
+     * @param pitIds The IDs of the pits to be used for making the moves in order
+     * @return The number of moves made and the first rejected move if any
      */
-    private GameResult getWinningPlayer(Board board) {
-        Pit player1Kalah = getMyKalah(board, PLAYER_1);
-        Pit player2Kalah = getMyKalah(board, PLAYER_2);
+    public MoveBatchResult makeMoves(Board board, List<Integer> pitIds) {
+        BoardState state = BoardStateConverter.toBoardState(board);
+        MoveBatchResult result = applyMoves(state, pitIds);
 
-        if (player1Kalah.getStoneCount() > player2Kalah.getStoneCount()) {
-            return GameResult.PLAYER_1;
-        } else if (player1Kalah.getStoneCount() < player2Kalah.getStoneCount()) {
-            return GameResult.PLAYER_2;
+        if (result.getMadeMoveCount() > 0) {
+            board.setMoveList(MoveListCodec.append(board.getMoveList(), pitIds, result.getMadeMoveCount()));
+            saveState(board, state);
         }
 
-        return GameResult.TIE;
+        return result;
     }
 
     /**
-     * If a game is finished, i.e. when a player has no more stones in any of her pits, then we should collect all stones
-     * of the opponent and drop them into her Kalah
+     * Makes a sequence of moves on the given state without reading or saving any board, stopping at the first illegal
+     * one, see {@link #makeMoves(Board, List)}
      *
-     * @param board The board to be used for collecting stones
+     * @param state  The board state to be changed
+     * @param pitIds The IDs of the pits to be used for making the moves in order
+     * @return The number of moves made and the first rejected move if any
      */
-    private void collectAllRemainingStones(Board board) {
-        // Collect all stones in all pits of player1
-        int player1RemainingStones = 0;
-        for (int i = 0; i < PLAYER_1_KALAH; i++) {
-            player1RemainingStones += board.getPits().get(i).getStoneCount();
-            board.getPits().get(i).setStoneCount(0);
+    public MoveBatchResult applyMoves(BoardState state, List<Integer> pitIds) {
+        for (Integer pitId : pitIds) {
+            Preconditions.checkArgument(pitId != null && pitId >= 0 && pitId < COUNT_OF_ALL_PITS,
+                    INVALID_PIT_ID_ERROR);
         }
 
-        Pit player1Kalah = getMyKalah(board, PLAYER_1);
-        player1Kalah.incrementStones(player1RemainingStones);
+        int madeMoveCount = 0;
+        MoveBatchResult result = null;
+
+        for (int pitId : pitIds) {
+            String moveError = getMoveError(state, pitId);
+            if (moveError != null) {
+                logger.info(String.format(MOVE_BATCH_STOPPED_MESSAGE, madeMoveCount, pitIds.size(), pitId, moveError));
+                result = new MoveBatchResult(madeMoveCount, pitId, moveError);
+                break;
+            }
 
-        // Collect all stones in all pits of player2
-        int player2RemainingStones = 0;
-        for (int i = COUNT_OF_PLAYER_PITS; i < PLAYER_2_KALAH; i++) {
-            player2RemainingStones += board.getPits().get(i).getStoneCount();
-            board.getPits().get(i).setStoneCount(0);
+            KalahRules.move(state, pitId);
+            madeMoveCount++;
         }
 
-        Pit player2Kalah = getMyKalah(board, PLAYER_2);
-        player2Kalah.incrementStones(player2RemainingStones);
+        return result != null ? result : new MoveBatchResult(madeMoveCount, MoveBatchResult.NO_PIT, null);
     }
 
     /**
-     * Checks if the game has come to an end, i.e. when a player has no more stones in any of her pits
+     * Creates a new initialized {@link Board}
      *
-     * @param board The board to be checked
-     * @return True if the game is finished, false otherwise
+     * @return The newly created board
      */
-    private boolean isGameFinished(Board board) {
-        // Check if player1 has all empty pits
-        boolean player1AllEmpty = true;
-        for (int i = 0; i < PLAYER_1_KALAH; i++) {
-            player1AllEmpty = player1AllEmpty && board.getPits().get(i).getStoneCount() == 0;
-        }
+    Board initBoard() {
+        Board board = new Board();
+        board.setMoveList(MoveListCodec.empty());
 
-        boolean player2AllEmpty = true;
-        for (int i = COUNT_OF_PLAYER_PITS; i < PLAYER_2_KALAH; i++) {
-            player2AllEmpty = player2AllEmpty && board.getPits().get(i).getStoneCount() == 0;
+        if (packedBoards) {
+            board.setPackedPosition(Position.initial());
+        } else {
+            List<Pit> player1Pits = initPlayerPits(board, 0, PLAYER_1_KALAH, COUNT_OF_ALL_PITS - 2);
+            List<Pit> player2Pits =
+                    initPlayerPits(board, COUNT_OF_PLAYER_PITS, PLAYER_2_KALAH, COUNT_OF_PLAYER_PITS - 2);
+
+            List<Pit> allPits = new ArrayList<>(player1Pits);
+            allPits.addAll(player2Pits);
+
+            board.setPits(allPits);
         }
 
-        // Check if one player has no more stones
-        return player1AllEmpty || player2AllEmpty;
+        board.setPositionHash(BoardStateConverter.toBoardState(board).getHash());
+        return board;
     }
 
     /**
-     * Checks if the pit is one of current player's normal pits (Non Kalah pit)
+     * Moves the stones of boards stored as pits into the packed column and deletes their pits, see
+     * {@link Board#isPacked()}. Each call migrates one batch in its own transaction, so it should be repeated until
+     * it returns 0
      *
-     * @param currentTurn The player turn
-     * @param pitToCheck  The {@link Pit} to be checked
-     * @return True if the it's one of the player's pits except Kalah
+     * @param batchSize The highest number of boards to be migrated
+     * @return The number of migrated boards
      */
-    private boolean isMyOwnNormalPit(PlayerTurn currentTurn, Pit pitToCheck) {
-        if (pitToCheck.isKalah()) {
-            return false;
+    @Transactional
+    public int migrateToPackedBoards(int batchSize) {
+        List<Board> boards = boardRepository.findByPackedPositionIsNull(new PageRequest(0, batchSize));
+
+        for (Board board : boards) {
+            board.setPackedPosition(Position.of(BoardStateConverter.toBoardState(board)));
+            // The pits are deleted on flush as orphans
+            board.getPits().clear();
         }
 
-        // First player's pits are ranged between 0 and 5
-        if ((currentTurn == PLAYER_1) && (pitToCheck.getIndex() >= 0)
-                && (pitToCheck.getIndex() < PLAYER_1_KALAH)) {
-            return true;
-        }
-
-        // First player's pits are ranged between 7 and 12
-        return (currentTurn == PLAYER_2) && (pitToCheck.getIndex() >= COUNT_OF_PLAYER_PITS)
-                && (pitToCheck.getIndex() < PLAYER_2_KALAH);
-
+        boardRepository.save(boards);
+        return boards.size();
     }
 
     /**
-     * Checks if the pit is current player's Kalah
+     * Checks whether the current player may play the given pit
      *
-     * @param currentTurn The player turn
-     * @param pitToCheck  The {@link Pit} to be checked
-     * @return True if the it's the player's Kalah, false otherwise
+     * @param state The board state
+     * @param pitId The ID of the pit
+     * @return The reason why the move is illegal, or null if it is legal
      */
-    private boolean isMyKalah(PlayerTurn currentTurn, Pit pitToCheck) {
-        // First player's Kalah is index at 6
-        if ((currentTurn == PLAYER_1) && (pitToCheck.getIndex() == PLAYER_1_KALAH)) {
-            return true;
+    private String getMoveError(BoardState state, int pitId) {
+        // check if the game is still running
+        if (state.isFinished()) {
+            return GAME_FINISHED_ERROR;
         }
 
-        // Second player's Kalah is index at 13
-        return (currentTurn == PLAYER_2) && (pitToCheck.getIndex() == PLAYER_2_KALAH);
+        // Check if the player wants to play from a Kalah
+        if (isKalah(pitId)) {
+            return KALAH_MOVE_ERROR;
+        }
+
+        // Check if it is the player's turn
+        if (!isPlayerTurn(state, pitId)) {
+            return NOT_PLAYER_TURN_ERROR;
+        }
 
+        if (state.getStones(pitId) == 0) {
+            return PIT_EMPTY_ERROR + ", " + PLAY_AGAIN_MESSAGE;
+        }
+
+        return null;
     }
 
     /**
-     * Checks if the pit is opponent player's Kalah
+     * Copies the state after the moves into the board and saves it
      *
-     * @param currentTurn The player turn
-     * @param pitToCheck  The {@link Pit} to be checked
-     * @return True if the it's the opponent player's Kalah, false otherwise
+     * @param board The board
+     * @param state The board state after the moves
+     * @return The new board status
      */
-    private boolean isOpponentKalah(PlayerTurn currentTurn, Pit pitToCheck) {
-        // If first player's Kalah then her opponent's Kalah is at index 13
-        if ((currentTurn == PLAYER_1) && (pitToCheck.getIndex() == PLAYER_2_KALAH)) {
-            return true;
-        }
+    private Board saveState(Board board, BoardState state) {
+        BoardStateConverter.copyToBoard(state, board);
 
-        // If second player's Kalah then her opponent's Kalah is at index 6
-        return (currentTurn == PLAYER_2) && (pitToCheck.getIndex() == PLAYER_1_KALAH);
+        if (state.isFinished()) {
+            GameResult winner = getWinningPlayer(state);
+            logger.info(winner);
+        }
 
+        return boardRepository.save(board);
     }
 
     /**
-     * returns the Kalah of the current player
+     * Gets the winner of the game
      *
-     * @param board       The board
-     * @param currentTurn The player turn
-     * @return The Kalah pit of the current
+     * @param state The board state
+     * @return {@link GameResult#PLAYER_1} if first player is the winner, {@link GameResult#PLAYER_2} if the second one
+     * is, {@link GameResult#TIE} otherwise
      */
-    private Pit getMyKalah(Board board, PlayerTurn currentTurn) {
-        return (currentTurn == PLAYER_1) ? board.getPits().get(PLAYER_1_KALAH) : board.getPits().get(PLAYER_2_KALAH);
+    private GameResult getWinningPlayer(BoardState state) {
+        int leadingPlayer = KalahRules.getLeadingPlayer(state);
+
+        if (leadingPlayer == BoardState.PLAYER_1) {
+            return GameResult.PLAYER_1;
+        } else if (leadingPlayer == BoardState.PLAYER_2) {
+            return GameResult.PLAYER_2;
+        }
+
+        return GameResult.TIE;
     }
 
     /**
@@ -429,18 +387,19 @@ public class BoardService implements CrudService<Board> {
     /**
      * Checks if the desired pit is allowed for the current player
      *
-     * @param board The board
+     * @param state The board state
      * @param pitId The ID of the pit
      * @return True if it's player's turn, false otherwise
      */
-    private boolean isPlayerTurn(Board board, int pitId) {
+    private boolean isPlayerTurn(BoardState state, int pitId) {
         // In case of first player the allowed pits are between 0 and 5
-        if ((board.getPlayerTurn() == PLAYER_1) && (pitId >= 0 && pitId < PLAYER_1_KALAH)) {
+        if ((state.getPlayerTurn() == BoardState.PLAYER_1) && (pitId >= 0 && pitId < PLAYER_1_KALAH)) {
             return true;
         }
 
         // In case of first player the allowed pits are between 7 and 12
-        return (board.getPlayerTurn() == PLAYER_2) && (pitId >= COUNT_OF_PLAYER_PITS && pitId < PLAYER_2_KALAH);
+        return (state.getPlayerTurn() == BoardState.PLAYER_2)
+                && (pitId >= COUNT_OF_PLAYER_PITS && pitId < PLAYER_2_KALAH);
 
     }
 }
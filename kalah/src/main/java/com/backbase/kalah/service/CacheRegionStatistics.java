@@ -0,0 +1,65 @@
+package com.backbase.kalah.service;
+
+/**
+ * Statistics of one region of the second-level cache since startup, see {@link EntityCache}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class CacheRegionStatistics {
+    private final String region;
+    private final long size;
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final long expirations;
+
+    /**
+     * @param region      The name of the region
+     * @param size        The number of entries held
+     * @param hits        The number of reads finding their entry
+     * @param misses      The number of reads not finding their entry, which are read from the database
+     * @param evictions   The number of entries evicted as the region was full
+     * @param expirations The number of entries dropped after being idle
+     */
+    public CacheRegionStatistics(String region, long size, long hits, long misses, long evictions, long expirations) {
+        this.region = region;
+        this.size = size;
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.expirations = expirations;
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public long getExpirations() {
+        return expirations;
+    }
+
+    /**
+     * @return The share of reads finding their entry, 0 if there were no reads
+     */
+    public double getHitRate() {
+        long reads = hits + misses;
+        return reads == 0 ? 0.0 : (double) hits / reads;
+    }
+}
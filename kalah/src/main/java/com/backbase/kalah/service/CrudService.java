@@ -19,7 +19,9 @@ public interface CrudService<T> {
     Optional<T> get(long id);
 
     /**
-     * Get all items
+     * Get all items, which are all read into memory at once. Games are listed by
+     * {@link GameService#getGames(GameFilter, long, int)} or {@link GameService#streamGames(GameFilter,
+     * java.util.function.Consumer)} instead
      *
      * @return A list of all items if any exists, otherwise and empty list
      */
@@ -0,0 +1,106 @@
+package com.backbase.kalah.service;
+
+import com.backbase.kalah.model.Board;
+import com.backbase.kalah.model.Game;
+import com.backbase.kalah.model.Pit;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import net.sf.ehcache.Ehcache;
+import net.sf.ehcache.config.CacheConfiguration;
+import net.sf.ehcache.statistics.StatisticsGateway;
+import org.apache.log4j.Logger;
+import org.hibernate.cache.ehcache.internal.regions.EhcacheDataRegion;
+import org.hibernate.cache.spi.Region;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.inject.Inject;
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.backbase.kalah.constant.Constants.COUNT_OF_ALL_PITS;
+import static com.backbase.kalah.constant.Fields.BOARD_CACHE_REGION;
+import static com.backbase.kalah.constant.Fields.BOARD_PITS_CACHE_REGION;
+import static com.backbase.kalah.constant.Fields.GAME_CACHE_REGION;
+import static com.backbase.kalah.constant.Fields.PIT_CACHE_REGION;
+import static com.backbase.kalah.constant.Messages.CACHE_REGION_CONFIGURED_MESSAGE;
+import static com.backbase.kalah.constant.Messages.INVALID_CACHE_IDLE_TIME_ERROR;
+import static com.backbase.kalah.constant.Messages.INVALID_CACHE_SIZE_ERROR;
+
+/**
+ * The second-level cache of the {@link Game}s, {@link Board}s and their {@link Pit}s, so reading a game being played
+ * does not query the database. Hibernate updates the cached entries of a game when a move on it commits, and drops
+ * them when they are deleted by a query, e.g. by the {@link GameArchive}. Every region is bounded to the given number
+ * of entries per entity, evicting the least recently used ones, and drops entries idle for the given time
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@Component
+public class EntityCache {
+    // Entries of every region per cached board, a board stored as pits has a pit entry per pit
+    private static final Map<String, Integer> ENTRIES_PER_BOARD = ImmutableMap.of(
+            GAME_CACHE_REGION, 1,
+            BOARD_CACHE_REGION, 1,
+            BOARD_PITS_CACHE_REGION, 1,
+            PIT_CACHE_REGION, COUNT_OF_ALL_PITS);
+
+    private Map<String, Ehcache> caches = new LinkedHashMap<>();
+
+    @Inject
+    public EntityCache(EntityManagerFactory entityManagerFactory,
+                       @Value("${kalah.cache.max-entries:10000}") long maxEntries,
+                       @Value("${kalah.cache.time-to-idle-seconds:600}") long timeToIdleSeconds,
+                       Logger logger) {
+        Preconditions.checkArgument(maxEntries >= 1, INVALID_CACHE_SIZE_ERROR);
+        Preconditions.checkArgument(timeToIdleSeconds >= 0, INVALID_CACHE_IDLE_TIME_ERROR);
+
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        if (!sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled()) {
+            return;
+        }
+
+        for (Map.Entry<String, Integer> regionEntry : ENTRIES_PER_BOARD.entrySet()) {
+            Region region = sessionFactory.getSecondLevelCacheRegion(regionEntry.getKey());
+            if (!(region instanceof EhcacheDataRegion)) {
+                continue;
+            }
+
+            Ehcache cache = ((EhcacheDataRegion) region).getEhcache();
+            CacheConfiguration configuration = cache.getCacheConfiguration();
+            configuration.setMaxEntriesLocalHeap(maxEntries * regionEntry.getValue());
+            configuration.setTimeToIdleSeconds(timeToIdleSeconds);
+            caches.put(regionEntry.getKey(), cache);
+
+            logger.info(String.format(CACHE_REGION_CONFIGURED_MESSAGE, regionEntry.getKey(),
+                    configuration.getMaxEntriesLocalHeap(), timeToIdleSeconds));
+        }
+    }
+
+    /**
+     * @return True if the entities are cached
+     */
+    public boolean isEnabled() {
+        return !caches.isEmpty();
+    }
+
+    /**
+     * @return The statistics of every region since startup, none if the entities are not cached
+     */
+    public List<CacheRegionStatistics> getStatistics() {
+        List<CacheRegionStatistics> statistics = new ArrayList<>(caches.size());
+
+        for (Map.Entry<String, Ehcache> cacheEntry : caches.entrySet()) {
+            StatisticsGateway cacheStatistics = cacheEntry.getValue().getStatistics();
+            statistics.add(new CacheRegionStatistics(cacheEntry.getKey(), cacheStatistics.getSize(),
+                    cacheStatistics.cacheHitCount(), cacheStatistics.cacheMissCount(),
+                    cacheStatistics.cacheEvictedCount(), cacheStatistics.cacheExpiredCount()));
+        }
+
+        return statistics;
+    }
+}
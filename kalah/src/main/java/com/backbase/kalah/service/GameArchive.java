@@ -0,0 +1,234 @@
+package com.backbase.kalah.service;
+
+import com.backbase.kalah.engine.BoardState;
+import com.backbase.kalah.engine.Position;
+import com.backbase.kalah.model.ArchivedGame;
+import com.backbase.kalah.model.Board;
+import com.backbase.kalah.model.Game;
+import com.backbase.kalah.model.enums.PlayerTurn;
+import com.backbase.kalah.repository.ArchivedGameRepository;
+import com.backbase.kalah.repository.BoardRepository;
+import com.backbase.kalah.repository.GameRepository;
+import com.backbase.kalah.repository.PitRepository;
+import com.backbase.kalah.utils.BoardStateConverter;
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.backbase.kalah.constant.Constants.COUNT_OF_ALL_PITS;
+import static com.backbase.kalah.constant.Constants.PLAYER_1_KALAH;
+import static com.backbase.kalah.constant.Constants.PLAYER_2_KALAH;
+import static com.backbase.kalah.constant.Messages.GAMES_ARCHIVED_MESSAGE;
+import static com.backbase.kalah.constant.Messages.GAME_ARCHIVING_FAILED_MESSAGE;
+import static com.backbase.kalah.constant.Messages.INVALID_ARCHIVE_BATCH_SIZE_ERROR;
+import static com.backbase.kalah.constant.Messages.INVALID_ARCHIVE_INTERVAL_ERROR;
+import static com.backbase.kalah.model.enums.Status.FINISHED;
+
+/**
+ * Archive of the finished games, which keeps the game and board tables down to the games still being played.
+ * If enabled, a background thread moves the finished games every archive interval in batches, each batch in one
+ * transaction inserting the {@link ArchivedGame}s and deleting the games, their boards and pits with one statement
+ * per table. Archived games stay readable, as they are rehydrated from the archive when they are read and not found
+ * among the games being played
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@Component
+public class GameArchive {
+    private static final String ARCHIVE_THREAD_NAME_FORMAT = "game-archive-%d";
+
+    private Logger logger;
+    private GameRepository gameRepository;
+    private BoardRepository boardRepository;
+    private PitRepository pitRepository;
+    private ArchivedGameRepository archivedGameRepository;
+    private GameStore gameStore;
+    private TransactionTemplate transactionTemplate;
+    private boolean enabled;
+    private int batchSize;
+    private ScheduledExecutorService archiveExecutor;
+
+    private final LongAdder archivedGames = new LongAdder();
+    private final LongAdder rehydratedGames = new LongAdder();
+
+    @Inject
+    public GameArchive(GameRepository gameRepository, BoardRepository boardRepository, PitRepository pitRepository,
+                       ArchivedGameRepository archivedGameRepository, GameStore gameStore,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${kalah.storage.archive.enabled:false}") boolean enabled,
+                       @Value("${kalah.storage.archive.interval-millis:60000}") long archiveIntervalMillis,
+                       @Value("${kalah.storage.archive.batch-size:500}") int batchSize,
+                       Logger logger) {
+        Preconditions.checkArgument(archiveIntervalMillis > 0, INVALID_ARCHIVE_INTERVAL_ERROR);
+        Preconditions.checkArgument(batchSize >= 1, INVALID_ARCHIVE_BATCH_SIZE_ERROR);
+
+        this.gameRepository = gameRepository;
+        this.boardRepository = boardRepository;
+        this.pitRepository = pitRepository;
+        this.archivedGameRepository = archivedGameRepository;
+        this.gameStore = gameStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.logger = logger;
+
+        if (enabled) {
+            archiveExecutor = Executors.newSingleThreadScheduledExecutor(
+                    new ThreadFactoryBuilder().setNameFormat(ARCHIVE_THREAD_NAME_FORMAT).setDaemon(true).build());
+            archiveExecutor.scheduleWithFixedDelay(this::archiveAllFinishedGames, archiveIntervalMillis,
+                    archiveIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * @return True if the finished games are archived in the background
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Archives one batch of finished games in one transaction. Each call archives the oldest finished games, so it
+     * should be repeated until it returns less than the batch size
+     *
+     * @return The number of archived games
+     */
+    public int archiveFinishedGames() {
+        List<Long> gameIds = new ArrayList<>();
+
+        transactionTemplate.execute(status -> {
+            List<Game> games = gameRepository.findWithBoardByBoardStatus(FINISHED, new PageRequest(0, batchSize));
+            if (games.isEmpty()) {
+                return null;
+            }
+
+            List<ArchivedGame> archivedGameList = new ArrayList<>(games.size());
+            List<Long> boardIds = new ArrayList<>(games.size());
+
+            for (Game game : games) {
+                Board board = game.getBoard();
+                BoardState state = BoardStateConverter.toBoardState(board);
+
+                archivedGameList.add(new ArchivedGame(game.getId(), game.getUri(), board.getMoveList(),
+                        state.getStones(PLAYER_1_KALAH), state.getStones(PLAYER_2_KALAH), board.getPlayerTurn()));
+                gameIds.add(game.getId());
+                boardIds.add(board.getId());
+            }
+
+            archivedGameRepository.save(archivedGameList);
+            // The games refer to their boards, and the pits of boards not packed to them, so they are deleted first
+            gameRepository.deleteByIdIn(gameIds);
+            pitRepository.deleteByBoardIdIn(boardIds);
+            boardRepository.deleteByIdIn(boardIds);
+            return null;
+        });
+
+        // Finished games held in memory are written already, as no move can follow the one finishing them
+        gameIds.forEach(gameStore::evict);
+        archivedGames.add(gameIds.size());
+
+        return gameIds.size();
+    }
+
+    /**
+     * Rehydrates the given archived game. A finished game has all stones in the Kalahs, so its board is restored
+     * from the final score, and it has the moves of the game
+     *
+     * @param id The ID of the game
+     * @return The archived game with its final board if it is archived, {@link Optional#EMPTY} otherwise
+     */
+    public Optional<Game> get(long id) {
+        ArchivedGame archivedGame = archivedGameRepository.findOne(id);
+        if (archivedGame == null) {
+            return Optional.empty();
+        }
+
+        rehydratedGames.increment();
+        return Optional.of(toGame(archivedGame));
+    }
+
+    /**
+     * @param id The ID of the game
+     * @return True if the game is archived, i.e. finished and no longer among the games being played
+     */
+    public boolean contains(long id) {
+        return archivedGameRepository.exists(id);
+    }
+
+    /**
+     * @return The number of games archived since startup
+     */
+    public long getArchivedGameCount() {
+        return archivedGames.sum();
+    }
+
+    /**
+     * @return The number of archived games read since startup
+     */
+    public long getRehydratedGameCount() {
+        return rehydratedGames.sum();
+    }
+
+    /**
+     * Stops archiving, a running batch is rolled back and archived by the next startup
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (archiveExecutor != null) {
+            archiveExecutor.shutdownNow();
+        }
+    }
+
+    private void archiveAllFinishedGames() {
+        long archivedGameCount = 0;
+
+        try {
+            int batchGames;
+            do {
+                batchGames = archiveFinishedGames();
+                archivedGameCount += batchGames;
+            } while (batchGames == batchSize && !Thread.currentThread().isInterrupted());
+        } catch (RuntimeException exp) {
+            logger.warn(GAME_ARCHIVING_FAILED_MESSAGE, exp);
+        }
+
+        if (archivedGameCount > 0) {
+            logger.info(String.format(GAMES_ARCHIVED_MESSAGE, archivedGameCount));
+        }
+    }
+
+    private static Game toGame(ArchivedGame archivedGame) {
+        int[] pits = new int[COUNT_OF_ALL_PITS];
+        pits[PLAYER_1_KALAH] = archivedGame.getPlayer1Score();
+        pits[PLAYER_2_KALAH] = archivedGame.getPlayer2Score();
+        int playerTurn = archivedGame.getPlayerTurn() == PlayerTurn.PLAYER_1 ? BoardState.PLAYER_1 : BoardState.PLAYER_2;
+        Position position = Position.of(pits, playerTurn);
+
+        // The board has been deleted, so the rehydrated one has no ID
+        Board board = new Board();
+        board.setPackedPosition(position);
+        BoardStateConverter.copyToBoard(position.toBoardState(), board);
+        board.setMoveList(archivedGame.getMoveList());
+
+        Game game = new Game(board, archivedGame.getUri());
+        game.setId(archivedGame.getId());
+
+        return game;
+    }
+}
@@ -0,0 +1,61 @@
+package com.backbase.kalah.service;
+
+import com.backbase.kalah.model.enums.PlayerTurn;
+import com.backbase.kalah.model.enums.Status;
+
+import java.time.Instant;
+
+/**
+ * Filter of the games listed by {@link GameService}, every criterion that is null matches all games
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class GameFilter {
+    // Matches all games
+    public static final GameFilter ALL = new GameFilter(null, null, null, null);
+
+    private final Status status;
+    private final PlayerTurn playerTurn;
+    private final Instant createdFrom;
+    private final Instant createdTo;
+
+    /**
+     * @param status      The status of the boards
+     * @param playerTurn  The player whose turn it is
+     * @param createdFrom The earliest creation time, inclusive
+     * @param createdTo   The latest creation time, exclusive
+     */
+    public GameFilter(Status status, PlayerTurn playerTurn, Instant createdFrom, Instant createdTo) {
+        this.status = status;
+        this.playerTurn = playerTurn;
+        this.createdFrom = createdFrom;
+        this.createdTo = createdTo;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public PlayerTurn getPlayerTurn() {
+        return playerTurn;
+    }
+
+    public Instant getCreatedFrom() {
+        return createdFrom;
+    }
+
+    public Instant getCreatedTo() {
+        return createdTo;
+    }
+
+    @Override
+    public String toString() {
+        return "GameFilter{" +
+                "status=" + status +
+                ", playerTurn=" + playerTurn +
+                ", createdFrom=" + createdFrom +
+                ", createdTo=" + createdTo +
+                '}';
+    }
+}
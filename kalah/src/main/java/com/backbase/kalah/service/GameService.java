@@ -1,20 +1,56 @@
 package com.backbase.kalah.service;
 
+import com.backbase.kalah.engine.BoardState;
+import com.backbase.kalah.engine.KalahRules;
+import com.backbase.kalah.engine.Position;
+import com.backbase.kalah.engine.mcts.MonteCarloResult;
+import com.backbase.kalah.engine.search.SearchResult;
+import com.backbase.kalah.error.KalahGameException;
 import com.backbase.kalah.model.Game;
+import com.backbase.kalah.model.GameSummary;
 import com.backbase.kalah.repository.GameRepository;
+import com.backbase.kalah.utils.BoardStateConverter;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
 import org.apache.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import javax.inject.Inject;
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
 
 import static com.backbase.kalah.constant.Constants.COUNT_OF_ALL_PITS;
+import static com.backbase.kalah.constant.Messages.GAME_FINISHED_ERROR;
+import static com.backbase.kalah.constant.Messages.GAMES_CREATED_MESSAGE;
+import static com.backbase.kalah.constant.Messages.GAMES_STREAMED_MESSAGE;
 import static com.backbase.kalah.constant.Messages.GAME_NOT_FOUND_ERROR;
+import static com.backbase.kalah.constant.Messages.INVALID_AFTER_ID_ERROR;
+import static com.backbase.kalah.constant.Messages.INVALID_GAME_COUNT_ERROR;
+import static com.backbase.kalah.constant.Messages.INVALID_MOVE_ATTEMPTS_ERROR;
+import static com.backbase.kalah.constant.Messages.INVALID_MOVE_COUNT_ERROR;
+import static com.backbase.kalah.constant.Messages.INVALID_PAGE_SIZE_ERROR;
 import static com.backbase.kalah.constant.Messages.INVALID_PIT_ID_ERROR;
 import static com.backbase.kalah.constant.Messages.ITEM_NOT_FOUND_ERROR;
+import static com.backbase.kalah.constant.Messages.MOVE_CONFLICT_ERROR;
+import static com.backbase.kalah.constant.Messages.MOVE_CONFLICT_RETRY_MESSAGE;
+import static com.backbase.kalah.constant.Messages.SEARCHED_POSITION_CHANGED_ERROR;
 
 /**
  * A service for managing Kalah {@link Game}s
@@ -24,20 +60,71 @@ import static com.backbase.kalah.constant.Messages.ITEM_NOT_FOUND_ERROR;
  **/
 @Service
 public class GameService implements CrudService<Game> {
+    // Upper bound of the moves made in one request, well above the longest chain of extra turns in practice
+    static final int MAX_MOVE_BATCH_SIZE = 64;
+    // Upper bound of the games created in one request
+    public static final int MAX_BULK_GAME_COUNT = 100_000;
+    // Games created per transaction, a multiple of the ID allocation size and of the JDBC batch size
+    static final int BULK_CREATION_CHUNK_SIZE = 1000;
+    // Upper bound of the games listed in one page
+    public static final int MAX_PAGE_SIZE = 1000;
+
     private Logger logger;
     private GameRepository gameRepository;
     private BoardService boardService;
+    private AiService aiService;
+    private MonteCarloService monteCarloService;
+    private GameStore gameStore;
+    private GameArchive gameArchive;
+    private BoardPool boardPool;
+    private TransactionTemplate transactionTemplate;
+    private TransactionTemplate readOnlyTransactionTemplate;
+    private EntityManager entityManager;
+    // Whether moves lock the game instead of detecting concurrent moves by the version of the board
+    private boolean pessimisticLocking;
+    private int maxMoveAttempts;
+
+    // Moves failed because of a concurrent move, and the ones of them given up after the last attempt
+    private final LongAdder moveConflicts = new LongAdder();
+    private final LongAdder rejectedMoveConflicts = new LongAdder();
 
     @Inject
-    public GameService(GameRepository gameRepository, BoardService boardService, Logger logger) {
+    public GameService(GameRepository gameRepository, BoardService boardService, AiService aiService,
+                       MonteCarloService monteCarloService, GameStore gameStore, GameArchive gameArchive,
+                       BoardPool boardPool, PlatformTransactionManager transactionManager, EntityManager entityManager,
+                       @Value("${kalah.concurrency.pessimistic-locking:false}") boolean pessimisticLocking,
+                       @Value("${kalah.concurrency.max-move-attempts:3}") int maxMoveAttempts,
+                       Logger logger) {
+        Preconditions.checkArgument(maxMoveAttempts > 0, INVALID_MOVE_ATTEMPTS_ERROR);
+
         this.gameRepository = gameRepository;
         this.boardService = boardService;
+        this.aiService = aiService;
+        this.monteCarloService = monteCarloService;
+        this.gameStore = gameStore;
+        this.gameArchive = gameArchive;
+        this.boardPool = boardPool;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.entityManager = entityManager;
+        this.pessimisticLocking = pessimisticLocking;
+        this.maxMoveAttempts = maxMoveAttempts;
         this.logger = logger;
     }
 
+    /**
+     * Gets the given game, which is rehydrated from the {@link GameArchive} if it has been archived
+     *
+     * @param id The ID of the game
+     * @return The game if it exists, {@link Optional#EMPTY} otherwise
+     */
     @Override
     public Optional<Game> get(long id) {
-        return Optional.ofNullable(gameRepository.findOne(id));
+        Optional<Game> gameOptional = gameStore.isEnabled() ? gameStore.get(id)
+                : Optional.ofNullable(gameRepository.findOne(id));
+
+        return gameOptional.isPresent() ? gameOptional : gameArchive.get(id);
     }
 
     @Override
@@ -60,6 +147,7 @@ public class GameService implements CrudService<Game> {
         }
 
         gameRepository.save(item);
+        gameStore.evict(id);
         return true;
     }
 
@@ -71,6 +159,7 @@ public class GameService implements CrudService<Game> {
         }
 
         gameRepository.delete(id);
+        gameStore.evict(id);
         return true;
     }
 
@@ -78,22 +167,122 @@ public class GameService implements CrudService<Game> {
         return gameRepository.exists(id);
     }
 
+    /**
+     * Creates a game with an initialized board in one transaction. The IDs come from pooled sequences, so the URI of
+     * the game is known before it is inserted and the game is written with a single insert. If the {@link BoardPool}
+     * is enabled, the game gets a board of the pool, which leaves the insert of the game only
+     *
+     * @param baseUri The URI of the games resource, the URI of the game is formed by appending its ID
+     * @return The created game
+     */
+    @Transactional
     public Optional<Game> createNewGame(String baseUri) {
         Game newGame = new Game();
-        newGame.setBoard(boardService.createInitializedBoard());
+        newGame.setBaseUri(baseUri);
+        newGame.setBoard(boardPool.isEnabled()
+                ? boardPool.claim().orElseGet(boardService::createInitializedBoard)
+                : boardService.createInitializedBoard());
+
+        return Optional.of(gameRepository.save(newGame));
+    }
+
+    /**
+     * Creates the given number of games with initialized boards, e.g. for load tests or tournaments. The games are
+     * built in memory and inserted in chunks of {@link #BULK_CREATION_CHUNK_SIZE} games per transaction, which takes
+     * one sequence call per 50 IDs and sends the inserts in JDBC batches. The persistence context is cleared after
+     * every chunk and the games are handed to the consumer right after their chunk is committed, so the memory used
+     * does not grow with the number of games
+     *
+     * @param baseUri             The URI of the games resource, the URI of a game is formed by appending its ID
+     * @param count               The number of games to be created
+     * @param createdGameConsumer Receives every created game, whose ID and URI are set
+     * @return The number of created games
+     */
+    public int createNewGames(String baseUri, int count, Consumer<Game> createdGameConsumer) {
+        Preconditions.checkArgument(count > 0 && count <= MAX_BULK_GAME_COUNT, INVALID_GAME_COUNT_ERROR);
+
+        long startTime = System.nanoTime();
+        List<Game> chunk = new ArrayList<>(BULK_CREATION_CHUNK_SIZE);
+
+        for (int created = 0; created < count; created += chunk.size()) {
+            int chunkSize = Math.min(BULK_CREATION_CHUNK_SIZE, count - created);
+
+            chunk.clear();
+            transactionTemplate.execute(status -> {
+                for (int i = 0; i < chunkSize; i++) {
+                    Game newGame = new Game();
+                    newGame.setBaseUri(baseUri);
+                    newGame.setBoard(boardService.create(boardService.initBoard()));
+                    chunk.add(gameRepository.save(newGame));
+                }
 
-        // First we should insert the game in order to get an ID generated from database
-        Game insertedGame = gameRepository.save(newGame);
+                entityManager.flush();
+                entityManager.clear();
+                return null;
+            });
 
-        // Set the URI with the correct game URI, and update it in database
-        insertedGame.setUri(baseUri + "/" + insertedGame.getId());
-        update(insertedGame);
+            chunk.forEach(createdGameConsumer);
+        }
 
-        return Optional.of(insertedGame);
+        logger.info(String.format(GAMES_CREATED_MESSAGE, count, (System.nanoTime() - startTime) / 1_000_000));
+        return count;
     }
 
     /**
-     * Makes a move on the given game
+     * Lists the summaries of the games matching the given filter one page at a time. A page starts after the last game
+     * of the previous page instead of at an offset, so every page takes the same time however far the listing is, and
+     * games created or deleted meanwhile neither shift nor repeat the following pages. The games are read from the
+     * database, so moves held in memory by the {@link GameStore} are listed once they are written, and archived games
+     * are not listed
+     *
+     * @param filter  The criteria the games should match
+     * @param afterId The ID of the last game of the previous page, 0 for the first page
+     * @param limit   The maximum number of games in the page
+     * @return The summaries ordered by the ID of their games, fewer than the limit for the last page
+     */
+    public List<GameSummary> getGames(GameFilter filter, long afterId, int limit) {
+        Preconditions.checkArgument(afterId >= 0, INVALID_AFTER_ID_ERROR);
+        Preconditions.checkArgument(limit > 0 && limit <= MAX_PAGE_SIZE, INVALID_PAGE_SIZE_ERROR);
+
+        return gameRepository.findSummaries(afterId, filter.getStatus(), filter.getPlayerTurn(),
+                filter.getCreatedFrom(), filter.getCreatedTo(), new PageRequest(0, limit));
+    }
+
+    /**
+     * Streams the summaries of all games matching the given filter to the given consumer in one read-only transaction.
+     * The rows are fetched in chunks while they are consumed and no entities are held in the persistence context, so
+     * the memory used does not grow with the number of games. The same as for {@link #getGames(GameFilter, long, int)}
+     * applies to moves held in memory and archived games
+     *
+     * @param filter       The criteria the games should match
+     * @param gameConsumer Receives every summary, ordered by the ID of their games
+     * @return The number of streamed games
+     */
+    public int streamGames(GameFilter filter, Consumer<GameSummary> gameConsumer) {
+        long startTime = System.nanoTime();
+
+        int count = readOnlyTransactionTemplate.execute(status -> {
+            int streamed = 0;
+            try (Stream<GameSummary> summaries = gameRepository.streamSummaries(filter.getStatus(),
+                    filter.getPlayerTurn(), filter.getCreatedFrom(), filter.getCreatedTo())) {
+                Iterator<GameSummary> iterator = summaries.iterator();
+                while (iterator.hasNext()) {
+                    gameConsumer.accept(iterator.next());
+                    streamed++;
+                }
+            }
+            return streamed;
+        });
+
+        logger.info(String.format(GAMES_STREAMED_MESSAGE, count, (System.nanoTime() - startTime) / 1_000_000));
+        return count;
+    }
+
+    /**
+     * Makes a move on the given game in one transaction. The game, its board and the pits are read with one query, and
+     * only the changed columns and pit rows are written when the transaction commits. If a concurrent move on the game
+     * commits first, the move is retried on the new board, see {@link #executeMove(long, TransactionCallback)}.
+     * If write-behind is enabled, the move is made on the game held in memory instead, see {@link GameStore}
      *
      * @param id    The ID of the game
      * @param pitId The ID of the pit to be used for making the move
@@ -102,15 +291,257 @@ public class GameService implements CrudService<Game> {
     public Optional<Game> makeMove(long id, int pitId) {
         Preconditions.checkArgument(pitId >= 0 && pitId < COUNT_OF_ALL_PITS, INVALID_PIT_ID_ERROR);
 
+        if (gameStore.isEnabled()) {
+            return rejectIfArchived(id, gameStore.makeMove(id, pitId));
+        }
+
+        return rejectIfArchived(id, executeMove(id, status -> {
+            Game desiredGame = findForMove(id);
+            if (desiredGame == null) {
+                logger.warn(GAME_NOT_FOUND_ERROR);
+                return Optional.empty();
+            }
+
+            boardService.makeMove(desiredGame.getBoard(), pitId);
+            return Optional.of(desiredGame);
+        }));
+    }
+
+    /**
+     * Makes a sequence of moves on the given game in one transaction, loading and saving the game only once. The moves
+     * are made in order until the first illegal one, and the moves made before it are kept. If write-behind is
+     * enabled, the moves are made on the game held in memory instead, see {@link GameStore}
+     *
+     * @param id     The ID of the game
+     * @param pitIds The IDs of the pits to be used for making the moves in order
+     * @return The game after the moves together with the number of moves made if the game exists,
+     * {@link Optional#EMPTY} otherwise
+     */
+    public Optional<MoveBatch> makeMoves(long id, List<Integer> pitIds) {
+        Preconditions.checkArgument(pitIds != null && !pitIds.isEmpty() && pitIds.size() <= MAX_MOVE_BATCH_SIZE,
+                INVALID_MOVE_COUNT_ERROR);
+
+        if (gameStore.isEnabled()) {
+            return rejectIfArchived(id, gameStore.makeMoves(id, pitIds));
+        }
+
+        return rejectIfArchived(id, executeMove(id, status -> {
+            Game desiredGame = findForMove(id);
+            if (desiredGame == null) {
+                logger.warn(GAME_NOT_FOUND_ERROR);
+                return Optional.empty();
+            }
+
+            MoveBatchResult result = boardService.makeMoves(desiredGame.getBoard(), pitIds);
+            return Optional.of(new MoveBatch(desiredGame, result));
+        }));
+    }
+
+    /**
+     * Gets the current position of the given game, e.g. for finding out the legal moves without making one
+     *
+     * @param id The ID of the game
+     * @return The position of the game board if the game exists, {@link Optional#EMPTY} otherwise
+     */
+    public Optional<Position> getPosition(long id) {
+        return get(id).map(game -> Position.of(BoardStateConverter.toBoardState(game.getBoard())));
+    }
+
+    /**
+     * Finds all games currently in the given position, without reading their pits
+     *
+     * @param position The position
+     * @return The games whose board has the hash of the position
+     */
+    public List<Game> getAllByPosition(Position position) {
+        return ImmutableList.copyOf(gameRepository.findByBoardPositionHash(position.getHash()));
+    }
+
+    /**
+     * Searches the best move for the player whose turn it is without making it, in endgames covered by the endgame
+     * tablebase it is looked up instead
+     *
+     * @param id    The ID of the game
+     * @param depth The search depth in plies
+     * @return The suggested move with the search statistics if the game exists, {@link Optional#EMPTY} otherwise
+     */
+    public Optional<SearchResult> getHint(long id, int depth) {
         Optional<Game> gameOptional = get(id);
         if (!gameOptional.isPresent()) {
             logger.warn(GAME_NOT_FOUND_ERROR);
             return Optional.empty();
         }
 
-        Game desiredGame = gameOptional.get();
-        boardService.makeMove(desiredGame.getBoard().getId(), pitId);
-        return Optional.of(desiredGame);
+        BoardState state = BoardStateConverter.toBoardState(gameOptional.get().getBoard());
+
+        if (KalahRules.isGameOver(state)) {
+            logger.warn(GAME_FINISHED_ERROR);
+            throw new KalahGameException(GAME_FINISHED_ERROR);
+        }
+
+        return Optional.of(aiService.search(state, depth));
+    }
+
+    /**
+     * Lets the computer opponent search the best move for the player whose turn it is and makes that move, see
+     * {@link #makeSearchedMove(long, Function, ToIntFunction, BiFunction)}
+     *
+     * @param id    The ID of the game
+     * @param depth The search depth in plies
+     * @return The game after the move together with the search statistics if the game exists,
+     * {@link Optional#EMPTY} otherwise
+     */
+    public Optional<AiMove> makeAiMove(long id, int depth) {
+        return makeSearchedMove(id, state -> aiService.search(state, depth), SearchResult::getBestMove, AiMove::new);
+    }
+
+    /**
+     * Lets the computer opponent choose a move for the player whose turn it is by Monte Carlo tree search and makes
+     * that move, see {@link #makeSearchedMove(long, Function, ToIntFunction, BiFunction)}
+     *
+     * @param id               The ID of the game
+     * @param timeBudgetMillis The time available for the search
+     * @return The game after the move together with the search statistics if the game exists,
+     * {@link Optional#EMPTY} otherwise
+     */
+    public Optional<MonteCarloMove> makeMonteCarloMove(long id, long timeBudgetMillis) {
+        return makeSearchedMove(id, state -> monteCarloService.search(state, timeBudgetMillis),
+                MonteCarloResult::getBestMove, MonteCarloMove::new);
+    }
+
+    /**
+     * @return The number of moves failed because a concurrent move on the same game was committed first
+     */
+    public long getMoveConflicts() {
+        return moveConflicts.sum();
     }
 
+    /**
+     * @return The number of moves given up because of concurrent moves after the last attempt
+     */
+    public long getRejectedMoveConflicts() {
+        return rejectedMoveConflicts.sum();
+    }
+
+    /**
+     * Runs the given move in a transaction. If the board was changed by a concurrent move meanwhile, which fails the
+     * version check when committing, the move is run again in a new transaction reading the board again, so it is
+     * validated against the board after the concurrent move, see {@link #retryOnConflict(long, Supplier)}
+     *
+     * @param id   The ID of the game
+     * @param move The move, reading the game and changing its board
+     * @return The result of the move
+     */
+    private <T> T executeMove(long id, TransactionCallback<T> move) {
+        return retryOnConflict(id, () -> transactionTemplate.execute(move));
+    }
+
+    /**
+     * Searches a move on the current position of the given game and makes it. The search runs outside of any
+     * transaction, and the move is made in one transaction like any other move, see {@link #findForMove(long)}, but
+     * only if the board is still in the searched position. Otherwise the game was changed by a concurrent move during
+     * the search, and the move is searched again on the new position like a move whose commit failed, see
+     * {@link #retryOnConflict(long, Supplier)}. If write-behind is enabled, the move is made on the game held in
+     * memory instead, which is checked the same way, see {@link GameStore#makeMove(long, int, long)}
+     *
+     * @param id       The ID of the game
+     * @param search   The search of the move on the position of the game
+     * @param bestMove The ID of the pit chosen by the search
+     * @param toMove   The result of the move made with the search statistics
+     * @return The game after the move together with the search statistics if the game exists,
+     * {@link Optional#EMPTY} otherwise
+     */
+    private <R, M> Optional<M> makeSearchedMove(long id, Function<BoardState, R> search, ToIntFunction<R> bestMove,
+                                                BiFunction<Game, R, M> toMove) {
+        return retryOnConflict(id, () -> {
+            Optional<Game> gameOptional = get(id);
+            if (!gameOptional.isPresent()) {
+                logger.warn(GAME_NOT_FOUND_ERROR);
+                return Optional.empty();
+            }
+
+            BoardState state = BoardStateConverter.toBoardState(gameOptional.get().getBoard());
+
+            if (KalahRules.isGameOver(state)) {
+                logger.warn(GAME_FINISHED_ERROR);
+                throw new KalahGameException(GAME_FINISHED_ERROR);
+            }
+
+            long searchedPositionHash = state.getHash();
+            R searchResult = search.apply(state);
+            int pitId = bestMove.applyAsInt(searchResult);
+
+            Optional<Game> movedGame = gameStore.isEnabled()
+                    ? gameStore.makeMove(id, pitId, searchedPositionHash)
+                    : transactionTemplate.execute(status -> {
+                        Game desiredGame = findForMove(id);
+                        if (desiredGame == null) {
+                            logger.warn(GAME_NOT_FOUND_ERROR);
+                            return Optional.<Game>empty();
+                        }
+
+                        if (BoardStateConverter.toBoardState(desiredGame.getBoard()).getHash()
+                                != searchedPositionHash) {
+                            throw new OptimisticLockingFailureException(SEARCHED_POSITION_CHANGED_ERROR);
+                        }
+
+                        boardService.makeMove(desiredGame.getBoard(), pitId);
+                        return Optional.of(desiredGame);
+                    });
+
+            return rejectIfArchived(id, movedGame).map(game -> toMove.apply(game, searchResult));
+        });
+    }
+
+    /**
+     * Runs the given attempt of a move again as long as it fails because of a concurrent move on the same game, up to
+     * the maximum number of attempts. After the last attempt the conflict is thrown
+     *
+     * @param id      The ID of the game
+     * @param attempt The attempt, reading the game and changing its board
+     * @return The result of the first successful attempt
+     */
+    private <T> T retryOnConflict(long id, Supplier<T> attempt) {
+        for (int attemptNumber = 1; ; attemptNumber++) {
+            try {
+                return attempt.get();
+            } catch (OptimisticLockingFailureException exp) {
+                moveConflicts.increment();
+
+                if (attemptNumber >= maxMoveAttempts) {
+                    rejectedMoveConflicts.increment();
+                    logger.warn(MOVE_CONFLICT_ERROR);
+                    throw exp;
+                }
+
+                logger.info(String.format(MOVE_CONFLICT_RETRY_MESSAGE, id, attemptNumber, maxMoveAttempts));
+            }
+        }
+    }
+
+    /**
+     * Rejects a move on a game not found among the games being played if it has been archived, like a move on any
+     * other finished game
+     *
+     * @param id     The ID of the game
+     * @param result The result of the move
+     * @return The given result
+     */
+    private <T> Optional<T> rejectIfArchived(long id, Optional<T> result) {
+        if (!result.isPresent() && gameArchive.contains(id)) {
+            logger.warn(GAME_FINISHED_ERROR);
+            throw new KalahGameException(GAME_FINISHED_ERROR);
+        }
+
+        return result;
+    }
+
+    private Game findForMove(long id) {
+        if (pessimisticLocking) {
+            // The locked board is read first, so the game found next refers to the same up to date instance
+            gameRepository.findAndLockBoardById(id);
+        }
+
+        return gameRepository.findWithBoardById(id);
+    }
 }
@@ -0,0 +1,669 @@
+package com.backbase.kalah.service;
+
+import com.backbase.kalah.engine.BoardState;
+import com.backbase.kalah.engine.Position;
+import com.backbase.kalah.error.KalahGameException;
+import com.backbase.kalah.journal.MoveJournal;
+import com.backbase.kalah.model.Board;
+import com.backbase.kalah.model.Game;
+import com.backbase.kalah.repository.BoardRepository;
+import com.backbase.kalah.repository.GameRepository;
+import com.backbase.kalah.utils.BoardStateConverter;
+import com.backbase.kalah.utils.MoveListCodec;
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.backbase.kalah.constant.Messages.GAMES_DRAINED_MESSAGE;
+import static com.backbase.kalah.constant.Messages.GAMES_LOST_MESSAGE;
+import static com.backbase.kalah.constant.Messages.GAME_FLUSH_FAILED_MESSAGE;
+import static com.backbase.kalah.constant.Messages.GAME_NOT_FOUND_ERROR;
+import static com.backbase.kalah.constant.Messages.GAME_STORE_CLOSED_ERROR;
+import static com.backbase.kalah.constant.Messages.INVALID_DIRTY_GAME_LIMIT_ERROR;
+import static com.backbase.kalah.constant.Messages.INVALID_FLUSH_INTERVAL_ERROR;
+import static com.backbase.kalah.constant.Messages.INVALID_IDLE_EVICTION_ERROR;
+import static com.backbase.kalah.constant.Messages.INVALID_SNAPSHOT_INTERVAL_ERROR;
+import static com.backbase.kalah.constant.Messages.JOURNAL_OPENING_FAILED_ERROR;
+import static com.backbase.kalah.constant.Messages.JOURNAL_RECOVERED_MESSAGE;
+import static com.backbase.kalah.constant.Messages.JOURNAL_SNAPSHOT_FAILED_MESSAGE;
+import static com.backbase.kalah.constant.Messages.SEARCHED_POSITION_CHANGED_ERROR;
+
+/**
+ * In-memory store of the games being played, which holds their authoritative state if write-behind is enabled.
+ * A game is read from the database on first access, and its moves are then made on the position held in memory and
+ * acknowledged without touching the database. The changed games are written in one transaction by a background
+ * thread every flush interval, or as soon as the number of changed games reaches its limit. Games are evicted once
+ * they are written and finished or idle, and all changes are written on shutdown.
+ * If a journal directory is configured, every move is appended to a {@link MoveJournal} and acknowledged once it is
+ * durable there, so the moves not written to the database yet survive a crash. The positions recovered from the
+ * journal at startup replace the ones read from the database, and are written by the first flush.
+ * The store assumes a single application instance, as other instances would not see the moves held in memory
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@Component
+public class GameStore {
+    private static final String FLUSH_THREAD_NAME_FORMAT = "game-store-flush-%d";
+    // Attempts of writing the remaining changes on shutdown before giving up
+    private static final int DRAIN_ATTEMPTS = 3;
+
+    private Logger logger;
+    private GameRepository gameRepository;
+    private BoardRepository boardRepository;
+    private BoardService boardService;
+    private TransactionTemplate transactionTemplate;
+    private boolean enabled;
+    private int maxDirtyGames;
+    private long idleEvictionNanos;
+    private ScheduledExecutorService flushExecutor;
+    private MoveJournal moveJournal;
+
+    private final ConcurrentMap<Long, LiveGame> liveGames = new ConcurrentHashMap<>();
+    // Games being read from the database, whose readers are awaited by the other moves on the same game
+    private final ConcurrentMap<Long, CompletableFuture<LiveGame>> loadingGames = new ConcurrentHashMap<>();
+    private final Set<Long> dirtyGameIds = ConcurrentHashMap.newKeySet();
+    // Positions recovered from the journal of games not read from the database since
+    private final Map<Long, Position> recoveredPositions = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    // Moves hold the read lock, so no move is running any more once the shutdown holds the write lock
+    private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+    private boolean closed;
+
+    @Inject
+    public GameStore(GameRepository gameRepository, BoardRepository boardRepository, BoardService boardService,
+                     PlatformTransactionManager transactionManager,
+                     @Value("${kalah.storage.write-behind.enabled:false}") boolean enabled,
+                     @Value("${kalah.storage.write-behind.flush-interval-millis:200}") long flushIntervalMillis,
+                     @Value("${kalah.storage.write-behind.max-dirty-games:1000}") int maxDirtyGames,
+                     @Value("${kalah.storage.write-behind.idle-eviction-millis:600000}") long idleEvictionMillis,
+                     @Value("${kalah.storage.journal.directory:}") String journalDirectory,
+                     @Value("${kalah.storage.journal.segment-size-bytes:16777216}") int journalSegmentSize,
+                     @Value("${kalah.storage.journal.snapshot-interval-millis:60000}") long snapshotIntervalMillis,
+                     Logger logger) {
+        Preconditions.checkArgument(flushIntervalMillis > 0, INVALID_FLUSH_INTERVAL_ERROR);
+        Preconditions.checkArgument(maxDirtyGames > 0, INVALID_DIRTY_GAME_LIMIT_ERROR);
+        Preconditions.checkArgument(idleEvictionMillis > 0, INVALID_IDLE_EVICTION_ERROR);
+        Preconditions.checkArgument(snapshotIntervalMillis > 0, INVALID_SNAPSHOT_INTERVAL_ERROR);
+
+        this.gameRepository = gameRepository;
+        this.boardRepository = boardRepository;
+        this.boardService = boardService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.maxDirtyGames = maxDirtyGames;
+        this.idleEvictionNanos = TimeUnit.MILLISECONDS.toNanos(idleEvictionMillis);
+        this.logger = logger;
+
+        if (enabled) {
+            flushExecutor = Executors.newSingleThreadScheduledExecutor(
+                    new ThreadFactoryBuilder().setNameFormat(FLUSH_THREAD_NAME_FORMAT).setDaemon(true).build());
+            flushExecutor.scheduleWithFixedDelay(this::flushAndEvict, flushIntervalMillis, flushIntervalMillis,
+                    TimeUnit.MILLISECONDS);
+
+            if (StringUtils.isNotBlank(journalDirectory)) {
+                moveJournal = openJournal(journalDirectory, journalSegmentSize);
+                recoveredPositions.putAll(moveJournal.getRecoveredPositions());
+                flushExecutor.execute(this::writeRecoveredGames);
+                flushExecutor.scheduleWithFixedDelay(this::snapshotJournal, snapshotIntervalMillis,
+                        snapshotIntervalMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * @return True if the games are held in memory and written behind, false if they are read and written directly
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return True if the moves are appended to a {@link MoveJournal} before they are acknowledged
+     */
+    public boolean isJournalEnabled() {
+        return moveJournal != null;
+    }
+
+    /**
+     * Gets the current state of the given game, reading it from the database if it is not held in memory yet
+     *
+     * @param id The ID of the game
+     * @return A copy of the game if it exists, {@link Optional#EMPTY} otherwise
+     */
+    public Optional<Game> get(long id) {
+        return execute(id, liveGame -> toGame(liveGame));
+    }
+
+    /**
+     * Makes a move on the game held in memory, to be written by the next flush
+     *
+     * @param id    The ID of the game
+     * @param pitId The ID of the pit to be used for making the move
+     * @return A copy of the game after the move if the game exists, {@link Optional#EMPTY} otherwise
+     */
+    public Optional<Game> makeMove(long id, int pitId) {
+        return execute(id, liveGame -> makeMove(liveGame, pitId));
+    }
+
+    /**
+     * Makes a move chosen by a search on the game held in memory, to be written by the next flush, if the game is
+     * still in the searched position
+     *
+     * @param id           The ID of the game
+     * @param pitId        The ID of the pit to be used for making the move
+     * @param positionHash The hash of the searched position, see {@link Position#getHash()}
+     * @return A copy of the game after the move if the game exists, {@link Optional#EMPTY} otherwise
+     * @throws OptimisticLockingFailureException If the game was changed by a concurrent move during the search
+     */
+    public Optional<Game> makeMove(long id, int pitId, long positionHash) {
+        return execute(id, liveGame -> {
+            if (liveGame.position.getHash() != positionHash) {
+                throw new OptimisticLockingFailureException(SEARCHED_POSITION_CHANGED_ERROR);
+            }
+
+            return makeMove(liveGame, pitId);
+        });
+    }
+
+    /**
+     * Makes a sequence of moves on the game held in memory until the first illegal one, see
+     * {@link BoardService#applyMoves(BoardState, List)}
+     *
+     * @param id     The ID of the game
+     * @param pitIds The IDs of the pits to be used for making the moves in order
+     * @return A copy of the game after the moves together with the number of moves made if the game exists,
+     * {@link Optional#EMPTY} otherwise
+     */
+    public Optional<MoveBatch> makeMoves(long id, List<Integer> pitIds) {
+        return execute(id, liveGame -> {
+            BoardState state = liveGame.position.toBoardState();
+            MoveBatchResult result = boardService.applyMoves(state, pitIds);
+            if (result.getMadeMoveCount() > 0) {
+                journalMoves(liveGame, pitIds, result.getMadeMoveCount());
+                liveGame.update(state, pitIds, result.getMadeMoveCount());
+            }
+
+            return new MoveBatch(toGame(liveGame), result);
+        });
+    }
+
+    /**
+     * Drops the given game from memory without writing it, e.g. after it has been deleted
+     *
+     * @param id The ID of the game
+     */
+    public void evict(long id) {
+        // A game being read may have been read before it was deleted, so it is evicted once read, see #loadOnce(long)
+        loadingGames.remove(id);
+        LiveGame liveGame = liveGames.remove(id);
+
+        if (liveGame != null) {
+            synchronized (liveGame) {
+                liveGame.evicted = true;
+                dirtyGameIds.remove(id);
+            }
+        }
+
+        if (moveJournal != null) {
+            moveJournal.forget(id);
+        }
+    }
+
+    /**
+     * Writes all games changed since their last flush in one transaction. Games failing to be written stay changed
+     * and are written by the next flush
+     *
+     * @return True if all changed games have been written
+     */
+    public boolean flush() {
+        long flushStartNanos = System.nanoTime();
+        List<LiveGame> flushedGames = new ArrayList<>();
+        Map<Long, Position> positionsByBoardId = new HashMap<>();
+        Map<Long, byte[]> moveListsByBoardId = new HashMap<>();
+        Map<LiveGame, Long> moveCounts = new HashMap<>();
+        Map<LiveGame, Position> flushedPositions = new HashMap<>();
+
+        for (Long gameId : dirtyGameIds) {
+            LiveGame liveGame = liveGames.get(gameId);
+            if (liveGame == null) {
+                continue;
+            }
+
+            synchronized (liveGame) {
+                flushedGames.add(liveGame);
+                positionsByBoardId.put(liveGame.boardId, liveGame.position);
+                moveListsByBoardId.put(liveGame.boardId, liveGame.moveList);
+                moveCounts.put(liveGame, liveGame.moveCount);
+                flushedPositions.put(liveGame, liveGame.position);
+            }
+        }
+
+        if (flushedGames.isEmpty()) {
+            return true;
+        }
+
+        try {
+            transactionTemplate.execute(status -> {
+                for (Board board : boardRepository.findAll(positionsByBoardId.keySet())) {
+                    BoardStateConverter.copyToBoard(positionsByBoardId.get(board.getId()).toBoardState(), board);
+                    board.setMoveList(moveListsByBoardId.get(board.getId()));
+                }
+
+                return null;
+            });
+        } catch (RuntimeException exp) {
+            logger.warn(String.format(GAME_FLUSH_FAILED_MESSAGE, flushedGames.size()), exp);
+            return false;
+        }
+
+        for (LiveGame liveGame : flushedGames) {
+            synchronized (liveGame) {
+                liveGame.flushedMoveCount = moveCounts.get(liveGame);
+
+                if (liveGame.moveCount == liveGame.flushedMoveCount) {
+                    liveGame.dirtySinceNanos = 0L;
+                    dirtyGameIds.remove(liveGame.gameId);
+                } else {
+                    // Moved again while being written, which cannot have been before the flush started
+                    liveGame.dirtySinceNanos = flushStartNanos;
+                }
+            }
+
+            if (moveJournal != null) {
+                moveJournal.markPersisted(liveGame.gameId, flushedPositions.get(liveGame));
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * @return The number of games changed since their last flush
+     */
+    public int getDirtyGameCount() {
+        return dirtyGameIds.size();
+    }
+
+    /**
+     * @return The number of games held in memory
+     */
+    public int getLiveGameCount() {
+        return liveGames.size();
+    }
+
+    /**
+     * @return The number of records appended to the journal, 0 if there is no journal
+     */
+    public long getJournalRecordCount() {
+        return moveJournal != null ? moveJournal.getRecordCount() : 0L;
+    }
+
+    /**
+     * @return The number of forces of the journal to disk, each making all moves appended before it durable, 0 if
+     * there is no journal
+     */
+    public long getJournalSyncCount() {
+        return moveJournal != null ? moveJournal.getSyncCount() : 0L;
+    }
+
+    /**
+     * @return The time in milliseconds since the oldest move not written yet was made, at most, or 0 if all moves
+     * are written
+     */
+    public long getFlushLagMillis() {
+        long now = System.nanoTime();
+        long maxLagNanos = 0L;
+
+        for (Long gameId : dirtyGameIds) {
+            LiveGame liveGame = liveGames.get(gameId);
+            if (liveGame == null) {
+                continue;
+            }
+
+            synchronized (liveGame) {
+                if (liveGame.dirtySinceNanos != 0L) {
+                    maxLagNanos = Math.max(maxLagNanos, now - liveGame.dirtySinceNanos);
+                }
+            }
+        }
+
+        return TimeUnit.NANOSECONDS.toMillis(maxLagNanos);
+    }
+
+    /**
+     * Stops the background flushes and writes all remaining changes. Later accesses fail, as moves held in memory
+     * would not be written any more
+     */
+    @PreDestroy
+    public void shutdown() {
+        closeLock.writeLock().lock();
+        try {
+            closed = true;
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+
+        if (flushExecutor != null) {
+            flushExecutor.shutdown();
+            try {
+                flushExecutor.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (InterruptedException exp) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        int dirtyGameCount = dirtyGameIds.size();
+        for (int attempt = 0; attempt < DRAIN_ATTEMPTS && !dirtyGameIds.isEmpty(); attempt++) {
+            flush();
+        }
+
+        if (!dirtyGameIds.isEmpty()) {
+            logger.error(String.format(GAMES_LOST_MESSAGE, dirtyGameIds.size()));
+        } else if (dirtyGameCount > 0) {
+            logger.info(String.format(GAMES_DRAINED_MESSAGE, dirtyGameCount));
+        }
+
+        if (moveJournal != null) {
+            // Moves not written to the database stay in the journal and are recovered at the next startup
+            snapshotJournal();
+            moveJournal.close();
+        }
+    }
+
+    /**
+     * Runs the given operation on the game held in memory, reading it first if needed, while holding its lock
+     */
+    private <T> Optional<T> execute(long id, LiveGameOperation<T> operation) {
+        closeLock.readLock().lock();
+        try {
+            if (closed) {
+                logger.warn(GAME_STORE_CLOSED_ERROR);
+                throw new KalahGameException(GAME_STORE_CLOSED_ERROR);
+            }
+
+            while (true) {
+                LiveGame liveGame = liveGames.get(id);
+                if (liveGame == null) {
+                    liveGame = loadOnce(id);
+                }
+                if (liveGame == null) {
+                    logger.warn(GAME_NOT_FOUND_ERROR);
+                    return Optional.empty();
+                }
+
+                T result;
+                long journalSequence;
+                synchronized (liveGame) {
+                    // An evicted game may have been read again by now, so the current instance has to be looked up
+                    if (liveGame.evicted) {
+                        continue;
+                    }
+
+                    result = operation.apply(liveGame);
+                    journalSequence = liveGame.journalSequence;
+                }
+
+                requestFlushIfNeeded();
+                if (moveJournal != null) {
+                    // Waiting outside the lock of the game lets the moves of other games share the same force
+                    moveJournal.awaitDurable(journalSequence);
+                }
+
+                return Optional.of(result);
+            }
+        } finally {
+            closeLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Reads the given game from the database unless another thread is reading it already, whose result is awaited
+     * then. The game is read outside of the map of the games held in memory, so reading it does not block the games
+     * sharing a bin of the map, and it is read only once, as reading it takes its position recovered from the journal
+     */
+    private LiveGame loadOnce(long id) {
+        CompletableFuture<LiveGame> loading = new CompletableFuture<>();
+        CompletableFuture<LiveGame> concurrentLoading = loadingGames.putIfAbsent(id, loading);
+        if (concurrentLoading != null) {
+            try {
+                return concurrentLoading.join();
+            } catch (CompletionException exp) {
+                throw exp.getCause() instanceof RuntimeException ? (RuntimeException) exp.getCause() : exp;
+            }
+        }
+
+        LiveGame liveGame;
+        try {
+            // The game may have been read by another thread since it was looked up
+            liveGame = liveGames.get(id);
+            if (liveGame == null) {
+                liveGame = load(id);
+                if (liveGame != null) {
+                    liveGames.put(id, liveGame);
+                }
+            }
+        } catch (RuntimeException exp) {
+            loadingGames.remove(id, loading);
+            loading.completeExceptionally(exp);
+            throw exp;
+        }
+
+        if (!loadingGames.remove(id, loading) && liveGame != null) {
+            // Evicted while being read, so the awaiting moves look up the game again
+            liveGames.remove(id, liveGame);
+            synchronized (liveGame) {
+                liveGame.evicted = true;
+                dirtyGameIds.remove(id);
+            }
+        }
+
+        loading.complete(liveGame);
+        return liveGame;
+    }
+
+    private LiveGame load(long id) {
+        Game game = gameRepository.findWithBoardById(id);
+        Position recoveredPosition = recoveredPositions.remove(id);
+
+        if (game == null) {
+            if (recoveredPosition != null) {
+                moveJournal.forget(id);
+            }
+            return null;
+        }
+
+        Position position = Position.of(BoardStateConverter.toBoardState(game.getBoard()));
+        LiveGame liveGame = new LiveGame(game.getId(), game.getBoard().getId(), game.getUri(), position);
+        liveGame.moveList = game.getBoard().getMoveList();
+
+        if (recoveredPosition != null && !recoveredPosition.equals(position)) {
+            // Moves acknowledged before a crash but not written to the database yet, which are not known one by one
+            liveGame.position = recoveredPosition;
+            liveGame.moveList = null;
+            liveGame.moveCount++;
+            liveGame.dirtySinceNanos = System.nanoTime();
+            dirtyGameIds.add(id);
+        } else if (recoveredPosition != null) {
+            moveJournal.markPersisted(id, position);
+        }
+
+        return liveGame;
+    }
+
+    /**
+     * Appends the first given number of moves to the journal, one record per move
+     */
+    private void journalMoves(LiveGame liveGame, List<Integer> pitIds, int moveCount) {
+        if (moveJournal == null) {
+            return;
+        }
+
+        Position position = liveGame.position;
+        for (int i = 0; i < moveCount; i++) {
+            Position nextPosition = position.play(pitIds.get(i));
+            liveGame.journalSequence = moveJournal.append(liveGame.gameId, position, pitIds.get(i), nextPosition);
+            position = nextPosition;
+        }
+    }
+
+    private MoveJournal openJournal(String journalDirectory, int journalSegmentSize) {
+        try {
+            return MoveJournal.open(Paths.get(journalDirectory), journalSegmentSize);
+        } catch (IOException | RuntimeException exp) {
+            logger.warn(String.format(JOURNAL_OPENING_FAILED_ERROR, journalDirectory), exp);
+            throw new KalahGameException(String.format(JOURNAL_OPENING_FAILED_ERROR, journalDirectory));
+        }
+    }
+
+    /**
+     * Reads the games recovered from the journal, which replaces their positions, and writes them
+     */
+    private void writeRecoveredGames() {
+        // Games already read by a request meanwhile are counted and written as well
+        Set<Long> recoveredGameIds = moveJournal.getRecoveredPositions().keySet();
+        int recoveredGameCount = recoveredGameIds.size();
+        int missingGameCount = 0;
+
+        for (Long gameId : recoveredGameIds) {
+            if (!execute(gameId, liveGame -> liveGame).isPresent()) {
+                missingGameCount++;
+            }
+        }
+
+        if (recoveredGameCount > 0) {
+            logger.info(String.format(JOURNAL_RECOVERED_MESSAGE, recoveredGameCount, missingGameCount));
+            flush();
+        }
+    }
+
+    private void snapshotJournal() {
+        try {
+            moveJournal.snapshot();
+        } catch (IOException | RuntimeException exp) {
+            logger.warn(JOURNAL_SNAPSHOT_FAILED_MESSAGE, exp);
+        }
+    }
+
+    private void requestFlushIfNeeded() {
+        if ((flushExecutor != null) && (dirtyGameIds.size() >= maxDirtyGames)
+                && flushRequested.compareAndSet(false, true)) {
+            flushExecutor.execute(() -> {
+                flushRequested.set(false);
+                flush();
+            });
+        }
+    }
+
+    private void flushAndEvict() {
+        flush();
+
+        long now = System.nanoTime();
+        for (LiveGame liveGame : liveGames.values()) {
+            synchronized (liveGame) {
+                boolean written = liveGame.moveCount == liveGame.flushedMoveCount;
+                boolean idle = now - liveGame.lastAccessNanos > idleEvictionNanos;
+
+                if (written && (idle || liveGame.position.isFinished())) {
+                    liveGame.evicted = true;
+                    liveGames.remove(liveGame.gameId, liveGame);
+                }
+            }
+        }
+    }
+
+    private Game makeMove(LiveGame liveGame, int pitId) {
+        BoardState state = liveGame.position.toBoardState();
+        boardService.applyMove(state, pitId);
+        journalMoves(liveGame, Collections.singletonList(pitId), 1);
+        liveGame.update(state, Collections.singletonList(pitId), 1);
+
+        return toGame(liveGame);
+    }
+
+    private Game toGame(LiveGame liveGame) {
+        liveGame.lastAccessNanos = System.nanoTime();
+
+        Board board = new Board();
+        board.setId(liveGame.boardId);
+        board.setPackedPosition(liveGame.position);
+        BoardStateConverter.copyToBoard(liveGame.position.toBoardState(), board);
+        board.setMoveList(liveGame.moveList);
+
+        Game game = new Game(board, liveGame.uri);
+        game.setId(liveGame.gameId);
+
+        return game;
+    }
+
+    private interface LiveGameOperation<T> {
+        T apply(LiveGame liveGame);
+    }
+
+    /**
+     * A game held in memory, whose fields are guarded by its own lock
+     */
+    private final class LiveGame {
+        private final long gameId;
+        private final long boardId;
+        private final String uri;
+        private Position position;
+        // Never changed in place, so it may be shared with the boards written and returned
+        private byte[] moveList;
+        private long moveCount;
+        private long flushedMoveCount;
+        // Time of the oldest move not written yet, 0 if all moves are written
+        private long dirtySinceNanos;
+        private long lastAccessNanos;
+        private boolean evicted;
+        // Sequence number of the last journal record of the game
+        private long journalSequence;
+
+        private LiveGame(long gameId, long boardId, String uri, Position position) {
+            this.gameId = gameId;
+            this.boardId = boardId;
+            this.uri = uri;
+            this.position = position;
+            this.lastAccessNanos = System.nanoTime();
+        }
+
+        private void update(BoardState state, List<Integer> pitIds, int madeMoveCount) {
+            position = Position.of(state);
+            moveList = MoveListCodec.append(moveList, pitIds, madeMoveCount);
+            moveCount++;
+
+            if (dirtySinceNanos == 0L) {
+                dirtySinceNanos = System.nanoTime();
+            }
+            dirtyGameIds.add(gameId);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.backbase.kalah.service;
+
+import com.backbase.kalah.engine.mcts.MonteCarloResult;
+import com.backbase.kalah.model.Game;
+
+/**
+ * A move made by the computer opponent using Monte Carlo tree search, i.e. the game after the move and the search that
+ * chose it
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class MonteCarloMove {
+    private final Game game;
+    private final MonteCarloResult searchResult;
+
+    public MonteCarloMove(Game game, MonteCarloResult searchResult) {
+        this.game = game;
+        this.searchResult = searchResult;
+    }
+
+    public Game getGame() {
+        return game;
+    }
+
+    public MonteCarloResult getSearchResult() {
+        return searchResult;
+    }
+}
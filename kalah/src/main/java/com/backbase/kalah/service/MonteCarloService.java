@@ -0,0 +1,130 @@
+package com.backbase.kalah.service;
+
+import com.backbase.kalah.engine.BoardState;
+import com.backbase.kalah.engine.mcts.MonteCarloResult;
+import com.backbase.kalah.engine.mcts.MonteCarloTreeSearch;
+import com.backbase.kalah.engine.mcts.ParallelMonteCarloSearch;
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.backbase.kalah.constant.Messages.INVALID_NODE_POOL_SIZE_ERROR;
+import static com.backbase.kalah.constant.Messages.INVALID_THREAD_COUNT_ERROR;
+import static com.backbase.kalah.constant.Messages.INVALID_TIME_BUDGET_ERROR;
+import static com.backbase.kalah.constant.Messages.MONTE_CARLO_SEARCH_COMPLETED_MESSAGE;
+
+/**
+ * A service for finding moves of the computer opponent by Monte Carlo tree search, an alternative to the alpha-beta
+ * search of {@link AiService} that is limited by time instead of depth.
+ * With more than one search thread configured, the calling thread is joined by helpers from a bounded pool, each
+ * growing its own tree, see {@link ParallelMonteCarloSearch}. The trees are allocated once at startup with their node
+ * pools, so the configured pool size times the number of threads should fit comfortably into the heap. A search waits
+ * for a tree used by concurrent searches within its time budget only, and is rejected otherwise
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@Service
+public class MonteCarloService {
+    private static final String SEARCH_THREAD_NAME_FORMAT = "mcts-search-%d";
+    // Number of helper tasks that may wait for a pool thread per pool thread
+    private static final int QUEUED_HELPERS_PER_THREAD = 2;
+
+    private Logger logger;
+    private long maxTimeBudgetMillis;
+    private ThreadPoolExecutor helperExecutor;
+    private ParallelMonteCarloSearch search;
+    private LongAdder playouts = new LongAdder();
+    private LongAdder cpuNanos = new LongAdder();
+
+    @Inject
+    public MonteCarloService(@Value("${kalah.ai.mcts.threads:1}") int threads,
+                             @Value("${kalah.ai.mcts.node-pool-size:1048576}") int nodePoolSize,
+                             @Value("${kalah.ai.mcts.max-time-budget-millis:5000}") long maxTimeBudgetMillis,
+                             Logger logger) {
+        Preconditions.checkArgument(threads >= 1, INVALID_THREAD_COUNT_ERROR);
+        Preconditions.checkArgument(nodePoolSize >= MonteCarloTreeSearch.getMinNodePoolSize(),
+                INVALID_NODE_POOL_SIZE_ERROR);
+        Preconditions.checkArgument(maxTimeBudgetMillis >= 1, INVALID_TIME_BUDGET_ERROR);
+
+        this.maxTimeBudgetMillis = maxTimeBudgetMillis;
+        this.logger = logger;
+
+        if (threads > 1) {
+            int helperThreads = threads - 1;
+            helperExecutor = new ThreadPoolExecutor(helperThreads, helperThreads, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(helperThreads * QUEUED_HELPERS_PER_THREAD),
+                    new ThreadFactoryBuilder().setNameFormat(SEARCH_THREAD_NAME_FORMAT).setDaemon(true).build());
+        }
+
+        search = new ParallelMonteCarloSearch(helperExecutor, threads, nodePoolSize, System.nanoTime());
+    }
+
+    /**
+     * Searches a move for the player whose turn it is until the time budget is used up
+     *
+     * @param state            The board state, which must have a legal move
+     * @param timeBudgetMillis The time available for the search, between 1 and the configured maximum
+     * @return The most visited move with the search statistics
+     * @throws java.util.concurrent.RejectedExecutionException If all trees were in use by concurrent searches for the
+     *                                                         whole time budget
+     */
+    public MonteCarloResult search(BoardState state, long timeBudgetMillis) {
+        Preconditions.checkArgument(timeBudgetMillis >= 1 && timeBudgetMillis <= maxTimeBudgetMillis,
+                INVALID_TIME_BUDGET_ERROR);
+
+        MonteCarloResult result = search.search(state, TimeUnit.MILLISECONDS.toNanos(timeBudgetMillis));
+        playouts.add(result.getPlayouts());
+        cpuNanos.add(result.getCpuNanos());
+
+        logger.info(String.format(MONTE_CARLO_SEARCH_COMPLETED_MESSAGE, result.getBestMove() + 1,
+                result.getWinRate(), result.getPlayouts(), result.getThreadCount(),
+                TimeUnit.NANOSECONDS.toMillis(result.getElapsedNanos()), result.getPlayoutsPerSecond(),
+                result.getPlayoutsPerCoreSecond()));
+
+        return result;
+    }
+
+    public long getMaxTimeBudgetMillis() {
+        return maxTimeBudgetMillis;
+    }
+
+    /**
+     * @return The number of threads per search including the calling one
+     */
+    public int getThreads() {
+        return search.getThreadCount();
+    }
+
+    /**
+     * @return The number of playouts of all searches so far
+     */
+    public long getPlayouts() {
+        return playouts.sum();
+    }
+
+    /**
+     * @return The playouts of all searches so far per second of CPU time, i.e. the throughput of one core,
+     * 0 before the first search
+     */
+    public long getPlayoutsPerCoreSecond() {
+        long totalCpuNanos = cpuNanos.sum();
+        return totalCpuNanos == 0 ? 0 : playouts.sum() * TimeUnit.SECONDS.toNanos(1) / totalCpuNanos;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (helperExecutor != null) {
+            helperExecutor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.backbase.kalah.service;
+
+import com.backbase.kalah.model.Game;
+
+/**
+ * A sequence of moves made in one request, i.e. the game after the moves and how many of them were made
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class MoveBatch {
+    private final Game game;
+    private final MoveBatchResult result;
+
+    public MoveBatch(Game game, MoveBatchResult result) {
+        this.game = game;
+        this.result = result;
+    }
+
+    public Game getGame() {
+        return game;
+    }
+
+    public MoveBatchResult getResult() {
+        return result;
+    }
+}
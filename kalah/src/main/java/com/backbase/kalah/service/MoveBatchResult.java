@@ -0,0 +1,46 @@
+package com.backbase.kalah.service;
+
+/**
+ * The outcome of a sequence of moves made on a board, i.e. how many of them were made and why the remaining ones were
+ * rejected
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class MoveBatchResult {
+    public static final int NO_PIT = -1;
+
+    private final int madeMoveCount;
+    private final int rejectedPitId;
+    private final String rejectionReason;
+
+    /**
+     * @param madeMoveCount   The number of moves made
+     * @param rejectedPitId   The ID of the pit of the first illegal move, or {@link #NO_PIT} if all moves were made
+     * @param rejectionReason Why that move is illegal, or null if all moves were made
+     */
+    public MoveBatchResult(int madeMoveCount, int rejectedPitId, String rejectionReason) {
+        this.madeMoveCount = madeMoveCount;
+        this.rejectedPitId = rejectedPitId;
+        this.rejectionReason = rejectionReason;
+    }
+
+    public int getMadeMoveCount() {
+        return madeMoveCount;
+    }
+
+    public int getRejectedPitId() {
+        return rejectedPitId;
+    }
+
+    public String getRejectionReason() {
+        return rejectionReason;
+    }
+
+    /**
+     * @return True if all moves were made, false if the batch stopped at an illegal move
+     */
+    public boolean isComplete() {
+        return rejectedPitId == NO_PIT;
+    }
+}
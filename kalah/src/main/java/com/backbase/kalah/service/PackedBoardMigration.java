@@ -0,0 +1,94 @@
+package com.backbase.kalah.service;
+
+import com.backbase.kalah.model.Board;
+import com.google.common.base.Preconditions;
+import org.apache.log4j.Logger;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import javax.inject.Inject;
+
+import static com.backbase.kalah.constant.Messages.BOARDS_MIGRATED_MESSAGE;
+import static com.backbase.kalah.constant.Messages.BOARD_MIGRATION_RETRY_MESSAGE;
+import static com.backbase.kalah.constant.Messages.BOARD_MIGRATION_STOPPED_MESSAGE;
+import static com.backbase.kalah.constant.Messages.INVALID_BATCH_SIZE_ERROR;
+
+/**
+ * Migrates the boards stored as one pit row per pit to the packed layout at startup, see {@link Board#isPacked()}.
+ * The migration deletes the pit rows, so it cannot be undone, and only runs if it is enabled explicitly in addition to
+ * storing new boards packed. It runs once all beans are created, before the web server accepts any request. A batch
+ * failing because of a concurrent change of one of its boards is retried, and after the last attempt the migration
+ * stops without failing the startup, leaving the remaining boards to be read and played in their old layout
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@Component
+public class PackedBoardMigration implements SmartInitializingSingleton {
+    // Attempts of migrating a batch whose boards were changed concurrently
+    static final int MAX_BATCH_ATTEMPTS = 3;
+
+    private Logger logger;
+    private BoardService boardService;
+    private boolean enabled;
+    private int batchSize;
+
+    /**
+     * @param boardService The board service
+     * @param packedBoards True if new boards store their stones in one packed column
+     * @param migrate      True if the boards stored as pits should be migrated to the packed layout
+     * @param batchSize    The number of boards migrated per transaction
+     * @param logger       The logger
+     */
+    @Inject
+    public PackedBoardMigration(BoardService boardService,
+                                @Value("${kalah.storage.packed-boards:false}") boolean packedBoards,
+                                @Value("${kalah.storage.migration.enabled:false}") boolean migrate,
+                                @Value("${kalah.storage.migration-batch-size:500}") int batchSize,
+                                Logger logger) {
+        Preconditions.checkArgument(batchSize >= 1, INVALID_BATCH_SIZE_ERROR);
+
+        this.boardService = boardService;
+        this.enabled = packedBoards && migrate;
+        this.batchSize = batchSize;
+        this.logger = logger;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled) {
+            return;
+        }
+
+        long migratedBoards = 0;
+        int batchBoards;
+        do {
+            batchBoards = migrateBatch();
+            migratedBoards += Math.max(batchBoards, 0);
+        } while (batchBoards == batchSize);
+
+        if (migratedBoards > 0) {
+            logger.info(String.format(BOARDS_MIGRATED_MESSAGE, migratedBoards));
+        }
+    }
+
+    /**
+     * @return The number of migrated boards, or -1 if the batch failed in all attempts
+     */
+    private int migrateBatch() {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return boardService.migrateToPackedBoards(batchSize);
+            } catch (OptimisticLockingFailureException exp) {
+                if (attempt >= MAX_BATCH_ATTEMPTS) {
+                    logger.warn(BOARD_MIGRATION_STOPPED_MESSAGE, exp);
+                    return -1;
+                }
+
+                logger.info(String.format(BOARD_MIGRATION_RETRY_MESSAGE, attempt, MAX_BATCH_ATTEMPTS));
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.backbase.kalah.utils;
+
+import com.backbase.kalah.dto.AiMoveDto;
+import com.backbase.kalah.dto.GameStatusDto;
+import com.backbase.kalah.engine.search.SearchResult;
+import com.backbase.kalah.service.AiMove;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class AiMoveDtoConverter {
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private AiMoveDtoConverter() {
+        // private constructor to prevent instantiation
+    }
+
+    public static AiMoveDto toAiMoveDto(AiMove aiMove) {
+        GameStatusDto gameStatusDto = GameStatusDtoConverter.toGameStatusDto(aiMove.getGame());
+        SearchResult result = aiMove.getSearchResult();
+
+        List<Double> timeToDepthMillis = new ArrayList<>();
+        for (int depth = 1; depth <= result.getDepth(); depth++) {
+            timeToDepthMillis.add(result.getTimeToDepthNanos(depth) / NANOS_PER_MILLI);
+        }
+
+        // We add 1 here as the output should be 1 based not 0 based
+        return new AiMoveDto(gameStatusDto.getId(), gameStatusDto.getUrl(), gameStatusDto.getStatus(),
+                String.valueOf(result.getBestMove() + 1), result.getDepth(), result.getScore(), result.getNodes(),
+                result.getNodesPerSecond(), result.getElapsedNanos() / NANOS_PER_MILLI, timeToDepthMillis);
+    }
+}
@@ -0,0 +1,61 @@
+package com.backbase.kalah.utils;
+
+import com.backbase.kalah.engine.BoardState;
+import com.backbase.kalah.engine.Position;
+import com.backbase.kalah.model.Board;
+import com.backbase.kalah.model.Pit;
+
+import static com.backbase.kalah.model.enums.PlayerTurn.PLAYER_1;
+import static com.backbase.kalah.model.enums.PlayerTurn.PLAYER_2;
+import static com.backbase.kalah.model.enums.Status.FINISHED;
+import static com.backbase.kalah.model.enums.Status.RUNNING;
+
+/**
+ * Converts between the persisted {@link Board} entity and the {@link BoardState} used by the rules engine, for both
+ * the packed and the pit layout of the board
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class BoardStateConverter {
+    private BoardStateConverter() {
+        // private constructor to prevent instantiation
+    }
+
+    public static BoardState toBoardState(Board board) {
+        if (board.isPacked()) {
+            return board.getPackedPosition().toBoardState();
+        }
+
+        BoardState state = new BoardState();
+
+        for (Pit pit : board.getPits()) {
+            state.setStones(pit.getIndex(), pit.getStoneCount());
+        }
+
+        state.setPlayerTurn(board.getPlayerTurn() == PLAYER_1 ? BoardState.PLAYER_1 : BoardState.PLAYER_2);
+        state.setFinished(board.getStatus() == FINISHED);
+
+        return state;
+    }
+
+    /**
+     * Copies the given state into the board entity
+     *
+     * @param state The board state
+     * @param board The board to be updated
+     */
+    public static void copyToBoard(BoardState state, Board board) {
+        if (board.isPacked()) {
+            board.setPackedPosition(Position.of(state));
+        } else {
+            for (Pit pit : board.getPits()) {
+                pit.setStoneCount(state.getStones(pit.getIndex()));
+            }
+        }
+
+        board.setPlayerTurn(state.getPlayerTurn() == BoardState.PLAYER_1 ? PLAYER_1 : PLAYER_2);
+        board.setStatus(state.isFinished() ? FINISHED : RUNNING);
+        board.setPositionHash(state.getHash());
+    }
+}
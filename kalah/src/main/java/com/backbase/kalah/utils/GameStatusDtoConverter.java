@@ -1,13 +1,14 @@
 package com.backbase.kalah.utils;
 
 import com.backbase.kalah.dto.GameStatusDto;
-import com.backbase.kalah.model.Board;
+import com.backbase.kalah.engine.BoardState;
 import com.backbase.kalah.model.Game;
-import com.backbase.kalah.model.Pit;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
 
+import static com.backbase.kalah.constant.Constants.COUNT_OF_ALL_PITS;
+
 /**
  * @author Mohamed Morsey
  * Date: 2018-11-26
@@ -19,11 +20,11 @@ public class GameStatusDtoConverter {
 
     public static GameStatusDto toGameStatusDto(Game game) {
         Map<String, String> boardStatus = new LinkedHashMap<>();
-        Board gameBoard = game.getBoard();
+        BoardState state = BoardStateConverter.toBoardState(game.getBoard());
 
-        for (Pit pit : gameBoard.getPits()) {
+        for (int pit = 0; pit < COUNT_OF_ALL_PITS; pit++) {
             // We add 1 here as the output should be 1 based not 0 based
-            boardStatus.put(String.valueOf(pit.getIndex() + 1), String.valueOf(pit.getStoneCount()));
+            boardStatus.put(String.valueOf(pit + 1), String.valueOf(state.getStones(pit)));
         }
 
         return new GameStatusDto(String.valueOf(game.getId()), game.getUri(), boardStatus);
@@ -0,0 +1,21 @@
+package com.backbase.kalah.utils;
+
+import com.backbase.kalah.dto.GameSummaryDto;
+import com.backbase.kalah.model.GameSummary;
+
+/**
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class GameSummaryDtoConverter {
+    private GameSummaryDtoConverter() {
+        // private constructor to prevent instantiation
+    }
+
+    public static GameSummaryDto toGameSummaryDto(GameSummary gameSummary) {
+        String createdAt = gameSummary.getCreatedAt() == null ? null : gameSummary.getCreatedAt().toString();
+
+        return new GameSummaryDto(String.valueOf(gameSummary.getId()), gameSummary.getUri(),
+                gameSummary.getStatus().name(), gameSummary.getPlayerTurn().name(), createdAt);
+    }
+}
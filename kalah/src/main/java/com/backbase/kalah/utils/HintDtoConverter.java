@@ -0,0 +1,20 @@
+package com.backbase.kalah.utils;
+
+import com.backbase.kalah.dto.HintDto;
+import com.backbase.kalah.engine.search.SearchResult;
+
+/**
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class HintDtoConverter {
+    private HintDtoConverter() {
+        // private constructor to prevent instantiation
+    }
+
+    public static HintDto toHintDto(long gameId, SearchResult result) {
+        // We add 1 here as the output should be 1 based not 0 based
+        return new HintDto(String.valueOf(gameId), String.valueOf(result.getBestMove() + 1), result.getDepth(),
+                result.getScore(), result.getNodes());
+    }
+}
@@ -0,0 +1,37 @@
+package com.backbase.kalah.utils;
+
+import com.backbase.kalah.dto.LegalMovesDto;
+import com.backbase.kalah.engine.BoardState;
+import com.backbase.kalah.engine.MoveGenerator;
+import com.backbase.kalah.engine.Position;
+import com.backbase.kalah.model.enums.PlayerTurn;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class LegalMovesDtoConverter {
+    private LegalMovesDtoConverter() {
+        // private constructor to prevent instantiation
+    }
+
+    public static LegalMovesDto toLegalMovesDto(long gameId, Position position) {
+        int mask = position.getLegalMoveMask();
+        int firstPit = MoveGenerator.getFirstPit(position.getPlayerTurn());
+
+        List<String> legalMoves = new ArrayList<>();
+        for (int i = 0; i < MoveGenerator.MAX_MOVES; i++) {
+            if ((mask & (1 << i)) != 0) {
+                // We add 1 here as the output should be 1 based not 0 based
+                legalMoves.add(String.valueOf(firstPit + i + 1));
+            }
+        }
+
+        PlayerTurn playerTurn = position.getPlayerTurn() == BoardState.PLAYER_1 ? PlayerTurn.PLAYER_1 : PlayerTurn.PLAYER_2;
+
+        return new LegalMovesDto(String.valueOf(gameId), playerTurn.name(), mask, legalMoves);
+    }
+}
@@ -0,0 +1,31 @@
+package com.backbase.kalah.utils;
+
+import com.backbase.kalah.dto.GameStatusDto;
+import com.backbase.kalah.dto.MonteCarloMoveDto;
+import com.backbase.kalah.engine.mcts.MonteCarloResult;
+import com.backbase.kalah.service.MonteCarloMove;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class MonteCarloMoveDtoConverter {
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private MonteCarloMoveDtoConverter() {
+        // private constructor to prevent instantiation
+    }
+
+    public static MonteCarloMoveDto toMonteCarloMoveDto(MonteCarloMove monteCarloMove) {
+        GameStatusDto gameStatusDto = GameStatusDtoConverter.toGameStatusDto(monteCarloMove.getGame());
+        MonteCarloResult result = monteCarloMove.getSearchResult();
+
+        // We add 1 here as the output should be 1 based not 0 based
+        return new MonteCarloMoveDto(gameStatusDto.getId(), gameStatusDto.getUrl(), gameStatusDto.getStatus(),
+                String.valueOf(result.getBestMove() + 1), result.getWinRate(), result.getPlayouts(),
+                result.getThreadCount(), result.getPlayoutsPerSecond(), result.getPlayoutsPerCoreSecond(),
+                result.getElapsedNanos() / NANOS_PER_MILLI);
+    }
+}
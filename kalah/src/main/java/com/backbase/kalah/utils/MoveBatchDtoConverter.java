@@ -0,0 +1,27 @@
+package com.backbase.kalah.utils;
+
+import com.backbase.kalah.dto.GameStatusDto;
+import com.backbase.kalah.dto.MoveBatchDto;
+import com.backbase.kalah.service.MoveBatch;
+import com.backbase.kalah.service.MoveBatchResult;
+
+/**
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class MoveBatchDtoConverter {
+    private MoveBatchDtoConverter() {
+        // private constructor to prevent instantiation
+    }
+
+    public static MoveBatchDto toMoveBatchDto(MoveBatch moveBatch) {
+        GameStatusDto gameStatusDto = GameStatusDtoConverter.toGameStatusDto(moveBatch.getGame());
+        MoveBatchResult result = moveBatch.getResult();
+
+        // We add 1 here as the output should be 1 based not 0 based
+        String rejectedPitId = result.isComplete() ? null : String.valueOf(result.getRejectedPitId() + 1);
+
+        return new MoveBatchDto(gameStatusDto.getId(), gameStatusDto.getUrl(), gameStatusDto.getStatus(),
+                result.getMadeMoveCount(), rejectedPitId, result.getRejectionReason());
+    }
+}
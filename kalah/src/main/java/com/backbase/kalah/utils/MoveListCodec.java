@@ -0,0 +1,108 @@
+package com.backbase.kalah.utils;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static com.backbase.kalah.constant.Messages.INVALID_MOVE_LIST_ERROR;
+
+/**
+ * Encodes the moves of a game, i.e. the played pit IDs in order, as a list of varints. Every varint holds 7 bits per
+ * byte with the highest bit set on all bytes but the last, so the pit IDs of a board take one byte per move.
+ * A null move list stands for a game whose moves are not known, e.g. one created before the moves were recorded, and
+ * stays null when moves are appended
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public final class MoveListCodec {
+    // Length of the move list columns, far above the moves of any game seen in self-play
+    public static final int MAX_ENCODED_LENGTH = 1024;
+
+    private static final int PAYLOAD_BITS = 7;
+    private static final int PAYLOAD_MASK = 0x7F;
+    private static final int CONTINUATION_BIT = 0x80;
+    // Bytes of the longest varint of a non-negative int
+    private static final int MAX_VARINT_LENGTH = 5;
+
+    private MoveListCodec() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * @return The move list of a game without moves
+     */
+    public static byte[] empty() {
+        return new byte[0];
+    }
+
+    /**
+     * Appends the first given number of moves to the move list, leaving the given list unchanged
+     *
+     * @param moveList  The encoded moves made so far, or null if they are not known
+     * @param pitIds    The IDs of the played pits in order
+     * @param moveCount The number of moves to be appended
+     * @return A new move list ending with the given moves, or null if the given move list is null
+     */
+    public static byte[] append(byte[] moveList, List<Integer> pitIds, int moveCount) {
+        if (moveList == null) {
+            return null;
+        }
+
+        byte[] extendedMoveList = Arrays.copyOf(moveList, moveList.length + moveCount * MAX_VARINT_LENGTH);
+        int length = moveList.length;
+
+        for (int i = 0; i < moveCount; i++) {
+            length = writeVarint(extendedMoveList, length, pitIds.get(i));
+        }
+
+        return Arrays.copyOf(extendedMoveList, length);
+    }
+
+    /**
+     * Decodes the given move list
+     *
+     * @param moveList The encoded moves
+     * @return The IDs of the played pits in order
+     */
+    public static int[] decode(byte[] moveList) {
+        int[] pitIds = new int[moveList.length];
+        int moveCount = 0;
+        int value = 0;
+        int shift = 0;
+
+        for (byte encodedByte : moveList) {
+            if (shift >= MAX_VARINT_LENGTH * PAYLOAD_BITS) {
+                throw new IllegalArgumentException(INVALID_MOVE_LIST_ERROR);
+            }
+
+            value |= (encodedByte & PAYLOAD_MASK) << shift;
+            shift += PAYLOAD_BITS;
+
+            if ((encodedByte & CONTINUATION_BIT) == 0) {
+                pitIds[moveCount++] = value;
+                value = 0;
+                shift = 0;
+            }
+        }
+
+        // The last varint must not be cut off
+        if (shift != 0) {
+            throw new IllegalArgumentException(INVALID_MOVE_LIST_ERROR);
+        }
+
+        return Arrays.copyOf(pitIds, moveCount);
+    }
+
+    private static int writeVarint(byte[] buffer, int offset, int value) {
+        int position = offset;
+        int remaining = value;
+
+        while ((remaining & ~PAYLOAD_MASK) != 0) {
+            buffer[position++] = (byte) ((remaining & PAYLOAD_MASK) | CONTINUATION_BIT);
+            remaining >>>= PAYLOAD_BITS;
+        }
+        buffer[position++] = (byte) remaining;
+
+        return position;
+    }
+}
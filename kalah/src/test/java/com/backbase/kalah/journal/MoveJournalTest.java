@@ -0,0 +1,251 @@
+package com.backbase.kalah.journal;
+
+import com.backbase.kalah.engine.Position;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * Test class for {@link MoveJournal}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class MoveJournalTest {
+    //region field values
+    private static final long GAME_ID_1 = 1L;
+    private static final long GAME_ID_2 = 2L;
+    private static final int PIT_0 = 0;
+    private static final int PIT_1 = 1;
+    private static final int PIT_2 = 2;
+    private static final int PIT_8 = 8;
+    private static final int SEGMENT_SIZE = 4096;
+    // Two records per segment, so a game of a few moves spans several segments
+    private static final int SMALL_SEGMENT_SIZE = 2 * MoveJournal.RECORD_SIZE;
+    //endregion
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Rule
+    public ExpectedException thrownException = ExpectedException.none();
+
+    private Path directory;
+    // Positions of the games after the moves appended by the test
+    private final Map<Long, Position> positions = new HashMap<>();
+
+    @Before
+    public void setUp() throws Exception {
+        directory = temporaryFolder.newFolder().toPath();
+    }
+
+    /**
+     * Tests {@link MoveJournal#open(Path, int)} recovers the positions of the journaled games after a clean close
+     */
+    @Test
+    public void testRecover() throws IOException {
+        MoveJournal journal = MoveJournal.open(directory, SEGMENT_SIZE);
+        appendMoves(journal, GAME_ID_1, PIT_0, PIT_1);
+        journal.awaitDurable(appendMoves(journal, GAME_ID_2, PIT_2));
+        journal.close();
+
+        MoveJournal recoveredJournal = MoveJournal.open(directory, SEGMENT_SIZE);
+
+        assertThat(recoveredJournal.getRecoveredPositions()).containsOnly(
+                entry(GAME_ID_1, Position.initial().play(PIT_0).play(PIT_1)),
+                entry(GAME_ID_2, Position.initial().play(PIT_2)));
+        assertThat(recoveredJournal.getJournaledGameCount()).isEqualTo(2);
+        recoveredJournal.close();
+    }
+
+    /**
+     * Tests {@link MoveJournal#open(Path, int)} recovers the moves of a journal that was never closed
+     */
+    @Test
+    public void testRecoverWithoutClose() throws IOException {
+        MoveJournal journal = MoveJournal.open(directory, SEGMENT_SIZE);
+        journal.awaitDurable(appendMoves(journal, GAME_ID_1, PIT_0, PIT_1));
+
+        MoveJournal recoveredJournal = MoveJournal.open(directory, SEGMENT_SIZE);
+
+        assertThat(recoveredJournal.getRecoveredPositions())
+                .containsOnly(entry(GAME_ID_1, Position.initial().play(PIT_0).play(PIT_1)));
+        recoveredJournal.close();
+    }
+
+    /**
+     * Tests {@link MoveJournal#append(long, Position, int, Position)} continues in a new segment once one is full
+     */
+    @Test
+    public void testRecoverFromSeveralSegments() throws IOException {
+        MoveJournal journal = MoveJournal.open(directory, SMALL_SEGMENT_SIZE);
+        appendMoves(journal, GAME_ID_1, PIT_0, PIT_1, PIT_8);
+        journal.close();
+
+        assertThat(listFiles(MoveJournal.SEGMENT_SUFFIX)).hasSize(2);
+
+        MoveJournal recoveredJournal = MoveJournal.open(directory, SMALL_SEGMENT_SIZE);
+
+        assertThat(recoveredJournal.getRecoveredPositions())
+                .containsOnly(entry(GAME_ID_1, Position.initial().play(PIT_0).play(PIT_1).play(PIT_8)));
+        recoveredJournal.close();
+    }
+
+    /**
+     * Tests {@link MoveJournal#open(Path, int)} stops at a record torn by a crash
+     */
+    @Test
+    public void testRecoverWithTornRecord() throws IOException {
+        MoveJournal journal = MoveJournal.open(directory, SEGMENT_SIZE);
+        appendMoves(journal, GAME_ID_1, PIT_0, PIT_1);
+        journal.close();
+
+        // The base record and the first move are intact, the last byte of the second move is lost
+        Path segment = listFiles(MoveJournal.SEGMENT_SUFFIX).get(0);
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            file.seek(3 * MoveJournal.RECORD_SIZE - 1);
+            file.write(0xFF);
+        }
+
+        MoveJournal recoveredJournal = MoveJournal.open(directory, SEGMENT_SIZE);
+
+        assertThat(recoveredJournal.getRecoveredPositions())
+                .containsOnly(entry(GAME_ID_1, Position.initial().play(PIT_0)));
+        recoveredJournal.close();
+    }
+
+    /**
+     * Tests {@link MoveJournal#snapshot()} deletes the segments covered by the snapshot, and moves appended after it
+     * are replayed on top of it
+     */
+    @Test
+    public void testSnapshot() throws IOException {
+        MoveJournal journal = MoveJournal.open(directory, SEGMENT_SIZE);
+        appendMoves(journal, GAME_ID_1, PIT_0);
+
+        journal.snapshot();
+        appendMoves(journal, GAME_ID_1, PIT_1);
+        journal.close();
+
+        assertThat(listFiles(MoveJournal.SEGMENT_SUFFIX)).hasSize(1);
+        assertThat(listFiles(MoveJournal.SNAPSHOT_SUFFIX)).hasSize(1);
+
+        MoveJournal recoveredJournal = MoveJournal.open(directory, SEGMENT_SIZE);
+
+        assertThat(recoveredJournal.getRecoveredPositions())
+                .containsOnly(entry(GAME_ID_1, Position.initial().play(PIT_0).play(PIT_1)));
+        recoveredJournal.close();
+    }
+
+    /**
+     * Tests {@link MoveJournal#snapshot()} unmaps the full segments before deleting their files
+     */
+    @Test
+    public void testSnapshotUnmapsFullSegments() throws IOException {
+        MoveJournal journal = MoveJournal.open(directory, SMALL_SEGMENT_SIZE);
+        appendMoves(journal, GAME_ID_1, PIT_0, PIT_1, PIT_8);
+
+        assertThat(journal.getRetiredSegmentCount()).isEqualTo(1);
+
+        journal.snapshot();
+
+        assertThat(journal.getRetiredSegmentCount()).isZero();
+        assertThat(listFiles(MoveJournal.SEGMENT_SUFFIX)).hasSize(1);
+
+        appendMoves(journal, GAME_ID_1, PIT_2);
+        journal.close();
+
+        MoveJournal recoveredJournal = MoveJournal.open(directory, SMALL_SEGMENT_SIZE);
+
+        assertThat(recoveredJournal.getRecoveredPositions())
+                .containsOnly(entry(GAME_ID_1, Position.initial().play(PIT_0).play(PIT_1).play(PIT_8).play(PIT_2)));
+        recoveredJournal.close();
+    }
+
+    /**
+     * Tests {@link MoveJournal#markPersisted(long, Position)} drops the game only if it was not moved again
+     */
+    @Test
+    public void testMarkPersisted() throws IOException {
+        MoveJournal journal = MoveJournal.open(directory, SEGMENT_SIZE);
+        appendMoves(journal, GAME_ID_1, PIT_0);
+        appendMoves(journal, GAME_ID_2, PIT_2);
+
+        journal.markPersisted(GAME_ID_1, Position.initial().play(PIT_0));
+        journal.markPersisted(GAME_ID_2, Position.initial());
+        journal.snapshot();
+        journal.close();
+
+        MoveJournal recoveredJournal = MoveJournal.open(directory, SEGMENT_SIZE);
+
+        assertThat(recoveredJournal.getRecoveredPositions())
+                .containsOnly(entry(GAME_ID_2, Position.initial().play(PIT_2)));
+        recoveredJournal.close();
+    }
+
+    /**
+     * Tests {@link MoveJournal#awaitDurable(long)} returns without forcing again for records already durable
+     */
+    @Test
+    public void testAwaitDurable() throws IOException {
+        MoveJournal journal = MoveJournal.open(directory, SEGMENT_SIZE);
+        long firstSequence = appendMoves(journal, GAME_ID_1, PIT_0);
+        long lastSequence = appendMoves(journal, GAME_ID_2, PIT_2);
+
+        journal.awaitDurable(lastSequence);
+        journal.awaitDurable(firstSequence);
+
+        assertThat(journal.getRecordCount()).isEqualTo(4);
+        assertThat(journal.getSyncCount()).isEqualTo(1);
+        journal.close();
+    }
+
+    /**
+     * Tests {@link MoveJournal#open(Path, int)} with a segment size not holding whole records
+     */
+    @Test
+    public void testOpenWithInvalidSegmentSize() throws IOException {
+        thrownException.expect(IllegalArgumentException.class);
+
+        MoveJournal.open(directory, MoveJournal.RECORD_SIZE + 1);
+    }
+
+    private long appendMoves(MoveJournal journal, long gameId, int... pits) {
+        Position position = positions.getOrDefault(gameId, Position.initial());
+        long sequence = 0L;
+
+        for (int pit : pits) {
+            Position nextPosition = position.play(pit);
+            sequence = journal.append(gameId, position, pit, nextPosition);
+            position = nextPosition;
+        }
+
+        positions.put(gameId, position);
+        return sequence;
+    }
+
+    private List<Path> listFiles(String suffix) throws IOException {
+        List<Path> files = new ArrayList<>();
+
+        try (DirectoryStream<Path> paths = Files.newDirectoryStream(directory, "*" + suffix)) {
+            paths.forEach(files::add);
+        }
+
+        return files;
+    }
+}
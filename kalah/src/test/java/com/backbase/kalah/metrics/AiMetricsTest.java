@@ -0,0 +1,76 @@
+package com.backbase.kalah.metrics;
+
+import com.backbase.kalah.service.AiService;
+import com.backbase.kalah.service.MonteCarloService;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.boot.actuate.metrics.Metric;
+
+import java.util.Collection;
+
+import static com.backbase.kalah.metrics.AiMetrics.MONTE_CARLO_PLAYOUTS_METRIC;
+import static com.backbase.kalah.metrics.AiMetrics.MONTE_CARLO_PLAYOUTS_PER_CORE_SECOND_METRIC;
+import static com.backbase.kalah.metrics.AiMetrics.OPENING_BOOK_HITS_METRIC;
+import static com.backbase.kalah.metrics.AiMetrics.OPENING_BOOK_HIT_RATE_METRIC;
+import static com.backbase.kalah.metrics.AiMetrics.OPENING_BOOK_LOOKUPS_METRIC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for {@link AiMetrics}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@RunWith(MockitoJUnitRunner.class)
+public class AiMetricsTest {
+    //region field values
+    private static final long LOOKUPS = 8L;
+    private static final long HITS = 6L;
+    private static final long PLAYOUTS = 500_000L;
+    private static final long PLAYOUTS_PER_CORE_SECOND = 250_000L;
+    //endregion
+
+    @Mock
+    private AiService aiService;
+    @Mock
+    private MonteCarloService monteCarloService;
+
+    @InjectMocks
+    private AiMetrics aiMetrics;
+
+    /**
+     * Tests {@link AiMetrics#metrics()}
+     */
+    @Test
+    public void testMetrics() {
+        when(aiService.getOpeningBookLookups()).thenReturn(LOOKUPS);
+        when(aiService.getOpeningBookHits()).thenReturn(HITS);
+        when(monteCarloService.getPlayouts()).thenReturn(PLAYOUTS);
+        when(monteCarloService.getPlayoutsPerCoreSecond()).thenReturn(PLAYOUTS_PER_CORE_SECOND);
+
+        Collection<Metric<?>> metrics = aiMetrics.metrics();
+
+        assertThat(metrics).extracting(Metric::getName, Metric::getValue).containsExactly(
+                tuple(OPENING_BOOK_LOOKUPS_METRIC, LOOKUPS),
+                tuple(OPENING_BOOK_HITS_METRIC, HITS),
+                tuple(OPENING_BOOK_HIT_RATE_METRIC, 0.75),
+                tuple(MONTE_CARLO_PLAYOUTS_METRIC, PLAYOUTS),
+                tuple(MONTE_CARLO_PLAYOUTS_PER_CORE_SECOND_METRIC, PLAYOUTS_PER_CORE_SECOND));
+    }
+
+    /**
+     * Tests {@link AiMetrics#metrics()} before any lookup, which must not divide by zero
+     */
+    @Test
+    public void testMetricsWithoutLookups() {
+        Collection<Metric<?>> metrics = aiMetrics.metrics();
+
+        assertThat(metrics).extracting(Metric::getName, Metric::getValue)
+                .contains(tuple(OPENING_BOOK_HIT_RATE_METRIC, 0.0));
+    }
+}
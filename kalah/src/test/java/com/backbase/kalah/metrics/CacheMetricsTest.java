@@ -0,0 +1,71 @@
+package com.backbase.kalah.metrics;
+
+import com.backbase.kalah.service.CacheRegionStatistics;
+import com.backbase.kalah.service.EntityCache;
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.boot.actuate.metrics.Metric;
+
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for {@link CacheMetrics}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@RunWith(MockitoJUnitRunner.class)
+public class CacheMetricsTest {
+    //region field values
+    private static final String REGION = "game";
+    private static final long SIZE = 40L;
+    private static final long HITS = 300L;
+    private static final long MISSES = 100L;
+    private static final long EVICTIONS = 5L;
+    private static final long EXPIRATIONS = 2L;
+    //endregion
+
+    @Mock
+    private EntityCache entityCache;
+
+    @InjectMocks
+    private CacheMetrics cacheMetrics;
+
+    /**
+     * Tests {@link CacheMetrics#metrics()}
+     */
+    @Test
+    public void testMetrics() {
+        when(entityCache.getStatistics()).thenReturn(ImmutableList.of(
+                new CacheRegionStatistics(REGION, SIZE, HITS, MISSES, EVICTIONS, EXPIRATIONS)));
+
+        Collection<Metric<?>> metrics = cacheMetrics.metrics();
+
+        assertThat(metrics).extracting(Metric::getName, Metric::getValue).containsExactly(
+                tuple("kalah.cache.game.size", SIZE),
+                tuple("kalah.cache.game.hits", HITS),
+                tuple("kalah.cache.game.misses", MISSES),
+                tuple("kalah.cache.game.hit-rate", 0.75),
+                tuple("kalah.cache.game.evictions", EVICTIONS),
+                tuple("kalah.cache.game.expirations", EXPIRATIONS));
+    }
+
+    /**
+     * Tests {@link CacheMetrics#metrics()} without second-level cache
+     */
+    @Test
+    public void testMetricsWithoutCache() {
+        when(entityCache.getStatistics()).thenReturn(Collections.emptyList());
+
+        assertThat(cacheMetrics.metrics()).isEmpty();
+    }
+}
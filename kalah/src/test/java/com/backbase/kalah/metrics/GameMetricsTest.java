@@ -0,0 +1,162 @@
+package com.backbase.kalah.metrics;
+
+import com.backbase.kalah.service.BoardPool;
+import com.backbase.kalah.service.GameArchive;
+import com.backbase.kalah.service.GameService;
+import com.backbase.kalah.service.GameStore;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.boot.actuate.metrics.Metric;
+
+import java.util.Collection;
+
+import static com.backbase.kalah.metrics.GameMetrics.ARCHIVED_GAMES_METRIC;
+import static com.backbase.kalah.metrics.GameMetrics.BOARD_POOL_CLAIMS_METRIC;
+import static com.backbase.kalah.metrics.GameMetrics.BOARD_POOL_CLAIM_LATENCY_METRIC;
+import static com.backbase.kalah.metrics.GameMetrics.BOARD_POOL_DEMAND_METRIC;
+import static com.backbase.kalah.metrics.GameMetrics.BOARD_POOL_MISSES_METRIC;
+import static com.backbase.kalah.metrics.GameMetrics.BOARD_POOL_TARGET_SIZE_METRIC;
+import static com.backbase.kalah.metrics.GameMetrics.DIRTY_GAMES_METRIC;
+import static com.backbase.kalah.metrics.GameMetrics.FLUSH_LAG_METRIC;
+import static com.backbase.kalah.metrics.GameMetrics.JOURNAL_RECORDS_METRIC;
+import static com.backbase.kalah.metrics.GameMetrics.JOURNAL_SYNCS_METRIC;
+import static com.backbase.kalah.metrics.GameMetrics.LIVE_GAMES_METRIC;
+import static com.backbase.kalah.metrics.GameMetrics.MOVE_CONFLICTS_METRIC;
+import static com.backbase.kalah.metrics.GameMetrics.POOLED_BOARDS_METRIC;
+import static com.backbase.kalah.metrics.GameMetrics.REHYDRATED_GAMES_METRIC;
+import static com.backbase.kalah.metrics.GameMetrics.REJECTED_MOVE_CONFLICTS_METRIC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for {@link GameMetrics}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@RunWith(MockitoJUnitRunner.class)
+public class GameMetricsTest {
+    //region field values
+    private static final long MOVE_CONFLICTS = 7L;
+    private static final long REJECTED_MOVE_CONFLICTS = 2L;
+    private static final long FLUSH_LAG_MILLIS = 150L;
+    private static final int DIRTY_GAMES = 12;
+    private static final int LIVE_GAMES = 40;
+    private static final long JOURNAL_RECORDS = 900L;
+    private static final long JOURNAL_SYNCS = 250L;
+    private static final long ARCHIVED_GAMES = 300L;
+    private static final long REHYDRATED_GAMES = 20L;
+    private static final int POOLED_BOARDS = 180;
+    private static final int BOARD_POOL_TARGET_SIZE = 200;
+    private static final double BOARD_POOL_DEMAND = 95.5;
+    private static final long BOARD_POOL_CLAIMS = 1000L;
+    private static final long BOARD_POOL_MISSES = 3L;
+    private static final double BOARD_POOL_CLAIM_LATENCY = 12.5;
+    //endregion
+
+    @Mock
+    private GameService gameService;
+    @Mock
+    private GameStore gameStore;
+    @Mock
+    private GameArchive gameArchive;
+    @Mock
+    private BoardPool boardPool;
+
+    @InjectMocks
+    private GameMetrics gameMetrics;
+
+    /**
+     * Tests {@link GameMetrics#metrics()}
+     */
+    @Test
+    public void testMetrics() {
+        when(gameService.getMoveConflicts()).thenReturn(MOVE_CONFLICTS);
+        when(gameService.getRejectedMoveConflicts()).thenReturn(REJECTED_MOVE_CONFLICTS);
+
+        Collection<Metric<?>> metrics = gameMetrics.metrics();
+
+        assertThat(metrics).extracting(Metric::getName, Metric::getValue).containsExactly(
+                tuple(MOVE_CONFLICTS_METRIC, MOVE_CONFLICTS),
+                tuple(REJECTED_MOVE_CONFLICTS_METRIC, REJECTED_MOVE_CONFLICTS));
+    }
+
+    /**
+     * Tests {@link GameMetrics#metrics()} with write-behind and the journal enabled
+     */
+    @Test
+    public void testMetricsWithWriteBehind() {
+        when(gameService.getMoveConflicts()).thenReturn(MOVE_CONFLICTS);
+        when(gameService.getRejectedMoveConflicts()).thenReturn(REJECTED_MOVE_CONFLICTS);
+        when(gameStore.isEnabled()).thenReturn(true);
+        when(gameStore.getFlushLagMillis()).thenReturn(FLUSH_LAG_MILLIS);
+        when(gameStore.getDirtyGameCount()).thenReturn(DIRTY_GAMES);
+        when(gameStore.getLiveGameCount()).thenReturn(LIVE_GAMES);
+        when(gameStore.isJournalEnabled()).thenReturn(true);
+        when(gameStore.getJournalRecordCount()).thenReturn(JOURNAL_RECORDS);
+        when(gameStore.getJournalSyncCount()).thenReturn(JOURNAL_SYNCS);
+
+        Collection<Metric<?>> metrics = gameMetrics.metrics();
+
+        assertThat(metrics).extracting(Metric::getName, Metric::getValue).containsExactly(
+                tuple(MOVE_CONFLICTS_METRIC, MOVE_CONFLICTS),
+                tuple(REJECTED_MOVE_CONFLICTS_METRIC, REJECTED_MOVE_CONFLICTS),
+                tuple(FLUSH_LAG_METRIC, FLUSH_LAG_MILLIS),
+                tuple(DIRTY_GAMES_METRIC, DIRTY_GAMES),
+                tuple(LIVE_GAMES_METRIC, LIVE_GAMES),
+                tuple(JOURNAL_RECORDS_METRIC, JOURNAL_RECORDS),
+                tuple(JOURNAL_SYNCS_METRIC, JOURNAL_SYNCS));
+    }
+
+    /**
+     * Tests {@link GameMetrics#metrics()} with archiving enabled
+     */
+    @Test
+    public void testMetricsWithArchive() {
+        when(gameService.getMoveConflicts()).thenReturn(MOVE_CONFLICTS);
+        when(gameService.getRejectedMoveConflicts()).thenReturn(REJECTED_MOVE_CONFLICTS);
+        when(gameArchive.isEnabled()).thenReturn(true);
+        when(gameArchive.getArchivedGameCount()).thenReturn(ARCHIVED_GAMES);
+        when(gameArchive.getRehydratedGameCount()).thenReturn(REHYDRATED_GAMES);
+
+        Collection<Metric<?>> metrics = gameMetrics.metrics();
+
+        assertThat(metrics).extracting(Metric::getName, Metric::getValue).containsExactly(
+                tuple(MOVE_CONFLICTS_METRIC, MOVE_CONFLICTS),
+                tuple(REJECTED_MOVE_CONFLICTS_METRIC, REJECTED_MOVE_CONFLICTS),
+                tuple(ARCHIVED_GAMES_METRIC, ARCHIVED_GAMES),
+                tuple(REHYDRATED_GAMES_METRIC, REHYDRATED_GAMES));
+    }
+
+    /**
+     * Tests {@link GameMetrics#metrics()} with the board pool enabled
+     */
+    @Test
+    public void testMetricsWithBoardPool() {
+        when(gameService.getMoveConflicts()).thenReturn(MOVE_CONFLICTS);
+        when(gameService.getRejectedMoveConflicts()).thenReturn(REJECTED_MOVE_CONFLICTS);
+        when(boardPool.isEnabled()).thenReturn(true);
+        when(boardPool.getAvailableBoardCount()).thenReturn(POOLED_BOARDS);
+        when(boardPool.getTargetSize()).thenReturn(BOARD_POOL_TARGET_SIZE);
+        when(boardPool.getDemandPerSecond()).thenReturn(BOARD_POOL_DEMAND);
+        when(boardPool.getClaimCount()).thenReturn(BOARD_POOL_CLAIMS);
+        when(boardPool.getMissCount()).thenReturn(BOARD_POOL_MISSES);
+        when(boardPool.getMeanClaimLatencyMicros()).thenReturn(BOARD_POOL_CLAIM_LATENCY);
+
+        Collection<Metric<?>> metrics = gameMetrics.metrics();
+
+        assertThat(metrics).extracting(Metric::getName, Metric::getValue).containsExactly(
+                tuple(MOVE_CONFLICTS_METRIC, MOVE_CONFLICTS),
+                tuple(REJECTED_MOVE_CONFLICTS_METRIC, REJECTED_MOVE_CONFLICTS),
+                tuple(POOLED_BOARDS_METRIC, POOLED_BOARDS),
+                tuple(BOARD_POOL_TARGET_SIZE_METRIC, BOARD_POOL_TARGET_SIZE),
+                tuple(BOARD_POOL_DEMAND_METRIC, BOARD_POOL_DEMAND),
+                tuple(BOARD_POOL_CLAIMS_METRIC, BOARD_POOL_CLAIMS),
+                tuple(BOARD_POOL_MISSES_METRIC, BOARD_POOL_MISSES),
+                tuple(BOARD_POOL_CLAIM_LATENCY_METRIC, BOARD_POOL_CLAIM_LATENCY));
+    }
+}
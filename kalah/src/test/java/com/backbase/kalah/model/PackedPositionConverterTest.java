@@ -0,0 +1,98 @@
+package com.backbase.kalah.model;
+
+import com.backbase.kalah.engine.BoardState;
+import com.backbase.kalah.engine.Position;
+import org.junit.Test;
+
+import static com.backbase.kalah.constant.Constants.COUNT_OF_ALL_PITS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for {@link PackedPositionConverter}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class PackedPositionConverterTest {
+    //region field values
+    private static final int PIT_3 = 3;
+    private static final int PIT_8 = 8;
+    private static final int PLAYER_2_KALAH = 13;
+    private static final int MAX_STONES = 72;
+    //endregion
+
+    private final PackedPositionConverter converter = new PackedPositionConverter();
+
+    /**
+     * Tests {@link PackedPositionConverter} packs the initial position into one byte per pit plus one for the flags and
+     * reads it back
+     */
+    @Test
+    public void testConvertInitialPosition() {
+        byte[] packed = converter.convertToDatabaseColumn(Position.initial());
+
+        assertThat(packed).hasSize(COUNT_OF_ALL_PITS + 1);
+        assertThat(converter.convertToEntityAttribute(packed)).isEqualTo(Position.initial());
+    }
+
+    /**
+     * Tests {@link PackedPositionConverter} keeps the second player's turn, the finished flag and the highest possible
+     * stone count
+     */
+    @Test
+    public void testConvertFinishedPosition() {
+        BoardState state = new BoardState();
+        state.setStones(PLAYER_2_KALAH, MAX_STONES);
+        state.setPlayerTurn(BoardState.PLAYER_2);
+        state.setFinished(true);
+        Position position = Position.of(state);
+
+        Position convertedPosition = converter.convertToEntityAttribute(converter.convertToDatabaseColumn(position));
+
+        assertThat(convertedPosition).isEqualTo(position);
+        assertThat(convertedPosition.getStones(PLAYER_2_KALAH)).isEqualTo(MAX_STONES);
+        assertThat(convertedPosition.getPlayerTurn()).isEqualTo(BoardState.PLAYER_2);
+        assertThat(convertedPosition.isFinished()).isTrue();
+        assertThat(convertedPosition.getHash()).isEqualTo(position.getHash());
+    }
+
+    /**
+     * Tests {@link PackedPositionConverter} for a position during the game
+     */
+    @Test
+    public void testConvertPlayedPosition() {
+        Position position = Position.initial().play(PIT_3).play(PIT_8);
+
+        assertThat(converter.convertToEntityAttribute(converter.convertToDatabaseColumn(position)))
+                .isEqualTo(position);
+    }
+
+    /**
+     * Tests {@link PackedPositionConverter} for null, i.e. a board stored as pits
+     */
+    @Test
+    public void testConvertNull() {
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+    }
+
+    /**
+     * Tests {@link PackedPositionConverter#convertToEntityAttribute(byte[])} for a column of the wrong length
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testConvertInvalidColumn() {
+        converter.convertToEntityAttribute(new byte[COUNT_OF_ALL_PITS]);
+    }
+
+    /**
+     * Tests {@link PackedPositionConverter#convertToEntityAttribute(byte[])} for a pit byte above the highest possible
+     * stone count, which would be negative if read as signed byte
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testConvertInvalidStoneCount() {
+        byte[] packed = converter.convertToDatabaseColumn(Position.initial());
+        packed[PIT_3] = (byte) 0xFF;
+
+        converter.convertToEntityAttribute(packed);
+    }
+}
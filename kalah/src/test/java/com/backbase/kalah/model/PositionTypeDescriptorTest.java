@@ -0,0 +1,100 @@
+package com.backbase.kalah.model;
+
+import com.backbase.kalah.engine.BoardState;
+import com.backbase.kalah.engine.Position;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for {@link PositionTypeDescriptor}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class PositionTypeDescriptorTest {
+    //region field values
+    // Six stones in every pit, empty kalahs, the first player's turn and a running game
+    private static final String INITIAL_POSITION_STRING = "060606060606000606060606060000";
+    private static final int PIT_3 = 3;
+    private static final int PIT_8 = 8;
+    //endregion
+
+    private final PositionTypeDescriptor descriptor = PositionTypeDescriptor.INSTANCE;
+
+    /**
+     * Tests {@link PositionTypeDescriptor#toString(Position)} writes the packed form of the position as hexadecimal
+     * string
+     */
+    @Test
+    public void testToString() {
+        assertThat(descriptor.toString(Position.initial())).isEqualTo(INITIAL_POSITION_STRING);
+    }
+
+    /**
+     * Tests {@link PositionTypeDescriptor#fromString(String)} reads the position written by
+     * {@link PositionTypeDescriptor#toString(Position)}
+     */
+    @Test
+    public void testFromString() {
+        Position position = Position.initial().play(PIT_3).play(PIT_8);
+
+        assertThat(descriptor.fromString(INITIAL_POSITION_STRING)).isEqualTo(Position.initial());
+        assertThat(descriptor.fromString(descriptor.toString(position))).isEqualTo(position);
+    }
+
+    /**
+     * Tests {@link PositionTypeDescriptor#fromString(String)} keeps the second player's turn and the finished flag
+     */
+    @Test
+    public void testFromStringForFinishedPosition() {
+        BoardState state = new BoardState();
+        state.setPlayerTurn(BoardState.PLAYER_2);
+        state.setFinished(true);
+        Position position = Position.of(state);
+
+        assertThat(descriptor.fromString(descriptor.toString(position))).isEqualTo(position);
+    }
+
+    /**
+     * Tests {@link PositionTypeDescriptor} binds and reads positions in their packed form
+     */
+    @Test
+    public void testUnwrapAndWrapPackedPosition() {
+        Position position = Position.initial().play(PIT_3);
+
+        byte[] packed = descriptor.unwrap(position, byte[].class, null);
+
+        assertThat(packed).isEqualTo(new PackedPositionConverter().convertToDatabaseColumn(position));
+        assertThat(descriptor.wrap(packed, null)).isEqualTo(position);
+    }
+
+    /**
+     * Tests {@link PositionTypeDescriptor} holds positions as immutable, so they are neither copied on reads nor by the
+     * second-level cache
+     */
+    @Test
+    public void testImmutable() {
+        Position position = Position.initial();
+
+        assertThat(descriptor.getMutabilityPlan().isMutable()).isFalse();
+        assertThat(descriptor.getMutabilityPlan().deepCopy(position)).isSameAs(position);
+        assertThat(descriptor.getMutabilityPlan().disassemble(position)).isSameAs(position);
+    }
+
+    /**
+     * Tests {@link PositionTypeDescriptor#fromString(String)} for a string which is not hexadecimal
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testFromInvalidString() {
+        descriptor.fromString(Position.initial().toString());
+    }
+
+    /**
+     * Tests {@link PositionTypeDescriptor#fromString(String)} for a packed form of the wrong length
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testFromTruncatedString() {
+        descriptor.fromString(INITIAL_POSITION_STRING.substring(2));
+    }
+}
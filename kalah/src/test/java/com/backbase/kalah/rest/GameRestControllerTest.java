@@ -1,36 +1,80 @@
 package com.backbase.kalah.rest;
 
+import com.backbase.kalah.engine.Position;
+import com.backbase.kalah.engine.mcts.MonteCarloResult;
+import com.backbase.kalah.engine.search.SearchResult;
 import com.backbase.kalah.error.KalahGameExceptionHandler;
 import com.backbase.kalah.model.Board;
 import com.backbase.kalah.model.Game;
+import com.backbase.kalah.model.GameSummary;
+import com.backbase.kalah.model.enums.PlayerTurn;
+import com.backbase.kalah.model.enums.Status;
+import com.backbase.kalah.service.AiMove;
+import com.backbase.kalah.service.GameFilter;
 import com.backbase.kalah.service.GameService;
+import com.backbase.kalah.service.MonteCarloMove;
+import com.backbase.kalah.service.MoveBatch;
+import com.backbase.kalah.service.MoveBatchResult;
+import com.google.common.collect.ImmutableList;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.log4j.Logger;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
 
+import static com.backbase.kalah.constant.Fields.AFTER_ID_PARAMETER;
+import static com.backbase.kalah.constant.Fields.COUNT_PARAMETER;
+import static com.backbase.kalah.constant.Fields.CREATED_FROM_PARAMETER;
+import static com.backbase.kalah.constant.Fields.LIMIT_PARAMETER;
+import static com.backbase.kalah.constant.Fields.PLAYER_TURN_PARAMETER;
+import static com.backbase.kalah.constant.Fields.STATUS_PARAMETER;
 import static com.backbase.kalah.constant.Fields.ID_FIELD;
+import static com.backbase.kalah.constant.Fields.DEPTH_PARAMETER;
+import static com.backbase.kalah.constant.Fields.TIME_BUDGET_PARAMETER;
 import static com.backbase.kalah.constant.Messages.GAME_CREATION_FAILED_ERROR;
+import static com.backbase.kalah.constant.Paths.AI_MOVE_CONTEXT_PATH;
+import static com.backbase.kalah.constant.Paths.BULK_CONTEXT_PATH;
 import static com.backbase.kalah.constant.Paths.GAMES_CONTEXT_PATH;
+import static com.backbase.kalah.constant.Paths.HINT_CONTEXT_PATH;
+import static com.backbase.kalah.constant.Paths.MONTE_CARLO_MOVE_CONTEXT_PATH;
+import static com.backbase.kalah.constant.Paths.MOVES_CONTEXT_PATH;
 import static com.backbase.kalah.constant.Paths.PITS_CONTEXT_PATH;
+import static com.backbase.kalah.constant.Paths.STREAM_CONTEXT_PATH;
+import static com.backbase.kalah.constant.Constants.COUNT_OF_ALL_PITS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyLong;
 import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -46,8 +90,28 @@ public class GameRestControllerTest {
     private static final String INVALID_PIT_ID = "pit";
     private static final long GAME_ID = 1L;
     private static final int PIT_ID = 1;
+    private static final int ALL_PITS_LEGAL_MASK = 0b111111;
+    private static final int AI_DEPTH = 2;
+    private static final int DEFAULT_AI_DEPTH = 8;
+    private static final String INVALID_AI_DEPTH = "deep";
+    private static final long AI_NODES = 100L;
+    private static final long TIME_BUDGET_MILLIS = 100L;
+    private static final long DEFAULT_TIME_BUDGET_MILLIS = 1000L;
+    private static final String INVALID_TIME_BUDGET = "long";
+    private static final long PLAYOUTS = 4000L;
+    private static final String MOVE_BATCH = "[1, 2, 3]";
+    private static final String MOVE_BATCH_WITH_NULL = "[1, null]";
+    private static final String REJECTION_REASON = "Pit is empty already";
     private static final String GAME_URI = "http://localhost/games/1";
     private static final String BASE_URI = "/" + GAMES_CONTEXT_PATH;
+    private static final int BULK_GAME_COUNT = 2;
+    private static final int PAGE_SIZE = 2;
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final long SECOND_GAME_ID = 2L;
+    private static final String SECOND_GAME_URI = "http://localhost/games/2";
+    private static final String CREATED_AT = "2026-10-17T10:15:30Z";
+    private static final String INVALID_STATUS = "PAUSED";
+    private static final String INVALID_CREATION_TIME = "yesterday";
     //endregion
 
     @Mock
@@ -92,6 +156,169 @@ public class GameRestControllerTest {
                 .andExpect(jsonPath("$." + ID_FIELD).value(GAME_ID));
     }
 
+    /**
+     * Tests {@link GameRestController#createGames(String)} streams one line per created game
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testCreateGames() throws Exception {
+        when(gameService.createNewGames(anyString(), eq(BULK_GAME_COUNT), any())).then(invocation -> {
+            Consumer<Game> createdGameConsumer = (Consumer<Game>) invocation.getArguments()[2];
+            createdGameConsumer.accept(testGame);
+            createdGameConsumer.accept(testGame);
+            return BULK_GAME_COUNT;
+        });
+
+        MvcResult result = this.mockMvc
+                .perform(post(builder.path("/" + BULK_CONTEXT_PATH).build().toUri())
+                        .param(COUNT_PARAMETER, String.valueOf(BULK_GAME_COUNT)))
+                .andExpect(request().asyncStarted())
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(GameRestController.NDJSON_MEDIA_TYPE))
+                .andReturn();
+
+        // Waits until the body is streamed
+        result.getAsyncResult();
+
+        String expectedLine = "{\"id\":\"" + GAME_ID + "\",\"uri\":\"" + GAME_URI + "\"}\n";
+        assertThat(result.getResponse().getContentAsString()).isEqualTo(expectedLine + expectedLine);
+    }
+
+    /**
+     * Tests {@link GameRestController#createGames(String)} with more games than allowed, which is rejected before
+     * streaming
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testCreateGamesWithInvalidCount() throws Exception {
+        this.mockMvc
+                .perform(post(builder.path("/" + BULK_CONTEXT_PATH).build().toUri())
+                        .param(COUNT_PARAMETER, String.valueOf(GameService.MAX_BULK_GAME_COUNT + 1)))
+                .andExpect(status().isBadRequest());
+
+        verify(gameService, never()).createNewGames(anyString(), anyInt(), any());
+    }
+
+    /**
+     * Tests {@link GameRestController#getGames(String, String, String, String, String, String)} streams the page as
+     * one line per game and links a full page to the next one
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testGetGames() throws Exception {
+        ArgumentCaptor<GameFilter> filterCaptor = ArgumentCaptor.forClass(GameFilter.class);
+        when(gameService.getGames(filterCaptor.capture(), eq(0L), eq(PAGE_SIZE))).thenReturn(ImmutableList.of(
+                new GameSummary(GAME_ID, GAME_URI, Status.RUNNING, PlayerTurn.PLAYER_1, Instant.parse(CREATED_AT)),
+                new GameSummary(SECOND_GAME_ID, SECOND_GAME_URI, Status.RUNNING, PlayerTurn.PLAYER_1, null)));
+
+        MvcResult result = this.mockMvc
+                .perform(get(builder.queryParam(STATUS_PARAMETER, Status.RUNNING.name())
+                        .queryParam(PLAYER_TURN_PARAMETER, PlayerTurn.PLAYER_1.name())
+                        .queryParam(CREATED_FROM_PARAMETER, CREATED_AT)
+                        .queryParam(LIMIT_PARAMETER, PAGE_SIZE).build().toUri()))
+                .andExpect(request().asyncStarted())
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(GameRestController.NDJSON_MEDIA_TYPE))
+                .andExpect(header().string(HttpHeaders.LINK,
+                        "<http://localhost/games?status=RUNNING&playerTurn=PLAYER_1&createdFrom=" + CREATED_AT
+                                + "&limit=" + PAGE_SIZE + "&" + AFTER_ID_PARAMETER + "=" + SECOND_GAME_ID
+                                + ">; rel=\"next\""))
+                .andReturn();
+
+        // Waits until the body is streamed
+        result.getAsyncResult();
+
+        assertThat(result.getResponse().getContentAsString()).isEqualTo(
+                "{\"id\":\"" + GAME_ID + "\",\"uri\":\"" + GAME_URI
+                        + "\",\"status\":\"RUNNING\",\"playerTurn\":\"PLAYER_1\",\"createdAt\":\"" + CREATED_AT + "\"}\n"
+                        + "{\"id\":\"" + SECOND_GAME_ID + "\",\"uri\":\"" + SECOND_GAME_URI
+                        + "\",\"status\":\"RUNNING\",\"playerTurn\":\"PLAYER_1\",\"createdAt\":null}\n");
+        GameFilter filter = filterCaptor.getValue();
+        assertThat(filter.getStatus()).isEqualTo(Status.RUNNING);
+        assertThat(filter.getPlayerTurn()).isEqualTo(PlayerTurn.PLAYER_1);
+        assertThat(filter.getCreatedFrom()).isEqualTo(Instant.parse(CREATED_AT));
+        assertThat(filter.getCreatedTo()).isNull();
+    }
+
+    /**
+     * Tests {@link GameRestController#getGames(String, String, String, String, String, String)} does not link the last
+     * page, which is not full
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testGetGamesLastPage() throws Exception {
+        when(gameService.getGames(any(GameFilter.class), eq(GAME_ID), eq(DEFAULT_PAGE_SIZE))).thenReturn(
+                ImmutableList.of(new GameSummary(SECOND_GAME_ID, SECOND_GAME_URI, Status.FINISHED,
+                        PlayerTurn.PLAYER_2, null)));
+
+        this.mockMvc
+                .perform(get(builder.build().toUri()).param(AFTER_ID_PARAMETER, String.valueOf(GAME_ID)))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.LINK));
+    }
+
+    /**
+     * Tests {@link GameRestController#getGames(String, String, String, String, String, String)} with an unknown status
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testGetGamesWithInvalidStatus() throws Exception {
+        this.mockMvc
+                .perform(get(builder.build().toUri()).param(STATUS_PARAMETER, INVALID_STATUS))
+                .andExpect(status().isBadRequest());
+
+        verify(gameService, never()).getGames(any(GameFilter.class), anyLong(), anyInt());
+    }
+
+    /**
+     * Tests {@link GameRestController#streamGames(String, String, String, String)} streams one line per game
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testStreamGames() throws Exception {
+        when(gameService.streamGames(any(GameFilter.class), any())).then(invocation -> {
+            Consumer<GameSummary> gameConsumer = (Consumer<GameSummary>) invocation.getArguments()[1];
+            gameConsumer.accept(new GameSummary(GAME_ID, GAME_URI, Status.FINISHED, PlayerTurn.PLAYER_2, null));
+            return 1;
+        });
+
+        MvcResult result = this.mockMvc
+                .perform(get(builder.path("/" + STREAM_CONTEXT_PATH).build().toUri())
+                        .param(STATUS_PARAMETER, Status.FINISHED.name()))
+                .andExpect(request().asyncStarted())
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(GameRestController.NDJSON_MEDIA_TYPE))
+                .andReturn();
+
+        // Waits until the body is streamed
+        result.getAsyncResult();
+
+        assertThat(result.getResponse().getContentAsString()).isEqualTo("{\"id\":\"" + GAME_ID + "\",\"uri\":\""
+                + GAME_URI + "\",\"status\":\"FINISHED\",\"playerTurn\":\"PLAYER_2\",\"createdAt\":null}\n");
+    }
+
+    /**
+     * Tests {@link GameRestController#streamGames(String, String, String, String)} with an invalid creation time,
+     * which is rejected before streaming
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testStreamGamesWithInvalidCreationTime() throws Exception {
+        this.mockMvc
+                .perform(get(builder.path("/" + STREAM_CONTEXT_PATH).build().toUri())
+                        .param(CREATED_FROM_PARAMETER, INVALID_CREATION_TIME))
+                .andExpect(status().isBadRequest());
+
+        verify(gameService, never()).streamGames(any(GameFilter.class), any());
+    }
+
     /**
      * Tests {@link GameRestController#createGame()} with creation failure
      *
@@ -124,6 +351,23 @@ public class GameRestControllerTest {
                 .andExpect(status().isOk());
     }
 
+    /**
+     * Tests {@link GameRestController#makeMove(String, String)} for a move conflicting with concurrent moves in all
+     * attempts
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testMakeMoveWithConcurrentMoves() throws Exception {
+        when(gameService.makeMove(GAME_ID, PIT_ID - 1))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Board.class, GAME_ID));
+        URI uri = builder.path("/{id}/" + PITS_CONTEXT_PATH + "/{pitId}").buildAndExpand(String.valueOf(GAME_ID), String.valueOf(PIT_ID)).toUri();
+
+        this.mockMvc
+                .perform(put(uri))
+                .andExpect(status().isConflict());
+    }
+
     /**
      * Tests {@link GameRestController#makeMove(String, String)} for invalid game ID
      *
@@ -195,6 +439,303 @@ public class GameRestControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    /**
+     * Tests {@link GameRestController#getLegalMoves(String)}
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testGetLegalMoves() throws Exception {
+        when(gameService.getPosition(GAME_ID)).thenReturn(Optional.of(Position.initial()));
+        URI uri = builder.path("/{id}/" + MOVES_CONTEXT_PATH).buildAndExpand(String.valueOf(GAME_ID)).toUri();
+
+        this.mockMvc
+                .perform(get(uri))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.legalMoveMask").value(ALL_PITS_LEGAL_MASK))
+                .andExpect(jsonPath("$.legalMoves[0]").value(String.valueOf(PIT_ID)));
+    }
+
+    /**
+     * Tests {@link GameRestController#getLegalMoves(String)} for invalid game ID
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testGetLegalMovesForInvalidGameId() throws Exception {
+        URI uri = builder.path("/{id}/" + MOVES_CONTEXT_PATH).buildAndExpand(INVALID_GAME_ID).toUri();
+
+        this.mockMvc
+                .perform(get(uri))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Tests {@link GameRestController#getLegalMoves(String)} for nonexistent game
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testGetLegalMovesForNonexistentGame() throws Exception {
+        when(gameService.getPosition(GAME_ID)).thenReturn(Optional.empty());
+        URI uri = builder.path("/{id}/" + MOVES_CONTEXT_PATH).buildAndExpand(String.valueOf(GAME_ID)).toUri();
+
+        this.mockMvc
+                .perform(get(uri))
+                .andExpect(status().isNotFound());
+    }
+
+    /**
+     * Tests {@link GameRestController#makeAiMove(String, String)}
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testMakeAiMove() throws Exception {
+        SearchResult searchResult = new SearchResult(PIT_ID - 1, 2, AI_DEPTH, AI_NODES, 1000000L,
+                new long[]{500000L, 1000000L});
+        when(gameService.makeAiMove(GAME_ID, AI_DEPTH)).thenReturn(Optional.of(new AiMove(testGame, searchResult)));
+        URI uri = builder.path("/{id}/" + AI_MOVE_CONTEXT_PATH).queryParam(DEPTH_PARAMETER, AI_DEPTH)
+                .buildAndExpand(String.valueOf(GAME_ID)).toUri();
+
+        this.mockMvc
+                .perform(post(uri))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pitId").value(String.valueOf(PIT_ID)))
+                .andExpect(jsonPath("$.depth").value(AI_DEPTH))
+                .andExpect(jsonPath("$.nodes").value((int) AI_NODES))
+                .andExpect(jsonPath("$.timeToDepthMillis.length()").value(AI_DEPTH));
+    }
+
+    /**
+     * Tests {@link GameRestController#makeAiMove(String, String)} without depth, which uses the default one
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testMakeAiMoveWithDefaultDepth() throws Exception {
+        when(gameService.makeAiMove(GAME_ID, DEFAULT_AI_DEPTH)).thenReturn(Optional.empty());
+        URI uri = builder.path("/{id}/" + AI_MOVE_CONTEXT_PATH).buildAndExpand(String.valueOf(GAME_ID)).toUri();
+
+        this.mockMvc
+                .perform(post(uri))
+                .andExpect(status().isNotFound());
+
+        verify(gameService).makeAiMove(GAME_ID, DEFAULT_AI_DEPTH);
+    }
+
+    /**
+     * Tests {@link GameRestController#makeAiMove(String, String)} for invalid depth
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testMakeAiMoveForInvalidDepth() throws Exception {
+        URI uri = builder.path("/{id}/" + AI_MOVE_CONTEXT_PATH).queryParam(DEPTH_PARAMETER, INVALID_AI_DEPTH)
+                .buildAndExpand(String.valueOf(GAME_ID)).toUri();
+
+        this.mockMvc
+                .perform(post(uri))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Tests {@link GameRestController#makeAiMove(String, String)} for invalid game ID
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testMakeAiMoveForInvalidGameId() throws Exception {
+        URI uri = builder.path("/{id}/" + AI_MOVE_CONTEXT_PATH).buildAndExpand(INVALID_GAME_ID).toUri();
+
+        this.mockMvc
+                .perform(post(uri))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Tests {@link GameRestController#makeMoves(String, List)} converting the pit IDs to zero based ones
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testMakeMoves() throws Exception {
+        MoveBatchResult result = new MoveBatchResult(2, 2, REJECTION_REASON);
+        when(gameService.makeMoves(GAME_ID, ImmutableList.of(0, 1, 2)))
+                .thenReturn(Optional.of(new MoveBatch(testGame, result)));
+        URI uri = builder.path("/{id}/" + MOVES_CONTEXT_PATH).buildAndExpand(String.valueOf(GAME_ID)).toUri();
+
+        this.mockMvc
+                .perform(post(uri).contentType(MediaType.APPLICATION_JSON).content(MOVE_BATCH))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(String.valueOf(GAME_ID)))
+                .andExpect(jsonPath("$.madeMoves").value(2))
+                .andExpect(jsonPath("$.rejectedPitId").value("3"))
+                .andExpect(jsonPath("$.rejectionReason").value(REJECTION_REASON));
+    }
+
+    /**
+     * Tests {@link GameRestController#makeMoves(String, List)} for nonexistent game
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testMakeMovesForNonexistentGame() throws Exception {
+        when(gameService.makeMoves(GAME_ID, ImmutableList.of(0, 1, 2))).thenReturn(Optional.empty());
+        URI uri = builder.path("/{id}/" + MOVES_CONTEXT_PATH).buildAndExpand(String.valueOf(GAME_ID)).toUri();
+
+        this.mockMvc
+                .perform(post(uri).contentType(MediaType.APPLICATION_JSON).content(MOVE_BATCH))
+                .andExpect(status().isNotFound());
+    }
+
+    /**
+     * Tests {@link GameRestController#makeMoves(String, List)} for a missing pit ID
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testMakeMovesForMissingPitId() throws Exception {
+        URI uri = builder.path("/{id}/" + MOVES_CONTEXT_PATH).buildAndExpand(String.valueOf(GAME_ID)).toUri();
+
+        this.mockMvc
+                .perform(post(uri).contentType(MediaType.APPLICATION_JSON).content(MOVE_BATCH_WITH_NULL))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Tests {@link GameRestController#makeMonteCarloMove(String, String)}
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testMakeMonteCarloMove() throws Exception {
+        long[] visits = new long[COUNT_OF_ALL_PITS];
+        visits[PIT_ID - 1] = PLAYOUTS;
+        MonteCarloResult searchResult = new MonteCarloResult(visits, visits, PLAYOUTS, 100000000L, 100000000L, 1);
+        when(gameService.makeMonteCarloMove(GAME_ID, TIME_BUDGET_MILLIS))
+                .thenReturn(Optional.of(new MonteCarloMove(testGame, searchResult)));
+        URI uri = builder.path("/{id}/" + MONTE_CARLO_MOVE_CONTEXT_PATH)
+                .queryParam(TIME_BUDGET_PARAMETER, TIME_BUDGET_MILLIS).buildAndExpand(String.valueOf(GAME_ID)).toUri();
+
+        this.mockMvc
+                .perform(post(uri))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pitId").value(String.valueOf(PIT_ID)))
+                .andExpect(jsonPath("$.winRate").value(0.5))
+                .andExpect(jsonPath("$.playouts").value((int) PLAYOUTS))
+                .andExpect(jsonPath("$.playoutsPerCoreSecond").value((int) (10 * PLAYOUTS)));
+    }
+
+    /**
+     * Tests {@link GameRestController#makeMonteCarloMove(String, String)} without time budget, which uses the default
+     * one
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testMakeMonteCarloMoveWithDefaultTimeBudget() throws Exception {
+        when(gameService.makeMonteCarloMove(GAME_ID, DEFAULT_TIME_BUDGET_MILLIS)).thenReturn(Optional.empty());
+        URI uri = builder.path("/{id}/" + MONTE_CARLO_MOVE_CONTEXT_PATH).buildAndExpand(String.valueOf(GAME_ID))
+                .toUri();
+
+        this.mockMvc
+                .perform(post(uri))
+                .andExpect(status().isNotFound());
+
+        verify(gameService).makeMonteCarloMove(GAME_ID, DEFAULT_TIME_BUDGET_MILLIS);
+    }
+
+    /**
+     * Tests {@link GameRestController#makeMonteCarloMove(String, String)} while all search trees are in use by
+     * concurrent searches, which is rejected as the service being unavailable
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testMakeMonteCarloMoveWhileSearchesBusy() throws Exception {
+        when(gameService.makeMonteCarloMove(GAME_ID, TIME_BUDGET_MILLIS))
+                .thenThrow(new RejectedExecutionException());
+        URI uri = builder.path("/{id}/" + MONTE_CARLO_MOVE_CONTEXT_PATH)
+                .queryParam(TIME_BUDGET_PARAMETER, TIME_BUDGET_MILLIS).buildAndExpand(String.valueOf(GAME_ID)).toUri();
+
+        this.mockMvc
+                .perform(post(uri))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    /**
+     * Tests {@link GameRestController#makeMonteCarloMove(String, String)} for invalid time budget
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testMakeMonteCarloMoveForInvalidTimeBudget() throws Exception {
+        URI uri = builder.path("/{id}/" + MONTE_CARLO_MOVE_CONTEXT_PATH)
+                .queryParam(TIME_BUDGET_PARAMETER, INVALID_TIME_BUDGET).buildAndExpand(String.valueOf(GAME_ID)).toUri();
+
+        this.mockMvc
+                .perform(post(uri))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Tests {@link GameRestController#getHint(String, String)}
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testGetHint() throws Exception {
+        SearchResult searchResult = new SearchResult(PIT_ID - 1, 2, AI_DEPTH, AI_NODES, 1000000L,
+                new long[]{500000L, 1000000L});
+        when(gameService.getHint(GAME_ID, AI_DEPTH)).thenReturn(Optional.of(searchResult));
+        URI uri = builder.path("/{id}/" + HINT_CONTEXT_PATH).queryParam(DEPTH_PARAMETER, AI_DEPTH)
+                .buildAndExpand(String.valueOf(GAME_ID)).toUri();
+
+        this.mockMvc
+                .perform(get(uri))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(String.valueOf(GAME_ID)))
+                .andExpect(jsonPath("$.pitId").value(String.valueOf(PIT_ID)))
+                .andExpect(jsonPath("$.depth").value(AI_DEPTH))
+                .andExpect(jsonPath("$.score").value(2));
+    }
+
+    /**
+     * Tests {@link GameRestController#getHint(String, String)} for nonexistent game
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testGetHintForNonexistentGame() throws Exception {
+        when(gameService.getHint(GAME_ID, DEFAULT_AI_DEPTH)).thenReturn(Optional.empty());
+        URI uri = builder.path("/{id}/" + HINT_CONTEXT_PATH).buildAndExpand(String.valueOf(GAME_ID)).toUri();
+
+        this.mockMvc
+                .perform(get(uri))
+                .andExpect(status().isNotFound());
+    }
+
+    /**
+     * Tests {@link GameRestController#getHint(String, String)} for invalid depth
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testGetHintForInvalidDepth() throws Exception {
+        URI uri = builder.path("/{id}/" + HINT_CONTEXT_PATH).queryParam(DEPTH_PARAMETER, INVALID_AI_DEPTH)
+                .buildAndExpand(String.valueOf(GAME_ID)).toUri();
+
+        this.mockMvc
+                .perform(get(uri))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     public void getGameScore() {
     }
@@ -1,14 +1,22 @@
 package com.backbase.kalah.rest.integration;
 
+import com.backbase.kalah.dto.AiMoveDto;
 import com.backbase.kalah.dto.GameDto;
 import com.backbase.kalah.dto.GameStatusDto;
+import com.backbase.kalah.dto.GameSummaryDto;
+import com.backbase.kalah.dto.MonteCarloMoveDto;
+import com.backbase.kalah.dto.MoveBatchDto;
+import com.backbase.kalah.engine.Position;
 import com.backbase.kalah.model.Board;
 import com.backbase.kalah.model.Game;
 import com.backbase.kalah.repository.BoardRepository;
 import com.backbase.kalah.repository.GameRepository;
 import com.backbase.kalah.repository.PitRepository;
 import com.backbase.kalah.rest.GameRestController;
+import com.backbase.kalah.service.BoardService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.io.IOUtils;
+import org.apache.log4j.Logger;
 import org.junit.After;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -26,14 +34,31 @@ import org.springframework.web.util.UriComponentsBuilder;
 
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletResponse;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+import static com.backbase.kalah.constant.Constants.COUNT_OF_ALL_PITS;
 import static com.backbase.kalah.constant.Constants.PLAYER_1_KALAH;
 import static com.backbase.kalah.constant.Constants.PLAYER_2_KALAH;
+import static com.backbase.kalah.constant.Fields.COUNT_PARAMETER;
+import static com.backbase.kalah.constant.Fields.DEPTH_PARAMETER;
+import static com.backbase.kalah.constant.Fields.LIMIT_PARAMETER;
 import static com.backbase.kalah.constant.Fields.PIT_ID_PARAMETER;
+import static com.backbase.kalah.constant.Fields.TIME_BUDGET_PARAMETER;
+import static com.backbase.kalah.constant.Messages.GAME_FINISHED_ERROR;
+import static com.backbase.kalah.constant.Paths.AI_MOVE_CONTEXT_PATH;
+import static com.backbase.kalah.constant.Paths.BULK_CONTEXT_PATH;
 import static com.backbase.kalah.constant.Paths.GAMES_CONTEXT_PATH;
+import static com.backbase.kalah.constant.Paths.MONTE_CARLO_MOVE_CONTEXT_PATH;
+import static com.backbase.kalah.constant.Paths.MOVES_CONTEXT_PATH;
 import static com.backbase.kalah.constant.Paths.PITS_CONTEXT_PATH;
+import static com.backbase.kalah.constant.Paths.STREAM_CONTEXT_PATH;
+import static com.backbase.kalah.metrics.AiMetrics.MONTE_CARLO_PLAYOUTS_METRIC;
+import static com.backbase.kalah.metrics.AiMetrics.MONTE_CARLO_PLAYOUTS_PER_CORE_SECOND_METRIC;
+import static com.backbase.kalah.metrics.AiMetrics.OPENING_BOOK_HIT_RATE_METRIC;
+import static com.backbase.kalah.metrics.AiMetrics.OPENING_BOOK_LOOKUPS_METRIC;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.http.HttpMethod.POST;
@@ -56,6 +81,15 @@ public class GameRestControllerIT {
     private static final ParameterizedTypeReference<GameStatusDto> GAME_STATUS_DTO_RESPONSE_TYPE =
             new ParameterizedTypeReference<GameStatusDto>() {
             };
+    private static final ParameterizedTypeReference<AiMoveDto> AI_MOVE_DTO_RESPONSE_TYPE =
+            new ParameterizedTypeReference<AiMoveDto>() {
+            };
+    private static final ParameterizedTypeReference<MonteCarloMoveDto> MONTE_CARLO_MOVE_DTO_RESPONSE_TYPE =
+            new ParameterizedTypeReference<MonteCarloMoveDto>() {
+            };
+    private static final ParameterizedTypeReference<MoveBatchDto> MOVE_BATCH_DTO_RESPONSE_TYPE =
+            new ParameterizedTypeReference<MoveBatchDto>() {
+            };
     private static final ParameterizedTypeReference<DefaultErrorAttributes> DEFAULT_ERROR_ATTRIBUTES_RESPONSE_TYPE =
             new ParameterizedTypeReference<DefaultErrorAttributes>() {
             };
@@ -64,6 +98,12 @@ public class GameRestControllerIT {
     private static final String PLAYER1_WINNING_SEQUENCE_FILENAME = "player1-winning-sequence";
     private static final String PLAYER2_WINNING_SEQUENCE_FILENAME = "player2-winning-sequence";
     private static final String PIT_1_ID = "1";
+    private static final int AI_DEPTH = 6;
+    private static final int TIME_BUDGET_MILLIS = 100;
+    private static final String METRICS_PATH = "/metrics";
+    private static final int MIGRATION_BATCH_SIZE = 10;
+    private static final int BULK_GAME_COUNT = 1500;
+    private static final int LISTING_PAGE_SIZE = 1000;
     //endregion
 
     @Inject
@@ -74,6 +114,8 @@ public class GameRestControllerIT {
     private GameRepository gameRepository;
     @Inject
     private TestRestTemplate restTemplate;
+    @Inject
+    private BoardService boardService;
 
     private Game testGame;
     private Board testBoard;
@@ -88,6 +130,70 @@ public class GameRestControllerIT {
         pitRepository.deleteAll();
     }
 
+    /**
+     * Tests {@link GameRestController#createGames(String)} streams one game per line, all of which are stored
+     */
+    @Test
+    public void testCreateGames() throws Exception {
+        String uri = UriComponentsBuilder.fromUriString("/" + GAMES_CONTEXT_PATH + "/" + BULK_CONTEXT_PATH)
+                .queryParam(COUNT_PARAMETER, BULK_GAME_COUNT).toUriString();
+
+        ResponseEntity<String> creationResult = restTemplate.exchange(uri, POST, HttpEntity.EMPTY, String.class);
+
+        assertThat(creationResult.getStatusCode().value()).isEqualTo(HttpServletResponse.SC_CREATED);
+        assertThat(creationResult.getHeaders().getContentType().toString())
+                .isEqualTo(GameRestController.NDJSON_MEDIA_TYPE);
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<GameDto> createdGames = new ArrayList<>();
+        for (String line : creationResult.getBody().split("\n")) {
+            createdGames.add(objectMapper.readValue(line, GameDto.class));
+        }
+
+        assertThat(createdGames).hasSize(BULK_GAME_COUNT);
+        assertThat(gameRepository.count()).isEqualTo(BULK_GAME_COUNT);
+        assertThat(createdGames).allMatch(gameDto -> gameDto.getUri().endsWith(
+                "/" + GAMES_CONTEXT_PATH + "/" + gameDto.getId()));
+    }
+
+    /**
+     * Tests listing the games page by page following the link to the next page, and streaming all of them at once
+     */
+    @Test
+    public void testListGames() throws Exception {
+        String creationUri = UriComponentsBuilder.fromUriString("/" + GAMES_CONTEXT_PATH + "/" + BULK_CONTEXT_PATH)
+                .queryParam(COUNT_PARAMETER, BULK_GAME_COUNT).toUriString();
+        restTemplate.exchange(creationUri, POST, HttpEntity.EMPTY, String.class);
+
+        List<GameSummaryDto> listedGames = new ArrayList<>();
+        int pageCount = 0;
+        String pageUri = UriComponentsBuilder.fromUriString("/" + GAMES_CONTEXT_PATH)
+                .queryParam(LIMIT_PARAMETER, LISTING_PAGE_SIZE).toUriString();
+        while (pageUri != null) {
+            ResponseEntity<String> page = restTemplate.getForEntity(pageUri, String.class);
+            assertThat(page.getStatusCode().value()).isEqualTo(HttpServletResponse.SC_OK);
+
+            listedGames.addAll(readGameSummaries(page.getBody()));
+            pageCount++;
+
+            // The link is formatted as <uri>; rel="next"
+            String link = page.getHeaders().getFirst(HttpHeaders.LINK);
+            pageUri = link == null ? null : link.substring(1, link.indexOf('>'));
+        }
+
+        ResponseEntity<String> streamResult = restTemplate.getForEntity(
+                "/" + GAMES_CONTEXT_PATH + "/" + STREAM_CONTEXT_PATH, String.class);
+        List<GameSummaryDto> streamedGames = readGameSummaries(streamResult.getBody());
+
+        assertThat(pageCount).isEqualTo((BULK_GAME_COUNT + LISTING_PAGE_SIZE - 1) / LISTING_PAGE_SIZE);
+        assertThat(listedGames).hasSize(BULK_GAME_COUNT);
+        assertThat(listedGames).extracting(GameSummaryDto::getId).doesNotHaveDuplicates();
+        assertThat(streamResult.getHeaders().getContentType().toString())
+                .isEqualTo(GameRestController.NDJSON_MEDIA_TYPE);
+        assertThat(streamedGames).extracting(GameSummaryDto::getId)
+                .containsExactlyElementsOf(listedGames.stream().map(GameSummaryDto::getId)::iterator);
+    }
+
     /**
      * Tests the following scenario
      * <ul>
@@ -115,6 +221,10 @@ public class GameRestControllerIT {
         assertThat(gameCreationResult.getHeaders().get(HttpHeaders.LOCATION).get(0))
                 .isEqualTo(gameCreationResult.getBody().getUri());
 
+        // The URI is already part of the insert of the game
+        long gameId = Long.parseLong(gameCreationResult.getBody().getId());
+        assertThat(gameRepository.findOne(gameId).getUri()).isEqualTo(gameCreationResult.getBody().getUri());
+
         String gameUri = gameCreationResult.getBody().getUri();
 
         String uriTemplate = gameUri + "/" + PITS_CONTEXT_PATH + "/{" + PIT_ID_PARAMETER + "}";
@@ -209,4 +319,174 @@ public class GameRestControllerIT {
         assertThat(gameErrorResult).isNotNull();
         assertThat(gameErrorResult.getStatusCode().value()).isEqualTo(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests the following scenario
+     * <ul>
+     * <li>Create a game</li>
+     * <li>Let the computer opponent make the first move</li>
+     * <li>The chosen pit is emptied and the search statistics are reported</li>
+     * <li>The game is found by its position before the move only</li>
+     * <li>The opening book metrics are published</li>
+     * </ul>
+     */
+    @Test
+    public void testCreateGameAndMakeAiMove() throws Exception {
+        builder = UriComponentsBuilder.fromUriString("/" + GAMES_CONTEXT_PATH);
+        String uri = builder.toUriString();
+
+        ResponseEntity<GameDto> gameCreationResult =
+                restTemplate.exchange(uri, POST, HttpEntity.EMPTY, GAME_DTO_RESPONSE_TYPE);
+
+        assertThat(gameCreationResult.getStatusCode().value()).isEqualTo(HttpServletResponse.SC_CREATED);
+        assertThat(gameRepository.findByBoardPositionHash(Position.initial().getHash())).hasSize(1);
+
+        uri = UriComponentsBuilder.fromUriString(gameCreationResult.getBody().getUri() + "/" + AI_MOVE_CONTEXT_PATH)
+                .queryParam(DEPTH_PARAMETER, AI_DEPTH).toUriString();
+
+        ResponseEntity<AiMoveDto> aiMoveResult = restTemplate.exchange(uri, POST, HttpEntity.EMPTY, AI_MOVE_DTO_RESPONSE_TYPE);
+
+        assertThat(aiMoveResult.getStatusCode().value()).isEqualTo(HttpServletResponse.SC_OK);
+
+        AiMoveDto aiMoveDto = aiMoveResult.getBody();
+        assertThat(aiMoveDto.getDepth()).isEqualTo(AI_DEPTH);
+        assertThat(aiMoveDto.getNodes()).isPositive();
+        assertThat(aiMoveDto.getTimeToDepthMillis()).hasSize(AI_DEPTH);
+        assertThat(aiMoveDto.getStatus().get(aiMoveDto.getPitId())).isEqualTo("0");
+        assertThat(gameRepository.findByBoardPositionHash(Position.initial().getHash())).isEmpty();
+
+        ResponseEntity<Map> metricsResult = restTemplate.getForEntity(METRICS_PATH, Map.class);
+
+        assertThat(metricsResult.getStatusCode().value()).isEqualTo(HttpServletResponse.SC_OK);
+        assertThat(metricsResult.getBody()).containsKeys(OPENING_BOOK_LOOKUPS_METRIC, OPENING_BOOK_HIT_RATE_METRIC);
+    }
+
+    /**
+     * Tests the following scenario
+     * <ul>
+     * <li>Create a game</li>
+     * <li>Let the computer opponent make the first move by Monte Carlo tree search</li>
+     * <li>The chosen pit is emptied and the playouts are reported</li>
+     * <li>The playout metrics are published</li>
+     * </ul>
+     */
+    @Test
+    public void testCreateGameAndMakeMonteCarloMove() throws Exception {
+        builder = UriComponentsBuilder.fromUriString("/" + GAMES_CONTEXT_PATH);
+        String uri = builder.toUriString();
+
+        ResponseEntity<GameDto> gameCreationResult =
+                restTemplate.exchange(uri, POST, HttpEntity.EMPTY, GAME_DTO_RESPONSE_TYPE);
+
+        assertThat(gameCreationResult.getStatusCode().value()).isEqualTo(HttpServletResponse.SC_CREATED);
+
+        uri = UriComponentsBuilder
+                .fromUriString(gameCreationResult.getBody().getUri() + "/" + MONTE_CARLO_MOVE_CONTEXT_PATH)
+                .queryParam(TIME_BUDGET_PARAMETER, TIME_BUDGET_MILLIS).toUriString();
+
+        ResponseEntity<MonteCarloMoveDto> monteCarloMoveResult =
+                restTemplate.exchange(uri, POST, HttpEntity.EMPTY, MONTE_CARLO_MOVE_DTO_RESPONSE_TYPE);
+
+        assertThat(monteCarloMoveResult.getStatusCode().value()).isEqualTo(HttpServletResponse.SC_OK);
+
+        MonteCarloMoveDto monteCarloMoveDto = monteCarloMoveResult.getBody();
+        assertThat(monteCarloMoveDto.getPlayouts()).isPositive();
+        assertThat(monteCarloMoveDto.getElapsedMillis()).isGreaterThanOrEqualTo(TIME_BUDGET_MILLIS);
+        assertThat(monteCarloMoveDto.getStatus().get(monteCarloMoveDto.getPitId())).isEqualTo("0");
+
+        ResponseEntity<Map> metricsResult = restTemplate.getForEntity(METRICS_PATH, Map.class);
+
+        assertThat(metricsResult.getStatusCode().value()).isEqualTo(HttpServletResponse.SC_OK);
+        assertThat(metricsResult.getBody()).containsKeys(MONTE_CARLO_PLAYOUTS_METRIC,
+                MONTE_CARLO_PLAYOUTS_PER_CORE_SECOND_METRIC);
+    }
+
+    /**
+     * Tests the following scenario
+     * <ul>
+     * <li>Create a game</li>
+     * <li>Play the whole sequence of moves followed by one more move in one request</li>
+     * <li>All moves of the sequence are made, player1 wins and the move after the end of the game is rejected</li>
+     * </ul>
+     */
+    @Test
+    public void testCreateGameAndMakeMoves() throws Exception {
+        String player1WinningSequence = IOUtils.toString(
+                this.getClass().getResourceAsStream(PLAYER1_WINNING_SEQUENCE_FILENAME), UTF_8);
+        List<Integer> pitIds = new ArrayList<>();
+        for (String pitId : player1WinningSequence.split("\n")) {
+            pitIds.add(Integer.parseInt(pitId.trim()));
+        }
+        pitIds.add(Integer.parseInt(PIT_1_ID));
+
+        builder = UriComponentsBuilder.fromUriString("/" + GAMES_CONTEXT_PATH);
+        String uri = builder.toUriString();
+
+        ResponseEntity<GameDto> gameCreationResult =
+                restTemplate.exchange(uri, POST, HttpEntity.EMPTY, GAME_DTO_RESPONSE_TYPE);
+
+        assertThat(gameCreationResult.getStatusCode().value()).isEqualTo(HttpServletResponse.SC_CREATED);
+
+        uri = gameCreationResult.getBody().getUri() + "/" + MOVES_CONTEXT_PATH;
+
+        ResponseEntity<MoveBatchDto> moveBatchResult =
+                restTemplate.exchange(uri, POST, new HttpEntity<>(pitIds), MOVE_BATCH_DTO_RESPONSE_TYPE);
+
+        assertThat(moveBatchResult.getStatusCode().value()).isEqualTo(HttpServletResponse.SC_OK);
+
+        MoveBatchDto moveBatchDto = moveBatchResult.getBody();
+        assertThat(moveBatchDto.getMadeMoves()).isEqualTo(pitIds.size() - 1);
+        assertThat(moveBatchDto.getRejectedPitId()).isEqualTo(PIT_1_ID);
+        assertThat(moveBatchDto.getRejectionReason()).isEqualTo(GAME_FINISHED_ERROR);
+
+        String player1Score = moveBatchDto.getStatus().get(String.valueOf(PLAYER_1_KALAH + 1));
+        String player2Score = moveBatchDto.getStatus().get(String.valueOf(PLAYER_2_KALAH + 1));
+
+        assertThat(Integer.parseInt(player1Score)).isGreaterThan(Integer.parseInt(player2Score));
+    }
+
+    /**
+     * Tests the following scenario
+     * <ul>
+     * <li>Create a game whose board is stored as pits, like before the packed layout was introduced</li>
+     * <li>Migrate the boards to the packed layout</li>
+     * <li>The pits are deleted and the game is played on from the packed board</li>
+     * </ul>
+     */
+    @Test
+    public void testMigrateToPackedBoardsAndPlay() throws Exception {
+        BoardService pitBoardService = new BoardService(boardRepository, false, Logger.getLogger(BoardService.class));
+        Game game = gameRepository.save(new Game(pitBoardService.createInitializedBoard(), PIT_1_ID));
+        game.setUri("/" + GAMES_CONTEXT_PATH + "/" + game.getId());
+        gameRepository.save(game);
+
+        assertThat(pitRepository.count()).isEqualTo(COUNT_OF_ALL_PITS);
+
+        assertThat(boardService.migrateToPackedBoards(MIGRATION_BATCH_SIZE)).isEqualTo(1);
+        assertThat(boardService.migrateToPackedBoards(MIGRATION_BATCH_SIZE)).isEqualTo(0);
+
+        Board migratedBoard = boardRepository.findOne(game.getBoard().getId());
+        assertThat(migratedBoard.getPackedPosition()).isEqualTo(Position.initial());
+        assertThat(pitRepository.count()).isEqualTo(0);
+
+        String uri = UriComponentsBuilder.fromUriString(game.getUri() + "/" + PITS_CONTEXT_PATH + "/" + PIT_1_ID)
+                .toUriString();
+        ResponseEntity<GameStatusDto> gamePlayResult =
+                restTemplate.exchange(uri, PUT, HttpEntity.EMPTY, GAME_STATUS_DTO_RESPONSE_TYPE);
+
+        assertThat(gamePlayResult.getStatusCode().value()).isEqualTo(HttpServletResponse.SC_OK);
+        assertThat(gamePlayResult.getBody().getStatus().get(PIT_1_ID)).isEqualTo("0");
+        assertThat(boardRepository.findOne(migratedBoard.getId()).getPackedPosition())
+                .isEqualTo(Position.initial().play(0));
+    }
+
+    private List<GameSummaryDto> readGameSummaries(String body) throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<GameSummaryDto> gameSummaries = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            gameSummaries.add(objectMapper.readValue(line, GameSummaryDto.class));
+        }
+
+        return gameSummaries;
+    }
+}
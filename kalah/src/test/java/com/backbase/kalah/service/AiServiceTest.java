@@ -0,0 +1,184 @@
+package com.backbase.kalah.service;
+
+import com.backbase.kalah.engine.BoardState;
+import com.backbase.kalah.engine.KalahRules;
+import com.backbase.kalah.engine.MoveGenerator;
+import com.backbase.kalah.engine.book.OpeningBookBuilder;
+import com.backbase.kalah.engine.endgame.EndgameTablebaseGenerator;
+import com.backbase.kalah.engine.search.SearchResult;
+import org.apache.log4j.Logger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.nio.file.Path;
+
+import static com.backbase.kalah.constant.Constants.PLAYER_1_KALAH;
+import static com.backbase.kalah.constant.Constants.PLAYER_2_KALAH;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Test class for {@link AiService}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@RunWith(MockitoJUnitRunner.class)
+public class AiServiceTest {
+    //region field values
+    private static final int MAX_DEPTH = 8;
+    private static final int TABLE_SIZE_BITS = 12;
+    private static final int THREADS = 3;
+    private static final int DEPTH = 6;
+    private static final int TABLEBASE_STONES = 6;
+    private static final String MISSING_TABLEBASE_FILE = "missing-endgame-tablebase.bin";
+    private static final int BOOK_PLIES = 1;
+    private static final int PIT_4 = 4;
+    private static final int PIT_12 = 12;
+    //endregion
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Mock
+    private Logger logger;
+
+    private AiService aiService;
+    private AiService parallelAiService;
+
+    @Before
+    public void setUp() throws Exception {
+        aiService = new AiService(MAX_DEPTH, TABLE_SIZE_BITS, 1, null, null, logger);
+        parallelAiService = new AiService(MAX_DEPTH, TABLE_SIZE_BITS, THREADS, null, null, logger);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        aiService.shutdown();
+        parallelAiService.shutdown();
+    }
+
+    /**
+     * Tests {@link AiService#search(BoardState, int)}
+     */
+    @Test
+    public void testSearch() {
+        BoardState state = BoardState.initial();
+
+        SearchResult result = aiService.search(state, DEPTH);
+
+        assertThat(aiService.getThreads()).isEqualTo(1);
+        assertThat(result.getDepth()).isEqualTo(DEPTH);
+        assertThat(MoveGenerator.isLegalMove(state, result.getBestMove())).isTrue();
+    }
+
+    /**
+     * Tests {@link AiService#search(BoardState, int)} with several search threads
+     */
+    @Test
+    public void testSearchWithThreads() {
+        BoardState state = BoardState.initial();
+
+        SearchResult result = parallelAiService.search(state, DEPTH);
+
+        assertThat(parallelAiService.getThreads()).isEqualTo(THREADS);
+        assertThat(result.getDepth()).isEqualTo(DEPTH);
+        assertThat(MoveGenerator.isLegalMove(state, result.getBestMove())).isTrue();
+    }
+
+    /**
+     * Tests {@link AiService#search(BoardState, int)} with an endgame tablebase, which answers covered positions
+     * without searching
+     */
+    @Test
+    public void testSearchWithEndgameTablebase() throws Exception {
+        Path tablebaseFile = temporaryFolder.newFile().toPath();
+        EndgameTablebaseGenerator.generate(TABLEBASE_STONES, tablebaseFile);
+        AiService tablebaseAiService = new AiService(MAX_DEPTH, TABLE_SIZE_BITS, 1, tablebaseFile.toString(), null,
+                logger);
+
+        // Playing pit 4 captures the 3 stones of pit 7, after which the second player collects the one of pit 12
+        BoardState state = new BoardState();
+        state.setStones(PIT_4, 1);
+        state.setStones(KalahRules.getOppositePit(PIT_4 + 1), 3);
+        state.setStones(PIT_12, 1);
+        state.setStones(PLAYER_1_KALAH, 30);
+        state.setStones(PLAYER_2_KALAH, 37);
+
+        try {
+            SearchResult result = tablebaseAiService.search(state, DEPTH);
+
+            assertThat(tablebaseAiService.getEndgameTablebaseStones()).isEqualTo(TABLEBASE_STONES);
+            assertThat(result.getBestMove()).isEqualTo(PIT_4);
+            assertThat(result.getScore()).isEqualTo(-4);
+            assertThat(result.getNodes()).isEqualTo(1);
+        } finally {
+            tablebaseAiService.shutdown();
+        }
+    }
+
+    /**
+     * Tests {@link AiService#search(BoardState, int)} with an opening book, which answers the positions of the first
+     * plies unless a deeper search is requested
+     */
+    @Test
+    public void testSearchWithOpeningBook() throws Exception {
+        Path bookFile = temporaryFolder.newFile().toPath();
+        OpeningBookBuilder.build(BOOK_PLIES, DEPTH, bookFile);
+        AiService bookAiService = new AiService(MAX_DEPTH, TABLE_SIZE_BITS, 1, null, bookFile.toString(), logger);
+        BoardState state = BoardState.initial();
+
+        try {
+            SearchResult bookResult = bookAiService.search(state, DEPTH);
+            SearchResult deeperResult = bookAiService.search(state, DEPTH + 1);
+
+            assertThat(bookResult.getNodes()).isZero();
+            assertThat(bookResult.getDepth()).isEqualTo(DEPTH);
+            assertThat(bookResult.getScore()).isEqualTo(aiService.search(state, DEPTH).getScore());
+            assertThat(deeperResult.getNodes()).isPositive();
+            assertThat(bookAiService.getOpeningBookLookups()).isEqualTo(2);
+            assertThat(bookAiService.getOpeningBookHits()).isEqualTo(1);
+            assertThat(aiService.getOpeningBookLookups()).isZero();
+        } finally {
+            bookAiService.shutdown();
+        }
+    }
+
+    /**
+     * Tests {@link AiService#AiService(int, int, int, String, String, Logger)} with a missing endgame tablebase, which falls
+     * back to searching
+     */
+    @Test
+    public void testCreateWithMissingEndgameTablebase() {
+        AiService tablebaseAiService = new AiService(MAX_DEPTH, TABLE_SIZE_BITS, 1,
+                temporaryFolder.getRoot().toPath().resolve(MISSING_TABLEBASE_FILE).toString(), null, logger);
+
+        assertThat(tablebaseAiService.getEndgameTablebaseStones()).isEqualTo(-1);
+        assertThat(tablebaseAiService.search(BoardState.initial(), DEPTH).getDepth()).isEqualTo(DEPTH);
+        verify(logger).warn(anyString(), any(Throwable.class));
+    }
+
+    /**
+     * Tests {@link AiService#search(BoardState, int)} with a depth above the configured maximum
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testSearchWithTooLargeDepth() {
+        aiService.search(BoardState.initial(), MAX_DEPTH + 1);
+    }
+
+    /**
+     * Tests {@link AiService#AiService(int, int, int, String, String, Logger)} without threads
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testCreateWithoutThreads() {
+        new AiService(MAX_DEPTH, TABLE_SIZE_BITS, 0, null, null, logger);
+    }
+}
@@ -0,0 +1,194 @@
+package com.backbase.kalah.service;
+
+import com.backbase.kalah.model.Board;
+import com.backbase.kalah.repository.BoardRepository;
+import com.google.common.collect.ImmutableList;
+import org.apache.log4j.Logger;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for {@link BoardPool}, with refilling disabled so the pool is refilled by the tests only
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@RunWith(MockitoJUnitRunner.class)
+public class BoardPoolTest {
+    //region field values
+    private static final int MIN_SIZE = 3;
+    private static final int MAX_SIZE = 50;
+    private static final long LEAD_TIME_MILLIS = 2000L;
+    private static final long REFILL_INTERVAL_MILLIS = 100L;
+    private static final long FIRST_BOARD_ID = 1L;
+    private static final long SECOND_BOARD_ID = 2L;
+    private static final long RECOVERED_BOARD_ID_1 = 7L;
+    private static final long RECOVERED_BOARD_ID_2 = 8L;
+    private static final long ONE_SECOND_NANOS = TimeUnit.SECONDS.toNanos(1);
+    //endregion
+
+    @Mock
+    private Logger logger;
+    @Mock
+    private BoardRepository boardRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BoardPool boardPool;
+
+    @Before
+    public void setUp() {
+        BoardService boardService = new BoardService(boardRepository, true, logger);
+        boardPool = createBoardPool(MIN_SIZE, MAX_SIZE, LEAD_TIME_MILLIS);
+
+        AtomicLong nextBoardId = new AtomicLong(FIRST_BOARD_ID);
+        when(boardRepository.save(any(Board.class))).thenAnswer(invocation -> {
+            Board board = (Board) invocation.getArguments()[0];
+            board.setId(nextBoardId.getAndIncrement());
+            return board;
+        });
+        when(boardRepository.findOne(anyLong())).thenAnswer(invocation -> {
+            Board board = new Board();
+            board.setId((Long) invocation.getArguments()[0]);
+            return board;
+        });
+    }
+
+    /**
+     * Tests {@link BoardPool#refill()} inserts boards up to the minimum size, which {@link BoardPool#claim()} hands
+     * out in insertion order
+     */
+    @Test
+    public void testClaimRefilledBoard() {
+        assertThat(boardPool.refill()).isEqualTo(MIN_SIZE);
+
+        Optional<Board> boardOptional = boardPool.claim();
+
+        assertThat(boardOptional).hasValueSatisfying(board -> assertThat(board.getId()).isEqualTo(FIRST_BOARD_ID));
+        assertThat(boardPool.getAvailableBoardCount()).isEqualTo(MIN_SIZE - 1);
+        assertThat(boardPool.getClaimCount()).isEqualTo(1L);
+        assertThat(boardPool.getMissCount()).isZero();
+        verify(boardRepository, times(MIN_SIZE)).save(any(Board.class));
+    }
+
+    /**
+     * Tests {@link BoardPool#refill()} only inserts the boards missing to the target size
+     */
+    @Test
+    public void testRefillMissingBoards() {
+        boardPool.refill();
+        boardPool.claim();
+
+        assertThat(boardPool.refill()).isEqualTo(1);
+        assertThat(boardPool.getAvailableBoardCount()).isEqualTo(MIN_SIZE);
+    }
+
+    /**
+     * Tests {@link BoardPool#claim()} skips pooled boards deleted in the meantime
+     */
+    @Test
+    public void testClaimSkipsDeletedBoard() {
+        boardPool.refill();
+        when(boardRepository.findOne(FIRST_BOARD_ID)).thenReturn(null);
+
+        Optional<Board> boardOptional = boardPool.claim();
+
+        assertThat(boardOptional).hasValueSatisfying(board -> assertThat(board.getId()).isEqualTo(SECOND_BOARD_ID));
+        assertThat(boardPool.getAvailableBoardCount()).isEqualTo(MIN_SIZE - 2);
+    }
+
+    /**
+     * Tests {@link BoardPool#claim()} with an empty pool
+     */
+    @Test
+    public void testClaimFromEmptyPool() {
+        Optional<Board> boardOptional = boardPool.claim();
+
+        assertThat(boardOptional).isEmpty();
+        assertThat(boardPool.getClaimCount()).isZero();
+        assertThat(boardPool.getMissCount()).isEqualTo(1L);
+    }
+
+    /**
+     * Tests {@link BoardPool#updateTargetSize(long)} follows the average creation rate within the minimum and maximum
+     * size
+     */
+    @Test
+    public void testUpdateTargetSize() {
+        assertThat(boardPool.getTargetSize()).isEqualTo(MIN_SIZE);
+
+        // 10 games per second make an average of 3 per second, so 6 boards for 2 seconds
+        createGamesWithoutPooledBoards(10);
+        boardPool.updateTargetSize(ONE_SECOND_NANOS);
+        assertThat(boardPool.getDemandPerSecond()).isEqualTo(3.0);
+        assertThat(boardPool.getTargetSize()).isEqualTo(6);
+
+        createGamesWithoutPooledBoards(1000);
+        boardPool.updateTargetSize(ONE_SECOND_NANOS);
+        assertThat(boardPool.getTargetSize()).isEqualTo(MAX_SIZE);
+
+        for (int i = 0; i < 50; i++) {
+            boardPool.updateTargetSize(ONE_SECOND_NANOS);
+        }
+        assertThat(boardPool.getTargetSize()).isEqualTo(MIN_SIZE);
+    }
+
+    /**
+     * Tests {@link BoardPool#recoverUnassignedBoards()} pools the boards left by the last run
+     */
+    @Test
+    public void testRecoverUnassignedBoards() {
+        when(boardRepository.findUnassignedInitialBoardIds(any(Pageable.class)))
+                .thenReturn(ImmutableList.of(RECOVERED_BOARD_ID_1, RECOVERED_BOARD_ID_2));
+
+        boardPool.recoverUnassignedBoards();
+
+        assertThat(boardPool.getAvailableBoardCount()).isEqualTo(2);
+        assertThat(boardPool.claim())
+                .hasValueSatisfying(board -> assertThat(board.getId()).isEqualTo(RECOVERED_BOARD_ID_1));
+    }
+
+    /**
+     * Tests {@link BoardPool} with a minimum size greater than the maximum one
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidSize() {
+        createBoardPool(MAX_SIZE + 1, MAX_SIZE, LEAD_TIME_MILLIS);
+    }
+
+    /**
+     * Tests {@link BoardPool} with no lead time
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidLeadTime() {
+        createBoardPool(MIN_SIZE, MAX_SIZE, 0L);
+    }
+
+    private BoardPool createBoardPool(int minSize, int maxSize, long leadTimeMillis) {
+        BoardService boardService = new BoardService(boardRepository, true, logger);
+        return new BoardPool(boardService, boardRepository, transactionManager, false, minSize, maxSize,
+                leadTimeMillis, REFILL_INTERVAL_MILLIS, logger);
+    }
+
+    private void createGamesWithoutPooledBoards(int games) {
+        for (int i = 0; i < games; i++) {
+            boardPool.claim();
+        }
+    }
+}
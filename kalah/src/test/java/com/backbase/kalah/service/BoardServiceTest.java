@@ -1,8 +1,11 @@
 package com.backbase.kalah.service;
 
 import com.backbase.kalah.error.KalahGameException;
+import com.backbase.kalah.engine.Position;
 import com.backbase.kalah.model.Board;
 import com.backbase.kalah.repository.BoardRepository;
+import com.backbase.kalah.utils.BoardStateConverter;
+import com.backbase.kalah.utils.MoveListCodec;
 import com.google.common.collect.ImmutableList;
 import org.apache.log4j.Logger;
 import org.junit.Before;
@@ -10,10 +13,10 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.Optional;
@@ -33,6 +36,9 @@ import static com.backbase.kalah.model.enums.Status.FINISHED;
 import static com.backbase.kalah.model.enums.Status.RUNNING;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -51,6 +57,7 @@ public class BoardServiceTest {
     private static final int PIT_1 = 1;
     private static final int PIT_5 = 5;
     private static final int PIT_10 = 10;
+    private static final int BATCH_SIZE = 100;
     //endregion
 
     @Rule
@@ -61,14 +68,17 @@ public class BoardServiceTest {
     @Mock
     private BoardRepository boardRepository;
 
-    @InjectMocks
     private BoardService boardService;
+    private BoardService packedBoardService;
 
     private Board testBoard;
     private ModelMapper mapper = new ModelMapper();
 
     @Before
     public void setUp() throws Exception {
+        boardService = new BoardService(boardRepository, false, logger);
+        packedBoardService = new BoardService(boardRepository, true, logger);
+
         testBoard = boardService.initBoard();
         testBoard.setId(BOARD_ID);
     }
@@ -202,6 +212,79 @@ public class BoardServiceTest {
         assertThat(initializedBoard.getPits()).hasSize(COUNT_OF_ALL_PITS);
     }
 
+    /**
+     * Tests {@link BoardService#createInitializedBoard()} for packed boards, which have no pits
+     */
+    @Test
+    public void testCreateInitializedPackedBoard() {
+        when(boardRepository.save(any(Board.class))).thenAnswer(invocation -> invocation.getArguments()[0]);
+
+        Board initializedBoard = packedBoardService.createInitializedBoard();
+
+        assertThat(initializedBoard.isPacked()).isTrue();
+        assertThat(initializedBoard.getPits()).isEmpty();
+        assertThat(initializedBoard.getPackedPosition()).isEqualTo(Position.initial());
+        assertThat(initializedBoard.getPositionHash()).isEqualTo(Position.initial().getHash());
+        assertThat(initializedBoard.getStatus()).isEqualTo(RUNNING);
+    }
+
+    /**
+     * Tests {@link BoardService#makeMove(long, int)} on a packed board
+     */
+    @Test
+    public void testMakeMoveOnPackedBoard() {
+        Board packedBoard = packedBoardService.initBoard();
+        packedBoard.setId(BOARD_ID);
+        when(boardRepository.findOne(BOARD_ID)).thenReturn(packedBoard);
+        when(boardRepository.save(packedBoard)).thenReturn(packedBoard);
+
+        Optional<Board> boardOptional = packedBoardService.makeMove(BOARD_ID, PIT_1);
+
+        assertThat(boardOptional).hasValueSatisfying(
+                board -> {
+                    assertThat(board.getPackedPosition()).isEqualTo(Position.initial().play(PIT_1));
+                    assertThat(board.getPlayerTurn()).isEqualTo(PLAYER_2);
+                    assertThat(board.getPositionHash()).isEqualTo(Position.initial().play(PIT_1).getHash());
+                    assertThat(board.getPits()).isEmpty();
+                });
+    }
+
+    /**
+     * Tests {@link BoardService#makeMoves(Board, List)} and {@link BoardService#makeMove(Board, int)} append the made
+     * moves to the move list of the board
+     */
+    @Test
+    public void testMakeMovesRecordsMoveList() {
+        Board packedBoard = packedBoardService.initBoard();
+        when(boardRepository.save(packedBoard)).thenReturn(packedBoard);
+
+        // The first move ends in the Kalah, so the player moves again
+        packedBoardService.makeMoves(packedBoard, ImmutableList.of(PIT_0, PIT_1));
+        packedBoardService.makeMove(packedBoard, PIT_10);
+
+        assertThat(MoveListCodec.decode(packedBoard.getMoveList())).containsExactly(PIT_0, PIT_1, PIT_10);
+    }
+
+    /**
+     * Tests {@link BoardService#migrateToPackedBoards(int)} moves the stones of boards stored as pits into the packed
+     * column and drops their pits
+     */
+    @Test
+    public void testMigrateToPackedBoards() {
+        boardService.makeMoves(testBoard, ImmutableList.of(PIT_0, PIT_1));
+        Position expectedPosition = Position.initial().play(PIT_0).play(PIT_1);
+        when(boardRepository.findByPackedPositionIsNull(any(Pageable.class)))
+                .thenReturn(ImmutableList.of(testBoard));
+
+        int migratedBoards = boardService.migrateToPackedBoards(BATCH_SIZE);
+
+        assertThat(migratedBoards).isEqualTo(1);
+        assertThat(testBoard.isPacked()).isTrue();
+        assertThat(testBoard.getPackedPosition()).isEqualTo(expectedPosition);
+        assertThat(testBoard.getPits()).isEmpty();
+        assertThat(BoardStateConverter.toBoardState(testBoard)).isEqualTo(expectedPosition.toBoardState());
+    }
+
     /**
      * Tests {@link BoardService#makeMove(long, int)} with player 1 plays only once
      */
@@ -219,9 +302,25 @@ public class BoardServiceTest {
                     assertThat(board.getId()).isEqualTo(BOARD_ID);
                     assertThat(board.getPlayerTurn()).isEqualTo(PLAYER_2);
                     assertThat(board.getPits().get(PIT_1).getStoneCount()).isEqualTo(0);
+                    assertThat(board.getPositionHash())
+                            .isEqualTo(Position.initial().play(PIT_1).getHash());
                 });
     }
 
+    /**
+     * Tests {@link BoardService#makeMove(Board, int)} moves the board loaded by the caller without reading it again
+     */
+    @Test
+    public void testMakeMoveOnLoadedBoard() {
+        when(boardRepository.save(testBoard)).thenReturn(testBoard);
+
+        Board board = boardService.makeMove(testBoard, PIT_1);
+
+        assertThat(board.getPlayerTurn()).isEqualTo(PLAYER_2);
+        assertThat(board.getPits().get(PIT_1).getStoneCount()).isEqualTo(0);
+        verify(boardRepository, never()).findOne(anyLong());
+    }
+
     /**
      * Tests {@link BoardService#makeMove(long, int)} with player 1 plays once more (last stone is dropped into her own Kalah)
      */
@@ -434,4 +533,62 @@ public class BoardServiceTest {
 
         assertThat(testBoard.getStatus()).isEqualTo(FINISHED);
     }
+
+    /**
+     * Tests {@link BoardService#makeMoves(Board, List)} for a player chaining an extra turn, which saves the board once
+     */
+    @Test
+    public void testMakeMoves() {
+        // In case of pit 0, the last dropped stone is in the kalah, so player1 plays pit 1 too
+        MoveBatchResult result = boardService.makeMoves(testBoard, ImmutableList.of(PIT_0, PIT_1));
+
+        assertThat(result.isComplete()).isTrue();
+        assertThat(result.getMadeMoveCount()).isEqualTo(2);
+        assertThat(testBoard.getPlayerTurn()).isEqualTo(PLAYER_2);
+        assertThat(testBoard.getPits().get(PIT_0).getStoneCount()).isEqualTo(0);
+        assertThat(testBoard.getPits().get(PIT_1).getStoneCount()).isEqualTo(0);
+        assertThat(testBoard.getPositionHash()).isEqualTo(Position.initial().play(PIT_0).play(PIT_1).getHash());
+        verify(boardRepository, times(1)).save(testBoard);
+    }
+
+    /**
+     * Tests {@link BoardService#makeMoves(Board, List)} keeps the moves before the first illegal one and skips the
+     * following ones
+     */
+    @Test
+    public void testMakeMovesStopsAtFirstIllegalMove() {
+        MoveBatchResult result = boardService.makeMoves(testBoard, ImmutableList.of(PIT_0, PIT_0, PIT_1));
+
+        assertThat(result.isComplete()).isFalse();
+        assertThat(result.getMadeMoveCount()).isEqualTo(1);
+        assertThat(result.getRejectedPitId()).isEqualTo(PIT_0);
+        assertThat(result.getRejectionReason()).isEqualTo(PIT_EMPTY_ERROR + ", " + PLAY_AGAIN_MESSAGE);
+        assertThat(testBoard.getPlayerTurn()).isEqualTo(PLAYER_1);
+        assertThat(testBoard.getPits().get(PIT_1).getStoneCount()).isEqualTo(7);
+        verify(boardRepository, times(1)).save(testBoard);
+    }
+
+    /**
+     * Tests {@link BoardService#makeMoves(Board, List)} with an illegal first move, which does not save the board
+     */
+    @Test
+    public void testMakeMovesWithIllegalFirstMove() {
+        MoveBatchResult result = boardService.makeMoves(testBoard, ImmutableList.of(PIT_10, PIT_0));
+
+        assertThat(result.getMadeMoveCount()).isEqualTo(0);
+        assertThat(result.getRejectedPitId()).isEqualTo(PIT_10);
+        assertThat(result.getRejectionReason()).isEqualTo(NOT_PLAYER_TURN_ERROR);
+        verify(boardRepository, never()).save(any(Board.class));
+    }
+
+    /**
+     * Tests {@link BoardService#makeMoves(Board, List)} for an invalid pit ID, which rejects the whole batch
+     */
+    @Test
+    public void testMakeMovesForInvalidPitId() {
+        thrownException.expect(IllegalArgumentException.class);
+        thrownException.expectMessage(INVALID_PIT_ID_ERROR);
+
+        boardService.makeMoves(testBoard, ImmutableList.of(PIT_0, INVALID_PIT_ID));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,148 @@
+package com.backbase.kalah.service;
+
+import net.sf.ehcache.Cache;
+import net.sf.ehcache.CacheManager;
+import net.sf.ehcache.Ehcache;
+import net.sf.ehcache.Element;
+import net.sf.ehcache.config.CacheConfiguration;
+import net.sf.ehcache.config.Configuration;
+import org.apache.log4j.Logger;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.ehcache.internal.regions.EhcacheDataRegion;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import javax.persistence.EntityManagerFactory;
+
+import static com.backbase.kalah.constant.Constants.COUNT_OF_ALL_PITS;
+import static com.backbase.kalah.constant.Fields.BOARD_CACHE_REGION;
+import static com.backbase.kalah.constant.Fields.BOARD_PITS_CACHE_REGION;
+import static com.backbase.kalah.constant.Fields.GAME_CACHE_REGION;
+import static com.backbase.kalah.constant.Fields.PIT_CACHE_REGION;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for {@link EntityCache}, whose regions are backed by caches of a cache manager of its own
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@RunWith(MockitoJUnitRunner.class)
+public class EntityCacheTest {
+    //region field values
+    private static final String CACHE_MANAGER_NAME = "entity-cache-test";
+    private static final int INITIAL_MAX_ENTRIES = 100;
+    private static final long MAX_ENTRIES = 2L;
+    private static final long TIME_TO_IDLE_SECONDS = 60L;
+    private static final long GAME_ID_1 = 1L;
+    private static final long GAME_ID_2 = 2L;
+    private static final long GAME_ID_3 = 3L;
+    //endregion
+
+    @Mock
+    private Logger logger;
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+    @Mock
+    private SessionFactoryImplementor sessionFactory;
+    @Mock
+    private SessionFactoryOptions sessionFactoryOptions;
+
+    private CacheManager cacheManager;
+
+    @Before
+    public void setUp() {
+        cacheManager = new CacheManager(new Configuration().name(CACHE_MANAGER_NAME).updateCheck(false));
+
+        when(entityManagerFactory.unwrap(SessionFactoryImplementor.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getSessionFactoryOptions()).thenReturn(sessionFactoryOptions);
+        when(sessionFactoryOptions.isSecondLevelCacheEnabled()).thenReturn(true);
+
+        for (String regionName : new String[]{GAME_CACHE_REGION, BOARD_CACHE_REGION, BOARD_PITS_CACHE_REGION,
+                PIT_CACHE_REGION}) {
+            cacheManager.addCache(new Cache(new CacheConfiguration(regionName, INITIAL_MAX_ENTRIES)));
+
+            EhcacheDataRegion region = mock(EhcacheDataRegion.class);
+            when(region.getEhcache()).thenReturn(cacheManager.getEhcache(regionName));
+            when(sessionFactory.getSecondLevelCacheRegion(regionName)).thenReturn(region);
+        }
+    }
+
+    @After
+    public void teardown() {
+        cacheManager.shutdown();
+    }
+
+    /**
+     * Tests {@link EntityCache#EntityCache(EntityManagerFactory, long, long, Logger)} bounds every region, the pit
+     * region to the pits of as many boards
+     */
+    @Test
+    public void testCreate() {
+        EntityCache entityCache = new EntityCache(entityManagerFactory, MAX_ENTRIES, TIME_TO_IDLE_SECONDS, logger);
+
+        assertThat(entityCache.isEnabled()).isTrue();
+        assertThat(cacheManager.getEhcache(GAME_CACHE_REGION).getCacheConfiguration().getMaxEntriesLocalHeap())
+                .isEqualTo(MAX_ENTRIES);
+        assertThat(cacheManager.getEhcache(GAME_CACHE_REGION).getCacheConfiguration().getTimeToIdleSeconds())
+                .isEqualTo(TIME_TO_IDLE_SECONDS);
+        assertThat(cacheManager.getEhcache(PIT_CACHE_REGION).getCacheConfiguration().getMaxEntriesLocalHeap())
+                .isEqualTo(MAX_ENTRIES * COUNT_OF_ALL_PITS);
+    }
+
+    /**
+     * Tests {@link EntityCache#getStatistics()} counts the hits and misses of a region, and evicts entries once it is
+     * full
+     */
+    @Test
+    public void testGetStatistics() {
+        EntityCache entityCache = new EntityCache(entityManagerFactory, MAX_ENTRIES, TIME_TO_IDLE_SECONDS, logger);
+        Ehcache gameCache = cacheManager.getEhcache(GAME_CACHE_REGION);
+
+        gameCache.put(new Element(GAME_ID_1, GAME_ID_1));
+        gameCache.get(GAME_ID_1);
+        gameCache.get(GAME_ID_2);
+        gameCache.put(new Element(GAME_ID_2, GAME_ID_2));
+        gameCache.put(new Element(GAME_ID_3, GAME_ID_3));
+
+        assertThat(entityCache.getStatistics()).extracting(CacheRegionStatistics::getRegion)
+                .containsExactly(GAME_CACHE_REGION, BOARD_CACHE_REGION, BOARD_PITS_CACHE_REGION, PIT_CACHE_REGION);
+        assertThat(entityCache.getStatistics().get(0)).satisfies(statistics -> {
+            assertThat(statistics.getSize()).isEqualTo(MAX_ENTRIES);
+            assertThat(statistics.getHits()).isEqualTo(1L);
+            assertThat(statistics.getMisses()).isEqualTo(1L);
+            assertThat(statistics.getHitRate()).isEqualTo(0.5);
+            assertThat(statistics.getEvictions()).isEqualTo(1L);
+        });
+    }
+
+    /**
+     * Tests {@link EntityCache} without second-level cache
+     */
+    @Test
+    public void testCreateWithoutCache() {
+        when(sessionFactoryOptions.isSecondLevelCacheEnabled()).thenReturn(false);
+
+        EntityCache entityCache = new EntityCache(entityManagerFactory, MAX_ENTRIES, TIME_TO_IDLE_SECONDS, logger);
+
+        assertThat(entityCache.isEnabled()).isFalse();
+        assertThat(entityCache.getStatistics()).isEmpty();
+        assertThat(cacheManager.getEhcache(GAME_CACHE_REGION).getCacheConfiguration().getMaxEntriesLocalHeap())
+                .isEqualTo(INITIAL_MAX_ENTRIES);
+    }
+
+    /**
+     * Tests {@link EntityCache#EntityCache(EntityManagerFactory, long, long, Logger)} with regions without entries
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testCreateWithInvalidMaxEntries() {
+        new EntityCache(entityManagerFactory, 0L, TIME_TO_IDLE_SECONDS, logger);
+    }
+}
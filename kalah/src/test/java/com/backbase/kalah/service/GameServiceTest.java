@@ -1,23 +1,54 @@
 package com.backbase.kalah.service;
 
+import com.backbase.kalah.engine.BoardState;
+import com.backbase.kalah.engine.KalahRules;
+import com.backbase.kalah.engine.Position;
+import com.backbase.kalah.engine.mcts.MonteCarloResult;
+import com.backbase.kalah.engine.search.SearchResult;
+import com.backbase.kalah.error.KalahGameException;
 import com.backbase.kalah.model.Board;
 import com.backbase.kalah.model.Game;
+import com.backbase.kalah.model.GameSummary;
+import com.backbase.kalah.model.enums.PlayerTurn;
+import com.backbase.kalah.model.enums.Status;
 import com.backbase.kalah.repository.GameRepository;
+import com.backbase.kalah.utils.BoardStateConverter;
 import com.google.common.collect.ImmutableList;
 import org.apache.log4j.Logger;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.modelmapper.ModelMapper;
-
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.persistence.EntityManager;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import static com.backbase.kalah.constant.Constants.COUNT_OF_ALL_PITS;
+import static com.backbase.kalah.constant.Messages.GAME_FINISHED_ERROR;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -31,9 +62,23 @@ import static org.mockito.Mockito.when;
 public class GameServiceTest {
     //region field values
     private static final long GAME_ID = 1L;
+    private static final long BOARD_ID = 5L;
     private static final String GAME_URI = "http://example.org/games/1";
     private static final String MODIFIED_GAME_URI = "http://example.org/games/123";
     private static final String BASE_URI = "http://example.org/games";
+    private static final int AI_DEPTH = 4;
+    private static final int AI_PIT_ID = 2;
+    private static final int CONCURRENT_PIT_ID = 0;
+    private static final long TIME_BUDGET_MILLIS = 100L;
+    private static final List<Integer> MOVE_BATCH = ImmutableList.of(0, 1);
+    private static final int MAX_MOVE_ATTEMPTS = 3;
+    private static final long AFTER_ID = 100L;
+    private static final int PAGE_SIZE = 2;
+    private static final Instant CREATED_FROM = Instant.parse("2026-10-17T00:00:00Z");
+    private static final GameSummary GAME_SUMMARY = new GameSummary(GAME_ID, GAME_URI, Status.RUNNING,
+            PlayerTurn.PLAYER_1, CREATED_FROM);
+    // Two full chunks and a partial one
+    private static final int BULK_GAME_COUNT = 2 * GameService.BULK_CREATION_CHUNK_SIZE + 1;
     //endregion
 
     @Mock
@@ -42,8 +87,21 @@ public class GameServiceTest {
     private GameRepository gameRepository;
     @Mock
     private BoardService boardService;
+    @Mock
+    private AiService aiService;
+    @Mock
+    private MonteCarloService monteCarloService;
+    @Mock
+    private GameStore gameStore;
+    @Mock
+    private GameArchive gameArchive;
+    @Mock
+    private BoardPool boardPool;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private EntityManager entityManager;
 
-    @InjectMocks
     private GameService gameService;
 
     private Game testGame;
@@ -51,9 +109,14 @@ public class GameServiceTest {
 
     @Before
     public void setUp() throws Exception {
+        gameService = new GameService(gameRepository, boardService, aiService, monteCarloService, gameStore,
+                gameArchive, boardPool, transactionManager, entityManager, false, MAX_MOVE_ATTEMPTS, logger);
+
         Board emptyBoard = new Board();
         testGame = new Game(emptyBoard, GAME_URI);
         testGame.setId(GAME_ID);
+
+        when(gameArchive.get(anyLong())).thenReturn(Optional.empty());
     }
 
     /**
@@ -86,6 +149,19 @@ public class GameServiceTest {
         assertThat(existingGameOptional).isEmpty();
     }
 
+    /**
+     * Tests {@link GameService#get(long)} for an archived game, which is rehydrated from the archive
+     */
+    @Test
+    public void testGetForArchivedGame() {
+        when(gameRepository.findOne(GAME_ID)).thenReturn(null);
+        when(gameArchive.get(GAME_ID)).thenReturn(Optional.of(testGame));
+
+        Optional<Game> archivedGameOptional = gameService.get(GAME_ID);
+
+        assertThat(archivedGameOptional).contains(testGame);
+    }
+
     /**
      * Tests {@link GameService#getAll()}
      */
@@ -157,6 +233,7 @@ public class GameServiceTest {
 
         assertThat(deletionSuccessful).isTrue();
         verify(gameRepository).delete(GAME_ID);
+        verify(gameStore).evict(GAME_ID);
     }
 
     /**
@@ -195,6 +272,79 @@ public class GameServiceTest {
         assertThat(exists).isFalse();
     }
 
+    /**
+     * Tests {@link GameService#createNewGames(String, int, Consumer)} saves the games in chunks, each of them in its
+     * own transaction and followed by clearing the persistence context
+     */
+    @Test
+    public void testCreateNewGames() {
+        when(boardService.initBoard()).thenReturn(new Board());
+        when(boardService.create(any(Board.class))).then(invocation -> invocation.getArguments()[0]);
+        when(gameRepository.save(any(Game.class))).then(invocation -> invocation.getArguments()[0]);
+        List<Game> createdGames = new ArrayList<>();
+
+        int createdGameCount = gameService.createNewGames(BASE_URI, BULK_GAME_COUNT, createdGames::add);
+
+        assertThat(createdGameCount).isEqualTo(BULK_GAME_COUNT);
+        assertThat(createdGames).hasSize(BULK_GAME_COUNT);
+        assertThat(createdGames).extracting(Game::getBaseUri).containsOnly(BASE_URI);
+        verify(gameRepository, times(BULK_GAME_COUNT)).save(any(Game.class));
+        verify(boardService, never()).createInitializedBoard();
+        verify(transactionManager, times(3)).commit(any());
+        verify(entityManager, times(3)).clear();
+    }
+
+    /**
+     * Tests {@link GameService#createNewGames(String, int, Consumer)} with more games than allowed
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testCreateNewGamesWithInvalidCount() {
+        gameService.createNewGames(BASE_URI, GameService.MAX_BULK_GAME_COUNT + 1, game -> {
+        });
+    }
+
+    /**
+     * Tests {@link GameService#getGames(GameFilter, long, int)} reads the page after the given game with the criteria
+     * of the filter
+     */
+    @Test
+    public void testGetGames() {
+        GameFilter filter = new GameFilter(Status.RUNNING, PlayerTurn.PLAYER_2, CREATED_FROM, null);
+        when(gameRepository.findSummaries(AFTER_ID, Status.RUNNING, PlayerTurn.PLAYER_2, CREATED_FROM, null,
+                new PageRequest(0, PAGE_SIZE))).thenReturn(ImmutableList.of(GAME_SUMMARY));
+
+        List<GameSummary> page = gameService.getGames(filter, AFTER_ID, PAGE_SIZE);
+
+        assertThat(page).containsExactly(GAME_SUMMARY);
+    }
+
+    /**
+     * Tests {@link GameService#getGames(GameFilter, long, int)} with more games per page than allowed
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetGamesWithInvalidLimit() {
+        gameService.getGames(GameFilter.ALL, AFTER_ID, GameService.MAX_PAGE_SIZE + 1);
+    }
+
+    /**
+     * Tests {@link GameService#streamGames(GameFilter, Consumer)} hands every summary to the consumer within one
+     * transaction and closes the stream
+     */
+    @Test
+    public void testStreamGames() {
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<GameSummary> summaries = Stream.of(GAME_SUMMARY, GAME_SUMMARY).onClose(() -> closed.set(true));
+        when(gameRepository.streamSummaries(null, null, null, null)).thenReturn(summaries);
+        List<GameSummary> streamedGames = new ArrayList<>();
+
+        int streamedGameCount = gameService.streamGames(GameFilter.ALL, streamedGames::add);
+
+        assertThat(streamedGameCount).isEqualTo(2);
+        assertThat(streamedGames).containsExactly(GAME_SUMMARY, GAME_SUMMARY);
+        assertThat(closed).isTrue();
+        verify(transactionManager, times(1)).commit(any());
+    }
+
     /**
      * Tests {@link GameService#createNewGame(String)}
      */
@@ -210,6 +360,52 @@ public class GameServiceTest {
                 game -> {
                     assertThat(game.getId()).isEqualTo(GAME_ID);
                 });
+
+        // The game is saved once, and gets its URI as soon as the ID is assigned
+        ArgumentCaptor<Game> gameCaptor = ArgumentCaptor.forClass(Game.class);
+        verify(gameRepository).save(gameCaptor.capture());
+        verify(gameRepository, never()).exists(anyLong());
+
+        Game savedGame = gameCaptor.getValue();
+        savedGame.setId(GAME_ID);
+        assertThat(savedGame.getUri()).isEqualTo(GAME_URI);
+    }
+
+    /**
+     * Tests {@link GameService#createNewGame(String)} with the board pool, whose board is used instead of a new one
+     */
+    @Test
+    public void testCreateNewGameWithPooledBoard() {
+        Board pooledBoard = new Board();
+        pooledBoard.setId(BOARD_ID);
+        when(boardPool.isEnabled()).thenReturn(true);
+        when(boardPool.claim()).thenReturn(Optional.of(pooledBoard));
+        when(gameRepository.save(any(Game.class))).thenReturn(testGame);
+
+        gameService.createNewGame(BASE_URI);
+
+        ArgumentCaptor<Game> gameCaptor = ArgumentCaptor.forClass(Game.class);
+        verify(gameRepository).save(gameCaptor.capture());
+        assertThat(gameCaptor.getValue().getBoard()).isSameAs(pooledBoard);
+        verify(boardService, never()).createInitializedBoard();
+    }
+
+    /**
+     * Tests {@link GameService#createNewGame(String)} with an empty board pool, which falls back to a new board
+     */
+    @Test
+    public void testCreateNewGameWithEmptyBoardPool() {
+        Board newBoard = new Board();
+        when(boardPool.isEnabled()).thenReturn(true);
+        when(boardPool.claim()).thenReturn(Optional.empty());
+        when(boardService.createInitializedBoard()).thenReturn(newBoard);
+        when(gameRepository.save(any(Game.class))).thenReturn(testGame);
+
+        gameService.createNewGame(BASE_URI);
+
+        ArgumentCaptor<Game> gameCaptor = ArgumentCaptor.forClass(Game.class);
+        verify(gameRepository).save(gameCaptor.capture());
+        assertThat(gameCaptor.getValue().getBoard()).isSameAs(newBoard);
     }
 
     /**
@@ -217,7 +413,7 @@ public class GameServiceTest {
      */
     @Test
     public void testMakeMove() {
-        when(gameRepository.findOne(GAME_ID)).thenReturn(testGame);
+        when(gameRepository.findWithBoardById(GAME_ID)).thenReturn(testGame);
 
         Optional<Game> gameOptional = gameService.makeMove(GAME_ID, 1);
 
@@ -226,6 +422,23 @@ public class GameServiceTest {
                 game -> {
                     assertThat(game.getId()).isEqualTo(GAME_ID);
                 });
+
+        // The board loaded together with the game is moved instead of being loaded again
+        verify(boardService).makeMove(testGame.getBoard(), 1);
+        verify(boardService, never()).makeMove(anyLong(), anyInt());
+    }
+
+    /**
+     * Tests {@link GameService#makeMove(long, int)} for an archived game, which is rejected like any finished game
+     */
+    @Test
+    public void testMakeMoveForArchivedGame() {
+        when(gameRepository.findWithBoardById(GAME_ID)).thenReturn(null);
+        when(gameArchive.contains(GAME_ID)).thenReturn(true);
+
+        assertThatThrownBy(() -> gameService.makeMove(GAME_ID, 1))
+                .isInstanceOf(KalahGameException.class)
+                .hasMessage(GAME_FINISHED_ERROR);
     }
 
     /**
@@ -233,7 +446,7 @@ public class GameServiceTest {
      */
     @Test
     public void testMakeMoveForNonexistentGame() {
-        when(gameRepository.findOne(GAME_ID)).thenReturn(null);
+        when(gameRepository.findWithBoardById(GAME_ID)).thenReturn(null);
 
         Optional<Game> gameOptional = gameService.makeMove(GAME_ID, 1);
 
@@ -255,4 +468,383 @@ public class GameServiceTest {
     public void testMakeMoveForLargePitId() {
         gameService.makeMove(GAME_ID, 20);
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests {@link GameService#makeMove(long, int)} runs the move again if a concurrent move was committed first
+     */
+    @Test
+    public void testMakeMoveRetriesAfterConflict() {
+        when(gameRepository.findWithBoardById(GAME_ID)).thenReturn(testGame);
+        when(boardService.makeMove(testGame.getBoard(), 1))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Board.class, GAME_ID))
+                .thenReturn(testGame.getBoard());
+
+        Optional<Game> gameOptional = gameService.makeMove(GAME_ID, 1);
+
+        assertThat(gameOptional).isPresent();
+        verify(boardService, times(2)).makeMove(testGame.getBoard(), 1);
+        assertThat(gameService.getMoveConflicts()).isEqualTo(1);
+        assertThat(gameService.getRejectedMoveConflicts()).isEqualTo(0);
+    }
+
+    /**
+     * Tests {@link GameService#makeMove(long, int)} gives up after the last attempt failed because of concurrent moves
+     */
+    @Test
+    public void testMakeMoveWithConflictInAllAttempts() {
+        when(gameRepository.findWithBoardById(GAME_ID)).thenReturn(testGame);
+        when(boardService.makeMove(testGame.getBoard(), 1))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Board.class, GAME_ID));
+
+        assertThatThrownBy(() -> gameService.makeMove(GAME_ID, 1))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+        verify(boardService, times(MAX_MOVE_ATTEMPTS)).makeMove(testGame.getBoard(), 1);
+        assertThat(gameService.getMoveConflicts()).isEqualTo(MAX_MOVE_ATTEMPTS);
+        assertThat(gameService.getRejectedMoveConflicts()).isEqualTo(1);
+    }
+
+    /**
+     * Tests {@link GameService#makeMove(long, int)} locks the game in pessimistic locking mode
+     */
+    @Test
+    public void testMakeMoveWithPessimisticLocking() {
+        GameService lockingGameService = new GameService(gameRepository, boardService, aiService, monteCarloService,
+                gameStore, gameArchive, boardPool, transactionManager, entityManager, true, MAX_MOVE_ATTEMPTS, logger);
+        when(gameRepository.findAndLockBoardById(GAME_ID)).thenReturn(testGame.getBoard());
+        when(gameRepository.findWithBoardById(GAME_ID)).thenReturn(testGame);
+
+        Optional<Game> gameOptional = lockingGameService.makeMove(GAME_ID, 1);
+
+        assertThat(gameOptional).isPresent();
+        InOrder inOrder = inOrder(gameRepository, boardService);
+        inOrder.verify(gameRepository).findAndLockBoardById(GAME_ID);
+        inOrder.verify(gameRepository).findWithBoardById(GAME_ID);
+        inOrder.verify(boardService).makeMove(testGame.getBoard(), 1);
+    }
+
+    /**
+     * Tests {@link GameService#makeMove(long, int)} makes the move on the game held in memory if write-behind is
+     * enabled
+     */
+    @Test
+    public void testMakeMoveWithWriteBehind() {
+        when(gameStore.isEnabled()).thenReturn(true);
+        when(gameStore.makeMove(GAME_ID, 1)).thenReturn(Optional.of(testGame));
+
+        Optional<Game> gameOptional = gameService.makeMove(GAME_ID, 1);
+
+        assertThat(gameOptional).contains(testGame);
+        verify(gameRepository, never()).findWithBoardById(anyLong());
+        verify(boardService, never()).makeMove(any(Board.class), anyInt());
+    }
+
+    /**
+     * Tests {@link GameService#makeMoves(long, List)} passes the loaded board to the board service
+     */
+    @Test
+    public void testMakeMoves() {
+        MoveBatchResult result = new MoveBatchResult(MOVE_BATCH.size(), MoveBatchResult.NO_PIT, null);
+        when(gameRepository.findWithBoardById(GAME_ID)).thenReturn(testGame);
+        when(boardService.makeMoves(testGame.getBoard(), MOVE_BATCH)).thenReturn(result);
+
+        Optional<MoveBatch> moveBatchOptional = gameService.makeMoves(GAME_ID, MOVE_BATCH);
+
+        assertThat(moveBatchOptional).hasValueSatisfying(
+                moveBatch -> {
+                    assertThat(moveBatch.getGame()).isEqualTo(testGame);
+                    assertThat(moveBatch.getResult()).isEqualTo(result);
+                });
+        verify(boardService, never()).makeMove(anyLong(), anyInt());
+    }
+
+    /**
+     * Tests {@link GameService#makeMoves(long, List)} for nonexistent game
+     */
+    @Test
+    public void testMakeMovesForNonexistentGame() {
+        when(gameRepository.findWithBoardById(GAME_ID)).thenReturn(null);
+
+        Optional<MoveBatch> moveBatchOptional = gameService.makeMoves(GAME_ID, MOVE_BATCH);
+
+        assertThat(moveBatchOptional).isEmpty();
+    }
+
+    /**
+     * Tests {@link GameService#makeMoves(long, List)} without any move
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testMakeMovesWithoutMoves() {
+        gameService.makeMoves(GAME_ID, Collections.emptyList());
+    }
+
+    /**
+     * Tests {@link GameService#makeMoves(long, List)} with more moves than allowed in one batch
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testMakeMovesWithTooManyMoves() {
+        gameService.makeMoves(GAME_ID, Collections.nCopies(GameService.MAX_MOVE_BATCH_SIZE + 1, 0));
+    }
+
+    /**
+     * Tests {@link GameService#getPosition(long)}
+     */
+    @Test
+    public void testGetPosition() {
+        when(gameRepository.findOne(GAME_ID)).thenReturn(testGame);
+
+        Optional<Position> positionOptional = gameService.getPosition(GAME_ID);
+
+        assertThat(positionOptional).isPresent();
+        assertThat(positionOptional).hasValueSatisfying(
+                position -> {
+                    assertThat(position.getPlayerTurn()).isEqualTo(BoardState.PLAYER_1);
+                    assertThat(position.isFinished()).isFalse();
+                });
+    }
+
+    /**
+     * Tests {@link GameService#getPosition(long)} for nonexistent game
+     */
+    @Test
+    public void testGetPositionForNonexistentGame() {
+        when(gameRepository.findOne(GAME_ID)).thenReturn(null);
+
+        Optional<Position> positionOptional = gameService.getPosition(GAME_ID);
+
+        assertThat(positionOptional).isEmpty();
+    }
+
+    /**
+     * Tests {@link GameService#getAllByPosition(Position)}
+     */
+    @Test
+    public void testGetAllByPosition() {
+        Position position = Position.initial();
+        when(gameRepository.findByBoardPositionHash(position.getHash())).thenReturn(ImmutableList.of(testGame));
+
+        List<Game> games = gameService.getAllByPosition(position);
+
+        assertThat(games).containsExactly(testGame);
+    }
+
+    /**
+     * Tests {@link GameService#makeAiMove(long, int)}
+     */
+    @Test
+    public void testMakeAiMove() {
+        testGame.setBoard(new BoardService(null, true, logger).initBoard());
+        SearchResult searchResult = new SearchResult(AI_PIT_ID, 0, AI_DEPTH, 1L, 1L, new long[AI_DEPTH]);
+        when(gameRepository.findOne(GAME_ID)).thenReturn(testGame);
+        when(aiService.search(any(BoardState.class), eq(AI_DEPTH))).thenReturn(searchResult);
+
+        Game movedGame = new Game(new BoardService(null, true, logger).initBoard(), GAME_URI);
+        when(gameRepository.findWithBoardById(GAME_ID)).thenReturn(movedGame);
+
+        Optional<AiMove> aiMoveOptional = gameService.makeAiMove(GAME_ID, AI_DEPTH);
+
+        assertThat(aiMoveOptional).isPresent();
+        assertThat(aiMoveOptional).hasValueSatisfying(
+                aiMove -> {
+                    assertThat(aiMove.getGame()).isSameAs(movedGame);
+                    assertThat(aiMove.getSearchResult()).isEqualTo(searchResult);
+                });
+        verify(boardService).makeMove(movedGame.getBoard(), AI_PIT_ID);
+        verify(boardService, never()).makeMove(anyLong(), anyInt());
+    }
+
+    /**
+     * Tests {@link GameService#makeAiMove(long, int)} for nonexistent game
+     */
+    @Test
+    public void testMakeAiMoveForNonexistentGame() {
+        when(gameRepository.findOne(GAME_ID)).thenReturn(null);
+
+        Optional<AiMove> aiMoveOptional = gameService.makeAiMove(GAME_ID, AI_DEPTH);
+
+        assertThat(aiMoveOptional).isEmpty();
+    }
+
+    /**
+     * Tests {@link GameService#makeAiMove(long, int)} for a game in which one player has no more stones
+     */
+    @Test(expected = KalahGameException.class)
+    public void testMakeAiMoveForFinishedGame() {
+        when(gameRepository.findOne(GAME_ID)).thenReturn(testGame);
+
+        gameService.makeAiMove(GAME_ID, AI_DEPTH);
+    }
+
+    /**
+     * Tests {@link GameService#makeAiMove(long, int)} searches again if a concurrent move changed the game during the
+     * search
+     */
+    @Test
+    public void testMakeAiMoveSearchesAgainAfterConcurrentMove() {
+        testGame.setBoard(new BoardService(null, true, logger).initBoard());
+        Game concurrentlyMovedGame = new Game(createMovedBoard(CONCURRENT_PIT_ID), GAME_URI);
+        SearchResult searchResult = new SearchResult(AI_PIT_ID, 0, AI_DEPTH, 1L, 1L, new long[AI_DEPTH]);
+        when(gameRepository.findOne(GAME_ID)).thenReturn(testGame, concurrentlyMovedGame);
+        when(gameRepository.findWithBoardById(GAME_ID)).thenReturn(concurrentlyMovedGame);
+        when(aiService.search(any(BoardState.class), eq(AI_DEPTH))).thenReturn(searchResult);
+
+        Optional<AiMove> aiMoveOptional = gameService.makeAiMove(GAME_ID, AI_DEPTH);
+
+        assertThat(aiMoveOptional)
+                .hasValueSatisfying(aiMove -> assertThat(aiMove.getGame()).isSameAs(concurrentlyMovedGame));
+        verify(aiService, times(2)).search(any(BoardState.class), eq(AI_DEPTH));
+        verify(boardService).makeMove(concurrentlyMovedGame.getBoard(), AI_PIT_ID);
+        assertThat(gameService.getMoveConflicts()).isEqualTo(1);
+        assertThat(gameService.getRejectedMoveConflicts()).isEqualTo(0);
+    }
+
+    /**
+     * Tests {@link GameService#makeAiMove(long, int)} gives up if the game was changed during the search in all attempts
+     */
+    @Test
+    public void testMakeAiMoveWithConcurrentMoveInAllAttempts() {
+        testGame.setBoard(new BoardService(null, true, logger).initBoard());
+        Game concurrentlyMovedGame = new Game(createMovedBoard(CONCURRENT_PIT_ID), GAME_URI);
+        SearchResult searchResult = new SearchResult(AI_PIT_ID, 0, AI_DEPTH, 1L, 1L, new long[AI_DEPTH]);
+        when(gameRepository.findOne(GAME_ID)).thenReturn(testGame);
+        when(gameRepository.findWithBoardById(GAME_ID)).thenReturn(concurrentlyMovedGame);
+        when(aiService.search(any(BoardState.class), eq(AI_DEPTH))).thenReturn(searchResult);
+
+        assertThatThrownBy(() -> gameService.makeAiMove(GAME_ID, AI_DEPTH))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+
+        verify(aiService, times(MAX_MOVE_ATTEMPTS)).search(any(BoardState.class), eq(AI_DEPTH));
+        verify(boardService, never()).makeMove(any(Board.class), anyInt());
+        assertThat(gameService.getMoveConflicts()).isEqualTo(MAX_MOVE_ATTEMPTS);
+        assertThat(gameService.getRejectedMoveConflicts()).isEqualTo(1);
+    }
+
+    /**
+     * Tests {@link GameService#makeAiMove(long, int)} locks the game in pessimistic locking mode
+     */
+    @Test
+    public void testMakeAiMoveWithPessimisticLocking() {
+        GameService lockingGameService = new GameService(gameRepository, boardService, aiService, monteCarloService,
+                gameStore, gameArchive, boardPool, transactionManager, entityManager, true, MAX_MOVE_ATTEMPTS, logger);
+        testGame.setBoard(new BoardService(null, true, logger).initBoard());
+        SearchResult searchResult = new SearchResult(AI_PIT_ID, 0, AI_DEPTH, 1L, 1L, new long[AI_DEPTH]);
+        when(gameRepository.findOne(GAME_ID)).thenReturn(testGame);
+        when(gameRepository.findAndLockBoardById(GAME_ID)).thenReturn(testGame.getBoard());
+        when(gameRepository.findWithBoardById(GAME_ID)).thenReturn(testGame);
+        when(aiService.search(any(BoardState.class), eq(AI_DEPTH))).thenReturn(searchResult);
+
+        Optional<AiMove> aiMoveOptional = lockingGameService.makeAiMove(GAME_ID, AI_DEPTH);
+
+        assertThat(aiMoveOptional).isPresent();
+        InOrder inOrder = inOrder(aiService, gameRepository, boardService);
+        inOrder.verify(aiService).search(any(BoardState.class), eq(AI_DEPTH));
+        inOrder.verify(gameRepository).findAndLockBoardById(GAME_ID);
+        inOrder.verify(gameRepository).findWithBoardById(GAME_ID);
+        inOrder.verify(boardService).makeMove(testGame.getBoard(), AI_PIT_ID);
+    }
+
+    /**
+     * Tests {@link GameService#makeAiMove(long, int)} makes the move on the game held in memory in the searched
+     * position if write-behind is enabled
+     */
+    @Test
+    public void testMakeAiMoveWithWriteBehind() {
+        testGame.setBoard(new BoardService(null, true, logger).initBoard());
+        long positionHash = testGame.getBoard().getPositionHash();
+        SearchResult searchResult = new SearchResult(AI_PIT_ID, 0, AI_DEPTH, 1L, 1L, new long[AI_DEPTH]);
+        when(gameStore.isEnabled()).thenReturn(true);
+        when(gameStore.get(GAME_ID)).thenReturn(Optional.of(testGame));
+        when(gameStore.makeMove(GAME_ID, AI_PIT_ID, positionHash)).thenReturn(Optional.of(testGame));
+        when(aiService.search(any(BoardState.class), eq(AI_DEPTH))).thenReturn(searchResult);
+
+        Optional<AiMove> aiMoveOptional = gameService.makeAiMove(GAME_ID, AI_DEPTH);
+
+        assertThat(aiMoveOptional).hasValueSatisfying(aiMove -> assertThat(aiMove.getGame()).isSameAs(testGame));
+        verify(gameRepository, never()).findWithBoardById(anyLong());
+        verify(boardService, never()).makeMove(any(Board.class), anyInt());
+    }
+
+    /**
+     * Tests {@link GameService#getHint(long, int)}, which must not make the move
+     */
+    @Test
+    public void testGetHint() {
+        testGame.setBoard(new BoardService(null, true, logger).initBoard());
+        SearchResult searchResult = new SearchResult(AI_PIT_ID, 0, AI_DEPTH, 1L, 1L, new long[AI_DEPTH]);
+        when(gameRepository.findOne(GAME_ID)).thenReturn(testGame);
+        when(aiService.search(any(BoardState.class), eq(AI_DEPTH))).thenReturn(searchResult);
+
+        Optional<SearchResult> hintOptional = gameService.getHint(GAME_ID, AI_DEPTH);
+
+        assertThat(hintOptional).contains(searchResult);
+        verify(boardService, never()).makeMove(anyLong(), anyInt());
+    }
+
+    /**
+     * Tests {@link GameService#getHint(long, int)} for nonexistent game
+     */
+    @Test
+    public void testGetHintForNonexistentGame() {
+        when(gameRepository.findOne(GAME_ID)).thenReturn(null);
+
+        Optional<SearchResult> hintOptional = gameService.getHint(GAME_ID, AI_DEPTH);
+
+        assertThat(hintOptional).isEmpty();
+    }
+
+    /**
+     * Tests {@link GameService#makeMonteCarloMove(long, long)}
+     */
+    @Test
+    public void testMakeMonteCarloMove() {
+        testGame.setBoard(new BoardService(null, true, logger).initBoard());
+        long[] visits = new long[COUNT_OF_ALL_PITS];
+        visits[AI_PIT_ID] = 1L;
+        MonteCarloResult searchResult = new MonteCarloResult(visits, visits, 1L, 1L, 1L, 1);
+        when(gameRepository.findOne(GAME_ID)).thenReturn(testGame);
+        when(monteCarloService.search(any(BoardState.class), eq(TIME_BUDGET_MILLIS))).thenReturn(searchResult);
+
+        Game movedGame = new Game(new BoardService(null, true, logger).initBoard(), GAME_URI);
+        when(gameRepository.findWithBoardById(GAME_ID)).thenReturn(movedGame);
+
+        Optional<MonteCarloMove> monteCarloMoveOptional = gameService.makeMonteCarloMove(GAME_ID, TIME_BUDGET_MILLIS);
+
+        assertThat(monteCarloMoveOptional).hasValueSatisfying(
+                monteCarloMove -> {
+                    assertThat(monteCarloMove.getGame()).isSameAs(movedGame);
+                    assertThat(monteCarloMove.getSearchResult()).isEqualTo(searchResult);
+                });
+        verify(boardService).makeMove(movedGame.getBoard(), AI_PIT_ID);
+    }
+
+    /**
+     * Tests {@link GameService#makeMonteCarloMove(long, long)} for nonexistent game
+     */
+    @Test
+    public void testMakeMonteCarloMoveForNonexistentGame() {
+        when(gameRepository.findOne(GAME_ID)).thenReturn(null);
+
+        Optional<MonteCarloMove> monteCarloMoveOptional = gameService.makeMonteCarloMove(GAME_ID, TIME_BUDGET_MILLIS);
+
+        assertThat(monteCarloMoveOptional).isEmpty();
+    }
+
+    /**
+     * Tests {@link GameService#makeMonteCarloMove(long, long)} for a game in which one player has no more stones
+     */
+    @Test(expected = KalahGameException.class)
+    public void testMakeMonteCarloMoveForFinishedGame() {
+        when(gameRepository.findOne(GAME_ID)).thenReturn(testGame);
+
+        gameService.makeMonteCarloMove(GAME_ID, TIME_BUDGET_MILLIS);
+    }
+
+    private Board createMovedBoard(int pitId) {
+        Board board = new BoardService(null, true, logger).initBoard();
+        BoardState state = BoardStateConverter.toBoardState(board);
+        KalahRules.move(state, pitId);
+        BoardStateConverter.copyToBoard(state, board);
+
+        return board;
+    }
+}
@@ -0,0 +1,360 @@
+package com.backbase.kalah.service;
+
+import com.backbase.kalah.engine.Position;
+import com.backbase.kalah.error.KalahGameException;
+import com.backbase.kalah.model.Board;
+import com.backbase.kalah.model.Game;
+import com.backbase.kalah.repository.BoardRepository;
+import com.backbase.kalah.repository.GameRepository;
+import com.backbase.kalah.utils.BoardStateConverter;
+import com.google.common.collect.ImmutableList;
+import org.apache.log4j.Logger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.OngoingStubbing;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.backbase.kalah.constant.Messages.GAME_STORE_CLOSED_ERROR;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Matchers.anyCollectionOf;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for {@link GameStore}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@RunWith(MockitoJUnitRunner.class)
+public class GameStoreTest {
+    //region field values
+    private static final long GAME_ID = 1L;
+    private static final long BOARD_ID = 2L;
+    // Falls into the same bin of a map of the default capacity as the game
+    private static final long SAME_BIN_GAME_ID = GAME_ID + 16;
+    private static final String GAME_URI = "http://example.org/games/1";
+    private static final int PIT_0 = 0;
+    private static final int PIT_1 = 1;
+    private static final int OPPONENT_PIT = 8;
+    // Long enough for no scheduled flush to run during a test
+    private static final long FLUSH_INTERVAL_MILLIS = 3_600_000L;
+    private static final int MAX_DIRTY_GAMES = 1000;
+    private static final long IDLE_EVICTION_MILLIS = 600_000L;
+    private static final long TIMEOUT_MILLIS = 5000L;
+    private static final String NO_JOURNAL = "";
+    private static final int SEGMENT_SIZE = 4096;
+    private static final long SNAPSHOT_INTERVAL_MILLIS = 3_600_000L;
+    //endregion
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Mock
+    private Logger logger;
+    @Mock
+    private GameRepository gameRepository;
+    @Mock
+    private BoardRepository boardRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BoardService boardService;
+    private GameStore gameStore;
+
+    private Board persistedBoard;
+
+    @Before
+    public void setUp() throws Exception {
+        boardService = new BoardService(boardRepository, true, logger);
+        gameStore = createGameStore(MAX_DIRTY_GAMES);
+
+        when(gameRepository.findWithBoardById(GAME_ID)).thenReturn(createGame());
+        persistedBoard = createBoard();
+        when(boardRepository.findAll(anyCollectionOf(Long.class))).thenReturn(ImmutableList.of(persistedBoard));
+    }
+
+    @After
+    public void teardown() {
+        gameStore.shutdown();
+    }
+
+    /**
+     * Tests {@link GameStore#makeMove(long, int)} reads the game once and makes the moves in memory only
+     */
+    @Test
+    public void testMakeMove() {
+        gameStore.makeMove(GAME_ID, PIT_0);
+        Optional<Game> gameOptional = gameStore.makeMove(GAME_ID, PIT_1);
+
+        assertThat(gameOptional).hasValueSatisfying(
+                game -> {
+                    assertThat(game.getId()).isEqualTo(GAME_ID);
+                    assertThat(game.getUri()).isEqualTo(GAME_URI);
+                    assertThat(game.getBoard().getId()).isEqualTo(BOARD_ID);
+                    assertThat(game.getBoard().getPackedPosition())
+                            .isEqualTo(Position.initial().play(PIT_0).play(PIT_1));
+                });
+        assertThat(gameStore.getDirtyGameCount()).isEqualTo(1);
+        verify(gameRepository, times(1)).findWithBoardById(GAME_ID);
+        verify(boardRepository, never()).findAll(anyCollectionOf(Long.class));
+        verify(boardRepository, never()).save(persistedBoard);
+    }
+
+    /**
+     * Tests {@link GameStore#makeMove(long, int)} for an illegal move, which leaves the game unchanged
+     */
+    @Test
+    public void testMakeIllegalMove() {
+        assertThatThrownBy(() -> gameStore.makeMove(GAME_ID, OPPONENT_PIT)).isInstanceOf(KalahGameException.class);
+
+        assertThat(gameStore.get(GAME_ID)).hasValueSatisfying(
+                game -> assertThat(game.getBoard().getPackedPosition()).isEqualTo(Position.initial()));
+        assertThat(gameStore.getDirtyGameCount()).isEqualTo(0);
+    }
+
+    /**
+     * Tests {@link GameStore#get(long)} for nonexistent game
+     */
+    @Test
+    public void testGetForNonexistentGame() {
+        Optional<Game> gameOptional = gameStore.get(GAME_ID + 1);
+
+        assertThat(gameOptional).isEmpty();
+    }
+
+    /**
+     * Tests {@link GameStore#flush()} writes the position of the changed games to their boards
+     */
+    @Test
+    public void testFlush() {
+        gameStore.makeMove(GAME_ID, PIT_0);
+
+        boolean flushed = gameStore.flush();
+
+        assertThat(flushed).isTrue();
+        assertThat(persistedBoard.getPackedPosition()).isEqualTo(Position.initial().play(PIT_0));
+        assertThat(gameStore.getDirtyGameCount()).isEqualTo(0);
+        assertThat(gameStore.getFlushLagMillis()).isEqualTo(0L);
+    }
+
+    /**
+     * Tests {@link GameStore#flush()} keeps the games changed if they cannot be written
+     */
+    @Test
+    public void testFlushFailure() {
+        when(boardRepository.findAll(anyCollectionOf(Long.class)))
+                .thenThrow(new DataAccessResourceFailureException("Database unavailable"));
+        gameStore.makeMove(GAME_ID, PIT_0);
+
+        boolean flushed = gameStore.flush();
+
+        assertThat(flushed).isFalse();
+        assertThat(gameStore.getDirtyGameCount()).isEqualTo(1);
+    }
+
+    /**
+     * Tests {@link GameStore#makeMove(long, int)} writes the changed games without waiting for the flush interval
+     * once their number reaches the limit
+     */
+    @Test
+    public void testFlushWhenDirtyGameLimitReached() {
+        gameStore.shutdown();
+        gameStore = createGameStore(1);
+
+        gameStore.makeMove(GAME_ID, PIT_0);
+
+        verify(boardRepository, timeout(TIMEOUT_MILLIS)).findAll(anyCollectionOf(Long.class));
+    }
+
+    /**
+     * Tests {@link GameStore#shutdown()} writes the remaining changes and rejects further moves
+     */
+    @Test
+    public void testShutdown() {
+        gameStore.makeMove(GAME_ID, PIT_0);
+
+        gameStore.shutdown();
+
+        assertThat(persistedBoard.getPackedPosition()).isEqualTo(Position.initial().play(PIT_0));
+        assertThat(gameStore.getDirtyGameCount()).isEqualTo(0);
+        assertThatThrownBy(() -> gameStore.makeMove(GAME_ID, PIT_1))
+                .isInstanceOf(KalahGameException.class)
+                .hasMessage(GAME_STORE_CLOSED_ERROR);
+    }
+
+    /**
+     * Tests {@link GameStore#makeMove(long, int)} with a journal, whose moves not written yet replace the position
+     * read from the database after a crash and are written by the first flush
+     */
+    @Test
+    public void testRecoverFromJournal() throws Exception {
+        String journalDirectory = temporaryFolder.newFolder().getPath();
+        gameStore.shutdown();
+        gameStore = createGameStore(MAX_DIRTY_GAMES, journalDirectory);
+
+        gameStore.makeMove(GAME_ID, PIT_0);
+        gameStore.makeMove(GAME_ID, PIT_1);
+        assertThat(gameStore.getJournalRecordCount()).isEqualTo(3);
+        assertThat(gameStore.getJournalSyncCount()).isGreaterThan(0);
+
+        // The database fails until the process stops, so the moves are only in the journal opened by the next one
+        DataAccessResourceFailureException failure = new DataAccessResourceFailureException("Database unavailable");
+        when(boardRepository.findAll(anyCollectionOf(Long.class)))
+                .thenThrow(failure, failure, failure)
+                .thenReturn(ImmutableList.of(persistedBoard));
+        gameStore.shutdown();
+        assertThat(persistedBoard.getPackedPosition()).isEqualTo(Position.initial());
+
+        gameStore = createGameStore(MAX_DIRTY_GAMES, journalDirectory);
+
+        assertThat(gameStore.get(GAME_ID)).hasValueSatisfying(game -> assertThat(
+                game.getBoard().getPackedPosition()).isEqualTo(Position.initial().play(PIT_0).play(PIT_1)));
+        verify(boardRepository, timeout(TIMEOUT_MILLIS).times(4)).findAll(anyCollectionOf(Long.class));
+        gameStore.shutdown();
+        assertThat(persistedBoard.getPackedPosition()).isEqualTo(Position.initial().play(PIT_0).play(PIT_1));
+    }
+
+    /**
+     * Tests {@link GameStore#evict(long)} drops the changes of the game, e.g. after it has been deleted
+     */
+    @Test
+    public void testEvict() {
+        gameStore.makeMove(GAME_ID, PIT_0);
+
+        gameStore.evict(GAME_ID);
+
+        assertThat(gameStore.getDirtyGameCount()).isEqualTo(0);
+        assertThat(gameStore.getLiveGameCount()).isEqualTo(0);
+    }
+
+    /**
+     * Tests {@link GameStore#get(long)} reads a game once if it is accessed concurrently while being read
+     */
+    @Test
+    public void testConcurrentGetReadsGameOnce() throws Exception {
+        CountDownLatch readStarted = new CountDownLatch(1);
+        CountDownLatch readReleased = new CountDownLatch(1);
+        blockFirstRead(readStarted, readReleased).thenReturn(createGame());
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        Future<Optional<Game>> firstGet = executor.submit(() -> gameStore.get(GAME_ID));
+        assertThat(readStarted.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).isTrue();
+        Future<Optional<Game>> secondGet = executor.submit(() -> gameStore.get(GAME_ID));
+        readReleased.countDown();
+
+        assertThat(firstGet.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).isPresent();
+        assertThat(secondGet.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).isPresent();
+        executor.shutdown();
+        verify(gameRepository, times(1)).findWithBoardById(GAME_ID);
+    }
+
+    /**
+     * Tests {@link GameStore#get(long)} for a game sharing a bin of the map of the games held in memory with a game
+     * being read, which must not wait for that read
+     */
+    @Test
+    public void testGetWhileOtherGameIsRead() throws Exception {
+        CountDownLatch readStarted = new CountDownLatch(1);
+        CountDownLatch readReleased = new CountDownLatch(1);
+        blockFirstRead(readStarted, readReleased);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        Future<Optional<Game>> blockedGet = executor.submit(() -> gameStore.get(GAME_ID));
+        assertThat(readStarted.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).isTrue();
+        try {
+            Future<Optional<Game>> otherGet = executor.submit(() -> gameStore.get(SAME_BIN_GAME_ID));
+            assertThat(otherGet.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).isEmpty();
+        } finally {
+            readReleased.countDown();
+        }
+
+        assertThat(blockedGet.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).isPresent();
+        executor.shutdown();
+    }
+
+    /**
+     * Tests {@link GameStore#evict(long)} for a game being read, which may have been read before it was deleted and so
+     * must not be kept
+     */
+    @Test
+    public void testEvictWhileGameIsRead() throws Exception {
+        CountDownLatch readStarted = new CountDownLatch(1);
+        CountDownLatch readReleased = new CountDownLatch(1);
+        blockFirstRead(readStarted, readReleased).thenReturn(null);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        Future<Optional<Game>> blockedGet = executor.submit(() -> gameStore.get(GAME_ID));
+        assertThat(readStarted.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).isTrue();
+        gameStore.evict(GAME_ID);
+        readReleased.countDown();
+
+        assertThat(blockedGet.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).isEmpty();
+        executor.shutdown();
+        assertThat(gameStore.getLiveGameCount()).isEqualTo(0);
+    }
+
+    /**
+     * Tests {@link GameStore#GameStore} with an invalid flush interval
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testCreateWithInvalidFlushInterval() {
+        new GameStore(gameRepository, boardRepository, boardService, transactionManager, false, 0L,
+                MAX_DIRTY_GAMES, IDLE_EVICTION_MILLIS, NO_JOURNAL, SEGMENT_SIZE, SNAPSHOT_INTERVAL_MILLIS, logger);
+    }
+
+    private GameStore createGameStore(int maxDirtyGames) {
+        return createGameStore(maxDirtyGames, NO_JOURNAL);
+    }
+
+    private GameStore createGameStore(int maxDirtyGames, String journalDirectory) {
+        return new GameStore(gameRepository, boardRepository, boardService, transactionManager, true,
+                FLUSH_INTERVAL_MILLIS, maxDirtyGames, IDLE_EVICTION_MILLIS, journalDirectory, SEGMENT_SIZE,
+                SNAPSHOT_INTERVAL_MILLIS, logger);
+    }
+
+    private static Game createGame() {
+        Game game = new Game(createBoard(), GAME_URI);
+        game.setId(GAME_ID);
+
+        return game;
+    }
+
+    private static Board createBoard() {
+        Board board = new Board();
+        board.setId(BOARD_ID);
+        board.setPackedPosition(Position.initial());
+        BoardStateConverter.copyToBoard(Position.initial().toBoardState(), board);
+
+        return board;
+    }
+
+    /**
+     * Lets the first read of the game wait until it is released, and then return the game
+     */
+    private OngoingStubbing<Game> blockFirstRead(CountDownLatch readStarted, CountDownLatch readReleased) {
+        return when(gameRepository.findWithBoardById(GAME_ID)).thenAnswer(invocation -> {
+            readStarted.countDown();
+            readReleased.await(2 * TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            return createGame();
+        });
+    }
+}
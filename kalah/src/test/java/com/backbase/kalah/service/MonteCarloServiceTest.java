@@ -0,0 +1,114 @@
+package com.backbase.kalah.service;
+
+import com.backbase.kalah.engine.BoardState;
+import com.backbase.kalah.engine.MoveGenerator;
+import com.backbase.kalah.engine.mcts.MonteCarloResult;
+import org.apache.log4j.Logger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Test class for {@link MonteCarloService}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@RunWith(MockitoJUnitRunner.class)
+public class MonteCarloServiceTest {
+    //region field values
+    private static final int THREADS = 3;
+    private static final int NODE_POOL_SIZE = 1 << 12;
+    private static final long MAX_TIME_BUDGET_MILLIS = 100L;
+    private static final long TIME_BUDGET_MILLIS = 20L;
+    //endregion
+
+    @Mock
+    private Logger logger;
+
+    private MonteCarloService monteCarloService;
+    private MonteCarloService parallelMonteCarloService;
+
+    @Before
+    public void setUp() throws Exception {
+        monteCarloService = new MonteCarloService(1, NODE_POOL_SIZE, MAX_TIME_BUDGET_MILLIS, logger);
+        parallelMonteCarloService = new MonteCarloService(THREADS, NODE_POOL_SIZE, MAX_TIME_BUDGET_MILLIS, logger);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        monteCarloService.shutdown();
+        parallelMonteCarloService.shutdown();
+    }
+
+    /**
+     * Tests {@link MonteCarloService#search(BoardState, long)} counts the playouts for the metrics
+     */
+    @Test
+    public void testSearch() {
+        BoardState state = BoardState.initial();
+
+        MonteCarloResult result = monteCarloService.search(state, TIME_BUDGET_MILLIS);
+
+        assertThat(monteCarloService.getThreads()).isEqualTo(1);
+        assertThat(result.getThreadCount()).isEqualTo(1);
+        assertThat(MoveGenerator.isLegalMove(state, result.getBestMove())).isTrue();
+        assertThat(monteCarloService.getPlayouts()).isEqualTo(result.getPlayouts());
+        assertThat(monteCarloService.getPlayoutsPerCoreSecond()).isPositive();
+        verify(logger).info(anyString());
+    }
+
+    /**
+     * Tests {@link MonteCarloService#search(BoardState, long)} with several threads
+     */
+    @Test
+    public void testParallelSearch() {
+        BoardState state = BoardState.initial();
+
+        MonteCarloResult result = parallelMonteCarloService.search(state, TIME_BUDGET_MILLIS);
+
+        assertThat(parallelMonteCarloService.getThreads()).isEqualTo(THREADS);
+        assertThat(result.getThreadCount()).isBetween(1, THREADS);
+        assertThat(MoveGenerator.isLegalMove(state, result.getBestMove())).isTrue();
+    }
+
+    /**
+     * Tests {@link MonteCarloService#getPlayoutsPerCoreSecond()} before any search, which must not divide by zero
+     */
+    @Test
+    public void testGetPlayoutsPerCoreSecondWithoutSearch() {
+        assertThat(monteCarloService.getPlayouts()).isZero();
+        assertThat(monteCarloService.getPlayoutsPerCoreSecond()).isZero();
+    }
+
+    /**
+     * Tests {@link MonteCarloService#search(BoardState, long)} for a time budget exceeding the configured maximum
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testSearchForLongTimeBudget() {
+        monteCarloService.search(BoardState.initial(), MAX_TIME_BUDGET_MILLIS + 1);
+    }
+
+    /**
+     * Tests {@link MonteCarloService#search(BoardState, long)} without time budget
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testSearchForZeroTimeBudget() {
+        monteCarloService.search(BoardState.initial(), 0L);
+    }
+
+    /**
+     * Tests {@link MonteCarloService#MonteCarloService(int, int, long, Logger)} without threads
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testCreateWithoutThreads() {
+        new MonteCarloService(0, NODE_POOL_SIZE, MAX_TIME_BUDGET_MILLIS, logger);
+    }
+}
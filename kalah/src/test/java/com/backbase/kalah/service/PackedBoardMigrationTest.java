@@ -0,0 +1,104 @@
+package com.backbase.kalah.service;
+
+import com.backbase.kalah.model.Board;
+import org.apache.log4j.Logger;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for {@link PackedBoardMigration}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@RunWith(MockitoJUnitRunner.class)
+public class PackedBoardMigrationTest {
+    //region field values
+    private static final int BATCH_SIZE = 10;
+    private static final long BOARD_ID = 5L;
+    //endregion
+
+    @Mock
+    private Logger logger;
+    @Mock
+    private BoardService boardService;
+
+    /**
+     * Tests {@link PackedBoardMigration#afterSingletonsInstantiated()} migrates batches until one is not full
+     */
+    @Test
+    public void testMigrate() {
+        when(boardService.migrateToPackedBoards(BATCH_SIZE)).thenReturn(BATCH_SIZE, BATCH_SIZE, 3);
+
+        new PackedBoardMigration(boardService, true, true, BATCH_SIZE, logger).afterSingletonsInstantiated();
+
+        verify(boardService, times(3)).migrateToPackedBoards(BATCH_SIZE);
+    }
+
+    /**
+     * Tests {@link PackedBoardMigration#afterSingletonsInstantiated()} does nothing unless the migration is enabled
+     */
+    @Test
+    public void testMigrateWhenDisabled() {
+        new PackedBoardMigration(boardService, true, false, BATCH_SIZE, logger).afterSingletonsInstantiated();
+
+        verify(boardService, never()).migrateToPackedBoards(anyInt());
+    }
+
+    /**
+     * Tests {@link PackedBoardMigration#afterSingletonsInstantiated()} does nothing if new boards are stored as pits
+     */
+    @Test
+    public void testMigrateWithoutPackedBoards() {
+        new PackedBoardMigration(boardService, false, true, BATCH_SIZE, logger).afterSingletonsInstantiated();
+
+        verify(boardService, never()).migrateToPackedBoards(anyInt());
+    }
+
+    /**
+     * Tests {@link PackedBoardMigration#afterSingletonsInstantiated()} retries a batch failed because of a concurrent
+     * change of one of its boards
+     */
+    @Test
+    public void testMigrateRetriesAfterConflict() {
+        when(boardService.migrateToPackedBoards(BATCH_SIZE))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Board.class, BOARD_ID))
+                .thenReturn(3);
+
+        new PackedBoardMigration(boardService, true, true, BATCH_SIZE, logger).afterSingletonsInstantiated();
+
+        verify(boardService, times(2)).migrateToPackedBoards(BATCH_SIZE);
+    }
+
+    /**
+     * Tests {@link PackedBoardMigration#afterSingletonsInstantiated()} stops without failing once a batch failed
+     * because of concurrent changes in all attempts
+     */
+    @Test
+    public void testMigrateWithConflictInAllAttempts() {
+        when(boardService.migrateToPackedBoards(BATCH_SIZE))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Board.class, BOARD_ID));
+
+        new PackedBoardMigration(boardService, true, true, BATCH_SIZE, logger).afterSingletonsInstantiated();
+
+        verify(boardService, times(PackedBoardMigration.MAX_BATCH_ATTEMPTS)).migrateToPackedBoards(BATCH_SIZE);
+    }
+
+    /**
+     * Tests {@link PackedBoardMigration#PackedBoardMigration(BoardService, boolean, boolean, int, Logger)} with an
+     * empty batch
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testCreateWithInvalidBatchSize() {
+        new PackedBoardMigration(boardService, true, true, 0, logger);
+    }
+}
@@ -0,0 +1,101 @@
+package com.backbase.kalah.service.integration;
+
+import com.backbase.kalah.engine.Position;
+import com.backbase.kalah.model.Game;
+import com.backbase.kalah.repository.BoardRepository;
+import com.backbase.kalah.repository.GameRepository;
+import com.backbase.kalah.repository.PitRepository;
+import com.backbase.kalah.service.BoardPool;
+import com.backbase.kalah.service.GameService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.inject.Inject;
+import javax.persistence.EntityManagerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test class for {@link BoardPool}, whose pool is filled once at startup only so the test decides when it
+ * is refilled. The context is kept open, as closing it would shut down the cache shared with the other contexts, and
+ * the boards its pool refers to once deleted by other tests are skipped when claimed
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@RunWith(SpringRunner.class)
+@SpringBootTest(properties = {
+        "kalah.storage.packed-boards=true",
+        "kalah.storage.board-pool.enabled=true",
+        "kalah.storage.board-pool.min-size=" + BoardPoolIT.POOL_SIZE,
+        "kalah.storage.board-pool.max-size=" + BoardPoolIT.POOL_SIZE,
+        "kalah.storage.board-pool.refill-interval-millis=3600000",
+        "spring.jpa.properties.hibernate.generate_statistics=true"})
+public class BoardPoolIT {
+    //region field values
+    static final int POOL_SIZE = 5;
+    private static final String BASE_URI = "/games";
+    private static final long TIMEOUT_MILLIS = 10_000L;
+    private static final long POLL_INTERVAL_MILLIS = 10L;
+    //endregion
+
+    @Inject
+    private GameService gameService;
+    @Inject
+    private BoardPool boardPool;
+    @Inject
+    private GameRepository gameRepository;
+    @Inject
+    private BoardRepository boardRepository;
+    @Inject
+    private PitRepository pitRepository;
+    @Inject
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @Before
+    public void setUp() throws InterruptedException {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while ((boardPool.getAvailableBoardCount() < POOL_SIZE) && (System.currentTimeMillis() < deadline)) {
+            Thread.sleep(POLL_INTERVAL_MILLIS);
+        }
+    }
+
+    @After
+    public void teardown() {
+        gameRepository.deleteAll();
+        boardRepository.deleteAll();
+        pitRepository.deleteAll();
+    }
+
+    /**
+     * Tests {@link GameService#createNewGame(String)} takes an initialized board of the pool and only inserts the game
+     */
+    @Test
+    public void testCreateNewGameWithPooledBoard() {
+        assertThat(boardPool.getAvailableBoardCount()).isEqualTo(POOL_SIZE);
+        long boardCount = boardRepository.count();
+
+        statistics.clear();
+        Game game = gameService.createNewGame(BASE_URI).get();
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1L);
+        assertThat(boardRepository.count()).isEqualTo(boardCount);
+        assertThat(boardPool.getAvailableBoardCount()).isEqualTo(POOL_SIZE - 1);
+        assertThat(boardPool.getClaimCount()).isEqualTo(1L);
+        assertThat(boardPool.getMissCount()).isZero();
+
+        Game storedGame = gameService.get(game.getId()).get();
+        assertThat(storedGame.getBoard().getId()).isEqualTo(game.getBoard().getId());
+        assertThat(storedGame.getBoard().getPackedPosition()).isEqualTo(Position.initial());
+    }
+}
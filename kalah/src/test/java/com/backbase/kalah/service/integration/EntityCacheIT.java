@@ -0,0 +1,133 @@
+package com.backbase.kalah.service.integration;
+
+import com.backbase.kalah.engine.Position;
+import com.backbase.kalah.model.Board;
+import com.backbase.kalah.model.Game;
+import com.backbase.kalah.model.PackedPositionType;
+import com.backbase.kalah.repository.BoardRepository;
+import com.backbase.kalah.repository.GameRepository;
+import com.backbase.kalah.repository.PitRepository;
+import com.backbase.kalah.service.CacheRegionStatistics;
+import com.backbase.kalah.service.EntityCache;
+import com.backbase.kalah.service.GameService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.hibernate.type.Type;
+import org.hibernate.type.descriptor.java.JavaTypeDescriptorRegistry;
+import org.hibernate.type.descriptor.java.SerializableTypeDescriptor;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.inject.Inject;
+import javax.persistence.EntityManagerFactory;
+
+import static com.backbase.kalah.constant.Fields.GAME_CACHE_REGION;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test class for {@link EntityCache} that counts the SQL statements of reading a game, so that reads
+ * bypassing the second-level cache or stale cached games are caught
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@RunWith(SpringRunner.class)
+@SpringBootTest(properties = {"kalah.storage.packed-boards=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"})
+public class EntityCacheIT {
+    //region field values
+    private static final String BASE_URI = "/games";
+    private static final int PIT_0 = 0;
+    private static final String PACKED_POSITION_PROPERTY = "packedPosition";
+    //endregion
+
+    @Inject
+    private GameService gameService;
+    @Inject
+    private EntityCache entityCache;
+    @Inject
+    private GameRepository gameRepository;
+    @Inject
+    private BoardRepository boardRepository;
+    @Inject
+    private PitRepository pitRepository;
+    @Inject
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @Before
+    public void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @After
+    public void teardown() {
+        gameRepository.deleteAll();
+        boardRepository.deleteAll();
+        pitRepository.deleteAll();
+    }
+
+    /**
+     * Tests {@link GameService#get(long)} reads a game read before from the cache, without any statement
+     */
+    @Test
+    public void testGetCachedGame() {
+        Game game = gameService.createNewGame(BASE_URI).get();
+        entityManagerFactory.getCache().evictAll();
+        gameService.get(game.getId());
+        long gameHits = getGameRegionStatistics().getHits();
+
+        statistics.clear();
+        Game cachedGame = gameService.get(game.getId()).get();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(0);
+        assertThat(cachedGame.getUri()).isEqualTo(game.getUri());
+        assertThat(cachedGame.getBoard().getPackedPosition()).isEqualTo(Position.initial());
+        assertThat(getGameRegionStatistics().getHits()).isEqualTo(gameHits + 1);
+    }
+
+    /**
+     * Tests {@link GameService#makeMove(long, int)} updates the cached game, so reading it next needs no statement
+     * and sees the move
+     */
+    @Test
+    public void testGetCachedGameAfterMove() {
+        Game game = gameService.createNewGame(BASE_URI).get();
+        gameService.get(game.getId());
+        gameService.makeMove(game.getId(), PIT_0);
+
+        statistics.clear();
+        Game cachedGame = gameService.get(game.getId()).get();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(0);
+        assertThat(cachedGame.getBoard().getPackedPosition()).isEqualTo(Position.initial().play(PIT_0));
+        assertThat(cachedGame.getBoard().getVersion()).isEqualTo(game.getBoard().getVersion() + 1);
+    }
+
+    /**
+     * Tests the packed position of a board is mapped to the immutable {@link PackedPositionType}, so the cache holds
+     * positions as they are, while no type of positions is registered for other persistence units
+     */
+    @Test
+    public void testPackedPositionMappedAsImmutable() {
+        Type type = entityManagerFactory.unwrap(SessionFactory.class).getClassMetadata(Board.class)
+                .getPropertyType(PACKED_POSITION_PROPERTY);
+
+        assertThat(type).isInstanceOf(PackedPositionType.class);
+        assertThat(type.isMutable()).isFalse();
+        assertThat(JavaTypeDescriptorRegistry.INSTANCE.getDescriptor(Position.class))
+                .isInstanceOf(SerializableTypeDescriptor.class);
+    }
+
+    private CacheRegionStatistics getGameRegionStatistics() {
+        return entityCache.getStatistics().stream()
+                .filter(regionStatistics -> regionStatistics.getRegion().equals(GAME_CACHE_REGION))
+                .findFirst().get();
+    }
+}
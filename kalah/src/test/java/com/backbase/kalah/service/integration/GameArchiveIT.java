@@ -0,0 +1,136 @@
+package com.backbase.kalah.service.integration;
+
+import com.backbase.kalah.engine.BoardState;
+import com.backbase.kalah.engine.Position;
+import com.backbase.kalah.error.KalahGameException;
+import com.backbase.kalah.model.Board;
+import com.backbase.kalah.model.Game;
+import com.backbase.kalah.repository.ArchivedGameRepository;
+import com.backbase.kalah.repository.BoardRepository;
+import com.backbase.kalah.repository.GameRepository;
+import com.backbase.kalah.repository.PitRepository;
+import com.backbase.kalah.service.GameArchive;
+import com.backbase.kalah.service.GameService;
+import com.backbase.kalah.utils.BoardStateConverter;
+import com.backbase.kalah.utils.MoveListCodec;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.inject.Inject;
+
+import static com.backbase.kalah.constant.Constants.COUNT_OF_ALL_PITS;
+import static com.backbase.kalah.constant.Constants.PLAYER_1_KALAH;
+import static com.backbase.kalah.constant.Constants.PLAYER_2_KALAH;
+import static com.backbase.kalah.constant.Messages.GAME_FINISHED_ERROR;
+import static com.backbase.kalah.model.enums.Status.FINISHED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration test class for {@link GameArchive}, whose background archiving is disabled so the test decides when the
+ * finished games are archived
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@RunWith(SpringRunner.class)
+@SpringBootTest(properties = "kalah.storage.packed-boards=true")
+public class GameArchiveIT {
+    //region field values
+    private static final String BASE_URI = "/games";
+    private static final int PIT_0 = 0;
+    private static final int LAST_PIT = 5;
+    private static final int PLAYER_1_STONES = 30;
+    private static final int PLAYER_2_PIT = 7;
+    private static final int PLAYER_2_PIT_STONES = 5;
+    private static final int PLAYER_2_STONES = 36;
+    //endregion
+
+    @Inject
+    private GameService gameService;
+    @Inject
+    private GameArchive gameArchive;
+    @Inject
+    private GameRepository gameRepository;
+    @Inject
+    private BoardRepository boardRepository;
+    @Inject
+    private PitRepository pitRepository;
+    @Inject
+    private ArchivedGameRepository archivedGameRepository;
+
+    @After
+    public void teardown() {
+        gameRepository.deleteAll();
+        boardRepository.deleteAll();
+        pitRepository.deleteAll();
+        archivedGameRepository.deleteAll();
+    }
+
+    /**
+     * Tests {@link GameArchive#archiveFinishedGames()} moves only the finished games out of the game and board tables,
+     * and {@link GameService#get(long)} still reads them with their final board and moves
+     */
+    @Test
+    public void testArchiveFinishedGames() {
+        Game finishedGame = createFinishedGame();
+        Game runningGame = gameService.createNewGame(BASE_URI).get();
+
+        int archivedGameCount = gameArchive.archiveFinishedGames();
+
+        assertThat(archivedGameCount).isEqualTo(1);
+        assertThat(gameRepository.exists(finishedGame.getId())).isFalse();
+        assertThat(boardRepository.exists(finishedGame.getBoard().getId())).isFalse();
+        assertThat(gameRepository.exists(runningGame.getId())).isTrue();
+        assertThat(archivedGameRepository.count()).isEqualTo(1);
+
+        assertThat(gameService.get(finishedGame.getId())).hasValueSatisfying(
+                game -> {
+                    assertThat(game.getUri()).isEqualTo(finishedGame.getUri());
+                    assertThat(game.getBoard().getStatus()).isEqualTo(FINISHED);
+                    assertThat(game.getBoard().getPackedPosition().getStones(PLAYER_1_KALAH))
+                            .isEqualTo(PLAYER_1_STONES + 1);
+                    assertThat(game.getBoard().getPackedPosition().getStones(PLAYER_2_KALAH))
+                            .isEqualTo(PLAYER_2_STONES + PLAYER_2_PIT_STONES);
+                    assertThat(MoveListCodec.decode(game.getBoard().getMoveList())).containsExactly(LAST_PIT);
+                });
+        assertThat(gameArchive.getArchivedGameCount()).isEqualTo(1);
+        assertThat(gameArchive.getRehydratedGameCount()).isEqualTo(1);
+    }
+
+    /**
+     * Tests {@link GameService#makeMove(long, int)} on an archived game, which is rejected like on any finished game
+     */
+    @Test
+    public void testMakeMoveOnArchivedGame() {
+        Game finishedGame = createFinishedGame();
+        gameArchive.archiveFinishedGames();
+
+        assertThatThrownBy(() -> gameService.makeMove(finishedGame.getId(), PIT_0))
+                .isInstanceOf(KalahGameException.class)
+                .hasMessage(GAME_FINISHED_ERROR);
+    }
+
+    /**
+     * Creates a game whose first player has one stone left in her last pit and finishes it by playing that pit
+     */
+    private Game createFinishedGame() {
+        Game game = gameService.createNewGame(BASE_URI).get();
+
+        int[] pits = new int[COUNT_OF_ALL_PITS];
+        pits[LAST_PIT] = 1;
+        pits[PLAYER_1_KALAH] = PLAYER_1_STONES;
+        pits[PLAYER_2_PIT] = PLAYER_2_PIT_STONES;
+        pits[PLAYER_2_KALAH] = PLAYER_2_STONES;
+
+        Board board = boardRepository.findOne(game.getBoard().getId());
+        BoardStateConverter.copyToBoard(Position.of(pits, BoardState.PLAYER_1).toBoardState(), board);
+        boardRepository.save(board);
+
+        gameService.makeMove(game.getId(), LAST_PIT);
+        return game;
+    }
+}
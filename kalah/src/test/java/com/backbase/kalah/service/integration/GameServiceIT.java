@@ -0,0 +1,359 @@
+package com.backbase.kalah.service.integration;
+
+import com.backbase.kalah.engine.BoardState;
+import com.backbase.kalah.engine.Position;
+import com.backbase.kalah.error.KalahGameException;
+import com.backbase.kalah.model.Game;
+import com.backbase.kalah.model.GameSummary;
+import com.backbase.kalah.model.enums.PlayerTurn;
+import com.backbase.kalah.model.enums.Status;
+import com.backbase.kalah.repository.BoardRepository;
+import com.backbase.kalah.repository.GameRepository;
+import com.backbase.kalah.repository.PitRepository;
+import com.backbase.kalah.service.AiMove;
+import com.backbase.kalah.service.AiService;
+import com.backbase.kalah.service.BoardPool;
+import com.backbase.kalah.service.BoardService;
+import com.backbase.kalah.service.GameArchive;
+import com.backbase.kalah.service.GameFilter;
+import com.backbase.kalah.service.GameService;
+import com.backbase.kalah.service.GameStore;
+import com.backbase.kalah.service.MonteCarloService;
+import org.apache.log4j.Logger;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.inject.Inject;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import static com.backbase.kalah.constant.Constants.COUNT_OF_PLAYER_PITS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Integration test class for {@link GameService} that counts the SQL statements of a move, so that additional
+ * selects or updates of unchanged rows are caught, and makes concurrent moves on one game, also during the search of a
+ * move of the computer opponent
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@RunWith(SpringRunner.class)
+@SpringBootTest(properties = {"kalah.storage.packed-boards=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"})
+public class GameServiceIT {
+    //region field values
+    private static final String BASE_URI = "/games";
+    private static final int PIT_0 = 0;
+    private static final int PIT_1 = 1;
+    private static final int THREAD_COUNT = 8;
+    private static final int MAX_MOVE_ATTEMPTS = 3;
+    private static final int BULK_GAME_COUNT = 500;
+    private static final int LISTED_GAME_COUNT = 5;
+    private static final int PAGE_SIZE = 2;
+    private static final int AI_DEPTH = 2;
+    // Playing the first pit at the start sows one stone into each following pit up to the Kalah
+    private static final int CHANGED_PIT_COUNT = COUNT_OF_PLAYER_PITS;
+    //endregion
+
+    @Inject
+    private GameService gameService;
+    @Inject
+    private GameRepository gameRepository;
+    @Inject
+    private BoardRepository boardRepository;
+    @Inject
+    private PitRepository pitRepository;
+    @Inject
+    private BoardService boardService;
+    @Inject
+    private AiService aiService;
+    @Inject
+    private MonteCarloService monteCarloService;
+    @Inject
+    private GameStore gameStore;
+    @Inject
+    private GameArchive gameArchive;
+    @Inject
+    private BoardPool boardPool;
+    @Inject
+    private PlatformTransactionManager transactionManager;
+    @Inject
+    private EntityManagerFactory entityManagerFactory;
+    @Inject
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @Before
+    public void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @After
+    public void teardown() {
+        gameRepository.deleteAll();
+        boardRepository.deleteAll();
+        pitRepository.deleteAll();
+    }
+
+    /**
+     * Tests {@link GameService#makeMove(long, int)} on a packed board reads the game with one query and writes only
+     * the board row
+     */
+    @Test
+    public void testMakeMoveStatementCountForPackedBoard() {
+        Game game = gameService.createNewGame(BASE_URI).get();
+
+        statistics.clear();
+        gameService.makeMove(game.getId(), PIT_0);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+    }
+
+    /**
+     * Tests {@link GameService#createNewGames(String, int, Consumer)} inserts the boards and games in JDBC batches,
+     * so that the number of statements does not grow with the number of games
+     */
+    @Test
+    public void testCreateNewGamesStatementCount() {
+        List<Game> createdGames = new ArrayList<>();
+
+        statistics.clear();
+        gameService.createNewGames(BASE_URI, BULK_GAME_COUNT, createdGames::add);
+
+        assertThat(createdGames).hasSize(BULK_GAME_COUNT);
+        assertThat(createdGames).extracting(Game::getUri).doesNotHaveDuplicates();
+        assertThat(gameRepository.count()).isEqualTo(BULK_GAME_COUNT);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(2 * BULK_GAME_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(BULK_GAME_COUNT / 10);
+    }
+
+    /**
+     * Tests {@link GameService#makeAiMove(long, int)} returns the game updated by the move, whose board shows the
+     * position after the move also outside of an open session
+     */
+    @Test
+    public void testMakeAiMoveReturnsMovedGame() {
+        Game game = gameService.createNewGame(BASE_URI).get();
+
+        AiMove aiMove = gameService.makeAiMove(game.getId(), AI_DEPTH).get();
+
+        Position expectedPosition = Position.initial().play(aiMove.getSearchResult().getBestMove());
+        assertThat(aiMove.getGame().getBoard().getPackedPosition()).isEqualTo(expectedPosition);
+        assertThat(boardRepository.findOne(game.getBoard().getId()).getPackedPosition()).isEqualTo(expectedPosition);
+    }
+
+    /**
+     * Tests {@link GameService#getGames(GameFilter, long, int)} pages through the games matching the filter by the ID
+     * of the last listed game
+     */
+    @Test
+    public void testGetGames() {
+        List<Game> games = createGames(LISTED_GAME_COUNT);
+        // Playing the second pit at the start ends in the pits of the opponent, so it is her turn
+        gameService.makeMove(games.get(1).getId(), PIT_1);
+        GameFilter filter = new GameFilter(Status.RUNNING, PlayerTurn.PLAYER_1, null, null);
+
+        List<GameSummary> firstPage = gameService.getGames(filter, 0L, PAGE_SIZE);
+        List<GameSummary> secondPage = gameService.getGames(filter,
+                firstPage.get(firstPage.size() - 1).getId(), PAGE_SIZE);
+        List<GameSummary> lastPage = gameService.getGames(filter,
+                secondPage.get(secondPage.size() - 1).getId(), PAGE_SIZE);
+
+        assertThat(firstPage).extracting(GameSummary::getId)
+                .containsExactly(games.get(0).getId(), games.get(2).getId());
+        assertThat(secondPage).extracting(GameSummary::getId)
+                .containsExactly(games.get(3).getId(), games.get(4).getId());
+        assertThat(lastPage).isEmpty();
+        assertThat(firstPage.get(0).getUri()).isEqualTo(games.get(0).getUri());
+        assertThat(firstPage.get(0).getCreatedAt()).isNotNull();
+        assertThat(gameService.getGames(new GameFilter(null, PlayerTurn.PLAYER_2, null, null), 0L, PAGE_SIZE))
+                .extracting(GameSummary::getId).containsExactly(games.get(1).getId());
+    }
+
+    /**
+     * Tests {@link GameService#getGames(GameFilter, long, int)} with a range of creation times
+     */
+    @Test
+    public void testGetGamesByCreationTime() {
+        Instant before = Instant.now().minus(1, ChronoUnit.MINUTES);
+        createGames(LISTED_GAME_COUNT);
+        Instant after = Instant.now().plus(1, ChronoUnit.MINUTES);
+
+        assertThat(gameService.getGames(new GameFilter(null, null, before, after), 0L, LISTED_GAME_COUNT))
+                .hasSize(LISTED_GAME_COUNT);
+        assertThat(gameService.getGames(new GameFilter(null, null, after, null), 0L, LISTED_GAME_COUNT)).isEmpty();
+        assertThat(gameService.getGames(new GameFilter(null, null, null, before), 0L, LISTED_GAME_COUNT)).isEmpty();
+    }
+
+    /**
+     * Tests {@link GameService#streamGames(GameFilter, Consumer)} streams the games matching the filter in the order of
+     * their IDs without loading any entity
+     */
+    @Test
+    public void testStreamGames() {
+        List<Game> games = createGames(LISTED_GAME_COUNT);
+        List<GameSummary> streamedGames = new ArrayList<>();
+
+        statistics.clear();
+        int streamedGameCount = gameService.streamGames(GameFilter.ALL, streamedGames::add);
+
+        assertThat(streamedGameCount).isEqualTo(LISTED_GAME_COUNT);
+        assertThat(streamedGames).extracting(GameSummary::getId)
+                .containsExactlyElementsOf(games.stream().map(Game::getId)::iterator);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(gameService.streamGames(new GameFilter(Status.FINISHED, null, null, null), game -> {
+        })).isZero();
+    }
+
+    /**
+     * Tests {@link GameService#makeMove(long, int)} on a board stored as pits reads the game with one query and writes
+     * the board and only the changed pits, which share one batched statement
+     */
+    @Test
+    public void testMakeMoveStatementCountForPitBoard() {
+        BoardService pitBoardService = new BoardService(boardRepository, false, Logger.getLogger(BoardService.class));
+        Game game = new Game(pitBoardService.createInitializedBoard(), BASE_URI);
+        game = gameRepository.save(game);
+
+        statistics.clear();
+        gameService.makeMove(game.getId(), PIT_0);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(CHANGED_PIT_COUNT + 1);
+    }
+
+    /**
+     * Tests {@link GameService#makeMove(long, int)} for the same move made concurrently by several requests with
+     * optimistic locking, of which only one may succeed while the others see the board after it
+     */
+    @Test
+    public void testConcurrentMovesWithOptimisticLocking() throws Exception {
+        assertSingleConcurrentMove(gameService);
+    }
+
+    /**
+     * Tests {@link GameService#makeMove(long, int)} for the same move made concurrently by several requests with
+     * pessimistic locking, of which only one may succeed while the others wait for it and see the board after it
+     */
+    @Test
+    public void testConcurrentMovesWithPessimisticLocking() throws Exception {
+        GameService lockingGameService = new GameService(gameRepository, boardService, aiService, monteCarloService,
+                gameStore, gameArchive, boardPool, transactionManager, entityManager, true, MAX_MOVE_ATTEMPTS,
+                Logger.getLogger(GameService.class));
+
+        assertSingleConcurrentMove(lockingGameService);
+    }
+
+    /**
+     * Tests {@link GameService#makeAiMove(long, int)} with optimistic locking for a human move made concurrently during
+     * the search, after which the move is searched again on the board after the human move
+     */
+    @Test
+    public void testConcurrentAiAndHumanMovesWithOptimisticLocking() throws Exception {
+        assertAiMoveSearchedAgainAfterConcurrentMove(false);
+    }
+
+    /**
+     * Tests {@link GameService#makeAiMove(long, int)} with pessimistic locking for a human move made concurrently
+     * during the search, which must not wait for the search, after which the move is searched again on the board after
+     * the human move
+     */
+    @Test
+    public void testConcurrentAiAndHumanMovesWithPessimisticLocking() throws Exception {
+        assertAiMoveSearchedAgainAfterConcurrentMove(true);
+    }
+
+    private List<Game> createGames(int count) {
+        List<Game> games = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            games.add(gameService.createNewGame(BASE_URI).get());
+        }
+
+        return games;
+    }
+
+    private void assertSingleConcurrentMove(GameService service) throws Exception {
+        Game game = service.createNewGame(BASE_URI).get();
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startSignal = new CountDownLatch(1);
+        List<Future<Boolean>> moveResults = new ArrayList<>();
+
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            moveResults.add(executor.submit(() -> {
+                startSignal.await();
+                try {
+                    service.makeMove(game.getId(), PIT_1);
+                    return true;
+                } catch (KalahGameException | ConcurrencyFailureException exp) {
+                    return false;
+                }
+            }));
+        }
+
+        startSignal.countDown();
+        int madeMoveCount = 0;
+        for (Future<Boolean> moveResult : moveResults) {
+            madeMoveCount += moveResult.get() ? 1 : 0;
+        }
+        executor.shutdown();
+
+        assertThat(madeMoveCount).isEqualTo(1);
+        assertThat(boardRepository.findOne(game.getBoard().getId()).getPackedPosition())
+                .isEqualTo(Position.initial().play(PIT_1));
+    }
+
+    private void assertAiMoveSearchedAgainAfterConcurrentMove(boolean pessimisticLocking) throws Exception {
+        AiService searchingAiService = spy(aiService);
+        GameService service = new GameService(gameRepository, boardService, searchingAiService, monteCarloService,
+                gameStore, gameArchive, boardPool, transactionManager, entityManager, pessimisticLocking,
+                MAX_MOVE_ATTEMPTS, Logger.getLogger(GameService.class));
+        Game game = service.createNewGame(BASE_URI).get();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        AtomicBoolean humanMoveMade = new AtomicBoolean();
+
+        doAnswer(invocation -> {
+            if (humanMoveMade.compareAndSet(false, true)) {
+                // Another request makes the human move while the first search is running
+                executor.submit(() -> service.makeMove(game.getId(), PIT_1)).get();
+            }
+            return invocation.callRealMethod();
+        }).when(searchingAiService).search(any(BoardState.class), eq(AI_DEPTH));
+
+        AiMove aiMove = service.makeAiMove(game.getId(), AI_DEPTH).get();
+        executor.shutdown();
+
+        Position expectedPosition = Position.initial().play(PIT_1).play(aiMove.getSearchResult().getBestMove());
+        assertThat(aiMove.getGame().getBoard().getPackedPosition()).isEqualTo(expectedPosition);
+        assertThat(boardRepository.findOne(game.getBoard().getId()).getPackedPosition()).isEqualTo(expectedPosition);
+        verify(searchingAiService, times(2)).search(any(BoardState.class), eq(AI_DEPTH));
+        assertThat(service.getMoveConflicts()).isEqualTo(1);
+        assertThat(service.getRejectedMoveConflicts()).isEqualTo(0);
+    }
+}
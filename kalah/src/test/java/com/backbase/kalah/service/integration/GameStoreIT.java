@@ -0,0 +1,80 @@
+package com.backbase.kalah.service.integration;
+
+import com.backbase.kalah.engine.Position;
+import com.backbase.kalah.model.Game;
+import com.backbase.kalah.repository.BoardRepository;
+import com.backbase.kalah.repository.GameRepository;
+import com.backbase.kalah.repository.PitRepository;
+import com.backbase.kalah.service.GameService;
+import com.backbase.kalah.service.GameStore;
+import com.backbase.kalah.utils.MoveListCodec;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.inject.Inject;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test class for {@link GameStore} with write-behind enabled, whose scheduled flushes are disabled by a
+ * long interval so the test decides when the moves are written
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+@RunWith(SpringRunner.class)
+@SpringBootTest(properties = {"kalah.storage.packed-boards=true", "kalah.storage.write-behind.enabled=true",
+        "kalah.storage.write-behind.flush-interval-millis=3600000"})
+public class GameStoreIT {
+    //region field values
+    private static final String BASE_URI = "/games";
+    private static final int PIT_0 = 0;
+    private static final int PIT_1 = 1;
+    //endregion
+
+    @Inject
+    private GameService gameService;
+    @Inject
+    private GameStore gameStore;
+    @Inject
+    private GameRepository gameRepository;
+    @Inject
+    private BoardRepository boardRepository;
+    @Inject
+    private PitRepository pitRepository;
+
+    @After
+    public void teardown() {
+        gameRepository.deleteAll();
+        boardRepository.deleteAll();
+        pitRepository.deleteAll();
+    }
+
+    /**
+     * Tests {@link GameService#makeMove(long, int)} acknowledges the moves before they are written, and
+     * {@link GameStore#flush()} writes them to the database
+     */
+    @Test
+    public void testMovesAreWrittenBehind() {
+        Game game = gameService.createNewGame(BASE_URI).get();
+        long boardId = game.getBoard().getId();
+        Position expectedPosition = Position.initial().play(PIT_0).play(PIT_1);
+
+        gameService.makeMove(game.getId(), PIT_0);
+        Game movedGame = gameService.makeMove(game.getId(), PIT_1).get();
+
+        assertThat(movedGame.getBoard().getPackedPosition()).isEqualTo(expectedPosition);
+        assertThat(gameService.getPosition(game.getId())).contains(expectedPosition);
+        assertThat(boardRepository.findOne(boardId).getPackedPosition()).isEqualTo(Position.initial());
+        assertThat(gameStore.getDirtyGameCount()).isEqualTo(1);
+
+        assertThat(gameStore.flush()).isTrue();
+
+        assertThat(boardRepository.findOne(boardId).getPackedPosition()).isEqualTo(expectedPosition);
+        assertThat(MoveListCodec.decode(boardRepository.findOne(boardId).getMoveList())).containsExactly(PIT_0, PIT_1);
+        assertThat(gameStore.getDirtyGameCount()).isEqualTo(0);
+    }
+}
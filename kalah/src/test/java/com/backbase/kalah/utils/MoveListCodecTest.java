@@ -0,0 +1,76 @@
+package com.backbase.kalah.utils;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for {@link MoveListCodec}
+ *
+ * @author Mohamed Morsey
+ * Date: 2026-10-17
+ **/
+public class MoveListCodecTest {
+    //region field values
+    private static final List<Integer> MOVES = ImmutableList.of(0, 5, 12, 7);
+    // Needs two bytes, the first one with the continuation bit
+    private static final int LARGE_VALUE = 300;
+    //endregion
+
+    /**
+     * Tests {@link MoveListCodec#append(byte[], List, int)} encodes every pit ID in one byte and
+     * {@link MoveListCodec#decode(byte[])} reads them back in order
+     */
+    @Test
+    public void testAppendAndDecode() {
+        byte[] moveList = MoveListCodec.append(MoveListCodec.empty(), MOVES, 2);
+        moveList = MoveListCodec.append(moveList, MOVES.subList(2, MOVES.size()), 2);
+
+        assertThat(moveList).hasSize(MOVES.size());
+        assertThat(MoveListCodec.decode(moveList)).containsExactly(0, 5, 12, 7);
+    }
+
+    /**
+     * Tests {@link MoveListCodec#append(byte[], List, int)} leaves the given move list unchanged
+     */
+    @Test
+    public void testAppendCopies() {
+        byte[] moveList = MoveListCodec.append(MoveListCodec.empty(), MOVES, 1);
+
+        MoveListCodec.append(moveList, MOVES, MOVES.size());
+
+        assertThat(MoveListCodec.decode(moveList)).containsExactly(0);
+    }
+
+    /**
+     * Tests {@link MoveListCodec#append(byte[], List, int)} for a game whose moves are not known
+     */
+    @Test
+    public void testAppendToUnknownMoveList() {
+        assertThat(MoveListCodec.append(null, MOVES, MOVES.size())).isNull();
+    }
+
+    /**
+     * Tests {@link MoveListCodec} with a value taking more than one byte
+     */
+    @Test
+    public void testLargeValue() {
+        byte[] moveList = MoveListCodec.append(MoveListCodec.empty(), ImmutableList.of(LARGE_VALUE, 1), 2);
+
+        assertThat(moveList).hasSize(3);
+        assertThat(MoveListCodec.decode(moveList)).containsExactly(LARGE_VALUE, 1);
+    }
+
+    /**
+     * Tests {@link MoveListCodec#decode(byte[])} with the last varint cut off
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testDecodeTruncatedMoveList() {
+        byte[] moveList = MoveListCodec.append(MoveListCodec.empty(), ImmutableList.of(LARGE_VALUE), 1);
+
+        MoveListCodec.decode(new byte[]{moveList[0]});
+    }
+}